@@ -24,6 +24,7 @@ import org.jboss.errai.common.client.api.annotations.Portable;
 import org.jboss.errai.databinding.client.api.Bindable;
 
 import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.toList;
 
 @Bindable
 @Portable
@@ -98,10 +99,12 @@ public class CaseStageSummary {
 
     @Override
     public String toString() {
-        return "CaseCommentSummary{" +
+        // ad hoc actions refer back to their stage, so only their names are printed
+        return "CaseStageSummary{" +
                 "identifier='" + identifier + '\'' +
                 ", name='" + name + '\'' +
-                ", status='" + status +
+                ", status='" + status + '\'' +
+                ", adHocActions=" + (adHocActions == null ? null : adHocActions.stream().map(CaseActionSummary::getName).collect(toList())) +
                 '}';
     }
 
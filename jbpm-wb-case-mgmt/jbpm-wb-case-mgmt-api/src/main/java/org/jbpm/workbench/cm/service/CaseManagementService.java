@@ -23,11 +23,18 @@ import org.jboss.errai.bus.server.annotations.Remote;
 import org.jbpm.workbench.cm.model.*;
 import org.jbpm.workbench.cm.util.Actions;
 import org.jbpm.workbench.cm.util.CaseInstanceSearchRequest;
+import org.jbpm.workbench.cm.util.CaseInstanceSearchResult;
 import org.jbpm.workbench.cm.util.CaseMilestoneSearchRequest;
+import org.jbpm.workbench.cm.util.CaseOverviewSnapshot;
 
 @Remote
 public interface CaseManagementService {
 
+    /**
+     * Role allowed to drop the cached case and process definitions through {@link #clearDefinitionsCache()}.
+     */
+    String DEFINITIONS_ADMIN_ROLE = "admin";
+
     CaseDefinitionSummary getCaseDefinition(String containerId, String caseDefinitionId);
 
     List<CaseDefinitionSummary> getCaseDefinitions();
@@ -37,10 +44,14 @@ public interface CaseManagementService {
                              String owner,
                              List<CaseRoleAssignmentSummary> roleAssignments);
 
-    List<CaseInstanceSummary> getCaseInstances(CaseInstanceSearchRequest request);
+    CaseInstanceSearchResult getCaseInstances(CaseInstanceSearchRequest request);
 
     CaseInstanceSummary getCaseInstance(String containerId, String caseId);
 
+    CaseOverviewSnapshot getCaseOverviewSnapshot(String containerId,
+                                                 String caseId,
+                                                 String version);
+
     void cancelCaseInstance(String containerId, String caseId);
 
     void closeCaseInstance(String containerId,
@@ -137,4 +148,10 @@ public interface CaseManagementService {
                             Map<String, Object> data);
 
     List<ProcessDefinitionSummary> getProcessDefinitions(String containerId);
+
+    /**
+     * Drops the cached definitions of every caller, they are read from KIE server again by the next calls. Only
+     * callers with the {@link #DEFINITIONS_ADMIN_ROLE} role are allowed to.
+     */
+    void clearDefinitionsCache();
 }
\ No newline at end of file
@@ -18,8 +18,10 @@ package org.jbpm.workbench.cm.util;
 
 import java.util.List;
 
+import org.jboss.errai.common.client.api.annotations.Portable;
 import org.jbpm.workbench.cm.model.CaseActionSummary;
 
+@Portable
 public class Actions {
 
     private List<CaseActionSummary> availableActions;
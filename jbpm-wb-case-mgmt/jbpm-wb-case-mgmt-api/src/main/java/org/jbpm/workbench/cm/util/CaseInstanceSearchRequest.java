@@ -23,12 +23,18 @@ import org.jboss.errai.databinding.client.api.Bindable;
 @Bindable
 public class CaseInstanceSearchRequest {
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
     private CaseStatus status = CaseStatus.OPEN;
 
     private CaseInstanceSortBy sortBy = CaseInstanceSortBy.CASE_ID;
 
     private Boolean sortByAsc = true;
 
+    private Integer page = 0;
+
+    private Integer pageSize = DEFAULT_PAGE_SIZE;
+
     public CaseInstanceSearchRequest() {
     }
 
@@ -56,12 +62,30 @@ public class CaseInstanceSearchRequest {
         this.sortByAsc = sortByAsc;
     }
 
+    public Integer getPage() {
+        return page;
+    }
+
+    public void setPage(Integer page) {
+        this.page = page;
+    }
+
+    public Integer getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(Integer pageSize) {
+        this.pageSize = pageSize;
+    }
+
     @Override
     public String toString() {
         return "CaseInstanceSearchRequest{" +
                 "status=" + status +
                 ", sortBy=" + sortBy +
                 ", sortByAsc=" + sortByAsc +
+                ", page=" + page +
+                ", pageSize=" + pageSize +
                 '}';
     }
 
@@ -82,7 +106,13 @@ public class CaseInstanceSearchRequest {
         if (getSortBy() != that.getSortBy()) {
             return false;
         }
-        return getSortByAsc() != null ? getSortByAsc().equals(that.getSortByAsc()) : that.getSortByAsc() == null;
+        if (getSortByAsc() != null ? !getSortByAsc().equals(that.getSortByAsc()) : that.getSortByAsc() != null) {
+            return false;
+        }
+        if (getPage() != null ? !getPage().equals(that.getPage()) : that.getPage() != null) {
+            return false;
+        }
+        return getPageSize() != null ? getPageSize().equals(that.getPageSize()) : that.getPageSize() == null;
     }
 
     @Override
@@ -94,6 +124,10 @@ public class CaseInstanceSearchRequest {
         result = ~~result;
         result = 31 * result + (getSortByAsc() != null ? getSortByAsc().hashCode() : 0);
         result = ~~result;
+        result = 31 * result + (getPage() != null ? getPage().hashCode() : 0);
+        result = ~~result;
+        result = 31 * result + (getPageSize() != null ? getPageSize().hashCode() : 0);
+        result = ~~result;
         return result;
     }
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.cm.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.errai.common.client.api.annotations.Portable;
+import org.jbpm.workbench.cm.model.CaseInstanceSummary;
+
+@Portable
+public class CaseInstanceSearchResult {
+
+    private List<CaseInstanceSummary> caseInstances = new ArrayList<>();
+
+    private Integer page = 0;
+
+    private Integer pageSize = CaseInstanceSearchRequest.DEFAULT_PAGE_SIZE;
+
+    private Boolean hasMore = false;
+
+    public CaseInstanceSearchResult() {
+    }
+
+    public CaseInstanceSearchResult(final List<CaseInstanceSummary> caseInstances,
+                                    final Integer page,
+                                    final Integer pageSize,
+                                    final Boolean hasMore) {
+        this.caseInstances = caseInstances;
+        this.page = page;
+        this.pageSize = pageSize;
+        this.hasMore = hasMore;
+    }
+
+    public List<CaseInstanceSummary> getCaseInstances() {
+        return caseInstances;
+    }
+
+    public void setCaseInstances(final List<CaseInstanceSummary> caseInstances) {
+        this.caseInstances = caseInstances;
+    }
+
+    public Integer getPage() {
+        return page;
+    }
+
+    public void setPage(final Integer page) {
+        this.page = page;
+    }
+
+    public Integer getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(final Integer pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    public Boolean getHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(final Boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    @Override
+    public String toString() {
+        return "CaseInstanceSearchResult{" +
+                "caseInstances=" + caseInstances +
+                ", page=" + page +
+                ", pageSize=" + pageSize +
+                ", hasMore=" + hasMore +
+                '}';
+    }
+}
\ No newline at end of file
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.cm.util;
+
+import java.util.List;
+
+import org.jboss.errai.common.client.api.annotations.Portable;
+import org.jbpm.workbench.cm.model.CaseCommentSummary;
+import org.jbpm.workbench.cm.model.CaseDefinitionSummary;
+import org.jbpm.workbench.cm.model.CaseInstanceSummary;
+import org.jbpm.workbench.cm.model.CaseMilestoneSummary;
+import org.jbpm.workbench.cm.model.CaseStageSummary;
+import org.jbpm.workbench.cm.model.ProcessDefinitionSummary;
+
+/**
+ * All the sections of the case overview, loaded at once. A snapshot that is not modified only carries its version,
+ * the sections of the previously loaded snapshot with the same version are still current.
+ */
+@Portable
+public class CaseOverviewSnapshot {
+
+    public static final int COMMENTS_PAGE_SIZE = 20;
+
+    private String version;
+
+    private Boolean modified = true;
+
+    private CaseInstanceSummary caseInstance;
+
+    private CaseDefinitionSummary caseDefinition;
+
+    private List<CaseMilestoneSummary> milestones;
+
+    private List<CaseStageSummary> stages;
+
+    private List<CaseCommentSummary> comments;
+
+    private Actions actions;
+
+    private List<ProcessDefinitionSummary> processDefinitions;
+
+    public CaseOverviewSnapshot() {
+    }
+
+    public static CaseOverviewSnapshot notModified(final String version) {
+        final CaseOverviewSnapshot snapshot = new CaseOverviewSnapshot();
+        snapshot.setVersion(version);
+        snapshot.setModified(false);
+        return snapshot;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public void setVersion(final String version) {
+        this.version = version;
+    }
+
+    public Boolean getModified() {
+        return modified;
+    }
+
+    public void setModified(final Boolean modified) {
+        this.modified = modified;
+    }
+
+    public CaseInstanceSummary getCaseInstance() {
+        return caseInstance;
+    }
+
+    public void setCaseInstance(final CaseInstanceSummary caseInstance) {
+        this.caseInstance = caseInstance;
+    }
+
+    public CaseDefinitionSummary getCaseDefinition() {
+        return caseDefinition;
+    }
+
+    public void setCaseDefinition(final CaseDefinitionSummary caseDefinition) {
+        this.caseDefinition = caseDefinition;
+    }
+
+    public List<CaseMilestoneSummary> getMilestones() {
+        return milestones;
+    }
+
+    public void setMilestones(final List<CaseMilestoneSummary> milestones) {
+        this.milestones = milestones;
+    }
+
+    public List<CaseStageSummary> getStages() {
+        return stages;
+    }
+
+    public void setStages(final List<CaseStageSummary> stages) {
+        this.stages = stages;
+    }
+
+    public List<CaseCommentSummary> getComments() {
+        return comments;
+    }
+
+    public void setComments(final List<CaseCommentSummary> comments) {
+        this.comments = comments;
+    }
+
+    public Actions getActions() {
+        return actions;
+    }
+
+    public void setActions(final Actions actions) {
+        this.actions = actions;
+    }
+
+    public List<ProcessDefinitionSummary> getProcessDefinitions() {
+        return processDefinitions;
+    }
+
+    public void setProcessDefinitions(final List<ProcessDefinitionSummary> processDefinitions) {
+        this.processDefinitions = processDefinitions;
+    }
+
+    @Override
+    public String toString() {
+        return "CaseOverviewSnapshot{" +
+                "version='" + version + '\'' +
+                ", modified=" + modified +
+                ", caseInstance=" + caseInstance +
+                '}';
+    }
+}
\ No newline at end of file
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.cm.backend.server;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import org.jbpm.workbench.cm.model.CaseActionSummary;
+import org.jbpm.workbench.cm.model.CaseCommentSummary;
+import org.jbpm.workbench.cm.model.CaseDefinitionSummary;
+import org.jbpm.workbench.cm.model.CaseInstanceSummary;
+import org.jbpm.workbench.cm.model.CaseMilestoneSummary;
+import org.jbpm.workbench.cm.model.CaseRoleAssignmentSummary;
+import org.jbpm.workbench.cm.model.CaseStageSummary;
+import org.jbpm.workbench.cm.model.ProcessDefinitionSummary;
+import org.jbpm.workbench.cm.util.CaseOverviewSnapshot;
+
+/**
+ * Hashes the fields of a {@link CaseOverviewSnapshot} one by one in a fixed order, so that the same case state always
+ * gives the same version whatever the toString of the model classes or the iteration order of their maps.
+ */
+public class CaseOverviewSnapshotHasher {
+
+    private final Hasher hasher = Hashing.sha1().newHasher();
+
+    public String hash(final CaseOverviewSnapshot snapshot) {
+        putCaseInstance(snapshot.getCaseInstance());
+        putCaseDefinition(snapshot.getCaseDefinition());
+        putAll(snapshot.getMilestones(),
+               this::putMilestone);
+        putAll(snapshot.getStages(),
+               this::putStage);
+        putAll(snapshot.getComments(),
+               this::putComment);
+        putAll(snapshot.getActions().getAvailableActions(),
+               this::putAction);
+        putAll(snapshot.getActions().getInProgressAction(),
+               this::putAction);
+        putAll(snapshot.getActions().getCompleteActions(),
+               this::putAction);
+        putAll(snapshot.getProcessDefinitions(),
+               this::putProcessDefinition);
+        return hasher.hash().toString();
+    }
+
+    private void putCaseInstance(final CaseInstanceSummary caseInstance) {
+        if (putPresence(caseInstance)) {
+            put(caseInstance.getCaseId());
+            put(caseInstance.getDescription());
+            put(caseInstance.getStatus());
+            put(caseInstance.getContainerId());
+            put(caseInstance.getOwner());
+            put(caseInstance.getStartedAt());
+            put(caseInstance.getCompletedAt());
+            put(caseInstance.getCaseDefinitionId());
+            putAll(caseInstance.getRoleAssignments(),
+                   this::putRoleAssignment);
+            putAll(caseInstance.getStages(),
+                   this::putStage);
+        }
+    }
+
+    private void putCaseDefinition(final CaseDefinitionSummary caseDefinition) {
+        if (putPresence(caseDefinition)) {
+            put(caseDefinition.getId());
+            put(caseDefinition.getName());
+            put(caseDefinition.getContainerId());
+            final Map<String, Integer> roles = caseDefinition.getRoles() == null ? null : new TreeMap<>(caseDefinition.getRoles());
+            if (putPresence(roles)) {
+                hasher.putInt(roles.size());
+                roles.forEach((role, cardinality) -> {
+                    put(role);
+                    put(cardinality);
+                });
+            }
+        }
+    }
+
+    private void putRoleAssignment(final CaseRoleAssignmentSummary roleAssignment) {
+        put(roleAssignment.getName());
+        putAll(roleAssignment.getGroups(),
+               this::put);
+        putAll(roleAssignment.getUsers(),
+               this::put);
+    }
+
+    private void putMilestone(final CaseMilestoneSummary milestone) {
+        put(milestone.getName());
+        put(milestone.getIdentifier());
+        hasher.putBoolean(milestone.isAchieved());
+        put(milestone.getAchievedAt());
+        put(milestone.getStatus());
+    }
+
+    private void putStage(final CaseStageSummary stage) {
+        put(stage.getName());
+        put(stage.getIdentifier());
+        put(stage.getStatus());
+        putAll(stage.getAdHocActions(),
+               this::putAction);
+    }
+
+    private void putComment(final CaseCommentSummary comment) {
+        put(comment.getId());
+        put(comment.getAuthor());
+        put(comment.getText());
+        put(comment.getAddedAt());
+    }
+
+    private void putAction(final CaseActionSummary action) {
+        put(action.getId());
+        put(action.getName());
+        put(action.getType());
+        put(action.getCreatedOn());
+        // the stage refers back to its ad hoc actions, so only its identifier is hashed here
+        put(action.getStage() == null ? null : action.getStage().getIdentifier());
+        put(action.getActualOwner());
+        put(action.getActionType());
+        put(action.getActionStatus());
+    }
+
+    private void putProcessDefinition(final ProcessDefinitionSummary processDefinition) {
+        put(processDefinition.getId());
+        put(processDefinition.getName());
+        put(processDefinition.getContainerId());
+        put(processDefinition.getVersion());
+        put(processDefinition.getPackageName());
+    }
+
+    private <T> void putAll(final Collection<T> items,
+                            final Consumer<T> putItem) {
+        if (putPresence(items)) {
+            hasher.putInt(items.size());
+            for (T item : items) {
+                if (putPresence(item)) {
+                    putItem.accept(item);
+                }
+            }
+        }
+    }
+
+    private boolean putPresence(final Object value) {
+        hasher.putBoolean(value != null);
+        return value != null;
+    }
+
+    private void put(final Object value) {
+        if (!putPresence(value)) {
+            return;
+        }
+        if (value instanceof Date) {
+            hasher.putLong(((Date) value).getTime());
+        } else {
+            // the length keeps adjacent values apart, "ab" + "c" and "a" + "bc" don't hash alike
+            final String text = value instanceof Enum ? ((Enum<?>) value).name() : value.toString();
+            hasher.putInt(text.length());
+            hasher.putString(text,
+                             StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -16,15 +16,31 @@
 
 package org.jbpm.workbench.cm.backend.server;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiPredicate;
+import java.util.function.Predicate;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.jboss.errai.bus.server.annotations.Service;
+import org.jboss.errai.security.shared.api.Role;
+import org.jboss.errai.security.shared.api.identity.User;
+import org.jboss.errai.security.shared.exception.UnauthorizedException;
 import org.jbpm.workbench.cm.model.*;
 import org.jbpm.workbench.cm.predicate.HumanTaskNodePredicate;
 import org.jbpm.workbench.cm.predicate.MilestoneNodePredicate;
@@ -32,24 +48,38 @@ import org.jbpm.workbench.cm.service.CaseManagementService;
 import org.jbpm.workbench.cm.util.Actions;
 import org.jbpm.workbench.cm.util.CaseActionStatus;
 import org.jbpm.workbench.cm.util.CaseInstanceSearchRequest;
+import org.jbpm.workbench.cm.util.CaseInstanceSearchResult;
 import org.jbpm.workbench.cm.util.CaseInstanceSortBy;
 import org.jbpm.workbench.cm.util.CaseMilestoneSearchRequest;
+import org.jbpm.workbench.cm.util.CaseOverviewSnapshot;
 import org.jbpm.workbench.cm.util.CaseStageStatus;
+import org.kie.server.api.model.KieContainerResourceList;
+import org.kie.server.api.model.ReleaseId;
+import org.kie.server.api.model.ServiceResponse;
 import org.kie.server.api.model.cases.CaseComment;
 import org.kie.server.api.model.cases.CaseDefinition;
 import org.kie.server.api.model.cases.CaseFile;
 import org.kie.server.api.model.cases.CaseInstance;
 import org.kie.server.api.model.cases.CaseMilestone;
 import org.kie.server.api.model.cases.CaseStage;
-import org.kie.server.api.model.definition.ProcessDefinition;
+import org.kie.server.api.model.definition.QueryDefinition;
+import org.kie.server.api.model.definition.QueryFilterSpec;
 import org.kie.server.api.model.instance.NodeInstance;
+import org.kie.server.api.util.QueryFilterSpecBuilder;
 import org.kie.server.client.CaseServicesClient;
-import org.kie.server.client.UserTaskServicesClient;
+import org.kie.server.client.KieServicesClient;
+import org.kie.server.client.QueryServicesClient;
 
+import static java.util.Collections.emptySet;
 import static java.util.Collections.singletonList;
 import static java.util.Comparator.comparing;
 import static java.util.Optional.ofNullable;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.mapping;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 
 @Service
 @ApplicationScoped
@@ -57,20 +87,65 @@ public class RemoteCaseManagementServiceImpl implements CaseManagementService {
 
     public static final int PAGE_SIZE_UNLIMITED = Integer.MAX_VALUE;
     public static final String CASE_OWNER_ROLE = "owner";
+    public static final String CASE_TASK_OWNERS_QUERY = "jbpmCaseTaskOwners";
+    public static final String CASE_TASK_OWNERS_CACHE_TTL = "org.jbpm.wb.cm.task.owners.cache.ttl";
+    public static final String COLUMN_WORK_ITEM_ID = "workItemId";
+    public static final String SORT_BY_CASE_ID = "CorrelationKey";
+    public static final String SORT_BY_START_TIME = "StartDate";
+    public static final String DEFINITIONS_CHECK_INTERVAL = "org.jbpm.wb.cm.definitions.check.interval";
+
+    protected static final int TASK_OWNERS_BATCH_SIZE = 500;
 
     @Inject
     private CaseServicesClient client;
 
     @Inject
-    private UserTaskServicesClient userTaskServicesClient;
+    private QueryServicesClient queryServicesClient;
+
+    @Inject
+    @CaseActionsExecutor
+    private Executor executor;
+
+    @Inject
+    private KieServicesClient kieServicesClient;
+
+    @Inject
+    private User identity;
+
+    // completed tasks never change owner, so their owners are kept for a while across refreshes
+    private final Cache<Long, String> completedTaskOwners = CacheBuilder.newBuilder()
+            .maximumSize(10000)
+            .expireAfterWrite(Long.getLong(CASE_TASK_OWNERS_CACHE_TTL,
+                                           60),
+                              TimeUnit.SECONDS)
+            .build();
+
+    private volatile boolean taskOwnersQueryRegistered = false;
+
+    // definitions only change on deployment, they are kept per set of caller roles until the release of a container changes
+    private final Map<String, Definitions> definitionsByRoles = new ConcurrentHashMap<>();
+
+    private Map<String, String> containerReleases = new HashMap<>();
+
+    long containerReleasesCheckInterval = TimeUnit.SECONDS.toMillis(Long.getLong(DEFINITIONS_CHECK_INTERVAL,
+                                                                                  30));
+
+    private long containerReleasesCheckedAt;
 
     @Override
     public List<CaseDefinitionSummary> getCaseDefinitions() {
-        final List<CaseDefinition> caseDefinitions = client.getCaseDefinitions(0,
-                                                                               PAGE_SIZE_UNLIMITED,
-                                                                               CaseServicesClient.SORT_BY_CASE_DEFINITION_NAME,
-                                                                               true);
-        return caseDefinitions.stream().map(new CaseDefinitionMapper()).collect(toList());
+        checkContainerReleases();
+        final Definitions cached = getDefinitions(getRolesKey());
+        List<CaseDefinitionSummary> definitions = cached.caseDefinitions;
+        if (definitions == null) {
+            final List<CaseDefinition> kieDefinitions = client.getCaseDefinitions(0,
+                                                                                  PAGE_SIZE_UNLIMITED,
+                                                                                  CaseServicesClient.SORT_BY_CASE_DEFINITION_NAME,
+                                                                                  true);
+            definitions = kieDefinitions.stream().map(new CaseDefinitionMapper()).collect(toList());
+            cached.caseDefinitions = definitions;
+        }
+        return new ArrayList<>(definitions);
     }
 
     @Override
@@ -80,12 +155,39 @@ public class RemoteCaseManagementServiceImpl implements CaseManagementService {
     }
 
     @Override
-    public List<CaseInstanceSummary> getCaseInstances(final CaseInstanceSearchRequest request) {
-        final List<CaseInstance> caseInstances = client.getCaseInstances(singletonList(request.getStatus().getName()),
-                                                                         0,
-                                                                         PAGE_SIZE_UNLIMITED);
-        final Comparator<CaseInstanceSummary> comparator = getCaseInstanceSummaryComparator(request);
-        return caseInstances.stream().map(new CaseInstanceMapper()).sorted(comparator).collect(toList());
+    public CaseInstanceSearchResult getCaseInstances(final CaseInstanceSearchRequest request) {
+        final List<String> status = singletonList(request.getStatus().getName());
+        final int page = ofNullable(request.getPage()).orElse(0);
+        final int pageSize = ofNullable(request.getPageSize()).orElse(CaseInstanceSearchRequest.DEFAULT_PAGE_SIZE);
+        final String sortBy = getCaseInstanceSortField(request);
+        final boolean sortByAsc = ofNullable(request.getSortByAsc()).orElse(true);
+
+        final List<CaseInstance> caseInstances = client.getCaseInstances(status,
+                                                                         page,
+                                                                         pageSize,
+                                                                         sortBy,
+                                                                         sortByAsc);
+        // no count endpoint available, probe for the first row of the next page instead
+        final boolean hasMore = caseInstances.size() >= pageSize
+                && !client.getCaseInstances(status,
+                                            (page + 1) * pageSize,
+                                            1,
+                                            sortBy,
+                                            sortByAsc).isEmpty();
+        return new CaseInstanceSearchResult(caseInstances.stream().map(new CaseInstanceMapper()).collect(toList()),
+                                            page,
+                                            pageSize,
+                                            hasMore);
+    }
+
+    protected String getCaseInstanceSortField(final CaseInstanceSearchRequest request) {
+        switch (ofNullable(request.getSortBy()).orElse(CaseInstanceSortBy.CASE_ID)) {
+            case START_TIME:
+                return SORT_BY_START_TIME;
+            case CASE_ID:
+            default:
+                return SORT_BY_CASE_ID;
+        }
     }
 
     protected Comparator<CaseInstanceSummary> getCaseInstanceSummaryComparator(final CaseInstanceSearchRequest request) {
@@ -264,39 +366,103 @@ public class RemoteCaseManagementServiceImpl implements CaseManagementService {
         return stages.stream().map(new CaseStageMapper()).collect(toList());
     }
 
+    @Override
+    public CaseOverviewSnapshot getCaseOverviewSnapshot(final String containerId,
+                                                        final String caseId,
+                                                        final String version) {
+        // the caller identity is request scoped, it can't be read from the executor threads
+        final String rolesKey = getRolesKey();
+        final CompletableFuture<CaseInstanceSummary> caseInstanceFuture = supplyAsync(() -> getCaseInstance(containerId, caseId),
+                                                                                      executor);
+        final CompletableFuture<CaseDefinitionSummary> caseDefinitionFuture = caseInstanceFuture.thenApplyAsync(
+                cis -> cis == null || cis.getCaseDefinitionId() == null ? null : getCaseDefinition(containerId, cis.getCaseDefinitionId()),
+                executor);
+        final CompletableFuture<List<CaseMilestoneSummary>> milestonesFuture = supplyAsync(() -> getCaseMilestones(containerId, caseId, new CaseMilestoneSearchRequest()),
+                                                                                           executor);
+        final CompletableFuture<List<CaseStageSummary>> stagesFuture = supplyAsync(() -> getCaseStages(containerId, caseId),
+                                                                                   executor);
+        final CompletableFuture<List<CaseCommentSummary>> commentsFuture = supplyAsync(() -> getComments(containerId, caseId, 0, CaseOverviewSnapshot.COMMENTS_PAGE_SIZE),
+                                                                                       executor);
+        final CompletableFuture<List<CaseActionSummary>> adHocFuture = supplyAsync(() -> getAdHocFragments(containerId, caseId),
+                                                                                   executor)
+                .thenCombine(caseInstanceFuture,
+                             this::getAdHocActions);
+        final CompletableFuture<List<CaseActionSummary>> inProgressFuture = supplyAsync(() -> getInProgressActions(containerId, caseId),
+                                                                                        executor);
+        final CompletableFuture<List<CaseActionSummary>> completedFuture = supplyAsync(() -> getCompletedActions(containerId, caseId),
+                                                                                       executor);
+        final CompletableFuture<List<ProcessDefinitionSummary>> processDefinitionsFuture = supplyAsync(() -> getProcessDefinitions(containerId,
+                                                                                                                                             rolesKey),
+                                                                                                       executor);
+
+        final CaseOverviewSnapshot snapshot = new CaseOverviewSnapshot();
+        snapshot.setCaseInstance(join(caseInstanceFuture));
+        snapshot.setCaseDefinition(join(caseDefinitionFuture));
+        snapshot.setMilestones(join(milestonesFuture));
+        snapshot.setStages(join(stagesFuture));
+        snapshot.setComments(join(commentsFuture));
+        snapshot.setActions(getCaseActions(join(adHocFuture),
+                                           join(inProgressFuture),
+                                           join(completedFuture)));
+        snapshot.setProcessDefinitions(join(processDefinitionsFuture));
+        if (snapshot.getCaseInstance() == null) {
+            return null;
+        }
+
+        final String currentVersion = getSnapshotVersion(snapshot);
+        if (currentVersion.equals(version)) {
+            return CaseOverviewSnapshot.notModified(currentVersion);
+        }
+        snapshot.setVersion(currentVersion);
+        return snapshot;
+    }
+
+    protected String getSnapshotVersion(final CaseOverviewSnapshot snapshot) {
+        return new CaseOverviewSnapshotHasher().hash(snapshot);
+    }
+
     @Override
     public Actions getCaseActions(String container, String caseId, String userId) {
+        final CompletableFuture<List<CaseActionSummary>> adHocFuture = supplyAsync(() -> getAdHocActions(container, caseId),
+                                                                                   executor);
+        final CompletableFuture<List<CaseActionSummary>> inProgressFuture = supplyAsync(() -> getInProgressActions(container, caseId),
+                                                                                        executor);
+        final CompletableFuture<List<CaseActionSummary>> completedFuture = supplyAsync(() -> getCompletedActions(container, caseId),
+                                                                                       executor);
+        return getCaseActions(join(adHocFuture),
+                              join(inProgressFuture),
+                              join(completedFuture));
+    }
+
+    protected Actions getCaseActions(final List<CaseActionSummary> adHocActions,
+                                     final List<CaseActionSummary> inProgressActions,
+                                     final List<CaseActionSummary> completedActions) {
+        final Set<String> reachedMilestones = new HashSet<>();
+        inProgressActions.forEach(action -> reachedMilestones.add(action.getName()));
+        completedActions.forEach(action -> reachedMilestones.add(action.getName()));
+        final Predicate<CaseActionSummary> inProgressHumanTask = new InProgressHumanTaskPredicate().forActions(inProgressActions);
+
         final Actions actions = new Actions();
-        final List<CaseActionSummary> adHocActions = getAdHocActions(container, caseId);
-        final List<CaseActionSummary> inProgressActions = getInProgressActions(container, caseId);
-        final List<CaseActionSummary> completedActions = getCompletedActions(container, caseId);
         actions.setInProgressAction(inProgressActions);
         actions.setCompleteActions(completedActions);
         actions.setAvailableActions(
                 adHocActions.stream()
-                        .filter(action -> {
-                            if (new MilestoneNodePredicate().negate().test(action.getType())) {
-                                return true;
-                            }
-                            if (findMilestone(inProgressActions,
-                                              action.getName())) {
-                                return false;
-                            }
-                            if (findMilestone(completedActions,
-                                              action.getName())) {
-                                return false;
-                            }
-                            return true;
-                        })
-                        .filter(action -> new InProgressHumanTaskPredicate().negate().test(action,
-                                                                                           inProgressActions))
+                        .filter(action -> new MilestoneNodePredicate().negate().test(action.getType())
+                                || !reachedMilestones.contains(action.getName()))
+                        .filter(inProgressHumanTask.negate())
                         .collect(toList()));
         return actions;
     }
 
-    protected boolean findMilestone(final List<CaseActionSummary> actions,
-                                    final String name) {
-        return actions.stream().filter(action -> name.equals(action.getName())).findAny().isPresent();
+    protected <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
     }
 
     public List<CaseActionSummary> getInProgressActions(String containerId,
@@ -305,10 +471,12 @@ public class RemoteCaseManagementServiceImpl implements CaseManagementService {
                                                                caseId,
                                                                0,
                                                                PAGE_SIZE_UNLIMITED);
+        final Map<Long, String> owners = getTaskOwners(activeNodes,
+                                                       false);
         return activeNodes.stream()
                 .map(s -> new CaseActionNodeInstanceMapper(
                         (new HumanTaskNodePredicate().test(s.getNodeType()) ?
-                                userTaskServicesClient.findTaskByWorkItemId(s.getWorkItemId()).getActualOwner() :
+                                owners.get(s.getWorkItemId()) :
                                 ""),
                         CaseActionStatus.IN_PROGRESS).apply(s))
                 .collect(toList());
@@ -324,15 +492,81 @@ public class RemoteCaseManagementServiceImpl implements CaseManagementService {
     public List<CaseActionSummary> getCompletedActions(String containerId, String caseId) {
         List<NodeInstance> activeNodes = getCaseCompletedNodes(containerId,
                                                                caseId);
+        final Map<Long, String> owners = getTaskOwners(activeNodes,
+                                                       true);
         return activeNodes.stream()
                 .map(s -> new CaseActionNodeInstanceMapper(
                         (new HumanTaskNodePredicate().test(s.getNodeType()) ?
-                                userTaskServicesClient.findTaskByWorkItemId(s.getWorkItemId()).getActualOwner() :
+                                owners.get(s.getWorkItemId()) :
                                 ""),
                         CaseActionStatus.COMPLETED).apply(s))
                 .collect(toList());
     }
 
+    protected Map<Long, String> getTaskOwners(final List<NodeInstance> nodes,
+                                              final boolean completed) {
+        final Map<Long, String> owners = new HashMap<>();
+        final List<Long> workItemIds = new ArrayList<>();
+        nodes.stream()
+                .filter(node -> new HumanTaskNodePredicate().test(node.getNodeType()) && node.getWorkItemId() != null)
+                .map(NodeInstance::getWorkItemId)
+                .distinct()
+                .forEach(workItemId -> {
+                    final String owner = completed ? completedTaskOwners.getIfPresent(workItemId) : null;
+                    if (owner == null) {
+                        workItemIds.add(workItemId);
+                    } else {
+                        owners.put(workItemId,
+                                   owner);
+                    }
+                });
+
+        if (workItemIds.isEmpty()) {
+            return owners;
+        }
+
+        registerTaskOwnersQuery();
+        for (int i = 0; i < workItemIds.size(); i += TASK_OWNERS_BATCH_SIZE) {
+            final List<Long> batch = workItemIds.subList(i,
+                                                         Math.min(i + TASK_OWNERS_BATCH_SIZE,
+                                                                  workItemIds.size()));
+            final QueryFilterSpec filterSpec = new QueryFilterSpecBuilder()
+                    .in(COLUMN_WORK_ITEM_ID,
+                        batch)
+                    .get();
+            final List<List> rows = queryServicesClient.query(CASE_TASK_OWNERS_QUERY,
+                                                              QueryServicesClient.QUERY_MAP_RAW,
+                                                              filterSpec,
+                                                              0,
+                                                              PAGE_SIZE_UNLIMITED,
+                                                              List.class);
+            for (List row : rows) {
+                final Long workItemId = ((Number) row.get(0)).longValue();
+                final String owner = ofNullable((String) row.get(1)).orElse("");
+                owners.put(workItemId,
+                           owner);
+                if (completed) {
+                    completedTaskOwners.put(workItemId,
+                                            owner);
+                }
+            }
+        }
+        return owners;
+    }
+
+    protected void registerTaskOwnersQuery() {
+        if (taskOwnersQueryRegistered) {
+            return;
+        }
+        queryServicesClient.replaceQuery(QueryDefinition.builder()
+                                                 .name(CASE_TASK_OWNERS_QUERY)
+                                                 .source("${org.kie.server.persistence.ds}")
+                                                 .expression("select t.workItemId, t.actualOwner from AuditTaskImpl t")
+                                                 .target("CUSTOM")
+                                                 .build());
+        taskOwnersQueryRegistered = true;
+    }
+
     public List<CaseActionSummary> getAdHocFragments(String containerId, String caseId) {
         return client.getAdHocFragments(containerId,
                                         caseId)
@@ -342,8 +576,16 @@ public class RemoteCaseManagementServiceImpl implements CaseManagementService {
     }
 
     public List<CaseActionSummary> getAdHocActions(String containerId, String caseId) {
-        List<CaseActionSummary> adHocActions = getAdHocFragments(containerId, caseId);
-        CaseInstanceSummary caseInstanceSummary = getCaseInstance(containerId, caseId);
+        return getAdHocActions(getAdHocFragments(containerId, caseId),
+                               getCaseInstance(containerId, caseId));
+    }
+
+    protected List<CaseActionSummary> getAdHocActions(final List<CaseActionSummary> adHocFragments,
+                                                      final CaseInstanceSummary caseInstanceSummary) {
+        final List<CaseActionSummary> adHocActions = new ArrayList<>(adHocFragments);
+        if (caseInstanceSummary == null) {
+            return adHocActions;
+        }
         caseInstanceSummary.getStages().stream()
                 .filter(s -> s.getStatus().equals(CaseStageStatus.ACTIVE.getStatus()))
                 .forEach(ah -> {
@@ -437,10 +679,94 @@ public class RemoteCaseManagementServiceImpl implements CaseManagementService {
 
     @Override
     public List<ProcessDefinitionSummary> getProcessDefinitions(String containerId) {
-        final List<ProcessDefinition> processDefinitions = client.findProcessesByContainerId(containerId,
-                                                                                             0,
-                                                                                             PAGE_SIZE_UNLIMITED);
-        return processDefinitions.stream().map(new ProcessDefinitionMapper()).collect(toList());
+        return getProcessDefinitions(containerId,
+                                     getRolesKey());
+    }
+
+    protected List<ProcessDefinitionSummary> getProcessDefinitions(final String containerId,
+                                                                   final String rolesKey) {
+        checkContainerReleases();
+        final List<ProcessDefinitionSummary> definitions = getDefinitions(rolesKey).processDefinitions.computeIfAbsent(containerId,
+                                                                                            id -> client.findProcessesByContainerId(id,
+                                                                                                                                    0,
+                                                                                                                                    PAGE_SIZE_UNLIMITED)
+                                                                                                    .stream()
+                                                                                                    .map(new ProcessDefinitionMapper())
+                                                                                                    .collect(toList()));
+        return new ArrayList<>(definitions);
+    }
+
+    @Override
+    public void clearDefinitionsCache() {
+        if (identity == null || identity.getRoles() == null
+                || identity.getRoles().stream().noneMatch(role -> DEFINITIONS_ADMIN_ROLE.equals(role.getName()))) {
+            throw new UnauthorizedException("Only administrators are allowed to clear the definitions cache");
+        }
+        clearDefinitions();
+    }
+
+    protected synchronized void clearDefinitions() {
+        definitionsByRoles.clear();
+        containerReleases = new HashMap<>();
+        containerReleasesCheckedAt = 0;
+    }
+
+    protected Definitions getDefinitions(final String rolesKey) {
+        return definitionsByRoles.computeIfAbsent(rolesKey,
+                                                  key -> new Definitions());
+    }
+
+    protected String getRolesKey() {
+        if (identity == null || identity.getRoles() == null) {
+            return "";
+        }
+        return identity.getRoles().stream().map(Role::getName).sorted().collect(joining(","));
+    }
+
+    protected void checkContainerReleases() {
+        synchronized (this) {
+            final long now = System.currentTimeMillis();
+            if (containerReleasesCheckedAt != 0 && now - containerReleasesCheckedAt < containerReleasesCheckInterval) {
+                return;
+            }
+            containerReleasesCheckedAt = now;
+        }
+
+        // KIE server is asked outside of the lock, so that concurrent callers don't queue behind the remote call
+        final Map<String, String> releases = getContainerReleases();
+        synchronized (this) {
+            if (releases.equals(containerReleases)) {
+                return;
+            }
+            final Map<String, String> previous = containerReleases;
+            definitionsByRoles.values().forEach(definitions -> {
+                definitions.caseDefinitions = null;
+                definitions.processDefinitions.keySet().removeIf(containerId -> !Objects.equals(releases.get(containerId),
+                                                                                                previous.get(containerId)));
+            });
+            containerReleases = releases;
+        }
+    }
+
+    protected Map<String, String> getContainerReleases() {
+        final Map<String, String> releases = new HashMap<>();
+        final ServiceResponse<KieContainerResourceList> response = kieServicesClient.listContainers();
+        if (response == null || response.getResult() == null || response.getResult().getContainers() == null) {
+            return releases;
+        }
+        response.getResult().getContainers().forEach(container -> {
+            final ReleaseId releaseId = ofNullable(container.getResolvedReleaseId()).orElse(container.getReleaseId());
+            releases.put(container.getContainerId(),
+                         releaseId == null ? "" : releaseId.toExternalForm());
+        });
+        return releases;
+    }
+
+    protected static class Definitions {
+
+        private final Map<String, List<ProcessDefinitionSummary>> processDefinitions = new ConcurrentHashMap<>();
+
+        private volatile List<CaseDefinitionSummary> caseDefinitions;
     }
 
     public static class InProgressHumanTaskPredicate implements BiPredicate<CaseActionSummary, List<CaseActionSummary>> {
@@ -448,7 +774,20 @@ public class RemoteCaseManagementServiceImpl implements CaseManagementService {
         @Override
         public boolean test(final CaseActionSummary summary,
                             final List<CaseActionSummary> actions) {
-            return new HumanTaskNodePredicate().test(summary.getType()) && actions.stream().filter(action -> action.getType().equals(summary.getType()) && action.getName().equals(summary.getName())).findAny().isPresent();
+            return forActions(actions).test(summary);
+        }
+
+        /**
+         * Indexes the names of the given actions by type once, so that it can be matched against many summaries.
+         */
+        public Predicate<CaseActionSummary> forActions(final List<CaseActionSummary> actions) {
+            final Map<String, Set<String>> namesByType = actions.stream()
+                    .collect(groupingBy(CaseActionSummary::getType,
+                                        mapping(CaseActionSummary::getName,
+                                                toSet())));
+            return summary -> new HumanTaskNodePredicate().test(summary.getType())
+                    && namesByType.getOrDefault(summary.getType(),
+                                                emptySet()).contains(summary.getName());
         }
     }
 
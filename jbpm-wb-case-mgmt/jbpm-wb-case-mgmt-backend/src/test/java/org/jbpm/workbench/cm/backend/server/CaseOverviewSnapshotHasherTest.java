@@ -0,0 +1,119 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.cm.backend.server;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jbpm.workbench.cm.model.CaseActionSummary;
+import org.jbpm.workbench.cm.model.CaseDefinitionSummary;
+import org.jbpm.workbench.cm.model.CaseInstanceSummary;
+import org.jbpm.workbench.cm.model.CaseStageSummary;
+import org.jbpm.workbench.cm.util.Actions;
+import org.jbpm.workbench.cm.util.CaseOverviewSnapshot;
+import org.junit.Test;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.*;
+
+public class CaseOverviewSnapshotHasherTest {
+
+    @Test
+    public void testRolesOrderDoesNotChangeHash() {
+        final Map<String, Integer> roles = new LinkedHashMap<>();
+        roles.put("owner",
+                  1);
+        roles.put("participant",
+                  2);
+        final Map<String, Integer> reversedRoles = new LinkedHashMap<>();
+        reversedRoles.put("participant",
+                          2);
+        reversedRoles.put("owner",
+                          1);
+
+        assertEquals(hash(newSnapshot(roles,
+                                      emptyList())),
+                     hash(newSnapshot(reversedRoles,
+                                      emptyList())));
+    }
+
+    @Test
+    public void testStageAdHocActionsChangeHash() {
+        final CaseStageSummary stage = CaseStageSummary.builder()
+                .identifier("stage")
+                .name("Stage")
+                .status("Active")
+                .build();
+        final String version = hash(newSnapshot(Collections.emptyMap(),
+                                                singletonList(stage)));
+
+        stage.setAdHocActions(singletonList(CaseActionSummary.builder()
+                                                    .name("task")
+                                                    .stage(stage)
+                                                    .build()));
+
+        assertNotEquals(version,
+                        hash(newSnapshot(Collections.emptyMap(),
+                                         singletonList(stage))));
+    }
+
+    @Test
+    public void testAdjacentFieldsDoNotCollide() {
+        final CaseOverviewSnapshot first = newSnapshot(Collections.emptyMap(),
+                                                       emptyList());
+        first.getCaseInstance().setCaseId("ab");
+        first.getCaseInstance().setDescription("c");
+        final CaseOverviewSnapshot second = newSnapshot(Collections.emptyMap(),
+                                                        emptyList());
+        second.getCaseInstance().setCaseId("a");
+        second.getCaseInstance().setDescription("bc");
+
+        assertNotEquals(hash(first),
+                        hash(second));
+    }
+
+    private String hash(final CaseOverviewSnapshot snapshot) {
+        return new CaseOverviewSnapshotHasher().hash(snapshot);
+    }
+
+    private CaseOverviewSnapshot newSnapshot(final Map<String, Integer> roles,
+                                             final List<CaseStageSummary> stages) {
+        final Actions actions = new Actions();
+        actions.setAvailableActions(emptyList());
+        actions.setInProgressAction(emptyList());
+        actions.setCompleteActions(emptyList());
+
+        final CaseOverviewSnapshot snapshot = new CaseOverviewSnapshot();
+        snapshot.setCaseInstance(CaseInstanceSummary.builder()
+                                         .caseId("caseId")
+                                         .containerId("containerId")
+                                         .build());
+        snapshot.setCaseDefinition(CaseDefinitionSummary.builder()
+                                           .id("caseDefinitionId")
+                                           .roles(roles)
+                                           .build());
+        snapshot.setMilestones(emptyList());
+        snapshot.setStages(stages);
+        snapshot.setComments(emptyList());
+        snapshot.setActions(actions);
+        snapshot.setProcessDefinitions(emptyList());
+        return snapshot;
+    }
+}
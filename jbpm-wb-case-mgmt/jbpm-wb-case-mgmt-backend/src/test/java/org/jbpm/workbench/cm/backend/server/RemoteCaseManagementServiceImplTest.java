@@ -19,24 +19,38 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import org.assertj.core.api.SoftAssertions;
+import org.jboss.errai.security.shared.api.RoleImpl;
+import org.jboss.errai.security.shared.api.identity.User;
+import org.jboss.errai.security.shared.exception.UnauthorizedException;
 import org.jbpm.workbench.cm.model.*;
 import org.jbpm.workbench.cm.predicate.MilestoneNodePredicate;
 import org.jbpm.workbench.cm.util.Actions;
 import org.jbpm.workbench.cm.util.CaseActionStatus;
 import org.jbpm.workbench.cm.util.CaseInstanceSearchRequest;
+import org.jbpm.workbench.cm.util.CaseInstanceSearchResult;
 import org.jbpm.workbench.cm.util.CaseInstanceSortBy;
 import org.jbpm.workbench.cm.util.CaseMilestoneSearchRequest;
+import org.jbpm.workbench.cm.util.CaseOverviewSnapshot;
 import org.jbpm.workbench.cm.util.CaseStageStatus;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.kie.server.api.model.KieContainerResource;
+import org.kie.server.api.model.KieContainerResourceList;
+import org.kie.server.api.model.ReleaseId;
+import org.kie.server.api.model.ServiceResponse;
 import org.kie.server.api.model.cases.*;
+import org.kie.server.api.model.definition.ProcessDefinition;
+import org.kie.server.api.model.definition.QueryDefinition;
+import org.kie.server.api.model.definition.QueryFilterSpec;
 import org.kie.server.api.model.instance.NodeInstance;
-import org.kie.server.api.model.instance.TaskInstance;
 import org.kie.server.client.CaseServicesClient;
-import org.kie.server.client.UserTaskServicesClient;
+import org.kie.server.client.KieServicesClient;
+import org.kie.server.client.QueryServicesClient;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -81,7 +95,16 @@ public class RemoteCaseManagementServiceImplTest {
     private CaseServicesClient clientMock;
 
     @Mock
-    private UserTaskServicesClient userTaskServicesClient;
+    private QueryServicesClient queryServicesClient;
+
+    @Spy
+    private Executor executor = new DirectExecutor();
+
+    @Mock
+    private KieServicesClient kieServicesClient;
+
+    @Mock
+    private User identity;
 
     @Spy
     @InjectMocks
@@ -113,6 +136,145 @@ public class RemoteCaseManagementServiceImplTest {
         assertTrue(definitions.isEmpty());
     }
 
+    @Test
+    public void getCaseDefinitionsCachedUntilContainerReleaseChangesTest() {
+        testedService.containerReleasesCheckInterval = 0;
+        when(clientMock.getCaseDefinitions(anyInt(),
+                                           anyInt(),
+                                           anyString(),
+                                           anyBoolean())).thenReturn(singletonList(createTestDefinition()));
+        when(kieServicesClient.listContainers()).thenReturn(containersResponse("1.0"));
+
+        assertEquals(1,
+                     testedService.getCaseDefinitions().size());
+        assertEquals(1,
+                     testedService.getCaseDefinitions().size());
+        verify(clientMock,
+               times(1)).getCaseDefinitions(anyInt(),
+                                            anyInt(),
+                                            anyString(),
+                                            anyBoolean());
+
+        when(kieServicesClient.listContainers()).thenReturn(containersResponse("1.1"));
+
+        assertEquals(1,
+                     testedService.getCaseDefinitions().size());
+        verify(clientMock,
+               times(2)).getCaseDefinitions(anyInt(),
+                                            anyInt(),
+                                            anyString(),
+                                            anyBoolean());
+    }
+
+    @Test
+    public void getProcessDefinitionsCachedPerContainerTest() {
+        testedService.containerReleasesCheckInterval = 0;
+        final ProcessDefinition processDefinition = new ProcessDefinition();
+        processDefinition.setId("processId");
+        processDefinition.setContainerId(containerId);
+        when(clientMock.findProcessesByContainerId(eq(containerId),
+                                                   anyInt(),
+                                                   anyInt())).thenReturn(singletonList(processDefinition));
+        when(kieServicesClient.listContainers()).thenReturn(containersResponse("1.0"));
+
+        assertEquals(1,
+                     testedService.getProcessDefinitions(containerId).size());
+        assertEquals(1,
+                     testedService.getProcessDefinitions(containerId).size());
+        verify(clientMock,
+               times(1)).findProcessesByContainerId(eq(containerId),
+                                                    anyInt(),
+                                                    anyInt());
+
+        when(kieServicesClient.listContainers()).thenReturn(containersResponse("1.1"));
+
+        testedService.getProcessDefinitions(containerId);
+        verify(clientMock,
+               times(2)).findProcessesByContainerId(eq(containerId),
+                                                    anyInt(),
+                                                    anyInt());
+    }
+
+    @Test
+    public void clearDefinitionsCacheAsAdminTest() {
+        when(clientMock.getCaseDefinitions(anyInt(),
+                                           anyInt(),
+                                           anyString(),
+                                           anyBoolean())).thenReturn(singletonList(createTestDefinition()));
+        when(identity.getRoles()).thenReturn(Collections.singleton(new RoleImpl("user")));
+        testedService.getCaseDefinitions();
+
+        when(identity.getRoles()).thenReturn(Collections.singleton(new RoleImpl(DEFINITIONS_ADMIN_ROLE)));
+        testedService.clearDefinitionsCache();
+
+        // the definitions cached for every set of roles are dropped
+        when(identity.getRoles()).thenReturn(Collections.singleton(new RoleImpl("user")));
+        testedService.getCaseDefinitions();
+        verify(clientMock,
+               times(2)).getCaseDefinitions(anyInt(),
+                                            anyInt(),
+                                            anyString(),
+                                            anyBoolean());
+    }
+
+    @Test(expected = UnauthorizedException.class)
+    public void clearDefinitionsCacheRequiresAdminTest() {
+        when(identity.getRoles()).thenReturn(Collections.singleton(new RoleImpl("user")));
+
+        testedService.clearDefinitionsCache();
+    }
+
+    @Test
+    public void definitionsCachedPerCallerRolesTest() {
+        when(clientMock.getCaseDefinitions(anyInt(),
+                                           anyInt(),
+                                           anyString(),
+                                           anyBoolean())).thenReturn(singletonList(createTestDefinition()));
+        when(identity.getRoles()).thenReturn(new HashSet<>(Arrays.asList(new RoleImpl("user"),
+                                                                         new RoleImpl("manager"))));
+
+        testedService.getCaseDefinitions();
+        when(identity.getRoles()).thenReturn(new HashSet<>(Arrays.asList(new RoleImpl("manager"),
+                                                                         new RoleImpl("user"))));
+        testedService.getCaseDefinitions();
+        verify(clientMock,
+               times(1)).getCaseDefinitions(anyInt(),
+                                            anyInt(),
+                                            anyString(),
+                                            anyBoolean());
+
+        when(identity.getRoles()).thenReturn(Collections.singleton(new RoleImpl("user")));
+        testedService.getCaseDefinitions();
+        verify(clientMock,
+               times(2)).getCaseDefinitions(anyInt(),
+                                            anyInt(),
+                                            anyString(),
+                                            anyBoolean());
+    }
+
+    @Test
+    public void containerReleasesFetchedOutsideOfTheLockTest() {
+        testedService.containerReleasesCheckInterval = 0;
+        when(kieServicesClient.listContainers()).thenAnswer(invocation -> {
+            assertFalse(Thread.holdsLock(testedService));
+            return containersResponse("1.0");
+        });
+
+        testedService.getCaseDefinitions();
+
+        verify(kieServicesClient).listContainers();
+    }
+
+    private ServiceResponse<KieContainerResourceList> containersResponse(final String version) {
+        final KieContainerResource container = new KieContainerResource(containerId,
+                                                                        new ReleaseId("org.jbpm",
+                                                                                      "case-project",
+                                                                                      version));
+        return new ServiceResponse<>(ServiceResponse.ResponseType.SUCCESS,
+                                     "",
+                                     new KieContainerResourceList(singletonList(container)));
+    }
+
     @Test
     public void getCaseDefinition_whenClientReturnsCaseDefinition() {
         final CaseDefinition definition = createTestDefinition();
@@ -136,73 +298,139 @@ public class RemoteCaseManagementServiceImplTest {
         final CaseInstance instance = createTestInstance(caseId);
         when(clientMock.getCaseInstances(eq(singletonList(request.getStatus().getName())),
                                          anyInt(),
-                                         anyInt())).thenReturn(singletonList(instance));
+                                         anyInt(),
+                                         anyString(),
+                                         anyBoolean())).thenReturn(singletonList(instance));
 
-        final List<CaseInstanceSummary> instances = testedService.getCaseInstances(request);
-        assertNotNull(instances);
+        final CaseInstanceSearchResult result = testedService.getCaseInstances(request);
+        assertNotNull(result);
+        final List<CaseInstanceSummary> instances = result.getCaseInstances();
         assertEquals(1, instances.size());
         assertCaseInstance(instance, instances.get(0));
+        assertFalse(result.getHasMore());
     }
 
     @Test
     public void getCaseInstances_emptyList() {
         final CaseInstanceSearchRequest request = new CaseInstanceSearchRequest();
-        when(clientMock.getCaseInstances(eq(singletonList(request.getStatus().getName())), anyInt(), anyInt())).thenReturn(emptyList());
+        when(clientMock.getCaseInstances(eq(singletonList(request.getStatus().getName())), anyInt(), anyInt(), anyString(), anyBoolean())).thenReturn(emptyList());
 
-        final List<CaseInstanceSummary> instances = testedService.getCaseInstances(request);
-        assertNotNull(instances);
-        assertTrue(instances.isEmpty());
+        final CaseInstanceSearchResult result = testedService.getCaseInstances(request);
+        assertNotNull(result);
+        assertTrue(result.getCaseInstances().isEmpty());
+        assertFalse(result.getHasMore());
     }
 
     @Test
     public void getCaseInstances_sortCaseInstanceList() {
-        CaseInstance c1 = createTestInstance("id1");
-        c1.setStartedAt(new Date(10000));
-
-        CaseInstance c2 = createTestInstance("id2");
-        c2.setStartedAt(new Date(10));
-
         when(clientMock.getCaseInstances(anyList(),
                                          anyInt(),
-                                         anyInt())).thenReturn(Arrays.asList(c1,
-                                                                             c2));
+                                         anyInt(),
+                                         anyString(),
+                                         anyBoolean())).thenReturn(emptyList());
 
         CaseInstanceSearchRequest defaultSortRequest = new CaseInstanceSearchRequest(); //Default sort is by CASE_ID
-        List<CaseInstanceSummary> sortedInstances = testedService.getCaseInstances(defaultSortRequest);
-        assertEquals("id1",
-                     sortedInstances.get(0).getCaseId());
-        assertEquals("id2",
-                     sortedInstances.get(1).getCaseId());
+        testedService.getCaseInstances(defaultSortRequest);
+        verify(clientMock).getCaseInstances(anyList(),
+                                            eq(0),
+                                            eq(CaseInstanceSearchRequest.DEFAULT_PAGE_SIZE),
+                                            eq(SORT_BY_CASE_ID),
+                                            eq(true));
 
         CaseInstanceSearchRequest sortByIdRequest = new CaseInstanceSearchRequest();
         sortByIdRequest.setSortBy(CaseInstanceSortBy.CASE_ID);
-        sortByIdRequest.setSortByAsc(true);
-        sortedInstances = testedService.getCaseInstances(sortByIdRequest);
-        assertEquals("id1",
-                     sortedInstances.get(0).getCaseId());
-        assertEquals("id2",
-                     sortedInstances.get(1).getCaseId());
         sortByIdRequest.setSortByAsc(false);
-        sortedInstances = testedService.getCaseInstances(sortByIdRequest);
-        assertEquals("id2",
-                     sortedInstances.get(0).getCaseId());
-        assertEquals("id1",
-                     sortedInstances.get(1).getCaseId());
+        testedService.getCaseInstances(sortByIdRequest);
+        verify(clientMock).getCaseInstances(anyList(),
+                                            eq(0),
+                                            eq(CaseInstanceSearchRequest.DEFAULT_PAGE_SIZE),
+                                            eq(SORT_BY_CASE_ID),
+                                            eq(false));
 
         CaseInstanceSearchRequest sortByStarted = new CaseInstanceSearchRequest();
         sortByStarted.setSortBy(CaseInstanceSortBy.START_TIME);
         sortByStarted.setSortByAsc(true);
-        sortedInstances = testedService.getCaseInstances(sortByStarted);
-        assertEquals("id2",
-                     sortedInstances.get(0).getCaseId());
-        assertEquals("id1",
-                     sortedInstances.get(1).getCaseId());
-        sortByStarted.setSortByAsc(false);
-        sortedInstances = testedService.getCaseInstances(sortByStarted);
-        assertEquals("id1",
-                     sortedInstances.get(0).getCaseId());
-        assertEquals("id2",
-                     sortedInstances.get(1).getCaseId());
+        testedService.getCaseInstances(sortByStarted);
+        verify(clientMock).getCaseInstances(anyList(),
+                                            eq(0),
+                                            eq(CaseInstanceSearchRequest.DEFAULT_PAGE_SIZE),
+                                            eq(SORT_BY_START_TIME),
+                                            eq(true));
+    }
+
+    @Test
+    public void getCaseInstances_pageWithMoreResults() {
+        final CaseInstanceSearchRequest request = new CaseInstanceSearchRequest();
+        request.setPage(1);
+        request.setPageSize(2);
+        final List<String> status = singletonList(request.getStatus().getName());
+        when(clientMock.getCaseInstances(status,
+                                         1,
+                                         2,
+                                         SORT_BY_CASE_ID,
+                                         true)).thenReturn(Arrays.asList(createTestInstance("id3"),
+                                                                         createTestInstance("id4")));
+        when(clientMock.getCaseInstances(status,
+                                         4,
+                                         1,
+                                         SORT_BY_CASE_ID,
+                                         true)).thenReturn(singletonList(createTestInstance("id5")));
+
+        final CaseInstanceSearchResult result = testedService.getCaseInstances(request);
+
+        assertEquals(2,
+                     result.getCaseInstances().size());
+        assertEquals("id3",
+                     result.getCaseInstances().get(0).getCaseId());
+        assertEquals(Integer.valueOf(1),
+                     result.getPage());
+        assertEquals(Integer.valueOf(2),
+                     result.getPageSize());
+        assertTrue(result.getHasMore());
+        verify(clientMock,
+               never()).getCaseInstances(anyList(),
+                                         anyInt(),
+                                         eq(PAGE_SIZE_UNLIMITED));
+    }
+
+    @Test
+    public void getCaseInstances_lastPageSkipsNextPageProbe() {
+        final CaseInstanceSearchRequest request = new CaseInstanceSearchRequest();
+        request.setPageSize(2);
+        when(clientMock.getCaseInstances(anyList(),
+                                         eq(0),
+                                         eq(2),
+                                         anyString(),
+                                         anyBoolean())).thenReturn(singletonList(createTestInstance("id1")));
+
+        final CaseInstanceSearchResult result = testedService.getCaseInstances(request);
+
+        assertFalse(result.getHasMore());
+        verify(clientMock,
+               times(1)).getCaseInstances(anyList(),
+                                          anyInt(),
+                                          anyInt(),
+                                          anyString(),
+                                          anyBoolean());
+    }
+
+    @Test
+    public void getCaseInstanceSummaryComparatorTest() {
+        final CaseInstanceSummary c1 = CaseInstanceSummary.builder().caseId("id1").startedAt(new Date(10000)).build();
+        final CaseInstanceSummary c2 = CaseInstanceSummary.builder().caseId("id2").startedAt(new Date(10)).build();
+
+        final CaseInstanceSearchRequest request = new CaseInstanceSearchRequest();
+        assertTrue(testedService.getCaseInstanceSummaryComparator(request).compare(c1,
+                                                                                   c2) < 0);
+        request.setSortByAsc(false);
+        assertTrue(testedService.getCaseInstanceSummaryComparator(request).compare(c1,
+                                                                                   c2) > 0);
+        request.setSortBy(CaseInstanceSortBy.START_TIME);
+        assertTrue(testedService.getCaseInstanceSummaryComparator(request).compare(c1,
+                                                                                   c2) < 0);
+        request.setSortByAsc(true);
+        assertTrue(testedService.getCaseInstanceSummaryComparator(request).compare(c1,
+                                                                                   c2) > 0);
     }
 
     @Test
@@ -643,16 +871,23 @@ public class RemoteCaseManagementServiceImplTest {
                                           anyInt())).thenReturn(Arrays.asList(node5,
                                                                               node6));
 
-        TaskInstance t1 = TaskInstance.builder()
-                .actualOwner("Koe")
-                .build();
-
-        when(userTaskServicesClient.findTaskByWorkItemId(node1.getWorkItemId())).thenReturn(t1);
-        when(userTaskServicesClient.findTaskByWorkItemId(node3.getWorkItemId())).thenReturn(t1);
-        when(userTaskServicesClient.findTaskByWorkItemId(node5.getWorkItemId())).thenReturn(t1);
+        when(queryServicesClient.query(eq(CASE_TASK_OWNERS_QUERY),
+                                       eq(QueryServicesClient.QUERY_MAP_RAW),
+                                       any(QueryFilterSpec.class),
+                                       anyInt(),
+                                       anyInt(),
+                                       eq(List.class))).thenReturn(Arrays.asList(taskOwnerRow(node1.getWorkItemId(),
+                                                                                              "Koe"),
+                                                                                 taskOwnerRow(node3.getWorkItemId(),
+                                                                                              "Koe"),
+                                                                                 taskOwnerRow(node5.getWorkItemId(),
+                                                                                              "Koe")));
 
         Actions actions = testedService.getCaseActions(containerId, caseId, userId);
 
+        verify(executor,
+               times(3)).execute(any(Runnable.class));
+
         assertEquals(5, actions.getAvailableActions().size());
         assertCaseActionAdHocFragment(cAHF1,
                                       actions.getAvailableActions().get(0));
@@ -691,12 +926,20 @@ public class RemoteCaseManagementServiceImplTest {
                                              eq(caseId),
                                              eq(0),
                                              anyInt());
-        verify(userTaskServicesClient).findTaskByWorkItemId(node1.getWorkItemId());
-        verify(userTaskServicesClient, never()).findTaskByWorkItemId(node2.getWorkItemId());
-        verify(userTaskServicesClient).findTaskByWorkItemId(node3.getWorkItemId());
-        verify(userTaskServicesClient, never()).findTaskByWorkItemId(node4.getWorkItemId());
-        verify(userTaskServicesClient).findTaskByWorkItemId(node5.getWorkItemId());
-        verify(userTaskServicesClient, never()).findTaskByWorkItemId(node6.getWorkItemId());
+        final ArgumentCaptor<QueryFilterSpec> filterSpec = ArgumentCaptor.forClass(QueryFilterSpec.class);
+        verify(queryServicesClient, times(2)).query(eq(CASE_TASK_OWNERS_QUERY),
+                                                    eq(QueryServicesClient.QUERY_MAP_RAW),
+                                                    filterSpec.capture(),
+                                                    eq(0),
+                                                    anyInt(),
+                                                    eq(List.class));
+        assertWorkItemIds(filterSpec.getAllValues().get(0),
+                          node1.getWorkItemId(),
+                          node3.getWorkItemId());
+        assertWorkItemIds(filterSpec.getAllValues().get(1),
+                          node5.getWorkItemId());
+        assertEquals("Koe", actions.getInProgressAction().get(0).getActualOwner());
+        assertEquals("Koe", actions.getCompleteActions().get(0).getActualOwner());
     }
 
     @Test
@@ -711,16 +954,18 @@ public class RemoteCaseManagementServiceImplTest {
         NodeInstance node2 = createTestNodeInstance("active2",
                                                     "Service Task",
                                                     node2WorkItemId);
-        TaskInstance t1 = TaskInstance.builder()
-                .actualOwner(taskActualOwner)
-                .build();
-
         when(clientMock.getActiveNodes(eq(containerId),
                                        eq(caseId),
                                        anyInt(),
                                        anyInt())).thenReturn(Arrays.asList(node1,
                                                                            node2));
-        when(userTaskServicesClient.findTaskByWorkItemId(node1WorkItemId)).thenReturn(t1);
+        when(queryServicesClient.query(eq(CASE_TASK_OWNERS_QUERY),
+                                       eq(QueryServicesClient.QUERY_MAP_RAW),
+                                       any(QueryFilterSpec.class),
+                                       anyInt(),
+                                       anyInt(),
+                                       eq(List.class))).thenReturn(singletonList(taskOwnerRow(node1WorkItemId,
+                                                                                              taskActualOwner)));
 
         List<CaseActionSummary> actionsSummaries = testedService.getInProgressActions(containerId, caseId);
 
@@ -732,8 +977,102 @@ public class RemoteCaseManagementServiceImplTest {
 
         assertCaseActionNodeInstance(node1, actionsSummaries.get(0));
         assertCaseActionNodeInstance(node2, actionsSummaries.get(1));
-        verify(userTaskServicesClient).findTaskByWorkItemId(node1WorkItemId);
-        verify(userTaskServicesClient, never()).findTaskByWorkItemId(node2WorkItemId);
+        final ArgumentCaptor<QueryFilterSpec> filterSpec = ArgumentCaptor.forClass(QueryFilterSpec.class);
+        verify(queryServicesClient).query(eq(CASE_TASK_OWNERS_QUERY),
+                                          eq(QueryServicesClient.QUERY_MAP_RAW),
+                                          filterSpec.capture(),
+                                          eq(0),
+                                          anyInt(),
+                                          eq(List.class));
+        assertWorkItemIds(filterSpec.getValue(),
+                          node1WorkItemId);
+    }
+
+    @Test
+    public void getInProgressActionsQueriesOwnersInBatchesTest() {
+        final List<NodeInstance> nodes = new ArrayList<>();
+        for (long workItemId = 0; workItemId < TASK_OWNERS_BATCH_SIZE + 1; workItemId++) {
+            nodes.add(createTestNodeInstance("task" + workItemId,
+                                             NODE_TYPE_HUMAN_TASK,
+                                             workItemId));
+        }
+        when(clientMock.getActiveNodes(eq(containerId),
+                                       eq(caseId),
+                                       anyInt(),
+                                       anyInt())).thenReturn(nodes);
+        when(queryServicesClient.query(anyString(),
+                                       anyString(),
+                                       any(QueryFilterSpec.class),
+                                       anyInt(),
+                                       anyInt(),
+                                       eq(List.class))).thenReturn(emptyList());
+
+        testedService.getInProgressActions(containerId,
+                                           caseId);
+        testedService.getInProgressActions(containerId,
+                                           caseId);
+
+        final ArgumentCaptor<QueryFilterSpec> filterSpec = ArgumentCaptor.forClass(QueryFilterSpec.class);
+        verify(queryServicesClient,
+               times(4)).query(eq(CASE_TASK_OWNERS_QUERY),
+                               eq(QueryServicesClient.QUERY_MAP_RAW),
+                               filterSpec.capture(),
+                               eq(0),
+                               anyInt(),
+                               eq(List.class));
+        assertEquals(TASK_OWNERS_BATCH_SIZE,
+                     ((List) filterSpec.getAllValues().get(0).getParameters()[0].getValue()).size());
+        assertWorkItemIds(filterSpec.getAllValues().get(1),
+                          (long) TASK_OWNERS_BATCH_SIZE);
+        verify(queryServicesClient).replaceQuery(any(QueryDefinition.class));
+    }
+
+    @Test
+    public void getCompletedActionsCachesTaskOwnersTest() {
+        final NodeInstance nodeInstance = createTestNodeInstance("completedNode",
+                                                                 NODE_TYPE_HUMAN_TASK,
+                                                                 1L);
+        when(clientMock.getCompletedNodes(containerId,
+                                          caseId,
+                                          0,
+                                          PAGE_SIZE_UNLIMITED)).thenReturn(singletonList(nodeInstance));
+        when(queryServicesClient.query(anyString(),
+                                       anyString(),
+                                       any(QueryFilterSpec.class),
+                                       anyInt(),
+                                       anyInt(),
+                                       eq(List.class))).thenReturn(singletonList(taskOwnerRow(1L,
+                                                                                              "owner")));
+
+        assertEquals("owner",
+                     testedService.getCompletedActions(containerId,
+                                                       caseId).get(0).getActualOwner());
+        assertEquals("owner",
+                     testedService.getCompletedActions(containerId,
+                                                       caseId).get(0).getActualOwner());
+
+        verify(queryServicesClient).query(anyString(),
+                                          anyString(),
+                                          any(QueryFilterSpec.class),
+                                          anyInt(),
+                                          anyInt(),
+                                          eq(List.class));
+    }
+
+    private List<Object> taskOwnerRow(final Long workItemId,
+                                      final String owner) {
+        return Arrays.asList(workItemId,
+                             owner);
+    }
+
+    private void assertWorkItemIds(final QueryFilterSpec filterSpec,
+                                   final Long... workItemIds) {
+        assertEquals(1,
+                     filterSpec.getParameters().length);
+        assertEquals(COLUMN_WORK_ITEM_ID,
+                     filterSpec.getParameters()[0].getColumn());
+        assertEquals(Arrays.asList(workItemIds),
+                     filterSpec.getParameters()[0].getValue());
     }
 
     @Test
@@ -793,19 +1132,24 @@ public class RemoteCaseManagementServiceImplTest {
         final NodeInstance nodeInstance = createTestNodeInstance("completedNode",
                                                                  NODE_TYPE_HUMAN_TASK,
                                                                  1L);
-        final TaskInstance taskInstance = TaskInstance.builder().actualOwner("owner").build();
         when(clientMock.getCompletedNodes(containerId,
                                           caseId,
                                           0,
                                           PAGE_SIZE_UNLIMITED)).thenReturn(singletonList(nodeInstance));
-        when(userTaskServicesClient.findTaskByWorkItemId(nodeInstance.getWorkItemId())).thenReturn(taskInstance);
+        when(queryServicesClient.query(eq(CASE_TASK_OWNERS_QUERY),
+                                       eq(QueryServicesClient.QUERY_MAP_RAW),
+                                       any(QueryFilterSpec.class),
+                                       anyInt(),
+                                       anyInt(),
+                                       eq(List.class))).thenReturn(singletonList(taskOwnerRow(nodeInstance.getWorkItemId(),
+                                                                                              "owner")));
 
         final List<CaseActionSummary> result = testedService.getCompletedActions(containerId,
                                                                                  caseId);
         SoftAssertions.assertSoftly(softly -> {
             softly.assertThat(result.get(0).getName()).isEqualTo(nodeInstance.getName());
             softly.assertThat(result.get(0).getType()).isEqualTo(nodeInstance.getNodeType());
-            softly.assertThat(result.get(0).getActualOwner()).isEqualTo(taskInstance.getActualOwner());
+            softly.assertThat(result.get(0).getActualOwner()).isEqualTo("owner");
             softly.assertThat(result.get(0).getActionStatus()).isEqualTo(CaseActionStatus.COMPLETED);
         });
     }
@@ -823,7 +1167,7 @@ public class RemoteCaseManagementServiceImplTest {
         final List<CaseActionSummary> result = testedService.getCompletedActions(containerId,
                                                                                  caseId);
 
-        verifyZeroInteractions(userTaskServicesClient);
+        verifyZeroInteractions(queryServicesClient);
 
         SoftAssertions.assertSoftly(softly -> {
             softly.assertThat(result.get(0).getName()).isEqualTo(nodeInstance.getName());
@@ -855,4 +1199,207 @@ public class RemoteCaseManagementServiceImplTest {
         assertFalse(new InProgressHumanTaskPredicate().test(CaseActionSummary.builder().type(NODE_TYPE_MILESTONE).name(taskName).build(),
                                                             actions));
     }
+
+    @Test
+    public void getCaseActionsPropagatesFailureTest() {
+        doReturn(emptyList()).when(testedService).getAdHocActions(containerId,
+                                                                  caseId);
+        when(clientMock.getActiveNodes(eq(containerId),
+                                       eq(caseId),
+                                       anyInt(),
+                                       anyInt())).thenThrow(new IllegalStateException("active nodes"));
+        when(clientMock.getCompletedNodes(eq(containerId),
+                                          eq(caseId),
+                                          anyInt(),
+                                          anyInt())).thenReturn(emptyList());
+
+        try {
+            testedService.getCaseActions(containerId,
+                                         caseId,
+                                         userId);
+            fail("Failure of a single fetch should be propagated");
+        } catch (IllegalStateException e) {
+            assertEquals("active nodes",
+                         e.getMessage());
+        }
+    }
+
+    @Test
+    public void getCaseOverviewSnapshotTest() {
+        final CaseInstanceSummary cis = CaseInstanceSummary.builder()
+                .containerId(containerId)
+                .caseId(caseId)
+                .caseDefinitionId(caseDefinitionId)
+                .stages(emptyList())
+                .build();
+        final CaseDefinitionSummary cds = CaseDefinitionSummary.builder().id(caseDefinitionId).build();
+        final List<CaseMilestoneSummary> milestones = singletonList(CaseMilestoneSummary.builder().identifier("milestone").build());
+        final List<CaseCommentSummary> comments = singletonList(CaseCommentSummary.builder().id(commentId).text(text).build());
+        final List<ProcessDefinitionSummary> processDefinitions = singletonList(ProcessDefinitionSummary.builder().id("processId").build());
+        setupCaseOverview(cis,
+                          cds,
+                          milestones,
+                          comments,
+                          processDefinitions);
+
+        final CaseOverviewSnapshot snapshot = testedService.getCaseOverviewSnapshot(containerId,
+                                                                                    caseId,
+                                                                                    null);
+
+        assertNotNull(snapshot.getVersion());
+        assertTrue(snapshot.getModified());
+        assertEquals(cis,
+                     snapshot.getCaseInstance());
+        assertEquals(cds,
+                     snapshot.getCaseDefinition());
+        assertEquals(milestones,
+                     snapshot.getMilestones());
+        assertEquals(comments,
+                     snapshot.getComments());
+        assertEquals(processDefinitions,
+                     snapshot.getProcessDefinitions());
+        assertTrue(snapshot.getStages().isEmpty());
+        assertNotNull(snapshot.getActions());
+        verify(testedService).getComments(containerId,
+                                          caseId,
+                                          0,
+                                          CaseOverviewSnapshot.COMMENTS_PAGE_SIZE);
+        verify(testedService,
+               never()).getCaseActions(anyString(),
+                                       anyString(),
+                                       anyString());
+    }
+
+    @Test
+    public void getCaseOverviewSnapshotNotModifiedTest() {
+        final CaseInstanceSummary cis = CaseInstanceSummary.builder()
+                .containerId(containerId)
+                .caseId(caseId)
+                .stages(emptyList())
+                .build();
+        setupCaseOverview(cis,
+                          null,
+                          emptyList(),
+                          emptyList(),
+                          emptyList());
+
+        final String version = testedService.getCaseOverviewSnapshot(containerId,
+                                                                     caseId,
+                                                                     null).getVersion();
+        final CaseOverviewSnapshot snapshot = testedService.getCaseOverviewSnapshot(containerId,
+                                                                                    caseId,
+                                                                                    version);
+
+        assertFalse(snapshot.getModified());
+        assertEquals(version,
+                     snapshot.getVersion());
+        assertNull(snapshot.getCaseInstance());
+
+        cis.setDescription(caseDescription);
+        final CaseOverviewSnapshot changed = testedService.getCaseOverviewSnapshot(containerId,
+                                                                                   caseId,
+                                                                                   version);
+
+        assertTrue(changed.getModified());
+        assertNotEquals(version,
+                        changed.getVersion());
+    }
+
+    @Test
+    public void getCaseOverviewSnapshotWithRequestScopedIdentityTest() throws Exception {
+        final CaseInstanceSummary cis = CaseInstanceSummary.builder()
+                .containerId(containerId)
+                .caseId(caseId)
+                .stages(emptyList())
+                .build();
+        setupCaseOverview(cis,
+                          null,
+                          emptyList(),
+                          emptyList(),
+                          emptyList());
+        doCallRealMethod().when(testedService).getProcessDefinitions(eq(containerId),
+                                                                     anyString());
+        final ProcessDefinition processDefinition = new ProcessDefinition();
+        processDefinition.setId("processId");
+        processDefinition.setContainerId(containerId);
+        when(clientMock.findProcessesByContainerId(eq(containerId),
+                                                   anyInt(),
+                                                   anyInt())).thenReturn(singletonList(processDefinition));
+        // like the request scoped identity, the roles can only be read from the thread of the request
+        final Thread requestThread = Thread.currentThread();
+        when(identity.getRoles()).thenAnswer(invocation -> {
+            if (Thread.currentThread() != requestThread) {
+                throw new IllegalStateException("No active contexts for scope type javax.enterprise.context.RequestScoped");
+            }
+            return Collections.singleton(new RoleImpl("user"));
+        });
+        doAnswer(invocation -> {
+            final Thread thread = new Thread((Runnable) invocation.getArguments()[0]);
+            thread.start();
+            thread.join();
+            return null;
+        }).when(executor).execute(any(Runnable.class));
+
+        final CaseOverviewSnapshot snapshot = testedService.getCaseOverviewSnapshot(containerId,
+                                                                                    caseId,
+                                                                                    null);
+
+        assertEquals(1,
+                     snapshot.getProcessDefinitions().size());
+        // the definitions loaded by the snapshot are cached for the roles of the caller
+        testedService.getProcessDefinitions(containerId);
+        verify(clientMock,
+               times(1)).findProcessesByContainerId(eq(containerId),
+                                                    anyInt(),
+                                                    anyInt());
+    }
+
+    @Test
+    public void getCaseOverviewSnapshotForMissingCaseTest() {
+        setupCaseOverview(null,
+                          null,
+                          emptyList(),
+                          emptyList(),
+                          emptyList());
+
+        assertNull(testedService.getCaseOverviewSnapshot(containerId,
+                                                         caseId,
+                                                         null));
+    }
+
+    private void setupCaseOverview(final CaseInstanceSummary cis,
+                                   final CaseDefinitionSummary cds,
+                                   final List<CaseMilestoneSummary> milestones,
+                                   final List<CaseCommentSummary> comments,
+                                   final List<ProcessDefinitionSummary> processDefinitions) {
+        doReturn(cis).when(testedService).getCaseInstance(containerId,
+                                                          caseId);
+        doReturn(cds).when(testedService).getCaseDefinition(containerId,
+                                                            caseDefinitionId);
+        doReturn(milestones).when(testedService).getCaseMilestones(eq(containerId),
+                                                                   eq(caseId),
+                                                                   any(CaseMilestoneSearchRequest.class));
+        doReturn(emptyList()).when(testedService).getCaseStages(containerId,
+                                                                caseId);
+        doReturn(comments).when(testedService).getComments(containerId,
+                                                           caseId,
+                                                           0,
+                                                           CaseOverviewSnapshot.COMMENTS_PAGE_SIZE);
+        doReturn(emptyList()).when(testedService).getAdHocFragments(containerId,
+                                                                    caseId);
+        doReturn(emptyList()).when(testedService).getInProgressActions(containerId,
+                                                                       caseId);
+        doReturn(emptyList()).when(testedService).getCompletedActions(containerId,
+                                                                      caseId);
+        doReturn(processDefinitions).when(testedService).getProcessDefinitions(eq(containerId),
+                                                                               anyString());
+    }
+
+    public static class DirectExecutor implements Executor {
+
+        @Override
+        public void execute(final Runnable command) {
+            command.run();
+        }
+    }
 }
\ No newline at end of file
@@ -37,6 +37,7 @@ import org.jbpm.workbench.cm.predicate.SubProcessNodePredicate;
 import org.jbpm.workbench.cm.util.Actions;
 import org.jbpm.workbench.cm.util.CaseActionStatus;
 import org.jbpm.workbench.cm.util.CaseActionType;
+import org.jbpm.workbench.cm.util.CaseOverviewSnapshot;
 import org.jbpm.workbench.cm.util.CaseStageStatus;
 import org.uberfire.client.annotations.WorkbenchPartTitle;
 import org.uberfire.client.annotations.WorkbenchScreen;
@@ -78,26 +79,37 @@ public class CaseActionsPresenter extends AbstractCaseInstancePresenter<CaseActi
         newActionView.clearAllProcessDefinitions();
     }
 
+    @Override
+    protected void loadCaseSnapshot(final CaseOverviewSnapshot snapshot) {
+        view.updateListHeaders();
+        setCaseStagesList(snapshot.getCaseInstance().getStages());
+        setProcessDefinitions(snapshot.getProcessDefinitions());
+        setActions(snapshot.getActions(),
+                   true);
+    }
+
     @Override
     protected void loadCaseInstance(final CaseInstanceSummary cis) {
         view.updateListHeaders();
         setCaseStagesList(cis.getStages());
-        processDefinitionSummaryMap.clear();
         caseService.call(
-                (List<ProcessDefinitionSummary> processDefinitionSummaries) -> {
-                    final List<String> processDefinitionNames = new ArrayList<>();
-                    for (ProcessDefinitionSummary processDefinitionSummary : processDefinitionSummaries) {
-                        processDefinitionNames.add(processDefinitionSummary.getName());
-                        processDefinitionSummaryMap.put(processDefinitionSummary.getName(),
-                                                        processDefinitionSummary);
-                    }
-                    Collections.sort(processDefinitionNames);
-                    newActionView.setProcessDefinitions(processDefinitionNames);
-                }
+                (List<ProcessDefinitionSummary> processDefinitionSummaries) -> setProcessDefinitions(processDefinitionSummaries)
         ).getProcessDefinitions(containerId);
         refreshData(true);
     }
 
+    void setProcessDefinitions(final List<ProcessDefinitionSummary> processDefinitionSummaries) {
+        processDefinitionSummaryMap.clear();
+        final List<String> processDefinitionNames = new ArrayList<>();
+        for (ProcessDefinitionSummary processDefinitionSummary : processDefinitionSummaries) {
+            processDefinitionNames.add(processDefinitionSummary.getName());
+            processDefinitionSummaryMap.put(processDefinitionSummary.getName(),
+                                            processDefinitionSummary);
+        }
+        Collections.sort(processDefinitionNames);
+        newActionView.setProcessDefinitions(processDefinitionNames);
+    }
+
     void setCaseStagesList(final List<CaseStageSummary> caseStagesList) {
         newActionView.addStages(caseStagesList.stream()
                                               .filter(s -> s.getStatus().equals(CaseStageStatus.ACTIVE.getStatus()))
@@ -186,25 +198,30 @@ public class CaseActionsPresenter extends AbstractCaseInstancePresenter<CaseActi
     }
 
     protected void refreshData(final boolean refreshAvailableActions) {
-        caseService.call((Actions actions) -> {
-            if (refreshAvailableActions) {
-                List<CaseActionSummary> availableActions = new ArrayList<>();
-                availableActions.add(CaseActionSummary.builder()
-                                             .name(translationService.getTranslation(NEW_USER_TASK))
-                                             .actionType(DYNAMIC_USER_TASK)
-                                             .actionStatus(CaseActionStatus.AVAILABLE)
-                                             .build());
-                availableActions.add(CaseActionSummary.builder()
-                                             .name(translationService.getTranslation(NEW_PROCESS_TASK))
-                                             .actionType(DYNAMIC_SUBPROCESS_TASK)
-                                             .actionStatus(CaseActionStatus.AVAILABLE)
-                                             .build());
-                availableActions.addAll(actions.getAvailableActions());
-                view.setAvailableActionsList(availableActions);
-            }
-            view.setInProgressActionsList(actions.getInProgressAction());
-            view.setCompletedActionsList(actions.getCompleteActions());
-        }).getCaseActions(containerId, caseId, identity.getIdentifier());
+        caseService.call((Actions actions) -> setActions(actions,
+                                                         refreshAvailableActions)
+        ).getCaseActions(containerId, caseId, identity.getIdentifier());
+    }
+
+    void setActions(final Actions actions,
+                    final boolean refreshAvailableActions) {
+        if (refreshAvailableActions) {
+            List<CaseActionSummary> availableActions = new ArrayList<>();
+            availableActions.add(CaseActionSummary.builder()
+                                         .name(translationService.getTranslation(NEW_USER_TASK))
+                                         .actionType(DYNAMIC_USER_TASK)
+                                         .actionStatus(CaseActionStatus.AVAILABLE)
+                                         .build());
+            availableActions.add(CaseActionSummary.builder()
+                                         .name(translationService.getTranslation(NEW_PROCESS_TASK))
+                                         .actionType(DYNAMIC_SUBPROCESS_TASK)
+                                         .actionStatus(CaseActionStatus.AVAILABLE)
+                                         .build());
+            availableActions.addAll(actions.getAvailableActions());
+            view.setAvailableActionsList(availableActions);
+        }
+        view.setInProgressActionsList(actions.getInProgressAction());
+        view.setCompletedActionsList(actions.getCompleteActions());
     }
 
     void setAction(final CaseActionItemView caseActionItem) {
@@ -26,6 +26,7 @@ import org.jboss.errai.security.shared.api.identity.User;
 import org.jbpm.workbench.cm.client.util.AbstractCaseInstancePresenter;
 import org.jbpm.workbench.cm.model.CaseCommentSummary;
 import org.jbpm.workbench.cm.model.CaseInstanceSummary;
+import org.jbpm.workbench.cm.util.CaseOverviewSnapshot;
 import org.uberfire.client.annotations.WorkbenchPartTitle;
 import org.uberfire.client.annotations.WorkbenchScreen;
 import org.uberfire.client.mvp.UberElement;
@@ -47,7 +48,7 @@ public class CaseCommentsPresenter extends AbstractCaseInstancePresenter<CaseCom
     boolean sortAsc = false;
 
     int currentPage = 0;
-    public static final int PAGE_SIZE = 20;
+    public static final int PAGE_SIZE = CaseOverviewSnapshot.COMMENTS_PAGE_SIZE;
 
     List<CaseCommentSummary> visibleComments = new ArrayList<CaseCommentSummary>();
     
@@ -72,6 +73,18 @@ public class CaseCommentsPresenter extends AbstractCaseInstancePresenter<CaseCom
     protected void clearCaseInstance() {
     }
 
+    @Override
+    protected void loadCaseSnapshot(final CaseOverviewSnapshot snapshot) {
+        // the snapshot only carries the first page of comments
+        if (currentPage == 0) {
+            view.clearCommentInputForm();
+            visibleComments.clear();
+            addComments(snapshot.getComments());
+        } else {
+            refreshComments();
+        }
+    }
+
     @Override
     protected void loadCaseInstance(final CaseInstanceSummary cis) {
         refreshComments();
@@ -79,23 +92,25 @@ public class CaseCommentsPresenter extends AbstractCaseInstancePresenter<CaseCom
     
     private void commentsServiceCall(int currentPage) {
         caseService.call(
-                (List<CaseCommentSummary> comments) -> {
-                    visibleComments.addAll(comments);
-                    if (comments.size() < PAGE_SIZE) {
-                        view.hideLoadButton();
-                    }
-                    view.setCaseCommentList(visibleComments.stream()
-                            .sorted((sortAsc ?
-                                    comparing(CaseCommentSummary::getAddedAt) :
-                                    comparing(CaseCommentSummary::getAddedAt).reversed()))
-                            .collect(toList()));
-                }
+                (List<CaseCommentSummary> comments) -> addComments(comments)
         ).getComments(containerId,
                       caseId, 
                       currentPage, 
                       PAGE_SIZE);
     }
 
+    private void addComments(final List<CaseCommentSummary> comments) {
+        visibleComments.addAll(comments);
+        if (comments.size() < PAGE_SIZE) {
+            view.hideLoadButton();
+        }
+        view.setCaseCommentList(visibleComments.stream()
+                .sorted((sortAsc ?
+                        comparing(CaseCommentSummary::getAddedAt) :
+                        comparing(CaseCommentSummary::getAddedAt).reversed()))
+                .collect(toList()));
+    }
+
     public void refreshComments() {
         view.clearCommentInputForm();
         visibleComments.clear();
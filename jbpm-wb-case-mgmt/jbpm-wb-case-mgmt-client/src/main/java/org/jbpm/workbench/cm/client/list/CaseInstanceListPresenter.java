@@ -17,7 +17,6 @@
 package org.jbpm.workbench.cm.client.list;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import javax.enterprise.context.Dependent;
 import javax.enterprise.event.Observes;
@@ -25,6 +24,7 @@ import javax.inject.Inject;
 
 import com.google.gwt.user.client.TakesValue;
 import org.jboss.errai.common.client.api.Caller;
+import org.jboss.errai.security.shared.api.identity.User;
 import org.jboss.errai.ui.client.local.spi.TranslationService;
 import org.jbpm.workbench.cm.client.events.CaseCreatedEvent;
 import org.jbpm.workbench.cm.client.newcase.NewCaseInstancePresenter;
@@ -34,6 +34,7 @@ import org.jbpm.workbench.cm.client.util.AbstractPresenter;
 import org.jbpm.workbench.cm.model.CaseInstanceSummary;
 import org.jbpm.workbench.cm.service.CaseManagementService;
 import org.jbpm.workbench.cm.util.CaseInstanceSearchRequest;
+import org.jbpm.workbench.cm.util.CaseInstanceSearchResult;
 import org.uberfire.client.annotations.WorkbenchPartTitle;
 import org.uberfire.client.annotations.WorkbenchScreen;
 import org.uberfire.client.mvp.PlaceManager;
@@ -59,6 +60,9 @@ public class CaseInstanceListPresenter extends AbstractPresenter<CaseInstanceLis
     @Inject
     private NewCaseInstancePresenter newCaseInstancePresenter;
 
+    @Inject
+    private User identity;
+
     @WorkbenchPartTitle
     public String getTitle() {
         return translationService.format(CASE_LIST);
@@ -75,8 +79,25 @@ public class CaseInstanceListPresenter extends AbstractPresenter<CaseInstanceLis
         newCaseInstancePresenter.show();
     }
 
+    protected void refreshCaseList() {
+        // a refresh by an administrator also drops the cached definitions, so that newly deployed cases can be started
+        // right away. Other users see them once the container release check notices the deployment
+        if (identity.getRoles().stream().anyMatch(role -> CaseManagementService.DEFINITIONS_ADMIN_ROLE.equals(role.getName()))) {
+            caseService.call(e -> refreshData()).clearDefinitionsCache();
+        } else {
+            refreshData();
+        }
+    }
+
     protected void refreshData() {
-        caseService.call((List<CaseInstanceSummary> cases) -> view.setCaseInstanceList(cases)).getCaseInstances(view.getValue());
+        final Integer page = view.getValue().getPage();
+        loadCaseInstances(page == null ? 0 : page);
+    }
+
+    protected void loadCaseInstances(final int page) {
+        final CaseInstanceSearchRequest request = view.getValue();
+        request.setPage(page);
+        caseService.call((CaseInstanceSearchResult result) -> view.setCaseInstanceList(result)).getCaseInstances(request);
     }
 
     protected void selectCaseInstance(final CaseInstanceSummary cis) {
@@ -110,7 +131,7 @@ public class CaseInstanceListPresenter extends AbstractPresenter<CaseInstanceLis
     }
 
     protected void searchCaseInstances() {
-        refreshData();
+        loadCaseInstances(0);
     }
 
     @Inject
@@ -121,7 +142,7 @@ public class CaseInstanceListPresenter extends AbstractPresenter<CaseInstanceLis
     public interface CaseInstanceListView extends UberElement<CaseInstanceListPresenter>,
                                                   TakesValue<CaseInstanceSearchRequest> {
 
-        void setCaseInstanceList(List<CaseInstanceSummary> caseInstanceList);
+        void setCaseInstanceList(CaseInstanceSearchResult caseInstanceSearchResult);
 
     }
 }
\ No newline at end of file
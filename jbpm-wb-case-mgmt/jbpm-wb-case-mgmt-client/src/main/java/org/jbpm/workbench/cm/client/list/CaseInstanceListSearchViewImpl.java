@@ -126,7 +126,12 @@ public class CaseInstanceListSearchViewImpl extends AbstractView<CaseInstanceLis
                                                    }
                                                });
 
-        searchRequest.addPropertyChangeHandler(e -> presenter.searchCaseInstances());
+        searchRequest.addPropertyChangeHandler(e -> {
+            // paging is driven by the presenter, only filter and sort changes restart the search
+            if (!"page".equals(e.getPropertyName())) {
+                presenter.searchCaseInstances();
+            }
+        });
     }
 
     @Override
@@ -174,7 +179,7 @@ public class CaseInstanceListSearchViewImpl extends AbstractView<CaseInstanceLis
 
     @EventHandler("refresh-case-list")
     public void onRefreshCaseClick(final @ForEvent("click") MouseEvent event) {
-        presenter.refreshData();
+        presenter.refreshCaseList();
     }
 
     private void onSortChange(final HTMLElement toHide,
@@ -28,16 +28,19 @@ import org.jboss.errai.ui.shared.api.annotations.AutoBound;
 import org.jboss.errai.ui.shared.api.annotations.Bound;
 import org.jboss.errai.ui.shared.api.annotations.DataField;
 import org.jboss.errai.ui.shared.api.annotations.Templated;
+import org.jbpm.workbench.cm.client.pagination.PaginationViewImpl;
 import org.jbpm.workbench.cm.client.util.AbstractView;
 import org.jbpm.workbench.cm.model.CaseInstanceSummary;
 import org.jbpm.workbench.cm.util.CaseInstanceSearchRequest;
+import org.jbpm.workbench.cm.util.CaseInstanceSearchResult;
 
 import static org.jboss.errai.common.client.dom.DOMUtil.addCSSClass;
 import static org.jboss.errai.common.client.dom.DOMUtil.removeCSSClass;
 
 @Dependent
 @Templated(stylesheet = "CaseInstanceListViewImpl.css")
-public class CaseInstanceListViewImpl extends AbstractView<CaseInstanceListPresenter> implements CaseInstanceListPresenter.CaseInstanceListView {
+public class CaseInstanceListViewImpl extends AbstractView<CaseInstanceListPresenter> implements CaseInstanceListPresenter.CaseInstanceListView,
+                                                                                                   PaginationViewImpl.PageList<CaseInstanceSummary> {
 
     @Inject
     @DataField("search-actions")
@@ -51,6 +54,14 @@ public class CaseInstanceListViewImpl extends AbstractView<CaseInstanceListPrese
     @DataField("list-view")
     private Div viewContainer;
 
+    @Inject
+    @DataField("scrollbox")
+    private Div scrollbox;
+
+    @Inject
+    @DataField("pagination")
+    private PaginationViewImpl pagination;
+
     @Inject
     @AutoBound
     private DataBinder<List<CaseInstanceSummary>> caseInstanceList;
@@ -65,6 +76,8 @@ public class CaseInstanceListViewImpl extends AbstractView<CaseInstanceListPrese
         super.init(presenter);
         actions.init(presenter);
         list.addComponentCreationHandler(v -> v.init(presenter));
+        pagination.init(this,
+                        page -> presenter.loadCaseInstances(page));
     }
 
     @Override
@@ -78,9 +91,12 @@ public class CaseInstanceListViewImpl extends AbstractView<CaseInstanceListPrese
     }
 
     @Override
-    public void setCaseInstanceList(final List<CaseInstanceSummary> caseInstanceList) {
-        this.caseInstanceList.setModel(caseInstanceList);
-        if (caseInstanceList.isEmpty()) {
+    public void setCaseInstanceList(final CaseInstanceSearchResult caseInstanceSearchResult) {
+        final List<CaseInstanceSummary> caseInstances = caseInstanceSearchResult.getCaseInstances();
+        pagination.setPage(caseInstanceSearchResult.getPage(),
+                           caseInstances,
+                           caseInstanceSearchResult.getHasMore());
+        if (caseInstances.isEmpty()) {
             removeCSSClass(emptyContainer,
                            "hidden");
         } else {
@@ -89,6 +105,16 @@ public class CaseInstanceListViewImpl extends AbstractView<CaseInstanceListPrese
         }
     }
 
+    @Override
+    public void setVisibleItems(final List<CaseInstanceSummary> visibleItems) {
+        caseInstanceList.setModel(visibleItems);
+    }
+
+    @Override
+    public Div getScrollBox() {
+        return scrollbox;
+    }
+
     @Override
     public HTMLElement getElement() {
         return viewContainer;
@@ -23,6 +23,7 @@ import org.jbpm.workbench.cm.client.util.AbstractCaseInstancePresenter;
 import org.jbpm.workbench.cm.model.CaseInstanceSummary;
 import org.jbpm.workbench.cm.model.CaseMilestoneSummary;
 import org.jbpm.workbench.cm.util.CaseMilestoneSearchRequest;
+import org.jbpm.workbench.cm.util.CaseOverviewSnapshot;
 import org.uberfire.client.annotations.WorkbenchPartTitle;
 import org.uberfire.client.annotations.WorkbenchScreen;
 
@@ -46,6 +47,16 @@ public class CaseMilestoneListPresenter extends AbstractCaseInstancePresenter<Ca
         view.removeAllMilestones();
     }
 
+    @Override
+    protected void loadCaseSnapshot(final CaseOverviewSnapshot snapshot) {
+        // the snapshot milestones are sorted with the default search request
+        if (new CaseMilestoneSearchRequest().getSortByAsc().equals(view.getCaseMilestoneSearchRequest().getSortByAsc())) {
+            view.setCaseMilestoneList(snapshot.getMilestones());
+        } else {
+            refreshData(caseId);
+        }
+    }
+
     @Override
     protected void loadCaseInstance(final CaseInstanceSummary cis) {
         refreshData(caseId);
@@ -54,6 +54,8 @@ public class PaginationViewImpl implements IsElement {
 
     PageList pageList;
 
+    PageLoader pageLoader;
+
     @Inject
     @DataField("pagination")
     private Div pagination;
@@ -64,19 +66,35 @@ public class PaginationViewImpl implements IsElement {
         this.allElementsList = allElementsList;
         this.pageList = pageList;
         this.pageSize = pageSize;
+        this.pageLoader = null;
         setVisibleItemsList(0);
     }
 
+    public void init(PageList pageList,
+                     PageLoader pageLoader) {
+        this.pageList = pageList;
+        this.pageLoader = pageLoader;
+    }
+
     public void setPagination(boolean showPagination) {
         pagination.setHidden(!showPagination);
     }
 
     private void setVisibleItemsList(int currentPage) {
+        final boolean hasNextPage = pageSize * (currentPage + 1) < allElementsList.size();
+        final List visibleItems = allElementsList.subList(pageSize * currentPage,
+                                                          hasNextPage ? pageSize * (currentPage + 1) : allElementsList.size());
+        setPage(currentPage,
+                visibleItems,
+                hasNextPage);
+    }
+
+    public void setPage(int currentPage,
+                        List visibleItems,
+                        boolean hasNextPage) {
         this.currentPage = currentPage;
-        List visibleItems;
 
         boolean hasPrevPage = false;
-        boolean hasNextPage = false;
         boolean showPagination = false;
         removeCSSClass(pageList.getScrollBox(),
                        "kie-end-scroll");
@@ -97,16 +115,11 @@ public class PaginationViewImpl implements IsElement {
                         "disabled");
         }
 
-        if (pageSize * (currentPage + 1) < allElementsList.size()) {
-            hasNextPage = true;
+        if (hasNextPage) {
             showPagination = true;
-            visibleItems = allElementsList.subList(pageSize * currentPage,
-                                                   pageSize * (currentPage + 1));
             removeCSSClass(nextPage,
                            "disabled");
         } else {
-            visibleItems = allElementsList.subList(pageSize * currentPage,
-                                                   allElementsList.size());
             addCSSClass(nextPage,
                         "disabled");
         }
@@ -132,12 +145,20 @@ public class PaginationViewImpl implements IsElement {
         pageList.setVisibleItems(visibleItems);
     }
 
+    private void showPage(int page) {
+        if (pageLoader == null) {
+            setVisibleItemsList(page);
+        } else {
+            pageLoader.loadPage(page);
+        }
+    }
+
     @EventHandler("nextPage")
     @SuppressWarnings("unsued")
     public void onNextPageClick(@ForEvent("click") final Event event) {
         if (!hasCSSClass(nextPage,
                          "disabled")) {
-            setVisibleItemsList(currentPage + 1);
+            showPage(currentPage + 1);
         }
     }
 
@@ -146,7 +167,7 @@ public class PaginationViewImpl implements IsElement {
     public void onPrevPageClick(@ForEvent("click") final Event event) {
         if (!hasCSSClass(prevPage,
                          "disabled")) {
-            setVisibleItemsList(currentPage - 1);
+            showPage(currentPage - 1);
         }
     }
 
@@ -160,4 +181,12 @@ public class PaginationViewImpl implements IsElement {
 
         Div getScrollBox();
     }
+
+    /**
+     * Loads a single page from the server, which is then displayed through {@link #setPage(int, List, boolean)}.
+     */
+    public interface PageLoader {
+
+        void loadPage(int page);
+    }
 }
\ No newline at end of file
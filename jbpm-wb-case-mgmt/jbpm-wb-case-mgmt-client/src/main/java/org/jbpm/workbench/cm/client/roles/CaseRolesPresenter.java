@@ -28,6 +28,7 @@ import org.jbpm.workbench.cm.client.util.CaseRolesValidations;
 import org.jbpm.workbench.cm.model.CaseDefinitionSummary;
 import org.jbpm.workbench.cm.model.CaseInstanceSummary;
 import org.jbpm.workbench.cm.model.CaseRoleAssignmentSummary;
+import org.jbpm.workbench.cm.util.CaseOverviewSnapshot;
 import org.uberfire.client.annotations.WorkbenchPartTitle;
 import org.uberfire.client.annotations.WorkbenchScreen;
 import org.uberfire.client.mvp.UberElement;
@@ -77,23 +78,37 @@ public class CaseRolesPresenter extends AbstractCaseInstancePresenter<CaseRolesP
         loadCaseRoles(cis);
     }
 
+    @Override
+    protected void loadCaseSnapshot(final CaseOverviewSnapshot snapshot) {
+        final CaseInstanceSummary cis = snapshot.getCaseInstance();
+        if (cis == null || cis.getCaseDefinitionId() == null || cis.getRoleAssignments().isEmpty()) {
+            return;
+        }
+        setCaseRoles(cis,
+                     snapshot.getCaseDefinition());
+    }
+
     protected void loadCaseRoles(final CaseInstanceSummary cis) {
         if (cis == null || cis.getCaseDefinitionId() == null || cis.getRoleAssignments().isEmpty()) {
             return;
         }
         caseService.call(
-                (CaseDefinitionSummary cds) -> {
-                    if (cds == null) {
-                        return;
-                    }
-                    caseDefinition = cds;
-                    setCaseRolesAssignments(cis.getRoleAssignments());
-                    view.setBadge(getCaseRolesAssignments().size());
-                    filterCaseRoles();
-                }
+                (CaseDefinitionSummary cds) -> setCaseRoles(cis,
+                                                            cds)
         ).getCaseDefinition(containerId, cis.getCaseDefinitionId());
     }
 
+    protected void setCaseRoles(final CaseInstanceSummary cis,
+                                final CaseDefinitionSummary cds) {
+        if (cds == null) {
+            return;
+        }
+        caseDefinition = cds;
+        setCaseRolesAssignments(cis.getRoleAssignments());
+        view.setBadge(getCaseRolesAssignments().size());
+        filterCaseRoles();
+    }
+
     public void filterCaseRoles() {
         final List<CaseRoleAssignmentSummary> filteredCaseRoles;
 
@@ -22,6 +22,7 @@ import org.jbpm.workbench.cm.client.resources.i18n.Constants;
 import org.jbpm.workbench.cm.client.util.AbstractCaseInstancePresenter;
 import org.jbpm.workbench.cm.model.CaseInstanceSummary;
 import org.jbpm.workbench.cm.model.CaseStageSummary;
+import org.jbpm.workbench.cm.util.CaseOverviewSnapshot;
 import org.jbpm.workbench.cm.util.CaseStageStatus;
 import org.uberfire.client.annotations.WorkbenchPartTitle;
 import org.uberfire.client.annotations.WorkbenchScreen;
@@ -43,6 +44,12 @@ public class CaseStagesPresenter extends AbstractCaseInstancePresenter<CaseStage
         view.removeAllStages();
     }
 
+    @Override
+    protected void loadCaseSnapshot(final CaseOverviewSnapshot snapshot) {
+        view.setCaseStagesList(snapshot.getStages());
+        setStages();
+    }
+
     @Override
     protected void loadCaseInstance(final CaseInstanceSummary cis) {
         caseService.call((List<CaseStageSummary> stages) -> {
@@ -24,6 +24,7 @@ import org.jboss.errai.ui.client.local.spi.TranslationService;
 import org.jbpm.workbench.cm.client.events.CaseRefreshEvent;
 import org.jbpm.workbench.cm.model.CaseInstanceSummary;
 import org.jbpm.workbench.cm.service.CaseManagementService;
+import org.jbpm.workbench.cm.util.CaseOverviewSnapshot;
 import org.uberfire.client.mvp.UberElement;
 import org.uberfire.lifecycle.OnStartup;
 import org.uberfire.mvp.PlaceRequest;
@@ -46,6 +47,8 @@ public abstract class AbstractCaseInstancePresenter<V extends UberElement> exten
 
     protected Caller<CaseManagementService> caseService;
 
+    protected CaseOverviewSnapshotLoader caseSnapshotLoader;
+
     @OnStartup
     public void onStartup(final PlaceRequest place) {
         this.place = place;
@@ -58,15 +61,33 @@ public abstract class AbstractCaseInstancePresenter<V extends UberElement> exten
 
     protected abstract void loadCaseInstance(CaseInstanceSummary cis);
 
+    protected void loadCaseSnapshot(final CaseOverviewSnapshot snapshot) {
+        loadCaseInstance(snapshot.getCaseInstance());
+    }
+
     protected abstract void clearCaseInstance();
 
     public void findCaseInstance() {
         clearCaseInstance();
         if (isCaseInstanceValid()) {
-            caseService.call((CaseInstanceSummary cis) -> loadCaseInstance(cis)).getCaseInstance(containerId, caseId);
+            caseSnapshotLoader.loadSnapshot(containerId,
+                                            caseId,
+                                            snapshot -> {
+                                                if (snapshot == null) {
+                                                    loadCaseInstance(null);
+                                                } else {
+                                                    loadCaseSnapshot(snapshot);
+                                                }
+                                            },
+                                            this::onCaseSnapshotError);
         }
     }
 
+    protected void onCaseSnapshotError(final Throwable throwable) {
+        // the error itself is reported by the default error handler, the screen is just left without a case
+        clearCaseInstance();
+    }
+
     protected boolean isCaseInstanceValid() {
         return  /* !isNullOrEmpty(serverTemplateId) //TODO: include this check when serverTemplateId starts to be used*/
                 !isNullOrEmpty(containerId) && !isNullOrEmpty(caseId);
@@ -80,4 +101,9 @@ public abstract class AbstractCaseInstancePresenter<V extends UberElement> exten
     public void setCaseService(final Caller<CaseManagementService> caseService) {
         this.caseService = caseService;
     }
+
+    @Inject
+    public void setCaseSnapshotLoader(final CaseOverviewSnapshotLoader caseSnapshotLoader) {
+        this.caseSnapshotLoader = caseSnapshotLoader;
+    }
 }
\ No newline at end of file
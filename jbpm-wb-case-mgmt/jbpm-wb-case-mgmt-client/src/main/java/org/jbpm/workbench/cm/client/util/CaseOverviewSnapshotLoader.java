@@ -0,0 +1,129 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.cm.client.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.errai.common.client.api.Caller;
+import org.jbpm.workbench.cm.service.CaseManagementService;
+import org.jbpm.workbench.cm.util.CaseOverviewSnapshot;
+
+/**
+ * Shares a single {@link CaseOverviewSnapshot} request among the case overview screens. Screens asking for the same
+ * case while a request is in flight are answered by that request, an unmodified case is answered from the last snapshot.
+ * A failed request is reported to every screen waiting for it.
+ */
+@ApplicationScoped
+public class CaseOverviewSnapshotLoader {
+
+    private final List<PendingCallback> pendingCallbacks = new ArrayList<>();
+
+    private Caller<CaseManagementService> caseService;
+
+    private String containerId;
+
+    private String caseId;
+
+    private CaseOverviewSnapshot snapshot;
+
+    private boolean loading = false;
+
+    public void loadSnapshot(final String containerId,
+                             final String caseId,
+                             final Consumer<CaseOverviewSnapshot> callback,
+                             final Consumer<Throwable> errorCallback) {
+        if (!isCurrentCase(containerId,
+                           caseId)) {
+            this.containerId = containerId;
+            this.caseId = caseId;
+            this.snapshot = null;
+            this.loading = false;
+            pendingCallbacks.clear();
+        }
+
+        pendingCallbacks.add(new PendingCallback(callback,
+                                                 errorCallback));
+        if (loading) {
+            return;
+        }
+        loading = true;
+
+        caseService.call(
+                (CaseOverviewSnapshot result) -> {
+                    if (!isCurrentCase(containerId,
+                                       caseId)) {
+                        return;
+                    }
+                    if (result == null || result.getModified()) {
+                        snapshot = result;
+                    }
+                    dispatch(snapshot);
+                },
+                (message, throwable) -> {
+                    if (isCurrentCase(containerId,
+                                      caseId)) {
+                        loading = false;
+                        takePendingCallbacks().forEach(pending -> pending.errorCallback.accept(throwable));
+                    }
+                    return true;
+                }
+        ).getCaseOverviewSnapshot(containerId,
+                                  caseId,
+                                  snapshot == null ? null : snapshot.getVersion());
+    }
+
+    protected void dispatch(final CaseOverviewSnapshot snapshot) {
+        loading = false;
+        takePendingCallbacks().forEach(pending -> pending.callback.accept(snapshot));
+    }
+
+    private List<PendingCallback> takePendingCallbacks() {
+        final List<PendingCallback> callbacks = new ArrayList<>(pendingCallbacks);
+        pendingCallbacks.clear();
+        return callbacks;
+    }
+
+    protected boolean isCurrentCase(final String containerId,
+                                    final String caseId) {
+        return Objects.equals(this.containerId,
+                              containerId) && Objects.equals(this.caseId,
+                                                             caseId);
+    }
+
+    @Inject
+    public void setCaseService(final Caller<CaseManagementService> caseService) {
+        this.caseService = caseService;
+    }
+
+    private static class PendingCallback {
+
+        private final Consumer<CaseOverviewSnapshot> callback;
+
+        private final Consumer<Throwable> errorCallback;
+
+        PendingCallback(final Consumer<CaseOverviewSnapshot> callback,
+                        final Consumer<Throwable> errorCallback) {
+            this.callback = callback;
+            this.errorCallback = errorCallback;
+        }
+    }
+}
\ No newline at end of file
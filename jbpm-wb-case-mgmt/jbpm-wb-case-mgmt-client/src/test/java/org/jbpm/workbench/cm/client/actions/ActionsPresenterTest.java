@@ -30,6 +30,7 @@ import org.jbpm.workbench.cm.model.ProcessDefinitionSummary;
 import org.jbpm.workbench.cm.util.Actions;
 import org.jbpm.workbench.cm.util.CaseActionStatus;
 import org.jbpm.workbench.cm.util.CaseActionType;
+import org.jbpm.workbench.cm.util.CaseOverviewSnapshot;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -107,16 +108,30 @@ public class ActionsPresenterTest extends AbstractCaseInstancePresenterTest {
 
     @Test
     public void clearAndLoadCaseInstanceTest() {
-        when(caseManagementService.getProcessDefinitions(containerId)).thenReturn(singletonList(ProcessDefinitionSummary.builder()
-                                                                                                                        .id("processId")
-                                                                                                                        .name("SubProcess_1")
-                                                                                                                        .build()));
-        setupCaseInstance(cis);
+        final CaseOverviewSnapshot snapshot = newCaseOverviewSnapshot(cis);
+        snapshot.setActions(actions);
+        snapshot.setProcessDefinitions(singletonList(ProcessDefinitionSummary.builder()
+                                                             .id("processId")
+                                                             .name("SubProcess_1")
+                                                             .build()));
+        setupCaseInstance(snapshot);
 
         verifyCaseInstanceCleared();
         verifyCaseInstanceLoaded();
     }
 
+    @Test
+    public void refreshDataTest() {
+        setupCaseInstance(cis);
+        presenter.refreshData(true);
+
+        verify(caseManagementService).getCaseActions(containerId,
+                                                     caseId,
+                                                     identity.getIdentifier());
+        verify(caseAllActionsView).setInProgressActionsList(caseActionSummaryList);
+        verify(caseAllActionsView).setCompletedActionsList(caseActionSummaryList);
+    }
+
     private void verifyCaseInstanceCleared() {
         verify(caseAllActionsView).removeAllTasks();
         verify(newActionViewMock).clearAllStages();
@@ -139,7 +154,8 @@ public class ActionsPresenterTest extends AbstractCaseInstancePresenterTest {
     }
 
     private void verifySubProcessesLoaded() {
-        verify(caseManagementService).getProcessDefinitions(containerId);
+        verify(caseManagementService,
+               never()).getProcessDefinitions(anyString());
         final ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
         verify(newActionViewMock).setProcessDefinitions(captor.capture());
         assertEquals(1,
@@ -149,8 +165,10 @@ public class ActionsPresenterTest extends AbstractCaseInstancePresenterTest {
     }
 
     private void verifyActionsLoaded() {
-        verify(presenter).refreshData(true);
-        verify(caseManagementService).getCaseActions(containerId, caseId, identity.getIdentifier());
+        verify(caseManagementService,
+               never()).getCaseActions(anyString(),
+                                       anyString(),
+                                       anyString());
 
         final ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
         verify(caseAllActionsView).setAvailableActionsList(captor.capture());
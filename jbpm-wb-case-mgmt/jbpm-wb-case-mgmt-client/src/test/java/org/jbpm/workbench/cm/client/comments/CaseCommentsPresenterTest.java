@@ -28,6 +28,7 @@ import org.jbpm.workbench.cm.client.util.AbstractCaseInstancePresenter;
 import org.jbpm.workbench.cm.client.util.AbstractCaseInstancePresenterTest;
 import org.jbpm.workbench.cm.model.CaseCommentSummary;
 import org.jbpm.workbench.cm.model.CaseInstanceSummary;
+import org.jbpm.workbench.cm.util.CaseOverviewSnapshot;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
@@ -75,7 +76,8 @@ public class CaseCommentsPresenterTest extends AbstractCaseInstancePresenterTest
                                                presenter.getPageSize())).thenReturn(Collections.singletonList(caseComment));
         when(identity.getIdentifier()).thenReturn(author);
 
-        setupCaseInstance(cis);
+        setupCaseInstance(cis,
+                          Collections.singletonList(caseComment));
 
         verify(caseCommentsView).setCaseCommentList(Collections.singletonList(caseComment));
         verifyClearCaseInstance(1);
@@ -107,7 +109,8 @@ public class CaseCommentsPresenterTest extends AbstractCaseInstancePresenterTest
                                                0,
                                                presenter.getPageSize())).thenReturn(Collections.singletonList(caseComment));
 
-        setupCaseInstance(cis);
+        setupCaseInstance(cis,
+                          Collections.singletonList(caseComment));
         presenter.updateCaseComment(caseComment, newCommentText);
 
         verify(caseManagementService).updateComment(eq(cis.getContainerId()),
@@ -129,7 +132,8 @@ public class CaseCommentsPresenterTest extends AbstractCaseInstancePresenterTest
                                                0,
                                                presenter.getPageSize())).thenReturn(Collections.singletonList(caseComment));
 
-        setupCaseInstance(cis);
+        setupCaseInstance(cis,
+                          Collections.singletonList(caseComment));
 
         presenter.deleteCaseComment(caseComment);
         verify(caseManagementService).removeComment(eq(cis.getContainerId()),
@@ -163,6 +167,13 @@ public class CaseCommentsPresenterTest extends AbstractCaseInstancePresenterTest
                                     1);
     }
 
+    private void setupCaseInstance(final CaseInstanceSummary cis,
+                                   final List<CaseCommentSummary> comments) {
+        final CaseOverviewSnapshot snapshot = newCaseOverviewSnapshot(cis);
+        snapshot.setComments(comments);
+        setupCaseInstance(snapshot);
+    }
+
     private void verifyClearCaseInstance(int times) {
         verify(caseCommentsView, times(times)).clearCommentInputForm();
     }
@@ -180,7 +191,7 @@ public class CaseCommentsPresenterTest extends AbstractCaseInstancePresenterTest
 
         presenter.onStartup(placeRequest);
 
-        verify(caseManagementService, times(timesCalled)).getCaseInstance(anyString(), anyString());
+        verify(caseManagementService, times(timesCalled)).getCaseOverviewSnapshot(anyString(), anyString(), anyString());
     }
 
     @Test
@@ -199,7 +210,8 @@ public class CaseCommentsPresenterTest extends AbstractCaseInstancePresenterTest
                                                0,
                                                presenter.getPageSize())).thenReturn(Arrays.asList(caseComment1, caseComment2));
 
-        setupCaseInstance(cis);
+        setupCaseInstance(cis,
+                          Arrays.asList(caseComment1, caseComment2));
         final ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
         verify(caseCommentsView).setCaseCommentList(captor.capture());
         assertEquals(comment2_id, ((CaseCommentSummary) captor.getValue().get(0)).getId());
@@ -224,7 +236,8 @@ public class CaseCommentsPresenterTest extends AbstractCaseInstancePresenterTest
 
         when(caseManagementService.getComments(cis.getContainerId(), cis.getCaseId(), 0, presenter.getPageSize())).thenReturn(caseCommentSummary.subList(0, 20));
 
-        setupCaseInstance(cis);
+        setupCaseInstance(cis,
+                          caseCommentSummary.subList(0, 20));
         
         presenter.loadMoreCaseComments();
         
@@ -55,7 +55,7 @@ public class CaseDetailsPresenterTest extends AbstractCaseInstancePresenterTest
 
         verify(view).setValue(new CaseInstanceSummary());
         verifyNoMoreInteractions(view);
-        verify(caseManagementService, never()).getCaseInstance(anyString(), anyString());
+        verify(caseManagementService, never()).getCaseOverviewSnapshot(anyString(), anyString(), anyString());
     }
 
     @Test
@@ -65,7 +65,7 @@ public class CaseDetailsPresenterTest extends AbstractCaseInstancePresenterTest
         verify(view).setValue(new CaseInstanceSummary());
         verify(view).setValue(cis);
         verifyNoMoreInteractions(view);
-        verify(caseManagementService).getCaseInstance(cis.getContainerId(), cis.getCaseId());
+        verify(caseManagementService).getCaseOverviewSnapshot(eq(cis.getContainerId()), eq(cis.getCaseId()), anyString());
     }
 
     @Test
@@ -78,6 +78,6 @@ public class CaseDetailsPresenterTest extends AbstractCaseInstancePresenterTest
         verify(view, times(2)).setValue(cis);
 
         verifyNoMoreInteractions(view);
-        verify(caseManagementService, times(2)).getCaseInstance(cis.getContainerId(), cis.getCaseId());
+        verify(caseManagementService, times(2)).getCaseOverviewSnapshot(eq(cis.getContainerId()), eq(cis.getCaseId()), anyString());
     }
 }
\ No newline at end of file
@@ -16,20 +16,25 @@
 
 package org.jbpm.workbench.cm.client.list;
 
+import java.util.Collections;
 import java.util.List;
 
 import com.google.common.collect.Lists;
 import org.jboss.errai.common.client.api.Caller;
+import org.jboss.errai.security.shared.api.RoleImpl;
+import org.jboss.errai.security.shared.api.identity.User;
 import org.jbpm.workbench.cm.client.overview.CaseOverviewPresenter;
 import org.jbpm.workbench.cm.model.CaseInstanceSummary;
 import org.jbpm.workbench.cm.service.CaseManagementService;
 import org.jbpm.workbench.cm.util.CaseInstanceSearchRequest;
+import org.jbpm.workbench.cm.util.CaseInstanceSearchResult;
 import org.jbpm.workbench.cm.util.CaseStatus;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.uberfire.client.mvp.PlaceManager;
@@ -53,6 +58,9 @@ public class CaseInstanceListPresenterTest {
     @Mock
     PlaceManager placeManager;
 
+    @Mock
+    User identity;
+
     @InjectMocks
     CaseInstanceListPresenter presenter;
 
@@ -70,7 +78,11 @@ public class CaseInstanceListPresenterTest {
     @Before
     public void init() {
         caseService = new CallerMock<>(caseManagementService);
-        when(caseManagementService.getCaseInstances(any(CaseInstanceSearchRequest.class))).thenReturn(caseInstanceSummaryList);
+        when(caseManagementService.getCaseInstances(any(CaseInstanceSearchRequest.class)))
+                .thenAnswer(i -> new CaseInstanceSearchResult(caseInstanceSummaryList,
+                                                              0,
+                                                              CaseInstanceSearchRequest.DEFAULT_PAGE_SIZE,
+                                                              false));
         presenter.setCaseService(caseService);
         when(view.getValue()).thenReturn(new CaseInstanceSearchRequest());
     }
@@ -83,9 +95,9 @@ public class CaseInstanceListPresenterTest {
 
         verify(caseManagementService).cancelCaseInstance(cis.getContainerId(), cis.getCaseId());
         verify(caseManagementService).getCaseInstances(any(CaseInstanceSearchRequest.class));
-        final ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+        final ArgumentCaptor<CaseInstanceSearchResult> captor = ArgumentCaptor.forClass(CaseInstanceSearchResult.class);
         verify(view).setCaseInstanceList(captor.capture());
-        assertEquals(caseInstanceSummaryList.size(), captor.getValue().size());
+        assertEquals(caseInstanceSummaryList.size(), captor.getValue().getCaseInstances().size());
     }
 
     @Test
@@ -98,10 +110,10 @@ public class CaseInstanceListPresenterTest {
                                                         cis.getCaseId(),
                                                         null);
         verify(caseManagementService).getCaseInstances(any(CaseInstanceSearchRequest.class));
-        final ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+        final ArgumentCaptor<CaseInstanceSearchResult> captor = ArgumentCaptor.forClass(CaseInstanceSearchResult.class);
         verify(view).setCaseInstanceList(captor.capture());
         assertEquals(caseInstanceSummaryList.size(),
-                     captor.getValue().size());
+                     captor.getValue().getCaseInstances().size());
     }
 
     @Test
@@ -109,10 +121,65 @@ public class CaseInstanceListPresenterTest {
         presenter.refreshData();
 
         verify(caseManagementService).getCaseInstances(view.getValue());
-        final ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+        final ArgumentCaptor<CaseInstanceSearchResult> captor = ArgumentCaptor.forClass(CaseInstanceSearchResult.class);
         verify(view).setCaseInstanceList(captor.capture());
         assertEquals(caseInstanceSummaryList.size(),
-                     captor.getValue().size());
+                     captor.getValue().getCaseInstances().size());
+    }
+
+    @Test
+    public void testRefreshCaseListAsAdminClearsDefinitionsCache() {
+        when(identity.getRoles()).thenReturn(Collections.singleton(new RoleImpl(CaseManagementService.DEFINITIONS_ADMIN_ROLE)));
+
+        presenter.refreshCaseList();
+
+        final InOrder inOrder = inOrder(caseManagementService);
+        inOrder.verify(caseManagementService).clearDefinitionsCache();
+        inOrder.verify(caseManagementService).getCaseInstances(view.getValue());
+    }
+
+    @Test
+    public void testRefreshCaseListKeepsDefinitionsCache() {
+        when(identity.getRoles()).thenReturn(Collections.singleton(new RoleImpl("user")));
+
+        presenter.refreshCaseList();
+
+        verify(caseManagementService,
+               never()).clearDefinitionsCache();
+        verify(caseManagementService).getCaseInstances(view.getValue());
+    }
+
+    @Test
+    public void testLoadCaseInstancesPage() {
+        presenter.loadCaseInstances(2);
+
+        final ArgumentCaptor<CaseInstanceSearchRequest> captor = ArgumentCaptor.forClass(CaseInstanceSearchRequest.class);
+        verify(caseManagementService).getCaseInstances(captor.capture());
+        assertEquals(Integer.valueOf(2),
+                     captor.getValue().getPage());
+        verify(view).setCaseInstanceList(any(CaseInstanceSearchResult.class));
+    }
+
+    @Test
+    public void testRefreshDataKeepsCurrentPage() {
+        view.getValue().setPage(3);
+
+        presenter.refreshData();
+
+        verify(caseManagementService).getCaseInstances(view.getValue());
+        assertEquals(Integer.valueOf(3),
+                     view.getValue().getPage());
+    }
+
+    @Test
+    public void testSearchCaseInstancesResetsPage() {
+        view.getValue().setPage(3);
+
+        presenter.searchCaseInstances();
+
+        verify(caseManagementService).getCaseInstances(view.getValue());
+        assertEquals(Integer.valueOf(0),
+                     view.getValue().getPage());
     }
 
     @Test
@@ -35,7 +35,7 @@ public class CaseInstanceListSearchViewTest {
     public void testRefreshCaseList(){
         actions.onRefreshCaseClick(null);
 
-        verify(presenter).refreshData();
+        verify(presenter).refreshCaseList();
     }
 
     @Test
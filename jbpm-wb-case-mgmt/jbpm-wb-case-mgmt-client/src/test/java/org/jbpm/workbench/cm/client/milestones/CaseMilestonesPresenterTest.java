@@ -25,6 +25,7 @@ import org.jbpm.workbench.cm.model.CaseDefinitionSummary;
 import org.jbpm.workbench.cm.model.CaseInstanceSummary;
 import org.jbpm.workbench.cm.model.CaseMilestoneSummary;
 import org.jbpm.workbench.cm.util.CaseMilestoneSearchRequest;
+import org.jbpm.workbench.cm.util.CaseOverviewSnapshot;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -32,7 +33,6 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
-import org.uberfire.mocks.CallerMock;
 
 import static java.util.Collections.singletonList;
 import static org.junit.Assert.assertEquals;
@@ -72,12 +72,11 @@ public class CaseMilestonesPresenterTest extends AbstractCaseInstancePresenterTe
 
     @Before
     public void init() {
-        caseService = new CallerMock<>(caseManagementService);
+        super.init();
         when(caseManagementService.getCaseMilestones(anyString(),
                                                      anyString(),
                                                      any(CaseMilestoneSearchRequest.class))).thenReturn(caseMilestonesSummaryList);
         when(caseMilestoneListView.getCaseMilestoneSearchRequest()).thenReturn(new CaseMilestoneSearchRequest());
-        presenter.setCaseService(caseService);
 
         cis = CaseInstanceSummary.builder().containerId(containerId).caseId(caseId).caseDefinitionId(caseDefId).build();
         final CaseDefinitionSummary cds = CaseDefinitionSummary.builder().id(caseDefId).build();
@@ -104,25 +103,43 @@ public class CaseMilestonesPresenterTest extends AbstractCaseInstancePresenterTe
     @Test
     public void testLoadCaseInstance() {
         List<CaseMilestoneSummary> milestones = singletonList(createCaseMilestone());
-        when(caseManagementService.getCaseMilestones(anyString(),
-                                                     anyString(),
-                                                     any(CaseMilestoneSearchRequest.class))).thenReturn(milestones);
+        final CaseOverviewSnapshot snapshot = newCaseOverviewSnapshot(cis);
+        snapshot.setMilestones(milestones);
 
-        setupCaseInstance(cis);
+        setupCaseInstance(snapshot);
 
         verifyClearCaseInstance();
         verify(caseMilestoneListView).setCaseMilestoneList(milestones);
+        verify(caseManagementService,
+               never()).getCaseMilestones(anyString(),
+                                          anyString(),
+                                          any(CaseMilestoneSearchRequest.class));
     }
 
     @Test
-    public void testRefreshData() {
+    public void testLoadCaseInstanceWithCustomSort() {
+        final CaseMilestoneSearchRequest request = new CaseMilestoneSearchRequest();
+        request.setSortByAsc(false);
+        when(caseMilestoneListView.getCaseMilestoneSearchRequest()).thenReturn(request);
+
         setupCaseInstance(cis);
+
+        verify(caseManagementService).getCaseMilestones(cis.getContainerId(),
+                                                        cis.getCaseId(),
+                                                        request);
+        verify(caseMilestoneListView).setCaseMilestoneList(anyList());
+    }
+
+    @Test
+    public void testRefreshData() {
+        final CaseOverviewSnapshot snapshot = newCaseOverviewSnapshot(cis);
+        snapshot.setMilestones(caseMilestonesSummaryList);
+        setupCaseInstance(snapshot);
         presenter.searchCaseMilestones();
 
-        verify(caseManagementService,
-               times(2)).getCaseMilestones(cis.getContainerId(),
-                                           cis.getCaseId(),
-                                           caseMilestoneListView.getCaseMilestoneSearchRequest());
+        verify(caseManagementService).getCaseMilestones(cis.getContainerId(),
+                                                        cis.getCaseId(),
+                                                        caseMilestoneListView.getCaseMilestoneSearchRequest());
         final ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
         verify(caseMilestoneListView, times(2)).setCaseMilestoneList(captor.capture());
         assertEquals(caseMilestonesSummaryList.size(), captor.getValue().size());
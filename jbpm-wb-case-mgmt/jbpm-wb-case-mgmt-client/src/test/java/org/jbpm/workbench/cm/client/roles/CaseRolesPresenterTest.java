@@ -25,6 +25,7 @@ import org.jbpm.workbench.cm.client.util.CaseRolesValidations;
 import org.jbpm.workbench.cm.model.CaseDefinitionSummary;
 import org.jbpm.workbench.cm.model.CaseInstanceSummary;
 import org.jbpm.workbench.cm.model.CaseRoleAssignmentSummary;
+import org.jbpm.workbench.cm.util.CaseOverviewSnapshot;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -153,10 +154,11 @@ public class CaseRolesPresenterTest extends AbstractCaseInstancePresenterTest {
         setCaseDefinitionID(CASE_DEFINITION_ID,
                             caseDefinition,
                             caseInstance);
-        when(caseManagementService.getCaseDefinition(caseInstance.getContainerId(), caseInstance.getCaseDefinitionId())).thenReturn(caseDefinition);
         when(view.getFilterValue()).thenReturn("All");
+        final CaseOverviewSnapshot snapshot = newCaseOverviewSnapshot(caseInstance);
+        snapshot.setCaseDefinition(caseDefinition);
 
-        setupCaseInstance(caseInstance);
+        setupCaseInstance(snapshot);
 
         verify(view).removeAllRoles();
         verify(view).setBadge(0);
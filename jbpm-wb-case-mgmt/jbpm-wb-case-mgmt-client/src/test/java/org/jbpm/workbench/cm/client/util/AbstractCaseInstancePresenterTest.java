@@ -24,6 +24,8 @@ import org.jboss.errai.ui.client.local.spi.TranslationService;
 import org.jbpm.workbench.cm.model.CaseInstanceSummary;
 import org.jbpm.workbench.cm.model.CaseStageSummary;
 import org.jbpm.workbench.cm.service.CaseManagementService;
+import org.jbpm.workbench.cm.util.Actions;
+import org.jbpm.workbench.cm.util.CaseOverviewSnapshot;
 import org.jbpm.workbench.cm.util.CaseStatus;
 import org.junit.Before;
 import org.mockito.Mock;
@@ -34,6 +36,7 @@ import org.uberfire.mvp.impl.DefaultPlaceRequest;
 import static org.jbpm.workbench.cm.client.util.AbstractCaseInstancePresenter.PARAMETER_CASE_ID;
 import static org.jbpm.workbench.cm.client.util.AbstractCaseInstancePresenter.PARAMETER_CONTAINER_ID;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 
@@ -48,6 +51,8 @@ public abstract class AbstractCaseInstancePresenterTest {
 
     protected Caller<CaseManagementService> caseService;
 
+    protected CaseOverviewSnapshotLoader caseSnapshotLoader;
+
     @Mock
     protected TranslationService translationService;
 
@@ -65,6 +70,23 @@ public abstract class AbstractCaseInstancePresenterTest {
                 .build();
     }
 
+    protected static CaseOverviewSnapshot newCaseOverviewSnapshot(final CaseInstanceSummary cis) {
+        final Actions actions = new Actions();
+        actions.setAvailableActions(Collections.emptyList());
+        actions.setInProgressAction(Collections.emptyList());
+        actions.setCompleteActions(Collections.emptyList());
+
+        final CaseOverviewSnapshot snapshot = new CaseOverviewSnapshot();
+        snapshot.setVersion("version");
+        snapshot.setCaseInstance(cis);
+        snapshot.setMilestones(Collections.emptyList());
+        snapshot.setStages(Collections.emptyList());
+        snapshot.setComments(Collections.emptyList());
+        snapshot.setActions(actions);
+        snapshot.setProcessDefinitions(Collections.emptyList());
+        return snapshot;
+    }
+
     protected CaseStageSummary createCaseStageSummary(final String stageStatus) {
         return CaseStageSummary.builder()
                                .identifier("stage")
@@ -77,6 +99,9 @@ public abstract class AbstractCaseInstancePresenterTest {
     public void init() {
         caseService = new CallerMock<>(caseManagementService);
         getPresenter().setCaseService(caseService);
+        caseSnapshotLoader = new CaseOverviewSnapshotLoader();
+        caseSnapshotLoader.setCaseService(caseService);
+        getPresenter().setCaseSnapshotLoader(caseSnapshotLoader);
         doAnswer(im -> im.getArguments()[0]).when(translationService).format(anyString());
     }
 
@@ -87,10 +112,17 @@ public abstract class AbstractCaseInstancePresenterTest {
     }
 
     protected void setupCaseInstance(final CaseInstanceSummary cis) {
+        setupCaseInstance(newCaseOverviewSnapshot(cis));
+    }
+
+    protected void setupCaseInstance(final CaseOverviewSnapshot snapshot) {
+        final CaseInstanceSummary cis = snapshot.getCaseInstance();
         final PlaceRequest placeRequest = new DefaultPlaceRequest();
         placeRequest.addParameter(PARAMETER_CONTAINER_ID, cis.getContainerId());
         placeRequest.addParameter(PARAMETER_CASE_ID, cis.getCaseId());
-        when(caseManagementService.getCaseInstance(cis.getContainerId(), cis.getCaseId())).thenReturn(cis);
+        when(caseManagementService.getCaseOverviewSnapshot(eq(cis.getContainerId()),
+                                                           eq(cis.getCaseId()),
+                                                           anyString())).thenReturn(snapshot);
 
         getPresenter().onStartup(placeRequest);
     }
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.cm.client.util;
+
+import java.util.function.Consumer;
+
+import org.jbpm.workbench.cm.service.CaseManagementService;
+import org.jbpm.workbench.cm.util.CaseOverviewSnapshot;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.uberfire.mocks.CallerMock;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CaseOverviewSnapshotLoaderTest {
+
+    @Mock
+    private CaseManagementService caseManagementService;
+
+    @Mock
+    private Consumer<CaseOverviewSnapshot> firstCallback;
+
+    @Mock
+    private Consumer<CaseOverviewSnapshot> secondCallback;
+
+    @Mock
+    private Consumer<Throwable> firstErrorCallback;
+
+    @Mock
+    private Consumer<Throwable> secondErrorCallback;
+
+    private CaseOverviewSnapshotLoader loader;
+
+    @Before
+    public void setup() {
+        loader = new CaseOverviewSnapshotLoader();
+        loader.setCaseService(new CallerMock<>(caseManagementService));
+    }
+
+    @Test
+    public void testErrorIsForwardedToEveryWaitingCallback() {
+        final RuntimeException error = new RuntimeException("error");
+        when(caseManagementService.getCaseOverviewSnapshot(anyString(),
+                                                           anyString(),
+                                                           anyString())).thenAnswer(invocation -> {
+            // another screen asks for the same case while the request is in flight
+            loader.loadSnapshot("containerId",
+                                "caseId",
+                                secondCallback,
+                                secondErrorCallback);
+            throw error;
+        });
+
+        loader.loadSnapshot("containerId",
+                            "caseId",
+                            firstCallback,
+                            firstErrorCallback);
+
+        verify(caseManagementService,
+               times(1)).getCaseOverviewSnapshot(anyString(),
+                                                 anyString(),
+                                                 anyString());
+        verify(firstErrorCallback).accept(error);
+        verify(secondErrorCallback).accept(error);
+        verify(firstCallback,
+               never()).accept(any());
+        verify(secondCallback,
+               never()).accept(any());
+    }
+
+    @Test
+    public void testLoadingAgainAfterError() {
+        when(caseManagementService.getCaseOverviewSnapshot(anyString(),
+                                                           anyString(),
+                                                           anyString())).thenThrow(new RuntimeException("error"));
+        loader.loadSnapshot("containerId",
+                            "caseId",
+                            firstCallback,
+                            firstErrorCallback);
+
+        loader.loadSnapshot("containerId",
+                            "caseId",
+                            secondCallback,
+                            secondErrorCallback);
+
+        verify(caseManagementService,
+               times(2)).getCaseOverviewSnapshot(anyString(),
+                                                 anyString(),
+                                                 anyString());
+        verify(firstErrorCallback,
+               times(1)).accept(any(Throwable.class));
+        verify(secondErrorCallback).accept(any(Throwable.class));
+    }
+}
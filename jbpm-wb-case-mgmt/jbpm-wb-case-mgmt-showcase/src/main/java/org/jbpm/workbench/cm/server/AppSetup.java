@@ -16,6 +16,10 @@
 
 package org.jbpm.workbench.cm.server;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
 import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.context.RequestScoped;
@@ -25,16 +29,19 @@ import javax.inject.Inject;
 
 import org.jboss.errai.security.shared.api.identity.User;
 import org.jboss.errai.security.shared.service.AuthenticationService;
+import org.jbpm.workbench.cm.backend.server.CaseActionsExecutor;
 import org.kie.server.api.KieServerConstants;
 import org.kie.server.client.CaseServicesClient;
 import org.kie.server.client.KieServicesClient;
-import org.kie.server.client.UserTaskServicesClient;
+import org.kie.server.client.QueryServicesClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.uberfire.commons.concurrent.Managed;
 import org.uberfire.commons.services.cdi.ApplicationStarted;
 import org.uberfire.commons.services.cdi.Startup;
 
 import static org.jbpm.workbench.ks.utils.KieServerUtils.createKieServicesClient;
+import static org.jbpm.workbench.ks.utils.KieServerUtils.withCurrentCredentials;
 
 @ApplicationScoped
 @Startup
@@ -70,9 +77,31 @@ public class AppSetup {
 
     @Produces
     @ApplicationScoped
-    public UserTaskServicesClient produceUserTaskServicesClient(final KieServicesClient kieServicesClient) {
-        LOGGER.info("Creating UserTaskServicesClient...");
-        return kieServicesClient.getServicesClient(UserTaskServicesClient.class);
+    public QueryServicesClient produceQueryServicesClient(final KieServicesClient kieServicesClient) {
+        LOGGER.info("Creating QueryServicesClient...");
+        return kieServicesClient.getServicesClient(QueryServicesClient.class);
+    }
+
+    @Produces
+    @ApplicationScoped
+    @CaseActionsExecutor
+    public Executor produceKieServerCallsExecutor(@Managed final ExecutorService executorService) {
+        // tasks are bound to the credentials of the submitting request, as KIE server calls are made on behalf of the user
+        return command -> {
+            final Callable<Void> task = withCurrentCredentials(() -> {
+                command.run();
+                return null;
+            });
+            executorService.execute(() -> {
+                try {
+                    task.call();
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            });
+        };
     }
 
     @Produces
@@ -42,6 +42,7 @@ import org.jbpm.workbench.cm.model.ProcessDefinitionSummary;
 import org.jbpm.workbench.cm.util.CaseActionStatus;
 import org.jbpm.workbench.cm.util.CaseActionType;
 import org.jbpm.workbench.cm.util.CaseInstanceSearchRequest;
+import org.jbpm.workbench.cm.util.CaseInstanceSearchResult;
 import org.jbpm.workbench.cm.util.CaseMilestoneSearchRequest;
 import org.jbpm.workbench.cm.util.CaseStatus;
 import org.slf4j.Logger;
@@ -146,11 +147,22 @@ public class MockCaseManagementService extends RemoteCaseManagementServiceImpl {
     }
 
     @Override
-    public List<CaseInstanceSummary> getCaseInstances(final CaseInstanceSearchRequest request) {
-        return caseInstanceList.stream()
+    public CaseInstanceSearchResult getCaseInstances(final CaseInstanceSearchRequest request) {
+        final int page = ofNullable(request.getPage()).orElse(0);
+        final int pageSize = ofNullable(request.getPageSize()).orElse(CaseInstanceSearchRequest.DEFAULT_PAGE_SIZE);
+        final List<CaseInstanceSummary> cases = caseInstanceList.stream()
                 .filter(c -> c.getStatus().equals(request.getStatus()))
                 .sorted(getCaseInstanceSummaryComparator(request))
                 .collect(toList());
+        final int from = Math.min(page * pageSize,
+                                  cases.size());
+        final int to = Math.min(from + pageSize,
+                                cases.size());
+        return new CaseInstanceSearchResult(new ArrayList<>(cases.subList(from,
+                                                                          to)),
+                                            page,
+                                            pageSize,
+                                            to < cases.size());
     }
 
     @Override
@@ -24,23 +24,25 @@ import javax.inject.Inject;
 import org.dashbuilder.common.client.error.ClientRuntimeError;
 import org.dashbuilder.dataset.DataSet;
 import org.dashbuilder.dataset.DataSetLookup;
-import org.dashbuilder.dataset.client.DataSetClientServices;
 import org.dashbuilder.dataset.client.DataSetReadyCallback;
 import org.jbpm.workbench.common.client.resources.i18n.Constants;
 import org.jbpm.workbench.df.client.events.DataSetReadyEvent;
 import org.jbpm.workbench.df.client.filter.FilterSettings;
-import org.jbpm.workbench.ks.integration.ConsoleDataSetLookup;
 import org.kie.workbench.common.workbench.client.error.DefaultWorkbenchErrorCallback;
 import org.uberfire.client.views.pfly.widgets.ErrorPopup;
 import org.uberfire.client.views.pfly.widgets.Select;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
 
+/**
+ * Select whose options are looked up from a data set once its list data set is ready. The options are loaded once
+ * per server template through {@link DataSetOptionsCache}, not on every page, sort or filter change of the list.
+ */
 @Dependent
 public class DataSetAwareSelect {
 
     @Inject
-    protected DataSetClientServices dataSetClientServices;
+    protected DataSetOptionsCache dataSetOptionsCache;
 
     @Inject
     protected ErrorPopup errorPopup;
@@ -51,6 +53,8 @@ public class DataSetAwareSelect {
     private String valueColumnId;
     private String textColumnId;
     private DataSetLookup dataSetLookup;
+    private String optionsServerTemplateId;
+    private int optionsGeneration;
 
     @PostConstruct
     public void init(){
@@ -73,52 +77,61 @@ public class DataSetAwareSelect {
         final FilterSettings filterSettings = event.getFilterSettings();
 
         if (filterSettings.getServerTemplateId() == null || filterSettings.getServerTemplateId().isEmpty()) {
+            optionsServerTemplateId = null;
             removeOptions();
             return;
         }
         
         if(dataSetLookup.getDataSetUUID().equals(event.getDataSetUUID())) {
+            if (filterSettings.getServerTemplateId().equals(optionsServerTemplateId) && optionsGeneration == dataSetOptionsCache.getGeneration()) {
+                return;
+            }
+            optionsServerTemplateId = filterSettings.getServerTemplateId();
+            optionsGeneration = dataSetOptionsCache.getGeneration();
             try {
-                dataSetClientServices.lookupDataSet(ConsoleDataSetLookup.fromInstance(dataSetLookup,
-                                                                                      filterSettings.getServerTemplateId()),
-                                                    new DataSetReadyCallback() {
-                                                        @Override
-                                                        public void callback(final DataSet dataSet) {
-                                                            select.refresh(s -> {
-                                                                s.removeAllOptions();
-                                                                for (int i = 0; i < dataSet.getRowCount(); i++) {
-                                                                    final String text = (String) dataSet.getValueAt(i,
-                                                                                                                    textColumnId);
-                                                                    final String value = (String) dataSet.getValueAt(i,
-                                                                                                                     valueColumnId);
-                                                                    if (isNullOrEmpty(text) == false && isNullOrEmpty(value) == false) {
-                                                                        s.addOption(text,
-                                                                                    value);
-                                                                    }
-                                                                }
-                                                                if (s.getOptions().getLength() > 0) {
-                                                                    s.enable();
-                                                                } else {
-                                                                    s.disable();
-                                                                }
-                                                            });
-                                                        }
-
-                                                        @Override
-                                                        public void notFound() {
-                                                            removeOptions();
-                                                            errorPopup.showError(Constants.INSTANCE.DataSetNotFound(dataSetLookup.getDataSetUUID()));
-                                                        }
-
-                                                        @Override
-                                                        public boolean onError(ClientRuntimeError error) {
-                                                            removeOptions();
-                                                            errorPopup.showError(Constants.INSTANCE.DataSetError(dataSetLookup.getDataSetUUID(),
-                                                                                                                 error.getMessage()));
-                                                            return false;
-                                                        }
-                                                    });
+                dataSetOptionsCache.lookupOptions(filterSettings.getServerTemplateId(),
+                                                  dataSetLookup,
+                                                  new DataSetReadyCallback() {
+                                                      @Override
+                                                      public void callback(final DataSet dataSet) {
+                                                          select.refresh(s -> {
+                                                              s.removeAllOptions();
+                                                              for (int i = 0; i < dataSet.getRowCount(); i++) {
+                                                                  final String text = (String) dataSet.getValueAt(i,
+                                                                                                                  textColumnId);
+                                                                  final String value = (String) dataSet.getValueAt(i,
+                                                                                                                   valueColumnId);
+                                                                  if (isNullOrEmpty(text) == false && isNullOrEmpty(value) == false) {
+                                                                      s.addOption(text,
+                                                                                  value);
+                                                                  }
+                                                              }
+                                                              if (s.getOptions().getLength() > 0) {
+                                                                  s.enable();
+                                                              } else {
+                                                                  s.disable();
+                                                              }
+                                                          });
+                                                      }
+
+                                                      @Override
+                                                      public void notFound() {
+                                                          optionsServerTemplateId = null;
+                                                          removeOptions();
+                                                          errorPopup.showError(Constants.INSTANCE.DataSetNotFound(dataSetLookup.getDataSetUUID()));
+                                                      }
+
+                                                      @Override
+                                                      public boolean onError(ClientRuntimeError error) {
+                                                          optionsServerTemplateId = null;
+                                                          removeOptions();
+                                                          errorPopup.showError(Constants.INSTANCE.DataSetError(dataSetLookup.getDataSetUUID(),
+                                                                                                               error.getMessage()));
+                                                          return false;
+                                                      }
+                                                  });
             } catch (Exception ex) {
+                optionsServerTemplateId = null;
                 new DefaultWorkbenchErrorCallback().error(ex);
             }
         }
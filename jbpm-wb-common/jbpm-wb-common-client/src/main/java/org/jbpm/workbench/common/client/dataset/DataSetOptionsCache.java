@@ -0,0 +1,166 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.common.client.dataset;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.dashbuilder.common.client.error.ClientRuntimeError;
+import org.dashbuilder.dataset.DataSet;
+import org.dashbuilder.dataset.DataSetLookup;
+import org.dashbuilder.dataset.client.DataSetClientServices;
+import org.dashbuilder.dataset.client.DataSetReadyCallback;
+import org.jbpm.workbench.ks.integration.ConsoleDataSetLookup;
+
+/**
+ * Option lists of the data set backed filter selects, by server template and lookup. A list is looked up once and
+ * then kept for {@link #TTL} ms or until {@link #refresh()} is called; selects asking for a list being looked up
+ * wait for the same response.
+ */
+@ApplicationScoped
+public class DataSetOptionsCache {
+
+    public static final int TTL = 300000;
+
+    private final List<CachedOptions> options = new ArrayList<>();
+
+    private DataSetClientServices dataSetClientServices;
+
+    private int generation;
+
+    public DataSetOptionsCache() {
+    }
+
+    @Inject
+    public DataSetOptionsCache(final DataSetClientServices dataSetClientServices) {
+        this.dataSetClientServices = dataSetClientServices;
+    }
+
+    public void lookupOptions(final String serverTemplateId,
+                              final DataSetLookup lookup,
+                              final DataSetReadyCallback callback) throws Exception {
+        final long now = System.currentTimeMillis();
+        options.removeIf(cached -> cached.dataSet != null && now - cached.time > TTL);
+
+        final DataSetLookup consoleLookup = ConsoleDataSetLookup.fromInstance(lookup,
+                                                                              serverTemplateId);
+        final CachedOptions cached = getCachedOptions(serverTemplateId,
+                                                      consoleLookup);
+        if (cached != null) {
+            if (cached.dataSet != null) {
+                callback.callback(cached.dataSet);
+            } else {
+                cached.callbacks.add(callback);
+            }
+            return;
+        }
+
+        final CachedOptions pending = new CachedOptions(serverTemplateId,
+                                                        consoleLookup);
+        pending.callbacks.add(callback);
+        options.add(pending);
+        try {
+            dataSetClientServices.lookupDataSet(consoleLookup,
+                                                new DataSetReadyCallback() {
+                                                    @Override
+                                                    public void callback(final DataSet dataSet) {
+                                                        pending.dataSet = dataSet;
+                                                        pending.time = System.currentTimeMillis();
+                                                        for (DataSetReadyCallback callback : pending.takeCallbacks()) {
+                                                            callback.callback(dataSet);
+                                                        }
+                                                    }
+
+                                                    @Override
+                                                    public void notFound() {
+                                                        options.remove(pending);
+                                                        for (DataSetReadyCallback callback : pending.takeCallbacks()) {
+                                                            callback.notFound();
+                                                        }
+                                                    }
+
+                                                    @Override
+                                                    public boolean onError(final ClientRuntimeError error) {
+                                                        options.remove(pending);
+                                                        for (DataSetReadyCallback callback : pending.takeCallbacks()) {
+                                                            callback.onError(error);
+                                                        }
+                                                        return false;
+                                                    }
+                                                });
+        } catch (Exception e) {
+            options.remove(pending);
+            throw e;
+        }
+    }
+
+    /**
+     * Drops every cached option list, the selects look their options up again the next time their data set is ready.
+     */
+    public void refresh() {
+        options.clear();
+        generation++;
+    }
+
+    public int getGeneration() {
+        return generation;
+    }
+
+    protected int size() {
+        return options.size();
+    }
+
+    private CachedOptions getCachedOptions(final String serverTemplateId,
+                                           final DataSetLookup lookup) {
+        // lookups for another server template are equal as far as DataSetLookup is concerned, so it's compared too
+        for (CachedOptions cached : options) {
+            if (cached.lookup.equals(lookup) && Objects.equals(cached.serverTemplateId,
+                                                               serverTemplateId)) {
+                return cached;
+            }
+        }
+        return null;
+    }
+
+    private static class CachedOptions {
+
+        private final String serverTemplateId;
+
+        private final DataSetLookup lookup;
+
+        private List<DataSetReadyCallback> callbacks = new ArrayList<>();
+
+        private DataSet dataSet;
+
+        private long time;
+
+        CachedOptions(final String serverTemplateId,
+                      final DataSetLookup lookup) {
+            this.serverTemplateId = serverTemplateId;
+            this.lookup = lookup;
+        }
+
+        List<DataSetReadyCallback> takeCallbacks() {
+            final List<DataSetReadyCallback> taken = callbacks;
+            callbacks = new ArrayList<>();
+            return taken;
+        }
+    }
+}
@@ -17,36 +17,47 @@
 package org.jbpm.workbench.common.client.list;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import javax.annotation.PostConstruct;
 import javax.enterprise.event.Event;
 import javax.enterprise.event.Observes;
 import javax.inject.Inject;
 
+import com.google.gwt.user.client.Timer;
 import com.google.gwt.view.client.Range;
+import org.dashbuilder.common.client.error.ClientRuntimeError;
+import org.dashbuilder.dataset.DataSet;
 import org.dashbuilder.dataset.client.DataSetReadyCallback;
 import org.dashbuilder.dataset.filter.ColumnFilter;
 import org.dashbuilder.dataset.filter.CoreFunctionFilter;
 import org.dashbuilder.dataset.sort.SortOrder;
+import org.jboss.errai.common.client.api.Caller;
 import org.jboss.errai.ioc.client.api.ManagedInstance;
+import org.jbpm.workbench.common.client.dataset.DataSetOptionsCache;
 import org.jbpm.workbench.common.client.dataset.ErrorHandlerBuilder;
 import org.jbpm.workbench.common.client.filters.active.ActiveFilterItem;
 import org.jbpm.workbench.common.client.filters.active.ClearAllActiveFiltersEvent;
 import org.jbpm.workbench.common.client.filters.basic.BasicFilterAddEvent;
 import org.jbpm.workbench.common.client.filters.basic.BasicFilterRemoveEvent;
 import org.jbpm.workbench.common.client.filters.saved.SavedFilterSelectedEvent;
+import org.jbpm.workbench.common.client.menu.LiveUpdatesMenuBuilder;
 import org.jbpm.workbench.common.client.resources.i18n.Constants;
 import org.jbpm.workbench.common.model.GenericSummary;
 import org.jbpm.workbench.df.client.filter.FilterSettings;
 import org.jbpm.workbench.df.client.filter.FilterSettingsManager;
 import org.jbpm.workbench.df.client.list.DataSetQueryHelper;
+import org.jbpm.workbench.ks.events.DataSetRowsChanged;
+import org.jbpm.workbench.ks.service.DataSetLiveUpdatesService;
 import org.kie.workbench.common.workbench.client.error.DefaultWorkbenchErrorCallback;
 import org.uberfire.client.annotations.WorkbenchPartView;
 import org.uberfire.client.mvp.UberView;
+import org.uberfire.lifecycle.OnClose;
 import org.uberfire.lifecycle.OnOpen;
 import org.uberfire.mvp.PlaceRequest;
 import org.uberfire.mvp.impl.DefaultPlaceRequest;
@@ -54,7 +65,11 @@ import org.uberfire.security.ResourceRef;
 import org.uberfire.security.authz.AuthorizationManager;
 import org.uberfire.workbench.model.ActivityResourceType;
 
-public abstract class AbstractMultiGridPresenter<T extends GenericSummary, V extends MultiGridView> extends AbstractScreenListPresenter<T> {
+import static java.util.Collections.singletonList;
+
+public abstract class AbstractMultiGridPresenter<T extends GenericSummary, V extends MultiGridView> extends AbstractScreenListPresenter<T> implements LiveUpdatesMenuBuilder.SupportsLiveUpdates {
+
+    protected static final int LIVE_UPDATES_RENEWAL_PERIOD = 30000;
 
     protected DataSetQueryHelper dataSetQueryHelper;
 
@@ -71,6 +86,20 @@ public abstract class AbstractMultiGridPresenter<T extends GenericSummary, V ext
 
     protected ManagedInstance<ErrorHandlerBuilder> errorHandlerBuilder;
 
+    protected Caller<DataSetLiveUpdatesService> liveUpdatesService;
+
+    protected DataSetOptionsCache dataSetOptionsCache;
+
+    protected boolean liveUpdatesEnabled = false;
+
+    protected String liveUpdatesSubscriptionId;
+
+    protected String liveUpdatesServerTemplateId;
+
+    protected String liveUpdatesDataSetId;
+
+    protected Timer liveUpdatesRenewalTimer;
+
     @Inject
     public void setErrorHandlerBuilder(final ManagedInstance<ErrorHandlerBuilder> errorHandlerBuilder) {
         this.errorHandlerBuilder = errorHandlerBuilder;
@@ -86,6 +115,16 @@ public abstract class AbstractMultiGridPresenter<T extends GenericSummary, V ext
         this.dataSetQueryHelper = dataSetQueryHelper;
     }
 
+    @Inject
+    public void setLiveUpdatesService(final Caller<DataSetLiveUpdatesService> liveUpdatesService) {
+        this.liveUpdatesService = liveUpdatesService;
+    }
+
+    @Inject
+    public void setDataSetOptionsCache(final DataSetOptionsCache dataSetOptionsCache) {
+        this.dataSetOptionsCache = dataSetOptionsCache;
+    }
+
     @Inject
     public void setClearAllActiveFiltersEvent(Event<ClearAllActiveFiltersEvent> clearAllActiveFiltersEvent) {
         this.clearAllActiveFiltersEvent = clearAllActiveFiltersEvent;
@@ -141,6 +180,26 @@ public abstract class AbstractMultiGridPresenter<T extends GenericSummary, V ext
         }
     }
 
+    @OnClose
+    public void onClose() {
+        unsubscribeLiveUpdates();
+    }
+
+    @Override
+    public void onRefresh() {
+        dataSetOptionsCache.refresh();
+        super.onRefresh();
+    }
+
+    @Override
+    public void refreshGrid() {
+        // the grid is refreshed after filter changes and actions on its rows, the pages kept may be stale
+        if (getDataSetQueryHelper() != null) {
+            getDataSetQueryHelper().clearPageCache();
+        }
+        super.refreshGrid();
+    }
+
     public Predicate<String> getFilterEventPredicate() {
         return dataSetId -> getDataSetQueryHelper() != null &&
                 getDataSetQueryHelper().getCurrentTableSettings() != null &&
@@ -221,12 +280,195 @@ public abstract class AbstractMultiGridPresenter<T extends GenericSummary, V ext
             getDataSetQueryHelper().lookupDataSet(visibleRange.getStart(),
                                                   getDataSetReadyCallback(visibleRange.getStart(),
                                                                           currentTableSettings));
+            updateLiveUpdatesSubscription();
         } catch (Exception e) {
             errorCallback.error(e);
             setEmptyResults();
         }
     }
 
+    /**
+     * Column holding the unique id of a row, live updates are not available when null.
+     */
+    protected String getLiveUpdatesIdColumn() {
+        return null;
+    }
+
+    /**
+     * Column holding the last modification date of a row, used by the backend to detect modified rows.
+     */
+    protected String getLiveUpdatesLastModificationColumn() {
+        return null;
+    }
+
+    /**
+     * Builds the refreshed summary for a modified row currently displayed as {@code current}.
+     */
+    protected T createLiveUpdatedSummary(final T current,
+                                         final DataSet dataSet,
+                                         final int row) {
+        return current;
+    }
+
+    @Override
+    public boolean isLiveUpdatesEnabled() {
+        return liveUpdatesEnabled;
+    }
+
+    @Override
+    public void setLiveUpdatesEnabled(final boolean enabled) {
+        if (liveUpdatesEnabled == enabled) {
+            return;
+        }
+        liveUpdatesEnabled = enabled;
+        if (enabled) {
+            updateLiveUpdatesSubscription();
+        } else {
+            unsubscribeLiveUpdates();
+        }
+    }
+
+    protected void updateLiveUpdatesSubscription() {
+        final FilterSettings tableSettings = getDataSetQueryHelper().getCurrentTableSettings();
+        if (!liveUpdatesEnabled || getLiveUpdatesIdColumn() == null || tableSettings == null) {
+            return;
+        }
+        final String serverTemplateId = getSelectedServerTemplate();
+        final String dataSetId = tableSettings.getUUID();
+        if (liveUpdatesSubscriptionId != null
+                && Objects.equals(serverTemplateId, liveUpdatesServerTemplateId)
+                && Objects.equals(dataSetId, liveUpdatesDataSetId)) {
+            return;
+        }
+
+        unsubscribeLiveUpdates();
+        if (serverTemplateId == null || serverTemplateId.isEmpty() || dataSetId == null) {
+            return;
+        }
+
+        liveUpdatesServerTemplateId = serverTemplateId;
+        liveUpdatesDataSetId = dataSetId;
+        liveUpdatesService.call((String subscriptionId) -> {
+            if (liveUpdatesEnabled && serverTemplateId.equals(liveUpdatesServerTemplateId) && dataSetId.equals(liveUpdatesDataSetId)) {
+                liveUpdatesSubscriptionId = subscriptionId;
+                scheduleLiveUpdatesRenewal();
+            } else {
+                // settings changed while subscribing
+                liveUpdatesService.call().unsubscribe(subscriptionId);
+            }
+        }).subscribe(serverTemplateId,
+                     dataSetId,
+                     getLiveUpdatesIdColumn(),
+                     getLiveUpdatesLastModificationColumn());
+    }
+
+    protected void scheduleLiveUpdatesRenewal() {
+        if (liveUpdatesRenewalTimer == null) {
+            liveUpdatesRenewalTimer = new Timer() {
+                @Override
+                public void run() {
+                    renewLiveUpdatesSubscription();
+                }
+            };
+        }
+        liveUpdatesRenewalTimer.scheduleRepeating(LIVE_UPDATES_RENEWAL_PERIOD);
+    }
+
+    protected void renewLiveUpdatesSubscription() {
+        if (liveUpdatesSubscriptionId == null) {
+            return;
+        }
+        liveUpdatesService.call((Boolean renewed) -> {
+            if (Boolean.FALSE.equals(renewed)) {
+                // subscription expired on the server, e.g. after a connection loss
+                liveUpdatesSubscriptionId = null;
+                updateLiveUpdatesSubscription();
+            }
+        }).renew(liveUpdatesSubscriptionId);
+    }
+
+    protected void unsubscribeLiveUpdates() {
+        if (liveUpdatesRenewalTimer != null) {
+            liveUpdatesRenewalTimer.cancel();
+        }
+        if (liveUpdatesSubscriptionId != null) {
+            liveUpdatesService.call().unsubscribe(liveUpdatesSubscriptionId);
+        }
+        liveUpdatesSubscriptionId = null;
+        liveUpdatesServerTemplateId = null;
+        liveUpdatesDataSetId = null;
+    }
+
+    public void onDataSetRowsChanged(@Observes final DataSetRowsChanged event) {
+        if (liveUpdatesSubscriptionId == null
+                || !event.getServerTemplateId().equals(liveUpdatesServerTemplateId)
+                || !event.getDataSetId().equals(liveUpdatesDataSetId)
+                || view.getListGrid() == null) {
+            return;
+        }
+        getDataSetQueryHelper().clearPageCache();
+
+        final List<T> visibleItems = view.getListGrid().getVisibleItems();
+        final List<Object> modifiedIds = visibleItems.stream()
+                .map(item -> item.getId())
+                .filter(id -> event.getRowIds().contains(id))
+                .collect(Collectors.toList());
+        if (modifiedIds.isEmpty()) {
+            return;
+        }
+
+        getDataSetQueryHelper().lookupDataSetRows(getLiveUpdatesIdColumn(),
+                                                  modifiedIds,
+                                                  new DataSetReadyCallback() {
+                                                      @Override
+                                                      public void callback(final DataSet dataSet) {
+                                                          updateLiveRows(dataSet);
+                                                      }
+
+                                                      @Override
+                                                      public void notFound() {
+                                                      }
+
+                                                      @Override
+                                                      public boolean onError(final ClientRuntimeError error) {
+                                                          // keep the rows as they are, next refresh shows the changes
+                                                          return false;
+                                                      }
+                                                  });
+    }
+
+    protected void updateLiveRows(final DataSet dataSet) {
+        if (view.getListGrid() == null) {
+            return;
+        }
+        final int start = view.getListGrid().getVisibleRange().getStart();
+        final List<T> visibleItems = view.getListGrid().getVisibleItems();
+        for (int i = 0; i < dataSet.getRowCount(); i++) {
+            final Object id = dataSet.getValueAt(i,
+                                                 getLiveUpdatesIdColumn());
+            for (int index = 0; index < visibleItems.size(); index++) {
+                final T current = visibleItems.get(index);
+                if (isSameRowId(current.getId(),
+                                id)) {
+                    dataProvider.updateRowData(start + index,
+                                               singletonList(createLiveUpdatedSummary(current,
+                                                                                      dataSet,
+                                                                                      i)));
+                    break;
+                }
+            }
+        }
+    }
+
+    protected boolean isSameRowId(final Object summaryId,
+                                  final Object rowId) {
+        if (summaryId instanceof Number && rowId instanceof Number) {
+            return ((Number) summaryId).longValue() == ((Number) rowId).longValue();
+        }
+        return Objects.equals(summaryId,
+                              rowId);
+    }
+
     protected abstract void selectSummaryItem(final T summary);
 
     protected abstract DataSetReadyCallback getDataSetReadyCallback(final Integer startRange,
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jbpm.workbench.common.client.menu;
+
+import elemental2.dom.HTMLElement;
+import org.jboss.errai.ioc.client.container.IOC;
+import org.jbpm.workbench.common.client.resources.i18n.Constants;
+import org.uberfire.client.views.pfly.widgets.Button;
+import org.uberfire.workbench.model.menu.MenuFactory;
+import org.uberfire.workbench.model.menu.MenuItem;
+import org.uberfire.workbench.model.menu.impl.BaseMenuCustom;
+
+public class LiveUpdatesMenuBuilder implements MenuFactory.CustomMenuBuilder {
+
+    protected Button menuLiveUpdatesButton;
+    private SupportsLiveUpdates supportsLiveUpdates;
+
+    public LiveUpdatesMenuBuilder(final SupportsLiveUpdates supportsLiveUpdates) {
+        this.supportsLiveUpdates = supportsLiveUpdates;
+        setupMenuButton();
+    }
+
+    @Override
+    public void push(MenuFactory.CustomMenuBuilder element) {
+    }
+
+    @Override
+    public MenuItem build() {
+        return new BaseMenuCustom<HTMLElement>() {
+            @Override
+            public HTMLElement build() {
+                return menuLiveUpdatesButton.getElement();
+            }
+
+            @Override
+            public boolean isEnabled() {
+                return true;
+            }
+
+            @Override
+            public void setEnabled(boolean enabled) {
+
+            }
+        };
+    }
+
+    public void setupMenuButton() {
+        menuLiveUpdatesButton = IOC.getBeanManager().lookupBean(Button.class).newInstance();
+        menuLiveUpdatesButton.setButtonStyleType(Button.ButtonStyleType.LINK);
+        menuLiveUpdatesButton.addIcon("fa",
+                                      "fa-bolt");
+        menuLiveUpdatesButton.getElement().title = Constants.INSTANCE.LiveUpdates();
+        menuLiveUpdatesButton.setClickHandler(() -> {
+            supportsLiveUpdates.setLiveUpdatesEnabled(!supportsLiveUpdates.isLiveUpdatesEnabled());
+            updateButtonState();
+        });
+        updateButtonState();
+    }
+
+    protected void updateButtonState() {
+        if (supportsLiveUpdates.isLiveUpdatesEnabled()) {
+            menuLiveUpdatesButton.getElement().classList.add("active");
+        } else {
+            menuLiveUpdatesButton.getElement().classList.remove("active");
+        }
+    }
+
+    public interface SupportsLiveUpdates {
+
+        boolean isLiveUpdatesEnabled();
+
+        void setLiveUpdatesEnabled(boolean enabled);
+    }
+}
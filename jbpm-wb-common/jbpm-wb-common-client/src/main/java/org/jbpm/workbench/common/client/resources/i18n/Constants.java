@@ -177,4 +177,6 @@ public interface Constants extends Messages {
     String SetAsDefaultFilter();
 
     String DefaultFilter();
+
+    String LiveUpdates();
 }
\ No newline at end of file
@@ -46,6 +46,7 @@ import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
@@ -70,6 +71,7 @@ public class DataSetAwareSelectTest {
 
     @Before
     public void setup() {
+        dataSetAwareSelect.dataSetOptionsCache = new DataSetOptionsCache(dataSetClientServices);
         doAnswer(new Answer() {
             @Override
             public Void answer(InvocationOnMock invocation) throws Throwable {
@@ -234,4 +236,52 @@ public class DataSetAwareSelectTest {
         verify(select).disable();
         verify(select).removeAllOptions();
     }
+
+    @Test
+    public void testOptionsAreLookedUpOncePerServerTemplate() throws Exception {
+        final String dataUUID = "dataUUID";
+
+        filterSettings.setKey("key");
+        filterSettings.setServerTemplateId("test");
+        final DataSetLookup lookup = mock(DataSetLookup.class);
+        when(lookup.getDataSetUUID()).thenReturn(dataUUID);
+        dataSetAwareSelect.setDataSetLookup(lookup);
+        dataSetAwareSelect.setValueColumnId(VALUE_COLUMN_ID);
+        dataSetAwareSelect.setTextColumnId(TEXT_COLUMN_ID);
+        doAnswer(invocation -> {
+            ((DataSetReadyCallback) invocation.getArguments()[1]).callback(mock(DataSet.class));
+            return null;
+        }).when(dataSetClientServices).lookupDataSet(any(DataSetLookup.class), any(DataSetReadyCallback.class));
+
+        dataSetAwareSelect.onDataSetReady(new DataSetReadyEvent(filterSettings, dataUUID));
+        dataSetAwareSelect.onDataSetReady(new DataSetReadyEvent(filterSettings, dataUUID));
+
+        verify(dataSetClientServices).lookupDataSet(any(DataSetLookup.class), any(DataSetReadyCallback.class));
+
+        filterSettings.setServerTemplateId("another");
+        dataSetAwareSelect.onDataSetReady(new DataSetReadyEvent(filterSettings, dataUUID));
+
+        verify(dataSetClientServices, times(2)).lookupDataSet(any(DataSetLookup.class), any(DataSetReadyCallback.class));
+    }
+
+    @Test
+    public void testOptionsAreLookedUpAgainAfterRefresh() throws Exception {
+        final String dataUUID = "dataUUID";
+
+        filterSettings.setKey("key");
+        filterSettings.setServerTemplateId("test");
+        final DataSetLookup lookup = mock(DataSetLookup.class);
+        when(lookup.getDataSetUUID()).thenReturn(dataUUID);
+        dataSetAwareSelect.setDataSetLookup(lookup);
+        doAnswer(invocation -> {
+            ((DataSetReadyCallback) invocation.getArguments()[1]).callback(mock(DataSet.class));
+            return null;
+        }).when(dataSetClientServices).lookupDataSet(any(DataSetLookup.class), any(DataSetReadyCallback.class));
+
+        dataSetAwareSelect.onDataSetReady(new DataSetReadyEvent(filterSettings, dataUUID));
+        dataSetAwareSelect.dataSetOptionsCache.refresh();
+        dataSetAwareSelect.onDataSetReady(new DataSetReadyEvent(filterSettings, dataUUID));
+
+        verify(dataSetClientServices, times(2)).lookupDataSet(any(DataSetLookup.class), any(DataSetReadyCallback.class));
+    }
 }
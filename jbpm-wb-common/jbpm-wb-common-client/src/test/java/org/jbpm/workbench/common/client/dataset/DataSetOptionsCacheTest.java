@@ -0,0 +1,152 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.common.client.dataset;
+
+import org.dashbuilder.common.client.error.ClientRuntimeError;
+import org.dashbuilder.dataset.DataSet;
+import org.dashbuilder.dataset.DataSetLookup;
+import org.dashbuilder.dataset.DataSetLookupFactory;
+import org.dashbuilder.dataset.client.DataSetClientServices;
+import org.dashbuilder.dataset.client.DataSetReadyCallback;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DataSetOptionsCacheTest {
+
+    @Mock
+    private DataSetClientServices dataSetClientServices;
+
+    @Mock
+    private DataSetReadyCallback firstCallback;
+
+    @Mock
+    private DataSetReadyCallback secondCallback;
+
+    private DataSetOptionsCache cache;
+
+    private DataSetLookup lookup;
+
+    @Before
+    public void setup() {
+        cache = new DataSetOptionsCache(dataSetClientServices);
+        lookup = DataSetLookupFactory.newDataSetLookupBuilder()
+                .dataset("jbpmProcessInstances")
+                .group("processName")
+                .column("processName")
+                .buildLookup();
+    }
+
+    @Test
+    public void testPendingLookupIsShared() throws Exception {
+        cache.lookupOptions("test",
+                            lookup,
+                            firstCallback);
+        cache.lookupOptions("test",
+                            lookup.cloneInstance(),
+                            secondCallback);
+
+        final ArgumentCaptor<DataSetReadyCallback> captor = ArgumentCaptor.forClass(DataSetReadyCallback.class);
+        verify(dataSetClientServices).lookupDataSet(any(DataSetLookup.class),
+                                                    captor.capture());
+        final DataSet dataSet = mock(DataSet.class);
+        captor.getValue().callback(dataSet);
+
+        verify(firstCallback).callback(dataSet);
+        verify(secondCallback).callback(dataSet);
+    }
+
+    @Test
+    public void testOptionsAreKeptByServerTemplate() throws Exception {
+        final DataSet dataSet = mock(DataSet.class);
+        doAnswer(invocation -> {
+            ((DataSetReadyCallback) invocation.getArguments()[1]).callback(dataSet);
+            return null;
+        }).when(dataSetClientServices).lookupDataSet(any(DataSetLookup.class),
+                                                     any(DataSetReadyCallback.class));
+
+        cache.lookupOptions("test",
+                            lookup,
+                            firstCallback);
+        cache.lookupOptions("test",
+                            lookup,
+                            secondCallback);
+        verify(dataSetClientServices,
+               times(1)).lookupDataSet(any(DataSetLookup.class),
+                                       any(DataSetReadyCallback.class));
+        verify(secondCallback).callback(dataSet);
+
+        cache.lookupOptions("another",
+                            lookup,
+                            secondCallback);
+        verify(dataSetClientServices,
+               times(2)).lookupDataSet(any(DataSetLookup.class),
+                                       any(DataSetReadyCallback.class));
+        assertEquals(2,
+                     cache.size());
+    }
+
+    @Test
+    public void testFailedLookupIsNotKept() throws Exception {
+        final ClientRuntimeError error = new ClientRuntimeError("error");
+        doAnswer(invocation -> {
+            ((DataSetReadyCallback) invocation.getArguments()[1]).onError(error);
+            return null;
+        }).when(dataSetClientServices).lookupDataSet(any(DataSetLookup.class),
+                                                     any(DataSetReadyCallback.class));
+
+        cache.lookupOptions("test",
+                            lookup,
+                            firstCallback);
+
+        verify(firstCallback).onError(error);
+        assertEquals(0,
+                     cache.size());
+    }
+
+    @Test
+    public void testRefreshDropsOptions() throws Exception {
+        doAnswer(invocation -> {
+            ((DataSetReadyCallback) invocation.getArguments()[1]).callback(mock(DataSet.class));
+            return null;
+        }).when(dataSetClientServices).lookupDataSet(any(DataSetLookup.class),
+                                                     any(DataSetReadyCallback.class));
+        cache.lookupOptions("test",
+                            lookup,
+                            firstCallback);
+        final int generation = cache.getGeneration();
+
+        cache.refresh();
+        cache.lookupOptions("test",
+                            lookup,
+                            secondCallback);
+
+        assertEquals(generation + 1,
+                     cache.getGeneration());
+        verify(dataSetClientServices,
+               times(2)).lookupDataSet(any(DataSetLookup.class),
+                                       any(DataSetReadyCallback.class));
+    }
+}
@@ -16,6 +16,7 @@
 package org.jbpm.workbench.common.client.list;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Consumer;
 
 import javax.enterprise.event.Event;
@@ -23,19 +24,25 @@ import javax.enterprise.event.Event;
 import com.google.gwt.view.client.AsyncDataProvider;
 import com.google.gwt.view.client.Range;
 import com.google.gwtmockito.GwtMockitoTestRunner;
+import org.dashbuilder.dataset.DataSet;
 import org.dashbuilder.dataset.DataSetLookup;
+import org.dashbuilder.dataset.client.DataSetReadyCallback;
 import org.dashbuilder.dataset.filter.ColumnFilter;
 import org.dashbuilder.dataset.filter.CoreFunctionFilter;
 import org.dashbuilder.dataset.filter.DataSetFilter;
 import org.dashbuilder.dataset.filter.LogicalExprFilter;
 import org.dashbuilder.dataset.filter.LogicalExprType;
 import org.dashbuilder.dataset.sort.SortOrder;
+import org.jbpm.workbench.common.client.dataset.DataSetOptionsCache;
 import org.jbpm.workbench.common.client.filters.active.ActiveFilterItem;
 import org.jbpm.workbench.common.client.filters.active.ClearAllActiveFiltersEvent;
 import org.jbpm.workbench.common.client.menu.ServerTemplateSelectorMenuBuilder;
+import org.jbpm.workbench.common.model.GenericSummary;
 import org.jbpm.workbench.df.client.filter.FilterSettings;
 import org.jbpm.workbench.df.client.filter.FilterSettingsManager;
 import org.jbpm.workbench.df.client.list.DataSetQueryHelper;
+import org.jbpm.workbench.ks.events.DataSetRowsChanged;
+import org.jbpm.workbench.ks.service.DataSetLiveUpdatesService;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -44,13 +51,19 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 import org.uberfire.ext.services.shared.preferences.GridPreferencesStore;
 import org.uberfire.ext.widgets.common.client.breadcrumbs.UberfireBreadcrumbs;
+import org.uberfire.mocks.CallerMock;
 import org.uberfire.mocks.EventSourceMock;
 
+import static java.util.Collections.singletonList;
 import static org.dashbuilder.dataset.filter.FilterFactory.equalsTo;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -81,6 +94,9 @@ public class AbstractMultiGridPresenterTest {
     @Mock
     protected DataSetQueryHelper dataSetQueryHelper;
 
+    @Mock
+    DataSetOptionsCache dataSetOptionsCache;
+
     @Spy
     Event<ClearAllActiveFiltersEvent> clearAllActiveFiltersEvent = new EventSourceMock<>();
 
@@ -90,6 +106,9 @@ public class AbstractMultiGridPresenterTest {
     @Mock
     AbstractMultiGridView view;
 
+    @Mock
+    DataSetLiveUpdatesService liveUpdatesService;
+
     @Before
     public void setupMocks() {
         when(serverTemplateSelectorMenuBuilderMock.getView()).thenReturn(serverTemplateSelectorElementViewMock);
@@ -100,7 +119,9 @@ public class AbstractMultiGridPresenterTest {
         presenter.setServerTemplateSelectorMenuBuilder(serverTemplateSelectorMenuBuilderMock);
         presenter.setFilterSettingsManager(filterSettingsManager);
         presenter.setDataSetQueryHelper(dataSetQueryHelper);
+        presenter.setDataSetOptionsCache(dataSetOptionsCache);
         presenter.setClearAllActiveFiltersEvent(clearAllActiveFiltersEvent);
+        presenter.setLiveUpdatesService(new CallerMock<>(liveUpdatesService));
 
         doNothing().when(clearAllActiveFiltersEvent).fire(any());
     }
@@ -236,4 +257,142 @@ public class AbstractMultiGridPresenterTest {
         verify(gridPreferencesStore).setPreferenceKey(key);
         verify(listTable).saveGridToUserPreferences();
     }
-}
+
+    @Test
+    public void testLiveUpdatesSubscription() {
+        setupLiveUpdates();
+
+        presenter.setLiveUpdatesEnabled(true);
+
+        assertTrue(presenter.isLiveUpdatesEnabled());
+        verify(liveUpdatesService).subscribe("template",
+                                             "dataSetId",
+                                             "id",
+                                             "lastModificationDate");
+
+        presenter.updateLiveUpdatesSubscription();
+        verify(liveUpdatesService,
+               times(1)).subscribe(anyString(),
+                                   anyString(),
+                                   anyString(),
+                                   anyString());
+
+        presenter.setLiveUpdatesEnabled(false);
+
+        assertFalse(presenter.isLiveUpdatesEnabled());
+        verify(liveUpdatesService).unsubscribe("subscriptionId");
+    }
+
+    @Test
+    public void testLiveUpdatesResubscribeOnDataSetChange() {
+        setupLiveUpdates();
+        presenter.setLiveUpdatesEnabled(true);
+
+        when(filterSettingsMock.getUUID()).thenReturn("otherDataSetId");
+        presenter.updateLiveUpdatesSubscription();
+
+        verify(liveUpdatesService).unsubscribe("subscriptionId");
+        verify(liveUpdatesService).subscribe("template",
+                                             "otherDataSetId",
+                                             "id",
+                                             "lastModificationDate");
+    }
+
+    @Test
+    public void testLiveUpdatesNotSupported() {
+        setupLiveUpdates();
+        doReturn(null).when(presenter).getLiveUpdatesIdColumn();
+
+        presenter.setLiveUpdatesEnabled(true);
+
+        verify(liveUpdatesService,
+               never()).subscribe(anyString(),
+                                  anyString(),
+                                  anyString(),
+                                  anyString());
+    }
+
+    @Test
+    public void testDataSetRowsChangedUpdatesVisibleRows() {
+        setupLiveUpdates();
+        presenter.setLiveUpdatesEnabled(true);
+
+        final GenericSummary first = mock(GenericSummary.class);
+        final GenericSummary second = mock(GenericSummary.class);
+        final GenericSummary updated = mock(GenericSummary.class);
+        when(first.getId()).thenReturn(1L);
+        when(second.getId()).thenReturn(2L);
+        final ListTable listTable = mock(ListTable.class);
+        when(view.getListGrid()).thenReturn(listTable);
+        when(listTable.getVisibleItems()).thenReturn(Arrays.asList(first,
+                                                                   second));
+        when(listTable.getVisibleRange()).thenReturn(new Range(10,
+                                                               10));
+        final AsyncDataProvider dataProviderMock = mock(AsyncDataProvider.class);
+        presenter.setDataProvider(dataProviderMock);
+
+        presenter.onDataSetRowsChanged(new DataSetRowsChanged("template",
+                                                              "dataSetId",
+                                                              Arrays.asList(2L,
+                                                                            5L)));
+
+        final ArgumentCaptor<List> idsCaptor = ArgumentCaptor.forClass(List.class);
+        final ArgumentCaptor<DataSetReadyCallback> callbackCaptor = ArgumentCaptor.forClass(DataSetReadyCallback.class);
+        verify(dataSetQueryHelper).lookupDataSetRows(eq("id"),
+                                                     idsCaptor.capture(),
+                                                     callbackCaptor.capture());
+        assertEquals(singletonList(2L),
+                     idsCaptor.getValue());
+
+        final DataSet dataSet = mock(DataSet.class);
+        when(dataSet.getRowCount()).thenReturn(1);
+        when(dataSet.getValueAt(0,
+                                "id")).thenReturn(2);
+        doReturn(updated).when(presenter).createLiveUpdatedSummary(second,
+                                                                   dataSet,
+                                                                   0);
+        callbackCaptor.getValue().callback(dataSet);
+
+        verify(dataProviderMock).updateRowData(11,
+                                               singletonList(updated));
+        verify(dataSetQueryHelper).clearPageCache();
+    }
+
+    @Test
+    public void testDataSetRowsChangedIgnoresOtherDataSets() {
+        setupLiveUpdates();
+        presenter.setLiveUpdatesEnabled(true);
+
+        presenter.onDataSetRowsChanged(new DataSetRowsChanged("template",
+                                                              "otherDataSetId",
+                                                              singletonList(1L)));
+        presenter.onDataSetRowsChanged(new DataSetRowsChanged("otherTemplate",
+                                                              "dataSetId",
+                                                              singletonList(1L)));
+
+        verify(dataSetQueryHelper,
+               never()).lookupDataSetRows(any(),
+                                          any(),
+                                          any());
+    }
+
+    @Test
+    public void testRefreshClearsCachedPagesAndOptions() {
+        presenter.onRefresh();
+
+        verify(dataSetOptionsCache).refresh();
+        verify(dataSetQueryHelper).clearPageCache();
+    }
+
+    private void setupLiveUpdates() {
+        when(dataSetQueryHelper.getCurrentTableSettings()).thenReturn(filterSettingsMock);
+        when(filterSettingsMock.getUUID()).thenReturn("dataSetId");
+        doReturn("template").when(presenter).getSelectedServerTemplate();
+        doReturn("id").when(presenter).getLiveUpdatesIdColumn();
+        doReturn("lastModificationDate").when(presenter).getLiveUpdatesLastModificationColumn();
+        when(liveUpdatesService.subscribe(anyString(),
+                                          anyString(),
+                                          anyString(),
+                                          anyString())).thenReturn("subscriptionId");
+    }
+}
\ No newline at end of file
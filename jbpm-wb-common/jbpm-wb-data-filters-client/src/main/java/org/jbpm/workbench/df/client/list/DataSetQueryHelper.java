@@ -15,15 +15,23 @@
  */
 package org.jbpm.workbench.df.client.list;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
 import javax.enterprise.context.Dependent;
 import javax.enterprise.event.Event;
 import javax.inject.Inject;
 
+import com.google.gwt.core.client.Scheduler;
 import org.dashbuilder.common.client.StringUtils;
 import org.dashbuilder.common.client.error.ClientRuntimeError;
 import org.dashbuilder.dataset.DataSet;
+import org.dashbuilder.dataset.DataSetLookup;
 import org.dashbuilder.dataset.client.DataSetClientServices;
 import org.dashbuilder.dataset.client.DataSetReadyCallback;
+import org.dashbuilder.dataset.filter.DataSetFilter;
+import org.dashbuilder.dataset.filter.FilterFactory;
 import org.dashbuilder.dataset.sort.SortOrder;
 import org.dashbuilder.displayer.client.DataSetHandler;
 import org.dashbuilder.displayer.client.DataSetHandlerImpl;
@@ -31,9 +39,16 @@ import org.jbpm.workbench.df.client.events.DataSetReadyEvent;
 import org.jbpm.workbench.df.client.filter.FilterSettings;
 import org.jbpm.workbench.ks.integration.ConsoleDataSetLookup;
 
+/**
+ * Looks up the pages of a list data set. The pages looked up are kept, and the page after the one requested is
+ * looked up once the browser is idle, so paging back and forth doesn't wait for the server. Kept pages are dropped
+ * as soon as the filters, sort or page size change, or when {@link #clearPageCache()} is called.
+ */
 @Dependent
 public class DataSetQueryHelper {
 
+    public static final int PAGE_CACHE_SIZE = 10;
+
     protected FilterSettings currentTableSetting;
 
     protected String lastOrderedColumn;
@@ -48,6 +63,14 @@ public class DataSetQueryHelper {
 
     protected Event<DataSetReadyEvent> event;
 
+    private final List<CachedPage> pageCache = new ArrayList<>();
+
+    private final List<DataSetLookup> pendingPrefetches = new ArrayList<>();
+
+    private DataSetLookup pageCacheLookup;
+
+    private int pageCacheGeneration;
+
     @Inject
     public void setDataSetClientServices(final DataSetClientServices dataSetClientServices) {
         this.dataSetClientServices = dataSetClientServices;
@@ -78,14 +101,37 @@ public class DataSetQueryHelper {
             dataSetHandler.limitDataSetRows(offset,
                                             currentTableSetting.getTablePageSize());
 
+            // Serve the page from the cache when it was already looked up
+            final DataSetLookup pageLookup = getPageLookup();
+            final DataSet cachedPage = getCachedPage(pageLookup);
+            if (cachedPage != null) {
+                this.dataSet = cachedPage;
+                callback.callback(cachedPage);
+                event.fire(new DataSetReadyEvent(currentTableSetting, cachedPage.getUUID()));
+                prefetchNextPage(pageLookup,
+                                 cachedPage);
+                return;
+            }
+
             // Do the lookup
+            final int generation = pageCacheGeneration;
             dataSetHandler.lookupDataSet(
                     new DataSetReadyCallback() {
 
                         public void callback(DataSet dataSet) {
                             DataSetQueryHelper.this.dataSet = dataSet;
+                            // pages looked up before the cache was cleared are not kept
+                            final boolean cacheable = generation == pageCacheGeneration;
+                            if (cacheable) {
+                                addCachedPage(pageLookup,
+                                              dataSet);
+                            }
                             callback.callback(dataSet);
                             event.fire(new DataSetReadyEvent(currentTableSetting, dataSet.getUUID()));
+                            if (cacheable) {
+                                prefetchNextPage(pageLookup,
+                                                 dataSet);
+                            }
                         }
 
                         public void notFound() {
@@ -104,6 +150,159 @@ public class DataSetQueryHelper {
         }
     }
 
+    public void lookupDataSetRows(final String columnId,
+                                  final List<?> values,
+                                  final DataSetReadyCallback callback) {
+        try {
+            // same filters and sort as the current table, restricted to the given rows, helper state is left untouched
+            final DataSetLookup lookup = currentTableSetting.getDataSetLookup().cloneInstance();
+            final DataSetFilter rowsFilter = new DataSetFilter();
+            rowsFilter.addFilterColumn(FilterFactory.in(columnId,
+                                                        values));
+            lookup.addOperation(rowsFilter);
+            lookup.setRowOffset(0);
+            lookup.setNumberOfRows(Math.max(values.size(),
+                                            currentTableSetting.getTablePageSize()));
+
+            dataSetClientServices.lookupDataSet(ConsoleDataSetLookup.fromInstance(lookup,
+                                                                                  currentTableSetting.getServerTemplateId()),
+                                                callback);
+        } catch (Exception e) {
+            callback.onError(new ClientRuntimeError(e.getMessage()));
+        }
+    }
+
+    public void clearPageCache() {
+        pageCache.clear();
+        pendingPrefetches.clear();
+        pageCacheLookup = null;
+        pageCacheGeneration++;
+    }
+
+    protected int getPageCacheSize() {
+        return pageCache.size();
+    }
+
+    /**
+     * Copy of the lookup the handler is about to run, null when the handler doesn't expose it. The kept pages are
+     * dropped when the lookup differs from theirs in anything but the row offset.
+     */
+    protected DataSetLookup getPageLookup() {
+        final DataSetLookup current = dataSetHandler.getCurrentDataSetLookup();
+        if (current == null) {
+            return null;
+        }
+        final DataSetLookup pageLookup = current.cloneInstance();
+        final DataSetLookup cacheLookup = pageLookup.cloneInstance();
+        cacheLookup.setRowOffset(0);
+        if (pageCacheLookup == null || !isSameLookup(pageCacheLookup,
+                                                     cacheLookup)) {
+            clearPageCache();
+            pageCacheLookup = cacheLookup;
+        }
+        return pageLookup;
+    }
+
+    protected DataSet getCachedPage(final DataSetLookup pageLookup) {
+        final CachedPage cachedPage = findCachedPage(pageLookup);
+        if (cachedPage == null) {
+            return null;
+        }
+        // most recently used last
+        pageCache.remove(cachedPage);
+        pageCache.add(cachedPage);
+        return cachedPage.dataSet.cloneInstance();
+    }
+
+    protected void addCachedPage(final DataSetLookup pageLookup,
+                                 final DataSet dataSet) {
+        if (pageLookup == null || findCachedPage(pageLookup) != null) {
+            return;
+        }
+        pageCache.add(new CachedPage(pageLookup,
+                                     dataSet.cloneInstance()));
+        if (pageCache.size() > PAGE_CACHE_SIZE) {
+            pageCache.remove(0);
+        }
+    }
+
+    protected void prefetchNextPage(final DataSetLookup pageLookup,
+                                    final DataSet dataSet) {
+        // a page shorter than the page size is the last one
+        if (pageLookup == null || pageLookup.getNumberOfRows() <= 0 || dataSet.getRowCount() < pageLookup.getNumberOfRows()) {
+            return;
+        }
+        final DataSetLookup nextLookup = pageLookup.cloneInstance();
+        nextLookup.setRowOffset(pageLookup.getRowOffset() + pageLookup.getNumberOfRows());
+        if (findCachedPage(nextLookup) != null || pendingPrefetches.stream().anyMatch(pending -> isSameLookup(pending,
+                                                                                                             nextLookup))) {
+            return;
+        }
+
+        final int generation = pageCacheGeneration;
+        pendingPrefetches.add(nextLookup);
+        schedulePrefetch(() -> {
+            if (generation != pageCacheGeneration) {
+                return;
+            }
+            try {
+                dataSetClientServices.lookupDataSet(nextLookup,
+                                                    new DataSetReadyCallback() {
+                                                        @Override
+                                                        public void callback(final DataSet nextPage) {
+                                                            if (generation == pageCacheGeneration) {
+                                                                pendingPrefetches.remove(nextLookup);
+                                                                addCachedPage(nextLookup,
+                                                                              nextPage);
+                                                            }
+                                                        }
+
+                                                        @Override
+                                                        public void notFound() {
+                                                            pendingPrefetches.remove(nextLookup);
+                                                        }
+
+                                                        @Override
+                                                        public boolean onError(final ClientRuntimeError error) {
+                                                            // the page is looked up again when requested
+                                                            pendingPrefetches.remove(nextLookup);
+                                                            return false;
+                                                        }
+                                                    });
+            } catch (Exception e) {
+                pendingPrefetches.remove(nextLookup);
+            }
+        });
+    }
+
+    protected void schedulePrefetch(final Scheduler.ScheduledCommand command) {
+        Scheduler.get().scheduleDeferred(command);
+    }
+
+    private CachedPage findCachedPage(final DataSetLookup pageLookup) {
+        if (pageLookup == null) {
+            return null;
+        }
+        for (CachedPage cachedPage : pageCache) {
+            if (isSameLookup(cachedPage.lookup,
+                             pageLookup)) {
+                return cachedPage;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isSameLookup(final DataSetLookup lookup,
+                                        final DataSetLookup other) {
+        // lookups for another server template are equal as far as DataSetLookup is concerned, so it's compared too
+        return lookup.equals(other) && Objects.equals(serverTemplateId(lookup),
+                                                      serverTemplateId(other));
+    }
+
+    private static String serverTemplateId(final DataSetLookup lookup) {
+        return lookup instanceof ConsoleDataSetLookup ? ((ConsoleDataSetLookup) lookup).getServerTemplateId() : null;
+    }
+
     public FilterSettings getCurrentTableSettings() {
         return currentTableSetting;
     }
@@ -145,4 +344,17 @@ public class DataSetQueryHelper {
     public void setDataSetHandler(DataSetHandler dataSetHandler) {
         this.dataSetHandler = dataSetHandler;
     }
+
+    private static class CachedPage {
+
+        private final DataSetLookup lookup;
+
+        private final DataSet dataSet;
+
+        CachedPage(final DataSetLookup lookup,
+                   final DataSet dataSet) {
+            this.lookup = lookup;
+            this.dataSet = dataSet;
+        }
+    }
 }
@@ -15,17 +15,31 @@
  */
 package org.jbpm.workbench.df.client.list.base;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import javax.enterprise.event.Event;
 
+import com.google.gwt.core.client.Scheduler;
+
 import org.dashbuilder.common.client.error.ClientRuntimeError;
 import org.dashbuilder.dataset.DataSet;
+import org.dashbuilder.dataset.DataSetBuilder;
+import org.dashbuilder.dataset.DataSetFactory;
 import org.dashbuilder.dataset.DataSetLookup;
 import org.dashbuilder.dataset.client.DataSetClientServices;
 import org.dashbuilder.dataset.client.DataSetReadyCallback;
+import org.dashbuilder.dataset.filter.CoreFunctionFilter;
+import org.dashbuilder.dataset.filter.CoreFunctionType;
+import org.dashbuilder.dataset.filter.DataSetFilter;
+import org.dashbuilder.dataset.sort.ColumnSort;
+import org.dashbuilder.dataset.sort.DataSetSort;
+import org.dashbuilder.dataset.sort.SortOrder;
 import org.dashbuilder.displayer.client.DataSetHandler;
 import org.jbpm.workbench.df.client.events.DataSetReadyEvent;
 import org.jbpm.workbench.df.client.filter.FilterSettings;
 import org.jbpm.workbench.df.client.list.DataSetQueryHelper;
+import org.jbpm.workbench.ks.integration.ConsoleDataSetLookup;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -121,4 +135,175 @@ public class DataSetQueryHelperTest {
         assertEquals(currentTableSetting,
                      captor.getValue().getFilterSettings());
     }
+
+    @Test
+    public void testLookupDataSetRows() throws Exception {
+        final DataSetReadyCallback callback = mock(DataSetReadyCallback.class);
+        final DataSetLookup tableLookup = new DataSetLookup("dataSetId");
+        currentTableSetting.setDataSetLookup(tableLookup);
+        currentTableSetting.setServerTemplateId("template");
+        currentTableSetting.setTablePageSize(10);
+
+        dataSetQueryHelper.lookupDataSetRows(COLUMN_1,
+                                             Arrays.asList(1L,
+                                                           2L),
+                                             callback);
+
+        final ArgumentCaptor<DataSetLookup> captor = ArgumentCaptor.forClass(DataSetLookup.class);
+        verify(dataSetClientServicesMock).lookupDataSet(captor.capture(),
+                                                        eq(callback));
+        final DataSetLookup lookup = captor.getValue();
+        assertTrue(lookup instanceof ConsoleDataSetLookup);
+        assertEquals("template",
+                     ((ConsoleDataSetLookup) lookup).getServerTemplateId());
+        assertEquals(0,
+                     lookup.getRowOffset());
+        assertEquals(10,
+                     lookup.getNumberOfRows());
+        final CoreFunctionFilter filter = (CoreFunctionFilter) lookup.getFirstFilterOp().getColumnFilterList().get(0);
+        assertEquals(COLUMN_1,
+                     filter.getColumnId());
+        assertEquals(CoreFunctionType.IN,
+                     filter.getType());
+        assertTrue(tableLookup.getOperationList(DataSetFilter.class).isEmpty());
+        verify(dataSetHandlerMock,
+               never()).lookupDataSet(any(DataSetReadyCallback.class));
+        verify(event,
+               never()).fire(any());
+    }
+
+    @Test
+    public void testPageIsServedFromCache() throws Exception {
+        final DataSetQueryHelper helper = pagingHelper(new ArrayList<>());
+        final DataSetReadyCallback callback = mock(DataSetReadyCallback.class);
+
+        helper.lookupDataSet(0,
+                             callback);
+        helper.lookupDataSet(0,
+                             callback);
+
+        verify(dataSetHandlerMock,
+               times(1)).lookupDataSet(any(DataSetReadyCallback.class));
+        verify(callback,
+               times(2)).callback(any(DataSet.class));
+        verify(event,
+               times(2)).fire(any(DataSetReadyEvent.class));
+    }
+
+    @Test
+    public void testNextPageIsPrefetched() throws Exception {
+        final List<Scheduler.ScheduledCommand> prefetches = new ArrayList<>();
+        final DataSetQueryHelper helper = pagingHelper(prefetches);
+        doAnswer(invocation -> {
+            ((DataSetReadyCallback) invocation.getArguments()[1]).callback(page("c",
+                                                                                "d"));
+            return null;
+        }).when(dataSetClientServicesMock).lookupDataSet(any(DataSetLookup.class),
+                                                         any(DataSetReadyCallback.class));
+
+        helper.lookupDataSet(0,
+                             mock(DataSetReadyCallback.class));
+        assertEquals(1,
+                     prefetches.size());
+        prefetches.get(0).execute();
+
+        final ArgumentCaptor<DataSetLookup> captor = ArgumentCaptor.forClass(DataSetLookup.class);
+        verify(dataSetClientServicesMock).lookupDataSet(captor.capture(),
+                                                        any(DataSetReadyCallback.class));
+        assertEquals(2,
+                     captor.getValue().getRowOffset());
+        assertEquals("template",
+                     ((ConsoleDataSetLookup) captor.getValue()).getServerTemplateId());
+        assertEquals(2,
+                     helper.getPageCacheSize());
+
+        final DataSetReadyCallback callback = mock(DataSetReadyCallback.class);
+        helper.lookupDataSet(2,
+                             callback);
+
+        verify(dataSetHandlerMock,
+               times(1)).lookupDataSet(any(DataSetReadyCallback.class));
+        final ArgumentCaptor<DataSet> dataSetCaptor = ArgumentCaptor.forClass(DataSet.class);
+        verify(callback).callback(dataSetCaptor.capture());
+        assertEquals("c",
+                     dataSetCaptor.getValue().getValueAt(0,
+                                                         0));
+    }
+
+    @Test
+    public void testSortChangeClearsCache() throws Exception {
+        final DataSetQueryHelper helper = pagingHelper(new ArrayList<>());
+
+        helper.lookupDataSet(0,
+                             mock(DataSetReadyCallback.class));
+        final DataSetSort sort = new DataSetSort();
+        sort.addSortColumn(new ColumnSort(COLUMN_1,
+                                         SortOrder.ASCENDING));
+        dataSetHandlerMock.getCurrentDataSetLookup().addOperation(sort);
+        helper.lookupDataSet(0,
+                             mock(DataSetReadyCallback.class));
+
+        verify(dataSetHandlerMock,
+               times(2)).lookupDataSet(any(DataSetReadyCallback.class));
+        assertEquals(1,
+                     helper.getPageCacheSize());
+    }
+
+    @Test
+    public void testClearPageCache() throws Exception {
+        final List<Scheduler.ScheduledCommand> prefetches = new ArrayList<>();
+        final DataSetQueryHelper helper = pagingHelper(prefetches);
+
+        helper.lookupDataSet(0,
+                             mock(DataSetReadyCallback.class));
+        helper.clearPageCache();
+        prefetches.get(0).execute();
+        helper.lookupDataSet(0,
+                             mock(DataSetReadyCallback.class));
+
+        verify(dataSetHandlerMock,
+               times(2)).lookupDataSet(any(DataSetReadyCallback.class));
+        verify(dataSetClientServicesMock,
+               never()).lookupDataSet(any(DataSetLookup.class),
+                                      any(DataSetReadyCallback.class));
+    }
+
+    private DataSetQueryHelper pagingHelper(final List<Scheduler.ScheduledCommand> prefetches) throws Exception {
+        final DataSetQueryHelper helper = new DataSetQueryHelper() {
+            @Override
+            protected void schedulePrefetch(final Scheduler.ScheduledCommand command) {
+                prefetches.add(command);
+            }
+        };
+        helper.setDataSetClientServices(dataSetClientServicesMock);
+        helper.setDataSetReadyEvent(event);
+        helper.setCurrentTableSettings(currentTableSetting);
+        helper.setDataSetHandler(dataSetHandlerMock);
+        currentTableSetting.setTablePageSize(2);
+
+        final DataSetLookup lookup = ConsoleDataSetLookup.fromInstance(new DataSetLookup("dataSetId"),
+                                                                       "template");
+        when(dataSetHandlerMock.getCurrentDataSetLookup()).thenReturn(lookup);
+        doAnswer(invocation -> {
+            lookup.setRowOffset((Integer) invocation.getArguments()[0]);
+            lookup.setNumberOfRows((Integer) invocation.getArguments()[1]);
+            return null;
+        }).when(dataSetHandlerMock).limitDataSetRows(anyInt(),
+                                                     anyInt());
+        doAnswer(invocation -> {
+            ((DataSetReadyCallback) invocation.getArguments()[0]).callback(page("a",
+                                                                                "b"));
+            return null;
+        }).when(dataSetHandlerMock).lookupDataSet(any(DataSetReadyCallback.class));
+        return helper;
+    }
+
+    private static DataSet page(final String... values) {
+        final DataSetBuilder builder = DataSetFactory.newDataSetBuilder()
+                .label(COLUMN_1);
+        for (String value : values) {
+            builder.row(value);
+        }
+        return builder.buildDataSet();
+    }
 }
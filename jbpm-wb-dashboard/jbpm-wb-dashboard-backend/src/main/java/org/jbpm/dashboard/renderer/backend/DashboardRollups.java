@@ -0,0 +1,191 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.dashboard.renderer.backend;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.dashbuilder.dataset.DataSet;
+import org.dashbuilder.dataset.DataSetLookup;
+import org.dashbuilder.dataset.def.DataSetDef;
+import org.jbpm.workbench.ks.integration.ConsoleDataSetLookup;
+import org.jbpm.workbench.ks.integration.DataSetRollupProvider;
+import org.jbpm.workbench.ks.integration.KieServerBulkExecutor;
+import org.jbpm.workbench.ks.integration.KieServerDataSetProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.jbpm.dashboard.renderer.model.DashboardData.*;
+
+/**
+ * Serves the metrics and charts of the process and task dashboards from rollups of the monitoring data sets, kept
+ * per server template and refreshed incrementally in the background. Lookups for rows, like the instance tables, and
+ * for date intervals still query KIE server, as do all the lookups of a data set until its rollup is first built.
+ */
+@ApplicationScoped
+public class DashboardRollups implements DataSetRollupProvider {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DashboardRollups.class);
+
+    public static final String DISABLED = "org.jbpm.wb.dashboard.rollups.disabled";
+    public static final String REFRESH_INTERVAL = "org.jbpm.wb.dashboard.rollups.refreshInterval";
+    public static final String PAGE_SIZE = "org.jbpm.wb.dashboard.rollups.pageSize";
+    public static final String WATERMARK_OVERLAP = "org.jbpm.wb.dashboard.rollups.watermarkOverlap";
+
+    static final Map<String, RollupDefinition> DEFINITIONS = new HashMap<>();
+
+    static {
+        DEFINITIONS.put(DATASET_PROCESS_INSTANCES,
+                        new RollupDefinition(COLUMN_PROCESS_INSTANCE_ID,
+                                             COLUMN_PROCESS_DURATION,
+                                             COLUMN_PROCESS_START_DATE,
+                                             COLUMN_PROCESS_END_DATE,
+                                             COLUMN_PROCESS_STATUS,
+                                             Arrays.<Comparable>asList(0,
+                                                                       1,
+                                                                       4),
+                                             Arrays.<Comparable>asList(2,
+                                                                       3),
+                                             Arrays.asList(COLUMN_PROCESS_ID,
+                                                           COLUMN_PROCESS_NAME,
+                                                           COLUMN_PROCESS_VERSION,
+                                                           COLUMN_PROCESS_STATUS,
+                                                           COLUMN_PROCESS_USER_ID)));
+        DEFINITIONS.put(DATASET_HUMAN_TASKS,
+                        new RollupDefinition(COLUMN_TASK_ID,
+                                             COLUMN_TASK_DURATION,
+                                             COLUMN_TASK_CREATED_DATE,
+                                             COLUMN_TASK_END_DATE,
+                                             COLUMN_TASK_STATUS,
+                                             Arrays.<Comparable>asList(TASK_STATUS_CREATED,
+                                                                       TASK_STATUS_READY,
+                                                                       TASK_STATUS_RESERVED,
+                                                                       TASK_STATUS_IN_PROGRESS,
+                                                                       TASK_STATUS_SUSPENDED),
+                                             Arrays.<Comparable>asList(TASK_STATUS_COMPLETED,
+                                                                       TASK_STATUS_FAILED,
+                                                                       TASK_STATUS_ERROR,
+                                                                       TASK_STATUS_EXITED,
+                                                                       TASK_STATUS_OBSOLETE),
+                                             Arrays.asList(COLUMN_PROCESS_NAME,
+                                                           COLUMN_TASK_STATUS,
+                                                           COLUMN_TASK_OWNER_ID)));
+    }
+
+    private final boolean disabled = Boolean.getBoolean(DISABLED);
+
+    private final long refreshInterval = Long.getLong(REFRESH_INTERVAL,
+                                                      10000);
+
+    private final int pageSize = Integer.getInteger(PAGE_SIZE,
+                                                    5000);
+
+    private final long watermarkOverlap = Long.getLong(WATERMARK_OVERLAP,
+                                                       60000);
+
+    private final Map<String, DataSetRollup> rollups = new ConcurrentHashMap<>();
+
+    // rollups with a refresh submitted, a lookup arriving in the meantime doesn't submit another one
+    private final Set<DataSetRollup> refreshing = ConcurrentHashMap.newKeySet();
+
+    private KieServerDataSetProvider kieServerDataSetProvider;
+
+    private KieServerBulkExecutor bulkExecutor;
+
+    public DashboardRollups() {
+    }
+
+    @Inject
+    public DashboardRollups(final KieServerDataSetProvider kieServerDataSetProvider,
+                            final KieServerBulkExecutor bulkExecutor) {
+        this.kieServerDataSetProvider = kieServerDataSetProvider;
+        this.bulkExecutor = bulkExecutor;
+    }
+
+    @Override
+    public DataSet lookupDataSet(final DataSetDef def,
+                                 final ConsoleDataSetLookup lookup) throws Exception {
+        final RollupDefinition definition = DEFINITIONS.get(def.getUUID());
+        final String serverTemplateId = lookup.getServerTemplateId();
+        if (disabled || definition == null || serverTemplateId == null || serverTemplateId.isEmpty()) {
+            return null;
+        }
+
+        final DataSetRollup rollup = rollups.computeIfAbsent(serverTemplateId + ":" + def.getUUID(),
+                                                             key -> new DataSetRollup(def.getUUID(),
+                                                                                      definition,
+                                                                                      pageSize,
+                                                                                      watermarkOverlap));
+        final DataSetRollup.Query query = rollup.newQuery(def,
+                                                          lookup);
+        if (query == null) {
+            return null;
+        }
+        if (rollup.isOlderThan(refreshInterval) && refreshing.add(rollup)) {
+            refresh(rollup,
+                    def,
+                    serverTemplateId);
+        }
+        if (!rollup.isReady()) {
+            return null;
+        }
+        return query.execute();
+    }
+
+    private void refresh(final DataSetRollup rollup,
+                         final DataSetDef def,
+                         final String serverTemplateId) {
+        try {
+            bulkExecutor.submit(() -> {
+                try {
+                    rollup.refresh(rowsLookup -> lookupRows(def,
+                                                            serverTemplateId,
+                                                            rowsLookup));
+                } catch (Exception e) {
+                    LOGGER.warn("Unable to refresh the rollup of data set {} for server template {}",
+                                def.getUUID(),
+                                serverTemplateId,
+                                e);
+                } finally {
+                    refreshing.remove(rollup);
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            refreshing.remove(rollup);
+            throw e;
+        }
+    }
+
+    protected DataSet lookupRows(final DataSetDef def,
+                                 final String serverTemplateId,
+                                 final DataSetLookup lookup) {
+        try {
+            return kieServerDataSetProvider.lookupDataSet(def,
+                                                          ConsoleDataSetLookup.fromInstance(lookup,
+                                                                                            serverTemplateId));
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,601 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.dashboard.renderer.backend;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
+
+import org.dashbuilder.dataset.ColumnType;
+import org.dashbuilder.dataset.DataColumn;
+import org.dashbuilder.dataset.DataSet;
+import org.dashbuilder.dataset.DataSetFactory;
+import org.dashbuilder.dataset.DataSetLookup;
+import org.dashbuilder.dataset.DataSetLookupBuilder;
+import org.dashbuilder.dataset.DataSetLookupFactory;
+import org.dashbuilder.dataset.def.DataColumnDef;
+import org.dashbuilder.dataset.def.DataSetDef;
+import org.dashbuilder.dataset.filter.ColumnFilter;
+import org.dashbuilder.dataset.filter.CoreFunctionFilter;
+import org.dashbuilder.dataset.filter.CoreFunctionType;
+import org.dashbuilder.dataset.filter.DataSetFilter;
+import org.dashbuilder.dataset.group.AggregateFunctionType;
+import org.dashbuilder.dataset.group.ColumnGroup;
+import org.dashbuilder.dataset.group.DataSetGroup;
+import org.dashbuilder.dataset.group.GroupFunction;
+import org.dashbuilder.dataset.group.Interval;
+import org.dashbuilder.dataset.impl.DataColumnImpl;
+import org.dashbuilder.dataset.sort.SortOrder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.dashbuilder.dataset.filter.FilterFactory.*;
+
+/**
+ * Number of rows, and sum of their durations, of a monitoring data set per start day, end day and the other
+ * dimensions of its {@link RollupDefinition}. Rows in a settled status don't change anymore: they are read once, in the order of the
+ * watermark column, and a refresh only reads the ones settled after the last watermark. Rows still open are
+ * aggregated again on every refresh. Rows are read in pages following the sort column rather than by offset, and
+ * queries keep being answered from the previous state while a refresh reads them.
+ */
+public class DataSetRollup {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DataSetRollup.class);
+
+    private final String dataSetId;
+
+    private final RollupDefinition definition;
+
+    private final int pageSize;
+
+    private final long watermarkOverlap;
+
+    private final Map<List<Object>, Aggregate> settled = new HashMap<>();
+
+    private Map<List<Object>, Aggregate> open = new HashMap<>();
+
+    // rows settled within the overlap are read again by the next refresh, they must not be counted twice. Only
+    // those are kept, in the order they settled
+    private LinkedHashMap<Object, Long> recentlySettled = new LinkedHashMap<>();
+
+    private Long watermark;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private volatile boolean ready;
+
+    private volatile long refreshedAt;
+
+    public DataSetRollup(final String dataSetId,
+                         final RollupDefinition definition,
+                         final int pageSize,
+                         final long watermarkOverlap) {
+        this.dataSetId = dataSetId;
+        this.definition = definition;
+        this.pageSize = pageSize;
+        this.watermarkOverlap = watermarkOverlap;
+    }
+
+    /**
+     * @return whether the rollup has been refreshed at least once, it can't answer queries before
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean isOlderThan(final long maxAge) {
+        return System.currentTimeMillis() - refreshedAt >= maxAge;
+    }
+
+    protected int getRecentlySettledCount() {
+        return recentlySettled.size();
+    }
+
+    /**
+     * Reads the rows changed since the last refresh, unless another refresh is running. The rows are read without
+     * holding the rollup, the new state only replaces the previous one once all of them have been read.
+     */
+    public void refresh(final Function<DataSetLookup, DataSet> rowsLookup) {
+        if (!refreshing.compareAndSet(false,
+                                      true)) {
+            return;
+        }
+        try {
+            // settled rows are read first, a row settling in between is then read by the next refresh instead of twice
+            final SettledRows settledRows = new SettledRows();
+            readRows(rowsLookup,
+                     definition.getWatermarkColumn(),
+                     watermark == null ? null : new Date(watermark - watermarkOverlap),
+                     settledRows::add,
+                     equalsTo(definition.getStatusColumn(),
+                              definition.getSettledStatuses()),
+                     notNull(definition.getWatermarkColumn()));
+
+            final Map<List<Object>, Aggregate> inProgress = new HashMap<>();
+            readRows(rowsLookup,
+                     definition.getIdColumn(),
+                     null,
+                     (rows, row) -> add(inProgress,
+                                        rows,
+                                        row),
+                     OR(equalsTo(definition.getStatusColumn(),
+                                 definition.getOpenStatuses()),
+                        isNull(definition.getWatermarkColumn())));
+
+            synchronized (this) {
+                settledRows.aggregates.forEach((key, aggregate) -> settled.computeIfAbsent(key,
+                                                                                           k -> new Aggregate()).add(aggregate));
+                open = inProgress;
+            }
+            recentlySettled = settledRows.recentlySettled;
+            watermark = settledRows.watermark;
+            refreshedAt = System.currentTimeMillis();
+            ready = true;
+
+            LOGGER.debug("Rollup of data set {} refreshed, {} new settled group(s), {} open group(s)",
+                         dataSetId,
+                         settledRows.aggregates.size(),
+                         inProgress.size());
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    /**
+     * @return a query computing the result of the lookup from this rollup, or null when the lookup needs the rows of
+     * the data set, like lookups without aggregate functions or grouping by date intervals
+     */
+    public Query newQuery(final DataSetDef def,
+                          final DataSetLookup lookup) {
+        final DataSetGroup groupOp = lookup.getLastGroupOp();
+        if (groupOp == null || groupOp.isSelect() || groupOp.getGroupFunctions().isEmpty() || lookup.getFirstSortOp() != null) {
+            return null;
+        }
+        final Query query = new Query(def,
+                                      lookup.getRowOffset(),
+                                      lookup.getNumberOfRows());
+        for (DataSetFilter filter : lookup.getOperationList(DataSetFilter.class)) {
+            for (ColumnFilter columnFilter : filter.getColumnFilterList()) {
+                if (!query.filter(columnFilter)) {
+                    return null;
+                }
+            }
+        }
+        for (DataSetGroup group : lookup.getOperationList(DataSetGroup.class)) {
+            if (group.isSelect()) {
+                if (!query.select(group)) {
+                    return null;
+                }
+            } else if (group != groupOp) {
+                return null;
+            }
+        }
+        if (groupOp.getColumnGroup() != null && !query.groupBy(groupOp.getColumnGroup())) {
+            return null;
+        }
+        for (GroupFunction groupFunction : groupOp.getGroupFunctions()) {
+            if (!query.column(groupFunction)) {
+                return null;
+            }
+        }
+        return query;
+    }
+
+    /*
+     * Each page starts at the sort column value of the last row read, so KIE server doesn't go through the rows read
+     * already. Rows sharing that value are ordered by id and the ones read already are skipped by offset.
+     */
+    private void readRows(final Function<DataSetLookup, DataSet> rowsLookup,
+                          final String sortColumn,
+                          final Object from,
+                          final ObjIntConsumer<DataSet> consumer,
+                          final ColumnFilter... filters) {
+        Object lowerBound = from;
+        int readAtLowerBound = 0;
+        int rowCount;
+        do {
+            final List<ColumnFilter> pageFilters = new ArrayList<>();
+            Collections.addAll(pageFilters,
+                               filters);
+            if (lowerBound != null) {
+                pageFilters.add(greaterOrEqualsTo(sortColumn,
+                                                  (Comparable) lowerBound));
+            }
+            final DataSetLookupBuilder<?> lookup = DataSetLookupFactory.newDataSetLookupBuilder()
+                    .dataset(dataSetId)
+                    .filter(pageFilters.toArray(new ColumnFilter[pageFilters.size()]))
+                    .sort(sortColumn,
+                          SortOrder.ASCENDING);
+            if (!sortColumn.equals(definition.getIdColumn())) {
+                lookup.sort(definition.getIdColumn(),
+                            SortOrder.ASCENDING);
+            }
+            final DataSet rows = rowsLookup.apply(lookup.rowOffset(readAtLowerBound)
+                                                          .rowNumber(pageSize)
+                                                          .buildLookup());
+            rowCount = rows == null ? 0 : rows.getRowCount();
+            for (int row = 0; row < rowCount; row++) {
+                consumer.accept(rows,
+                                row);
+            }
+            if (rowCount > 0) {
+                final Object last = rows.getValueAt(rowCount - 1,
+                                                    sortColumn);
+                int readAtLast = 0;
+                for (int row = rowCount - 1; row >= 0 && Objects.equals(rows.getValueAt(row,
+                                                                                         sortColumn),
+                                                                         last); row--) {
+                    readAtLast++;
+                }
+                readAtLowerBound = (Objects.equals(last,
+                                                   lowerBound) ? readAtLowerBound : 0) + readAtLast;
+                lowerBound = last;
+            }
+        } while (rowCount == pageSize);
+    }
+
+    private void add(final Map<List<Object>, Aggregate> aggregates,
+                     final DataSet rows,
+                     final int row) {
+        final List<Object> key = new ArrayList<>(definition.getDimensions().size() + 2);
+        for (String dimension : definition.getDimensions()) {
+            key.add(normalize(rows.getValueAt(row,
+                                              dimension)));
+        }
+        key.add(day(rows.getValueAt(row,
+                                    definition.getDayColumn())));
+        key.add(day(rows.getValueAt(row,
+                                    definition.getWatermarkColumn())));
+        aggregates.computeIfAbsent(key,
+                                   k -> new Aggregate()).add(rows.getValueAt(row,
+                                                                             definition.getDurationColumn()));
+    }
+
+    private static Object normalize(final Object value) {
+        // numbers are read back as different types depending on the marshalling, integral ones are kept as longs
+        if (value instanceof Number && ((Number) value).doubleValue() == ((Number) value).longValue()) {
+            return ((Number) value).longValue();
+        }
+        return value;
+    }
+
+    private static long time(final Object value) {
+        return value instanceof Date ? ((Date) value).getTime() : ((Number) value).longValue();
+    }
+
+    private static Date day(final Object value) {
+        if (value == null) {
+            return null;
+        }
+        final Calendar calendar = Calendar.getInstance();
+        calendar.setTimeInMillis(time(value));
+        calendar.set(Calendar.HOUR_OF_DAY,
+                     0);
+        calendar.set(Calendar.MINUTE,
+                     0);
+        calendar.set(Calendar.SECOND,
+                     0);
+        calendar.set(Calendar.MILLISECOND,
+                     0);
+        return calendar.getTime();
+    }
+
+    private int dayIndex(final String columnId) {
+        if (columnId.equals(definition.getDayColumn())) {
+            return definition.getDimensions().size();
+        }
+        if (columnId.equals(definition.getWatermarkColumn())) {
+            return definition.getDimensions().size() + 1;
+        }
+        return -1;
+    }
+
+    private static boolean isDay(final Object value) {
+        return value instanceof Date && day(value).equals(value);
+    }
+
+    private static boolean matchesAny(final Object value,
+                                      final List<?> terms) {
+        if (value == null) {
+            return false;
+        }
+        for (Object term : terms) {
+            if (term instanceof Number && value instanceof Number ? ((Number) term).doubleValue() == ((Number) value).doubleValue() : String.valueOf(term).equals(String.valueOf(value))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public class Query {
+
+        private final DataSetDef def;
+
+        private final int rowOffset;
+
+        private final int numberOfRows;
+
+        private final List<Predicate<List<Object>>> predicates = new ArrayList<>();
+
+        private final List<DataColumn> columns = new ArrayList<>();
+
+        private final List<BiFunction<Object, Aggregate, Object>> values = new ArrayList<>();
+
+        private boolean withDuration;
+
+        private int groupIndex = -1;
+
+        private Query(final DataSetDef def,
+                      final int rowOffset,
+                      final int numberOfRows) {
+            this.def = def;
+            this.rowOffset = rowOffset;
+            this.numberOfRows = numberOfRows;
+        }
+
+        public DataSet execute() {
+            final Map<Object, Aggregate> groups = new LinkedHashMap<>();
+            if (groupIndex < 0) {
+                // without grouping there is always a single row, like for an aggregate query over no rows
+                groups.put(null,
+                           new Aggregate());
+            }
+            synchronized (DataSetRollup.this) {
+                aggregate(settled,
+                          groups);
+                aggregate(open,
+                          groups);
+            }
+
+            final DataSet dataSet = DataSetFactory.newEmptyDataSet();
+            dataSet.setUUID(def.getUUID());
+            dataSet.setDefinition(def);
+            for (DataColumn column : columns) {
+                dataSet.addColumn(new DataColumnImpl(column.getId(),
+                                                     column.getColumnType()));
+            }
+            final List<Map.Entry<Object, Aggregate>> rows = new ArrayList<>(groups.entrySet());
+            final int from = Math.min(rowOffset,
+                                      rows.size());
+            final int to = numberOfRows > 0 ? Math.min(from + numberOfRows,
+                                                       rows.size()) : rows.size();
+            for (Map.Entry<Object, Aggregate> row : rows.subList(from,
+                                                                 to)) {
+                for (int i = 0; i < values.size(); i++) {
+                    dataSet.getColumnByIndex(i).getValues().add(values.get(i).apply(row.getKey(),
+                                                                                    row.getValue()));
+                }
+            }
+            dataSet.setRowCountNonTrimmed(rows.size());
+            return dataSet;
+        }
+
+        private void aggregate(final Map<List<Object>, Aggregate> aggregates,
+                               final Map<Object, Aggregate> groups) {
+            for (Map.Entry<List<Object>, Aggregate> entry : aggregates.entrySet()) {
+                if (withDuration && entry.getValue().durationCount == 0) {
+                    continue;
+                }
+                if (predicates.stream().allMatch(predicate -> predicate.test(entry.getKey()))) {
+                    groups.computeIfAbsent(groupIndex < 0 ? null : entry.getKey().get(groupIndex),
+                                           group -> new Aggregate()).add(entry.getValue());
+                }
+            }
+        }
+
+        private boolean filter(final ColumnFilter columnFilter) {
+            if (!(columnFilter instanceof CoreFunctionFilter)) {
+                return false;
+            }
+            final CoreFunctionFilter filter = (CoreFunctionFilter) columnFilter;
+            final String columnId = filter.getColumnId();
+            if (columnId.equals(definition.getIdColumn())) {
+                return filter.getType() == CoreFunctionType.NOT_NULL;
+            }
+            if (columnId.equals(definition.getDurationColumn())) {
+                withDuration = filter.getType() == CoreFunctionType.NOT_NULL;
+                return withDuration;
+            }
+            final int dayIndex = dayIndex(columnId);
+            final int index = dayIndex < 0 ? definition.getDimensions().indexOf(columnId) : dayIndex;
+            if (index < 0) {
+                return false;
+            }
+            switch (filter.getType()) {
+                case NOT_NULL:
+                    predicates.add(key -> key.get(index) != null);
+                    return true;
+                case IS_NULL:
+                    predicates.add(key -> key.get(index) == null);
+                    return true;
+                case EQUALS_TO:
+                    if (dayIndex >= 0) {
+                        return false;
+                    }
+                    predicates.add(key -> matchesAny(key.get(index),
+                                                     filter.getParameters()));
+                    return true;
+                case NOT_EQUALS_TO:
+                    if (dayIndex >= 0) {
+                        return false;
+                    }
+                    predicates.add(key -> key.get(index) != null && !matchesAny(key.get(index),
+                                                                                filter.getParameters()));
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        private boolean select(final DataSetGroup selection) {
+            final int dayIndex = dayIndex(selection.getColumnGroup().getSourceId());
+            if (dayIndex >= 0) {
+                return selectDays(dayIndex,
+                                  selection.getSelectedIntervalList());
+            }
+            final int index = definition.getDimensions().indexOf(selection.getColumnGroup().getSourceId());
+            if (index < 0) {
+                return false;
+            }
+            final List<Object> names = new ArrayList<>();
+            for (Interval interval : selection.getSelectedIntervalList()) {
+                if (interval.getMinValue() != null || interval.getMaxValue() != null) {
+                    return false;
+                }
+                names.add(interval.getName());
+            }
+            if (!names.isEmpty()) {
+                predicates.add(key -> matchesAny(key.get(index),
+                                                 names));
+            }
+            return true;
+        }
+
+        private boolean selectDays(final int index,
+                                   final List<Interval> intervals) {
+            if (intervals.isEmpty()) {
+                return true;
+            }
+            // a date chart selection reads the rows between the bounds of the interval, only whole days can be
+            // answered from the rollup
+            if (intervals.size() > 1 || !isDay(intervals.get(0).getMinValue()) || !isDay(intervals.get(0).getMaxValue())) {
+                return false;
+            }
+            final Date min = (Date) intervals.get(0).getMinValue();
+            final Date max = (Date) intervals.get(0).getMaxValue();
+            predicates.add(key -> key.get(index) != null && !((Date) key.get(index)).before(min) && ((Date) key.get(index)).before(max));
+            return true;
+        }
+
+        private boolean groupBy(final ColumnGroup columnGroup) {
+            if (columnGroup.getIntervalSize() != null) {
+                return false;
+            }
+            groupIndex = definition.getDimensions().indexOf(columnGroup.getSourceId());
+            return groupIndex >= 0;
+        }
+
+        private boolean column(final GroupFunction groupFunction) {
+            final String sourceId = groupFunction.getSourceId();
+            final AggregateFunctionType function = groupFunction.getFunction();
+            if (function == null) {
+                final DataColumnDef columnDef = def.getColumnById(sourceId);
+                if (groupIndex < 0 || columnDef == null || !sourceId.equals(definition.getDimensions().get(groupIndex))) {
+                    return false;
+                }
+                return addColumn(sourceId,
+                                 columnDef.getColumnType(),
+                                 (group, aggregate) -> group);
+            }
+            if (function == AggregateFunctionType.COUNT && sourceId.equals(definition.getIdColumn())) {
+                return addColumn(sourceId,
+                                 ColumnType.NUMBER,
+                                 (group, aggregate) -> (double) (withDuration ? aggregate.durationCount : aggregate.count));
+            }
+            if (function == AggregateFunctionType.SUM && sourceId.equals(definition.getDurationColumn())) {
+                return addColumn(sourceId,
+                                 ColumnType.NUMBER,
+                                 (group, aggregate) -> aggregate.durationCount == 0 ? null : aggregate.durationSum);
+            }
+            if (function == AggregateFunctionType.AVERAGE && sourceId.equals(definition.getDurationColumn())) {
+                return addColumn(sourceId,
+                                 ColumnType.NUMBER,
+                                 (group, aggregate) -> aggregate.durationCount == 0 ? null : aggregate.durationSum / aggregate.durationCount);
+            }
+            return false;
+        }
+
+        private boolean addColumn(final String columnId,
+                                  final ColumnType columnType,
+                                  final BiFunction<Object, Aggregate, Object> value) {
+            columns.add(new DataColumnImpl(columnId,
+                                           columnType));
+            values.add(value);
+            return true;
+        }
+    }
+
+    /**
+     * Rows settled since the last refresh. They only become part of the rollup, and move its watermark, once all of
+     * them have been read.
+     */
+    private class SettledRows {
+
+        private final Map<List<Object>, Aggregate> aggregates = new HashMap<>();
+
+        private final LinkedHashMap<Object, Long> recentlySettled = new LinkedHashMap<>(DataSetRollup.this.recentlySettled);
+
+        private Long watermark = DataSetRollup.this.watermark;
+
+        private void add(final DataSet rows,
+                         final int row) {
+            final Object id = normalize(rows.getValueAt(row,
+                                                        definition.getIdColumn()));
+            final long settledAt = time(rows.getValueAt(row,
+                                                        definition.getWatermarkColumn()));
+            if (recentlySettled.containsKey(id)) {
+                return;
+            }
+            DataSetRollup.this.add(aggregates,
+                                   rows,
+                                   row);
+            if (watermark == null || settledAt > watermark) {
+                watermark = settledAt;
+            }
+            recentlySettled.put(id,
+                                settledAt);
+            // rows come in the order they settled, the ones out of the overlap of the next refresh are dropped
+            for (Iterator<Long> it = recentlySettled.values().iterator(); it.hasNext() && it.next() < watermark - watermarkOverlap; ) {
+                it.remove();
+            }
+        }
+    }
+
+    static class Aggregate {
+
+        private long count;
+
+        private long durationCount;
+
+        private double durationSum;
+
+        void add(final Object duration) {
+            count++;
+            if (duration instanceof Number) {
+                durationCount++;
+                durationSum += ((Number) duration).doubleValue();
+            }
+        }
+
+        void add(final Aggregate aggregate) {
+            count += aggregate.count;
+            durationCount += aggregate.durationCount;
+            durationSum += aggregate.durationSum;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.dashboard.renderer.backend;
+
+import java.util.List;
+
+/**
+ * Describes how the rows of a monitoring data set are rolled up: the column counted, the duration summed, the day
+ * and the other columns rows are grouped by, and the statuses after which a row no longer changes.
+ */
+public class RollupDefinition {
+
+    private final String idColumn;
+
+    private final String durationColumn;
+
+    private final String dayColumn;
+
+    private final String watermarkColumn;
+
+    private final String statusColumn;
+
+    private final List<Comparable> openStatuses;
+
+    private final List<Comparable> settledStatuses;
+
+    private final List<String> dimensions;
+
+    public RollupDefinition(final String idColumn,
+                            final String durationColumn,
+                            final String dayColumn,
+                            final String watermarkColumn,
+                            final String statusColumn,
+                            final List<Comparable> openStatuses,
+                            final List<Comparable> settledStatuses,
+                            final List<String> dimensions) {
+        this.idColumn = idColumn;
+        this.durationColumn = durationColumn;
+        this.dayColumn = dayColumn;
+        this.watermarkColumn = watermarkColumn;
+        this.statusColumn = statusColumn;
+        this.openStatuses = openStatuses;
+        this.settledStatuses = settledStatuses;
+        this.dimensions = dimensions;
+    }
+
+    public String getIdColumn() {
+        return idColumn;
+    }
+
+    public String getDurationColumn() {
+        return durationColumn;
+    }
+
+    public String getDayColumn() {
+        return dayColumn;
+    }
+
+    public String getWatermarkColumn() {
+        return watermarkColumn;
+    }
+
+    public String getStatusColumn() {
+        return statusColumn;
+    }
+
+    public List<Comparable> getOpenStatuses() {
+        return openStatuses;
+    }
+
+    public List<Comparable> getSettledStatuses() {
+        return settledStatuses;
+    }
+
+    /**
+     * @return the columns rows are grouped by besides the day, the status column included
+     */
+    public List<String> getDimensions() {
+        return dimensions;
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.dashboard.renderer.backend;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.dashbuilder.dataset.DataSet;
+import org.dashbuilder.dataset.DataSetFactory;
+import org.dashbuilder.dataset.DataSetLookup;
+import org.dashbuilder.dataset.DataSetLookupFactory;
+import org.dashbuilder.dataset.def.DataSetDef;
+import org.jbpm.workbench.ks.integration.ConsoleDataSetLookup;
+import org.jbpm.workbench.ks.integration.KieServerBulkExecutor;
+import org.jbpm.workbench.ks.integration.KieServerDataSetProvider;
+import org.jbpm.workbench.ks.integration.RemoteDataSetDefBuilder;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import static org.dashbuilder.dataset.group.AggregateFunctionType.COUNT;
+import static org.jbpm.dashboard.renderer.model.DashboardData.*;
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DashboardRollupsTest {
+
+    private static final String SERVER_TEMPLATE_ID = "template";
+
+    @Mock
+    private KieServerDataSetProvider kieServerDataSetProvider;
+
+    @Mock
+    private KieServerBulkExecutor bulkExecutor;
+
+    private DataSetDef def;
+
+    private DashboardRollups dashboardRollups;
+
+    @Before
+    public void setup() throws Exception {
+        def = RemoteDataSetDefBuilder.get()
+                .uuid(DATASET_PROCESS_INSTANCES)
+                .number(COLUMN_PROCESS_INSTANCE_ID)
+                .label(COLUMN_PROCESS_NAME)
+                .buildDef();
+        when(kieServerDataSetProvider.lookupDataSet(eq(def),
+                                                    any(DataSetLookup.class))).thenAnswer(invocation -> DataSetFactory.newEmptyDataSet());
+        when(bulkExecutor.submit(any(Supplier.class))).thenAnswer(invocation -> CompletableFuture.completedFuture(((Supplier) invocation.getArguments()[0]).get()));
+        dashboardRollups = new DashboardRollups(kieServerDataSetProvider,
+                                                bulkExecutor);
+    }
+
+    @Test
+    public void testRollupIsRefreshedOncePerInterval() throws Exception {
+        final ConsoleDataSetLookup total = lookup(DATASET_PROCESS_INSTANCES);
+
+        final DataSet first = dashboardRollups.lookupDataSet(def,
+                                                             total);
+        final DataSet second = dashboardRollups.lookupDataSet(def,
+                                                              total);
+
+        assertEquals(0d,
+                     first.getValueAt(0,
+                                      0));
+        assertEquals(0d,
+                     second.getValueAt(0,
+                                       0));
+        final ArgumentCaptor<DataSetLookup> rowsLookups = ArgumentCaptor.forClass(DataSetLookup.class);
+        // settled and open rows are read once
+        verify(kieServerDataSetProvider,
+               times(2)).lookupDataSet(eq(def),
+                                       rowsLookups.capture());
+        for (DataSetLookup rowsLookup : rowsLookups.getAllValues()) {
+            assertEquals(SERVER_TEMPLATE_ID,
+                         ((ConsoleDataSetLookup) rowsLookup).getServerTemplateId());
+        }
+    }
+
+    @Test
+    public void testKieServerAnswersUntilRollupIsBuilt() throws Exception {
+        reset(bulkExecutor);
+        final ConsoleDataSetLookup total = lookup(DATASET_PROCESS_INSTANCES);
+
+        assertNull(dashboardRollups.lookupDataSet(def,
+                                                  total));
+        assertNull(dashboardRollups.lookupDataSet(def,
+                                                  total));
+
+        // the refresh runs in the background, a single one is submitted while it's pending
+        final ArgumentCaptor<Supplier> refresh = ArgumentCaptor.forClass(Supplier.class);
+        verify(bulkExecutor).submit(refresh.capture());
+        verify(kieServerDataSetProvider,
+               never()).lookupDataSet(any(DataSetDef.class),
+                                      any(DataSetLookup.class));
+
+        refresh.getValue().get();
+
+        assertEquals(0d,
+                     dashboardRollups.lookupDataSet(def,
+                                                    total).getValueAt(0,
+                                                                      0));
+    }
+
+    @Test
+    public void testOtherDataSetsAreNotAnswered() throws Exception {
+        final DataSetDef otherDef = RemoteDataSetDefBuilder.get()
+                .uuid("jbpmProcessInstances")
+                .number(COLUMN_PROCESS_INSTANCE_ID)
+                .buildDef();
+
+        assertNull(dashboardRollups.lookupDataSet(otherDef,
+                                                  lookup("jbpmProcessInstances")));
+        verify(kieServerDataSetProvider,
+               never()).lookupDataSet(any(DataSetDef.class),
+                                      any(DataSetLookup.class));
+    }
+
+    private ConsoleDataSetLookup lookup(final String dataSetId) {
+        return (ConsoleDataSetLookup) ConsoleDataSetLookup.fromInstance(DataSetLookupFactory.newDataSetLookupBuilder()
+                                                                                .dataset(dataSetId)
+                                                                                .column(COLUMN_PROCESS_INSTANCE_ID,
+                                                                                        COUNT)
+                                                                                .buildLookup(),
+                                                                        SERVER_TEMPLATE_ID);
+    }
+}
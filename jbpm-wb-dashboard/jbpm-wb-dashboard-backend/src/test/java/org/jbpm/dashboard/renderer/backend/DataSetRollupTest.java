@@ -0,0 +1,424 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.dashboard.renderer.backend;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.dashbuilder.dataset.DataSet;
+import org.dashbuilder.dataset.DataSetBuilder;
+import org.dashbuilder.dataset.DataSetFactory;
+import org.dashbuilder.dataset.DataSetLookup;
+import org.dashbuilder.dataset.DataSetLookupBuilder;
+import org.dashbuilder.dataset.DataSetLookupFactory;
+import org.dashbuilder.dataset.def.DataSetDef;
+import org.dashbuilder.dataset.filter.ColumnFilter;
+import org.dashbuilder.dataset.filter.CoreFunctionFilter;
+import org.dashbuilder.dataset.filter.CoreFunctionType;
+import org.dashbuilder.dataset.filter.LogicalExprFilter;
+import org.dashbuilder.dataset.group.ColumnGroup;
+import org.dashbuilder.dataset.group.DataSetGroup;
+import org.dashbuilder.dataset.group.DateIntervalType;
+import org.dashbuilder.dataset.group.Interval;
+import org.jbpm.workbench.ks.integration.RemoteDataSetDefBuilder;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.dashbuilder.dataset.filter.FilterFactory.*;
+import static org.dashbuilder.dataset.group.AggregateFunctionType.*;
+import static org.jbpm.dashboard.renderer.model.DashboardData.*;
+import static org.junit.Assert.*;
+
+public class DataSetRollupTest {
+
+    private static final long HOUR = 3600000;
+
+    private final List<Object[]> settledRows = new ArrayList<>();
+
+    private final List<Object[]> openRows = new ArrayList<>();
+
+    private final List<DataSetLookup> rowsLookups = new ArrayList<>();
+
+    private DataSetDef def;
+
+    private DataSetRollup rollup;
+
+    @Before
+    public void setup() {
+        def = RemoteDataSetDefBuilder.get()
+                .uuid(DATASET_PROCESS_INSTANCES)
+                .number(COLUMN_PROCESS_INSTANCE_ID)
+                .label(COLUMN_PROCESS_ID)
+                .date(COLUMN_PROCESS_START_DATE)
+                .date(COLUMN_PROCESS_END_DATE)
+                .number(COLUMN_PROCESS_STATUS)
+                .number(COLUMN_PROCESS_DURATION)
+                .label(COLUMN_PROCESS_USER_ID)
+                .label(COLUMN_PROCESS_VERSION)
+                .label(COLUMN_PROCESS_NAME)
+                .buildDef();
+        rollup = new DataSetRollup(DATASET_PROCESS_INSTANCES,
+                                   DashboardRollups.DEFINITIONS.get(DATASET_PROCESS_INSTANCES),
+                                   100,
+                                   HOUR);
+
+        settledRows.add(row(1,
+                            "evaluation",
+                            2,
+                            "john",
+                            1000L,
+                            1));
+        settledRows.add(row(2,
+                            "evaluation",
+                            3,
+                            "mary",
+                            3000L,
+                            2));
+        openRows.add(row(3,
+                         "hiring",
+                         1,
+                         "john",
+                         null,
+                         null));
+        rollup.refresh(this::lookupRows);
+    }
+
+    @Test
+    public void testMetricsFromRollup() {
+        assertEquals(3d,
+                     execute(lookup().filter(notNull(COLUMN_PROCESS_ID))
+                                     .column(COLUMN_PROCESS_INSTANCE_ID,
+                                             COUNT)).getValueAt(0,
+                                                                0));
+        assertEquals(1d,
+                     execute(lookup().filter(COLUMN_PROCESS_STATUS,
+                                             equalsTo(1))
+                                     .column(COLUMN_PROCESS_INSTANCE_ID,
+                                             COUNT)).getValueAt(0,
+                                                                0));
+        assertEquals(0d,
+                     execute(lookup().filter(COLUMN_PROCESS_STATUS,
+                                             equalsTo(4))
+                                     .column(COLUMN_PROCESS_INSTANCE_ID,
+                                             COUNT)).getValueAt(0,
+                                                                0));
+    }
+
+    @Test
+    public void testChartsFromRollup() {
+        final DataSet byUser = execute(lookup().group(COLUMN_PROCESS_USER_ID)
+                                               .column(COLUMN_PROCESS_USER_ID)
+                                               .column(COLUMN_PROCESS_INSTANCE_ID,
+                                                       COUNT));
+        assertEquals(2,
+                     byUser.getRowCount());
+        for (int row = 0; row < byUser.getRowCount(); row++) {
+            assertEquals("john".equals(byUser.getValueAt(row,
+                                                         0)) ? 2d : 1d,
+                         byUser.getValueAt(row,
+                                           1));
+        }
+
+        final DataSet byRunningTime = execute(lookup().filter(notNull(COLUMN_PROCESS_DURATION))
+                                                      .group(COLUMN_PROCESS_NAME)
+                                                      .column(COLUMN_PROCESS_NAME)
+                                                      .column(COLUMN_PROCESS_INSTANCE_ID,
+                                                              COUNT)
+                                                      .column(COLUMN_PROCESS_DURATION,
+                                                              AVERAGE));
+        assertEquals(1,
+                     byRunningTime.getRowCount());
+        assertEquals("evaluation",
+                     byRunningTime.getValueAt(0,
+                                              0));
+        assertEquals(2d,
+                     byRunningTime.getValueAt(0,
+                                              1));
+        assertEquals(2000d,
+                     byRunningTime.getValueAt(0,
+                                              2));
+    }
+
+    @Test
+    public void testRefreshReadsSettledRowsAfterWatermark() {
+        openRows.clear();
+        settledRows.add(row(3,
+                            "hiring",
+                            2,
+                            "john",
+                            5000L,
+                            3));
+        rowsLookups.clear();
+
+        rollup.refresh(this::lookupRows);
+
+        assertEquals(3,
+                     rowsLookups.get(0).getFirstFilterOp().getColumnFilterList().size());
+        assertEquals(3d,
+                     execute(lookup().column(COLUMN_PROCESS_INSTANCE_ID,
+                                             COUNT)).getValueAt(0,
+                                                                0));
+        assertEquals(2d,
+                     execute(lookup().filter(COLUMN_PROCESS_STATUS,
+                                             equalsTo(2))
+                                     .column(COLUMN_PROCESS_INSTANCE_ID,
+                                             COUNT)).getValueAt(0,
+                                                                0));
+    }
+
+    @Test
+    public void testSettledRowsArePagedByWatermark() {
+        rollup = new DataSetRollup(DATASET_PROCESS_INSTANCES,
+                                   DashboardRollups.DEFINITIONS.get(DATASET_PROCESS_INSTANCES),
+                                   2,
+                                   HOUR);
+        settledRows.clear();
+        openRows.clear();
+        for (int id = 1; id <= 5; id++) {
+            settledRows.add(row(id,
+                                "evaluation",
+                                2,
+                                "john",
+                                1000L,
+                                id == 1 ? 1 : id == 5 ? 3 : 2));
+        }
+        rowsLookups.clear();
+
+        rollup.refresh(this::lookupRows);
+
+        assertEquals(5d,
+                     execute(lookup().column(COLUMN_PROCESS_INSTANCE_ID,
+                                             COUNT)).getValueAt(0,
+                                                                0));
+        // the pages after the first one start at the last end date read, skipping the rows read at that date
+        final List<DataSetLookup> settledLookups = rowsLookups.stream()
+                .filter(lookup -> !isOpenRowsLookup(lookup))
+                .collect(Collectors.toList());
+        assertEquals(Arrays.asList(0,
+                                   1,
+                                   3),
+                     settledLookups.stream().map(DataSetLookup::getRowOffset).collect(Collectors.toList()));
+        assertEquals(endDate(15,
+                             2),
+                     getLowerBound(settledLookups.get(2)));
+    }
+
+    @Test
+    public void testOnlyRowsWithinOverlapAreTracked() {
+        assertEquals(2,
+                     rollup.getRecentlySettledCount());
+
+        settledRows.add(row(3,
+                            "hiring",
+                            2,
+                            "john",
+                            5000L,
+                            4));
+        rollup.refresh(this::lookupRows);
+
+        assertEquals(1,
+                     rollup.getRecentlySettledCount());
+        assertEquals(2d,
+                     execute(lookup().filter(COLUMN_PROCESS_STATUS,
+                                             equalsTo(2))
+                                     .column(COLUMN_PROCESS_INSTANCE_ID,
+                                             COUNT)).getValueAt(0,
+                                                                0));
+    }
+
+    @Test
+    public void testFailedRefreshKeepsPreviousState() {
+        settledRows.add(row(4,
+                            "hiring",
+                            2,
+                            "john",
+                            5000L,
+                            3));
+        try {
+            rollup.refresh(lookup -> {
+                if (isOpenRowsLookup(lookup)) {
+                    throw new IllegalStateException("failed");
+                }
+                return lookupRows(lookup);
+            });
+            fail();
+        } catch (IllegalStateException e) {
+            assertEquals(3d,
+                         execute(lookup().column(COLUMN_PROCESS_INSTANCE_ID,
+                                                 COUNT)).getValueAt(0,
+                                                                    0));
+        }
+
+        rollup.refresh(this::lookupRows);
+
+        assertEquals(4d,
+                     execute(lookup().column(COLUMN_PROCESS_INSTANCE_ID,
+                                             COUNT)).getValueAt(0,
+                                                                0));
+    }
+
+    @Test
+    public void testEndDaySelectionFromRollup() {
+        assertEquals(2d,
+                     execute(endDaySelection(endDate(15,
+                                                     0),
+                                             endDate(16,
+                                                     0))).getValueAt(0,
+                                                                     0));
+        assertEquals(0d,
+                     execute(endDaySelection(endDate(16,
+                                                     0),
+                                             endDate(17,
+                                                     0))).getValueAt(0,
+                                                                     0));
+        assertNull(rollup.newQuery(def,
+                                   endDaySelection(endDate(15,
+                                                           1),
+                                                   endDate(15,
+                                                           2))));
+    }
+
+    @Test
+    public void testLookupsNeedingRowsAreNotAnswered() {
+        assertNull(rollup.newQuery(def,
+                                   lookup().buildLookup()));
+        assertNull(rollup.newQuery(def,
+                                   lookup().group(COLUMN_PROCESS_START_DATE).dynamic(30,
+                                                                                     DateIntervalType.DAY,
+                                                                                     true)
+                                           .column(COLUMN_PROCESS_START_DATE)
+                                           .column(COLUMN_PROCESS_INSTANCE_ID,
+                                                   COUNT)
+                                           .buildLookup()));
+        assertNull(rollup.newQuery(def,
+                                   lookup().column(COLUMN_PROCESS_INSTANCE_ID,
+                                                   MAX)
+                                           .buildLookup()));
+    }
+
+    private DataSetLookupBuilder<?> lookup() {
+        return DataSetLookupFactory.newDataSetLookupBuilder()
+                .dataset(DATASET_PROCESS_INSTANCES);
+    }
+
+    private DataSet execute(final DataSetLookupBuilder<?> lookup) {
+        return execute(lookup.buildLookup());
+    }
+
+    private DataSet execute(final DataSetLookup lookup) {
+        final DataSetRollup.Query query = rollup.newQuery(def,
+                                                          lookup);
+        assertNotNull(query);
+        return query.execute();
+    }
+
+    private DataSetLookup endDaySelection(final Date min,
+                                                    final Date max) {
+        final Interval interval = new Interval("day");
+        interval.setMinValue(min);
+        interval.setMaxValue(max);
+        final DataSetGroup selection = new DataSetGroup();
+        selection.setColumnGroup(new ColumnGroup(COLUMN_PROCESS_END_DATE,
+                                                 COLUMN_PROCESS_END_DATE));
+        selection.setSelectedIntervalList(Collections.singletonList(interval));
+        final DataSetLookup lookup = lookup().column(COLUMN_PROCESS_INSTANCE_ID,
+                                                     COUNT)
+                .buildLookup();
+        lookup.getOperationList().add(0,
+                                      selection);
+        return lookup;
+    }
+
+    private boolean isOpenRowsLookup(final DataSetLookup lookup) {
+        return lookup.getFirstFilterOp().getColumnFilterList().get(0) instanceof LogicalExprFilter;
+    }
+
+    private Object getLowerBound(final DataSetLookup lookup) {
+        for (ColumnFilter filter : lookup.getFirstFilterOp().getColumnFilterList()) {
+            if (filter instanceof CoreFunctionFilter && ((CoreFunctionFilter) filter).getType() == CoreFunctionType.GREATER_OR_EQUALS_TO) {
+                return ((CoreFunctionFilter) filter).getParameters().get(0);
+            }
+        }
+        return null;
+    }
+
+    private DataSet lookupRows(final DataSetLookup lookup) {
+        rowsLookups.add(lookup);
+        final boolean open = isOpenRowsLookup(lookup);
+        final int sortColumn = COLUMN_PROCESS_INSTANCE_ID.equals(lookup.getFirstSortOp().getColumnSortList().get(0).getColumnId()) ? 0 : 3;
+        final Object lowerBound = getLowerBound(lookup);
+        final DataSetBuilder builder = DataSetFactory.newDataSetBuilder()
+                .number(COLUMN_PROCESS_INSTANCE_ID)
+                .label(COLUMN_PROCESS_ID)
+                .date(COLUMN_PROCESS_START_DATE)
+                .date(COLUMN_PROCESS_END_DATE)
+                .number(COLUMN_PROCESS_STATUS)
+                .number(COLUMN_PROCESS_DURATION)
+                .label(COLUMN_PROCESS_USER_ID)
+                .label(COLUMN_PROCESS_VERSION)
+                .label(COLUMN_PROCESS_NAME);
+        (open ? openRows : settledRows).stream()
+                .filter(row -> lowerBound == null || compare(row[sortColumn],
+                                                             lowerBound) >= 0)
+                .sorted((row, other) -> {
+                    final int order = compare(row[sortColumn],
+                                              other[sortColumn]);
+                    return order != 0 ? order : compare(row[0],
+                                                        other[0]);
+                })
+                .skip(lookup.getRowOffset())
+                .limit(lookup.getNumberOfRows())
+                .forEach(builder::row);
+        return builder.buildDataSet();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int compare(final Object value,
+                               final Object other) {
+        if (value instanceof Number && other instanceof Number) {
+            return Double.compare(((Number) value).doubleValue(),
+                                  ((Number) other).doubleValue());
+        }
+        return ((Comparable<Object>) value).compareTo(other);
+    }
+
+    private static Object[] row(final int id,
+                                final String processId,
+                                final int status,
+                                final String user,
+                                final Long duration,
+                                final Integer endHour) {
+        return new Object[]{id, processId, new Date(0), endHour == null ? null : endDate(15,
+                                                                                          endHour), status, duration, user, "1.0", processId};
+    }
+
+    private static Date endDate(final int day,
+                                final int hour) {
+        final Calendar calendar = Calendar.getInstance();
+        calendar.clear();
+        calendar.set(2018,
+                     Calendar.JANUARY,
+                     day,
+                     hour,
+                     0);
+        return calendar.getTime();
+    }
+}
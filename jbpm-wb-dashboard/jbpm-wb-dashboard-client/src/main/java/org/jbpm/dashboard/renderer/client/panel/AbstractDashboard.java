@@ -28,14 +28,17 @@ import org.dashbuilder.dataset.DataSetLookup;
 import org.dashbuilder.dataset.client.DataSetClientServices;
 import org.dashbuilder.displayer.DisplayerSettings;
 import org.dashbuilder.displayer.client.AbstractDisplayer;
+import org.dashbuilder.displayer.client.DataSetHandler;
 import org.dashbuilder.displayer.client.DataSetHandlerImpl;
 import org.dashbuilder.displayer.client.DisplayerCoordinator;
 import org.dashbuilder.displayer.client.DisplayerLocator;
 import org.dashbuilder.renderer.client.metric.MetricDisplayer;
 import org.dashbuilder.renderer.client.table.TableDisplayer;
+import org.jboss.errai.common.client.api.Caller;
 import org.jbpm.workbench.common.client.PerspectiveIds;
 import org.jbpm.workbench.common.client.menu.PrimaryActionMenuBuilder;
 import org.jbpm.workbench.ks.integration.ConsoleDataSetLookup;
+import org.jbpm.workbench.ks.service.DataSetLookupBatchService;
 import org.jbpm.workbench.common.client.menu.ServerTemplateSelectorMenuBuilder;
 import org.jbpm.dashboard.renderer.client.panel.formatter.DurationFormatter;
 import org.jbpm.dashboard.renderer.client.panel.i18n.DashboardI18n;
@@ -74,6 +77,8 @@ public abstract class AbstractDashboard {
 
     private String detailScreenId;
 
+    private DataSetLookupBatcher dataSetLookupBatcher;
+
     @Inject
     public void setNotificationEvent(final Event<NotificationEvent> notificationEvent) {
         this.notificationEvent = notificationEvent;
@@ -113,6 +118,11 @@ public abstract class AbstractDashboard {
                                serverTemplateSelectorMenuBuilder.getView().getElement());
     }
 
+    @Inject
+    public void setDataSetLookupBatchService(final Caller<DataSetLookupBatchService> dataSetLookupBatchService) {
+        this.dataSetLookupBatcher = new DataSetLookupBatcher(dataSetLookupBatchService);
+    }
+
     @Inject
     public void setServerTemplateSelectorMenuBuilder(final ServerTemplateSelectorMenuBuilder serverTemplateSelectorMenuBuilder) {
         this.serverTemplateSelectorMenuBuilder = serverTemplateSelectorMenuBuilder;
@@ -155,16 +165,30 @@ public abstract class AbstractDashboard {
 
     private void closeDetails(String detailScreenId) {
         placeManager.closePlace(detailScreenId);
-        createListBreadcrumb();
-        tableRedraw();
+        refreshList();
     }
 
     public void onDetailScreenClosed(@Observes ClosePlaceEvent closed) {
         if (closed.getPlace() != null
                 && detailScreenId != null
                 && detailScreenId.equals(closed.getPlace().getIdentifier())) {
-            createListBreadcrumb();
-            tableRedraw();
+            refreshList();
+        }
+    }
+
+    private void refreshList() {
+        // the instance may have changed in the details screen, the displayers redrawn next must not reuse old data
+        clearDataSetSnapshot();
+        createListBreadcrumb();
+        tableRedraw();
+    }
+
+    /**
+     * Drops the data sets kept by the lookup batcher, the displayers drawn next look their data up on the server.
+     */
+    protected void clearDataSetSnapshot() {
+        if (dataSetLookupBatcher != null) {
+            dataSetLookupBatcher.clearSnapshot();
         }
     }
 
@@ -206,11 +230,20 @@ public abstract class AbstractDashboard {
                      settings);
         MetricDisplayer metricDisplayer = (MetricDisplayer) displayerLocator.lookupDisplayer(settings);
         metricDisplayer.setDisplayerSettings(settings);
-        metricDisplayer.setDataSetHandler(new DataSetHandlerImpl(dataSetClientServices,
-                                                                 getDataSetLookup(settings)));
+        metricDisplayer.setDataSetHandler(createDataSetHandler(settings));
         return metricDisplayer;
     }
 
+    protected DataSetHandler createDataSetHandler(final DisplayerSettings settings) {
+        // all the displayers refreshed by the same interaction look their data sets up in a single server call
+        if (dataSetLookupBatcher != null) {
+            return dataSetLookupBatcher.newDataSetHandler(dataSetClientServices,
+                                                          getDataSetLookup(settings));
+        }
+        return new DataSetHandlerImpl(dataSetClientServices,
+                                      getDataSetLookup(settings));
+    }
+
     private DataSetLookup getDataSetLookup(final DisplayerSettings settings) {
         return ConsoleDataSetLookup.fromInstance(settings.getDataSetLookup(),
                                                  serverTemplateSelectorMenuBuilder.getSelectedServerTemplateId());
@@ -223,8 +256,7 @@ public abstract class AbstractDashboard {
                      settings);
         final TableDisplayer tableDisplayer = (TableDisplayer) displayerLocator.lookupDisplayer(settings);
         tableDisplayer.setDisplayerSettings(settings);
-        tableDisplayer.setDataSetHandler(new DataSetHandlerImpl(dataSetClientServices,
-                                                                getDataSetLookup(settings)));
+        tableDisplayer.setDataSetHandler(createDataSetHandler(settings));
         tableDisplayer.addFormatter(columnId,
                                     durationFormatter);
         tableDisplayer.addOnCellSelectedCommand(new Command() {
@@ -290,8 +322,7 @@ public abstract class AbstractDashboard {
         checkNotNull("displayerSettings",
                      settings);
         AbstractDisplayer displayer = (AbstractDisplayer) displayerLocator.lookupDisplayer(settings);
-        displayer.setDataSetHandler(new DataSetHandlerImpl(dataSetClientServices,
-                                                           getDataSetLookup(settings)));
+        displayer.setDataSetHandler(createDataSetHandler(settings));
         return displayer;
     }
 
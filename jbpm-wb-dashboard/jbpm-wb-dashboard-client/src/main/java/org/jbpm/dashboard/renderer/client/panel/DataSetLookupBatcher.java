@@ -0,0 +1,215 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.dashboard.renderer.client.panel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gwt.core.client.Scheduler;
+import org.dashbuilder.common.client.error.ClientRuntimeError;
+import org.dashbuilder.dataset.DataSet;
+import org.dashbuilder.dataset.DataSetLookup;
+import org.dashbuilder.dataset.client.DataSetClientServices;
+import org.dashbuilder.dataset.client.DataSetReadyCallback;
+import org.dashbuilder.dataset.group.DataSetGroup;
+import org.dashbuilder.dataset.group.GroupFunction;
+import org.dashbuilder.displayer.client.DataSetHandler;
+import org.dashbuilder.displayer.client.DataSetHandlerImpl;
+import org.jboss.errai.bus.client.api.messaging.Message;
+import org.jboss.errai.common.client.api.Caller;
+import org.jbpm.workbench.ks.integration.ConsoleDataSetLookup;
+import org.jbpm.workbench.ks.service.DataSetLookupBatchService;
+import org.jbpm.workbench.ks.service.DataSetLookupResult;
+
+/**
+ * Data set lookups of the dashboard displayers. The lookups requested while handling the same browser event, such as
+ * drawing the whole dashboard or applying a filter, are sent to the server in a single call.
+ * <p>
+ * The aggregated results of the metrics and charts are kept for a while, so resetting a filter or going back to a
+ * selection already seen is redrawn without calling the server. Row lookups, like the instances table, always
+ * go to the server.
+ */
+public class DataSetLookupBatcher {
+
+    public static final int SNAPSHOT_MAX_AGE = 60000;
+
+    public static final int SNAPSHOT_MAX_SIZE = 200;
+
+    private final Caller<DataSetLookupBatchService> dataSetLookupBatchService;
+
+    private List<DataSetLookup> pendingLookups = new ArrayList<>();
+
+    private List<DataSetReadyCallback> pendingCallbacks = new ArrayList<>();
+
+    private final List<SnapshotEntry> snapshot = new ArrayList<>();
+
+    public DataSetLookupBatcher(final Caller<DataSetLookupBatchService> dataSetLookupBatchService) {
+        this.dataSetLookupBatchService = dataSetLookupBatchService;
+    }
+
+    public DataSetHandler newDataSetHandler(final DataSetClientServices dataSetClientServices,
+                                            final DataSetLookup lookup) {
+        return new DataSetHandlerImpl(dataSetClientServices,
+                                      lookup) {
+            @Override
+            public void lookupDataSet(final DataSetReadyCallback callback) {
+                DataSetLookupBatcher.this.lookupDataSet(getCurrentDataSetLookup(),
+                                                        new DataSetReadyCallback() {
+                                                            @Override
+                                                            public void callback(final DataSet dataSet) {
+                                                                lastLookedUpDataSet = dataSet;
+                                                                callback.callback(dataSet);
+                                                            }
+
+                                                            @Override
+                                                            public void notFound() {
+                                                                callback.notFound();
+                                                            }
+
+                                                            @Override
+                                                            public boolean onError(final ClientRuntimeError error) {
+                                                                return callback.onError(error);
+                                                            }
+                                                        });
+            }
+        };
+    }
+
+    public void lookupDataSet(final DataSetLookup request,
+                              final DataSetReadyCallback listener) {
+        final DataSet snapshotDataSet = getSnapshotDataSet(request);
+        if (snapshotDataSet != null) {
+            listener.callback(snapshotDataSet);
+            return;
+        }
+        if (pendingLookups.isEmpty()) {
+            scheduleFlush();
+        }
+        // the result may be kept in the snapshot, so the lookup can't change until it arrives
+        pendingLookups.add(request.cloneInstance());
+        pendingCallbacks.add(listener);
+    }
+
+    protected void scheduleFlush() {
+        Scheduler.get().scheduleFinally(() -> flush());
+    }
+
+    protected void flush() {
+        final List<DataSetLookup> lookups = pendingLookups;
+        final List<DataSetReadyCallback> callbacks = pendingCallbacks;
+        pendingLookups = new ArrayList<>();
+        pendingCallbacks = new ArrayList<>();
+        if (lookups.isEmpty()) {
+            return;
+        }
+
+        dataSetLookupBatchService.call((List<DataSetLookupResult> results) -> {
+                                           for (int i = 0; i < callbacks.size(); i++) {
+                                               final DataSetLookupResult result = results.get(i);
+                                               final DataSet dataSet = result.getDataSet();
+                                               if (result.isFailed()) {
+                                                   // only the displayers of the failed lookup show the error
+                                                   callbacks.get(i).onError(new ClientRuntimeError(result.getErrorMessage()));
+                                               } else if (dataSet == null) {
+                                                   callbacks.get(i).notFound();
+                                               } else {
+                                                   addToSnapshot(lookups.get(i),
+                                                                 dataSet);
+                                                   callbacks.get(i).callback(dataSet);
+                                               }
+                                           }
+                                       },
+                                       (Message message, Throwable throwable) -> {
+                                           for (DataSetReadyCallback callback : callbacks) {
+                                               callback.onError(new ClientRuntimeError(throwable.getMessage()));
+                                           }
+                                           return false;
+                                       }).lookupDataSets(lookups);
+    }
+
+    protected DataSet getSnapshotDataSet(final DataSetLookup lookup) {
+        final long now = System.currentTimeMillis();
+        snapshot.removeIf(entry -> now - entry.time > SNAPSHOT_MAX_AGE);
+        for (SnapshotEntry entry : snapshot) {
+            if (entry.matches(lookup)) {
+                return entry.dataSet.cloneInstance();
+            }
+        }
+        return null;
+    }
+
+    protected void addToSnapshot(final DataSetLookup lookup,
+                                 final DataSet dataSet) {
+        if (!isAggregated(lookup)) {
+            return;
+        }
+        if (snapshot.size() >= SNAPSHOT_MAX_SIZE) {
+            snapshot.remove(0);
+        }
+        // the handlers keep changing their lookup as filters are applied, a copy is kept
+        snapshot.add(new SnapshotEntry(lookup.cloneInstance(),
+                                       dataSet.cloneInstance(),
+                                       System.currentTimeMillis()));
+    }
+
+    /**
+     * Drops the kept results, called when the data behind them may have changed.
+     */
+    public void clearSnapshot() {
+        snapshot.clear();
+    }
+
+    protected static boolean isAggregated(final DataSetLookup lookup) {
+        final DataSetGroup groupOp = lookup.getLastGroupOp();
+        if (groupOp == null) {
+            return false;
+        }
+        for (GroupFunction groupFunction : groupOp.getGroupFunctions()) {
+            if (groupFunction.getFunction() != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String serverTemplateId(final DataSetLookup lookup) {
+        return lookup instanceof ConsoleDataSetLookup ? ((ConsoleDataSetLookup) lookup).getServerTemplateId() : null;
+    }
+
+    private static class SnapshotEntry {
+
+        private final DataSetLookup lookup;
+
+        private final DataSet dataSet;
+
+        private final long time;
+
+        SnapshotEntry(final DataSetLookup lookup,
+                      final DataSet dataSet,
+                      final long time) {
+            this.lookup = lookup;
+            this.dataSet = dataSet;
+            this.time = time;
+        }
+
+        boolean matches(final DataSetLookup other) {
+            // lookups for another server template are equal as far as DataSetLookup is concerned
+            final String serverTemplateId = serverTemplateId(lookup);
+            return lookup.equals(other) && (serverTemplateId == null ? serverTemplateId(other) == null : serverTemplateId.equals(serverTemplateId(other)));
+        }
+    }
+}
@@ -155,6 +155,7 @@ public class ProcessDashboard extends AbstractDashboard {
 
     public void onServerTemplateSelected(@Observes final ServerTemplateSelected serverTemplateSelected) {
         //Refresh view
+        clearDataSetSnapshot();
         placeManager.closePlace(PerspectiveIds.PROCESS_DASHBOARD_SCREEN);
         placeManager.goTo(PerspectiveIds.PROCESS_DASHBOARD_SCREEN);
     }
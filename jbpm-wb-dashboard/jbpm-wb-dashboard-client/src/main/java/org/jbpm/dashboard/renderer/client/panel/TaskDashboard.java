@@ -190,6 +190,7 @@ public class TaskDashboard extends AbstractDashboard {
 
     public void onServerTemplateSelected(@Observes final ServerTemplateSelected serverTemplateSelected) {
         //Refresh view
+        clearDataSetSnapshot();
         placeManager.closePlace(PerspectiveIds.TASK_DASHBOARD_SCREEN);
         placeManager.goTo(PerspectiveIds.TASK_DASHBOARD_SCREEN);
     }
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.dashboard.renderer.client.panel;
+
+import java.util.Arrays;
+
+import org.dashbuilder.common.client.error.ClientRuntimeError;
+import org.dashbuilder.dataset.DataSet;
+import org.dashbuilder.dataset.DataSetFactory;
+import org.dashbuilder.dataset.DataSetLookup;
+import org.dashbuilder.dataset.DataSetLookupFactory;
+import org.dashbuilder.dataset.client.DataSetReadyCallback;
+import org.jbpm.workbench.ks.service.DataSetLookupBatchService;
+import org.jbpm.workbench.ks.service.DataSetLookupResult;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.uberfire.mocks.CallerMock;
+
+import static org.dashbuilder.dataset.group.AggregateFunctionType.COUNT;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DataSetLookupBatcherTest {
+
+    @Mock
+    private DataSetLookupBatchService dataSetLookupBatchService;
+
+    @Mock
+    private DataSetReadyCallback firstCallback;
+
+    @Mock
+    private DataSetReadyCallback secondCallback;
+
+    private int scheduledFlushes;
+
+    private DataSetLookupBatcher batcher;
+
+    @Before
+    public void setup() {
+        scheduledFlushes = 0;
+        batcher = new DataSetLookupBatcher(new CallerMock<>(dataSetLookupBatchService)) {
+            @Override
+            protected void scheduleFlush() {
+                scheduledFlushes++;
+            }
+        };
+    }
+
+    @Test
+    public void testLookupsAreSentInOneCall() {
+        final DataSetLookup first = lookup("processesMonitoring");
+        final DataSetLookup second = lookup("tasksMonitoring");
+        final DataSet dataSet = mock(DataSet.class);
+        when(dataSetLookupBatchService.lookupDataSets(Arrays.asList(first,
+                                                                    second))).thenReturn(Arrays.asList(DataSetLookupResult.ofDataSet(dataSet),
+                                                                                                       DataSetLookupResult.ofDataSet(null)));
+
+        batcher.lookupDataSet(first,
+                              firstCallback);
+        batcher.lookupDataSet(second,
+                              secondCallback);
+        verify(dataSetLookupBatchService,
+               never()).lookupDataSets(any());
+
+        batcher.flush();
+
+        verify(dataSetLookupBatchService).lookupDataSets(Arrays.asList(first,
+                                                                       second));
+        verify(firstCallback).callback(dataSet);
+        verify(secondCallback).notFound();
+        assertEquals(1,
+                     scheduledFlushes);
+    }
+
+    @Test
+    public void testFailedLookupOnlyFailsItsCallback() {
+        final DataSetLookup first = lookup("processesMonitoring");
+        final DataSetLookup second = lookup("tasksMonitoring");
+        final DataSet dataSet = mock(DataSet.class);
+        when(dataSetLookupBatchService.lookupDataSets(any())).thenReturn(Arrays.asList(DataSetLookupResult.ofError("KIE server unavailable"),
+                                                                                       DataSetLookupResult.ofDataSet(dataSet)));
+
+        batcher.lookupDataSet(first,
+                              firstCallback);
+        batcher.lookupDataSet(second,
+                              secondCallback);
+        batcher.flush();
+
+        final ArgumentCaptor<ClientRuntimeError> error = ArgumentCaptor.forClass(ClientRuntimeError.class);
+        verify(firstCallback).onError(error.capture());
+        assertEquals("KIE server unavailable",
+                     error.getValue().getMessage());
+        verify(firstCallback,
+               never()).callback(any());
+        verify(secondCallback).callback(dataSet);
+        verify(secondCallback,
+               never()).onError(any());
+    }
+
+    @Test
+    public void testFlushWithoutLookups() {
+        batcher.flush();
+
+        verify(dataSetLookupBatchService,
+               never()).lookupDataSets(any());
+    }
+
+    @Test
+    public void testAggregatedLookupsAreServedFromSnapshot() {
+        final DataSetLookup byProcess = DataSetLookupFactory.newDataSetLookupBuilder()
+                .dataset("processesMonitoring")
+                .group("processName")
+                .column("processName")
+                .column("processInstanceId",
+                        COUNT)
+                .buildLookup();
+        when(dataSetLookupBatchService.lookupDataSets(any())).thenReturn(Arrays.asList(DataSetLookupResult.ofDataSet(DataSetFactory.newEmptyDataSet())));
+
+        batcher.lookupDataSet(byProcess,
+                              firstCallback);
+        batcher.flush();
+        batcher.lookupDataSet(byProcess.cloneInstance(),
+                              secondCallback);
+        batcher.flush();
+
+        verify(dataSetLookupBatchService,
+               times(1)).lookupDataSets(any());
+        verify(firstCallback).callback(any(DataSet.class));
+        verify(secondCallback).callback(any(DataSet.class));
+        assertEquals(1,
+                     scheduledFlushes);
+    }
+
+    @Test
+    public void testClearedSnapshotIsNotServed() {
+        final DataSetLookup byProcess = DataSetLookupFactory.newDataSetLookupBuilder()
+                .dataset("processesMonitoring")
+                .group("processName")
+                .column("processName")
+                .column("processInstanceId",
+                        COUNT)
+                .buildLookup();
+        when(dataSetLookupBatchService.lookupDataSets(any())).thenReturn(Arrays.asList(DataSetLookupResult.ofDataSet(DataSetFactory.newEmptyDataSet())));
+
+        batcher.lookupDataSet(byProcess,
+                              firstCallback);
+        batcher.flush();
+        batcher.clearSnapshot();
+        batcher.lookupDataSet(byProcess,
+                              secondCallback);
+        batcher.flush();
+
+        verify(dataSetLookupBatchService,
+               times(2)).lookupDataSets(any());
+        verify(secondCallback).callback(any(DataSet.class));
+        assertEquals(2,
+                     scheduledFlushes);
+    }
+
+    @Test
+    public void testRowLookupsAreNotServedFromSnapshot() {
+        final DataSetLookup rows = lookup("processesMonitoring");
+        when(dataSetLookupBatchService.lookupDataSets(any())).thenReturn(Arrays.asList(DataSetLookupResult.ofDataSet(DataSetFactory.newEmptyDataSet())));
+
+        batcher.lookupDataSet(rows,
+                              firstCallback);
+        batcher.flush();
+        batcher.lookupDataSet(rows,
+                              secondCallback);
+        batcher.flush();
+
+        verify(dataSetLookupBatchService,
+               times(2)).lookupDataSets(Arrays.asList(rows));
+        assertEquals(2,
+                     scheduledFlushes);
+    }
+
+    private DataSetLookup lookup(final String dataSetId) {
+        return DataSetLookupFactory.newDataSetLookupBuilder()
+                .dataset(dataSetId)
+                .buildLookup();
+    }
+}
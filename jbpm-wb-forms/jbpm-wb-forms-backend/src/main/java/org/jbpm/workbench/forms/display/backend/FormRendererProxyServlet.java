@@ -17,9 +17,17 @@
 package org.jbpm.workbench.forms.display.backend;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import javax.inject.Inject;
 import javax.servlet.ServletException;
@@ -28,6 +36,7 @@ import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.jbpm.workbench.forms.display.backend.RenderedFormCache.RenderedForm;
 import org.jbpm.workbench.ks.integration.KieServerIntegration;
 import org.kie.server.api.marshalling.json.StringContentCaseFile;
 import org.kie.server.api.marshalling.json.StringContentMap;
@@ -51,16 +60,22 @@ public class FormRendererProxyServlet extends HttpServlet {
     private Pattern taskIdPattern = Pattern.compile(".*/tasks/([^/]+).*");
     private Pattern taskStatePattern = Pattern.compile(".*/states/([^/]+).*");
     
+    private static final String GZIP = "gzip";
+    
     @Inject
     protected KieServerIntegration kieServerIntegration;
 
+    @Inject
+    protected RenderedFormCache renderedFormCache;
+
 
     @Override
     protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
         // return form content
         String serverTemplateId = req.getParameter("serverTemplateId");
         String containerId = req.getParameter("containerId");
-        
+        // the body is gzipped or not depending on the request
+        resp.setHeader("Vary", "Accept-Encoding");
         
         UIServicesClient uiServicesClient = getClient(serverTemplateId,                                                      
                                                       UIServicesClient.class);
@@ -69,16 +84,42 @@ public class FormRendererProxyServlet extends HttpServlet {
         String processId = req.getParameter("processId");
         String taskId = req.getParameter("taskId");
         
-        String formContent = null;
+        // KIE server checks the access of the user rendering a form, so rendered forms are only reused for the same user
+        String user = req.getRemoteUser();
+        RenderedForm renderedForm = null;
         if (caseDefId != null) {
-            formContent = uiServicesClient.renderCaseForm(containerId, caseDefId, RENDERER);
+            renderedForm = renderedFormCache.getRenderedForm(serverTemplateId, user, containerId, getContainerRelease(serverTemplateId, containerId), "case:" + caseDefId, RENDERER,
+                                                             () -> uiServicesClient.renderCaseForm(containerId, caseDefId, RENDERER));
         } else if (processId != null) {
-            formContent = uiServicesClient.renderProcessForm(containerId, processId, RENDERER);
+            renderedForm = renderedFormCache.getRenderedForm(serverTemplateId, user, containerId, getContainerRelease(serverTemplateId, containerId), "process:" + processId, RENDERER,
+                                                             () -> uiServicesClient.renderProcessForm(containerId, processId, RENDERER));
         } else if (taskId != null) {
-            formContent = uiServicesClient.renderTaskForm(containerId, Long.valueOf(taskId), RENDERER);
+            // task forms carry the task data, they are never cached
+            writeBody(req, resp, uiServicesClient.renderTaskForm(containerId, Long.valueOf(taskId), RENDERER));
+            return;
+        }
+        
+        if (renderedForm == null) {
+            resp.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        
+        resp.setHeader("ETag", renderedForm.getETag());
+        resp.setHeader("Cache-Control", "private, no-cache");
+        if (matchesETag(req.getHeader("If-None-Match"), renderedForm.getETag())) {
+            resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
         }
         
-        resp.getOutputStream().write(formContent.getBytes("UTF-8"));
+        resp.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        if (acceptsGzip(req)) {
+            resp.setHeader("Content-Encoding", GZIP);
+            resp.setContentLength(renderedForm.getGzippedContent().length);
+            resp.getOutputStream().write(renderedForm.getGzippedContent());
+        } else {
+            resp.setContentLength(renderedForm.getContent().length);
+            resp.getOutputStream().write(renderedForm.getContent());
+        }
     }
 
     @Override
@@ -91,7 +132,7 @@ public class FormRendererProxyServlet extends HttpServlet {
             throw new IllegalArgumentException("Missing path information");
         }
         
-        String body = req.getReader().lines().collect(Collectors.joining());
+        String body = readBody(req);
         
         String containerId = extractValue(containerPattern, pathInfo);
         if (pathInfo.contains("cases")) {
@@ -101,7 +142,7 @@ public class FormRendererProxyServlet extends HttpServlet {
                                                               CaseServicesClient.class);
             
             String responseBody = caseServicesClient.startCase(containerId, caseDefId, new StringContentCaseFile(body));
-            resp.getOutputStream().write(responseBody.getBytes("UTF-8"));
+            writeBody(req, resp, responseBody);
         } else {
             // start process operation
             String processId = extractValue(processIdPattern, pathInfo);
@@ -110,7 +151,7 @@ public class FormRendererProxyServlet extends HttpServlet {
             
             Long responseBody = processServicesClient.startProcess(containerId, processId, new StringContentMap(body));
             
-            resp.getOutputStream().write(responseBody.toString().getBytes("UTF-8"));
+            writeBody(req, resp, responseBody.toString());
         }
         
         
@@ -144,18 +185,102 @@ public class FormRendererProxyServlet extends HttpServlet {
             taskServicesClient.stopTask(containerId, Long.valueOf(taskId), "");
         } else if ("completed".equalsIgnoreCase(taskState)) {
             
-            String body = req.getReader().lines().collect(Collectors.joining());
+            String body = readBody(req);
             
             taskServicesClient.completeAutoProgress(containerId, Long.valueOf(taskId), "", new StringContentMap(body));
         } else {
             
-            String body = req.getReader().lines().collect(Collectors.joining());
+            String body = readBody(req);
             
             taskServicesClient.saveTaskContent(containerId, Long.valueOf(taskId), new StringContentMap(body));
         }
     }
 
 
+    protected String readBody(HttpServletRequest req) throws IOException {
+        // KIE server clients take the payload as String, read it as is so line breaks in the values are kept
+        String charset = req.getCharacterEncoding() != null ? req.getCharacterEncoding() : StandardCharsets.UTF_8.name();
+        InputStream input = req.getInputStream();
+        if (GZIP.equalsIgnoreCase(req.getHeader("Content-Encoding"))) {
+            input = new GZIPInputStream(input);
+        }
+        StringBuilder body = new StringBuilder();
+        try (Reader reader = new InputStreamReader(input, charset)) {
+            char[] buffer = new char[8192];
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                body.append(buffer, 0, read);
+            }
+        }
+        return body.toString();
+    }
+
+    protected void writeBody(HttpServletRequest req, HttpServletResponse resp, String body) throws IOException {
+        if (body == null) {
+            return;
+        }
+        resp.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        OutputStream output = resp.getOutputStream();
+        if (acceptsGzip(req)) {
+            resp.setHeader("Content-Encoding", GZIP);
+            output = new GZIPOutputStream(output);
+        }
+        try (Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8)) {
+            writer.write(body);
+        }
+    }
+
+    protected boolean acceptsGzip(HttpServletRequest req) {
+        String acceptEncoding = req.getHeader("Accept-Encoding");
+        if (acceptEncoding == null) {
+            return false;
+        }
+        // an explicit gzip entry wins over the * wildcard, either is refused with q=0
+        Double gzipQuality = null;
+        Double anyQuality = null;
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.split(";");
+            String coding = parts[0].trim().toLowerCase();
+            double quality = 1;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (GZIP.equals(coding)) {
+                gzipQuality = quality;
+            } else if ("*".equals(coding)) {
+                anyQuality = quality;
+            }
+        }
+        if (gzipQuality != null) {
+            return gzipQuality > 0;
+        }
+        return anyQuality != null && anyQuality > 0;
+    }
+
+    protected boolean matchesETag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        // GET only needs the weak comparison, so W/ prefixes are ignored
+        for (String candidate : ifNoneMatch.split(",")) {
+            candidate = candidate.trim();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if ("*".equals(candidate) || etag.equals(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     protected <T> T getClient(final String serverTemplateId,
                               final Class<T> clientType) {
         KieServicesClient client = getKieServicesClient(serverTemplateId);
@@ -170,6 +295,13 @@ public class FormRendererProxyServlet extends HttpServlet {
         }
         return client;
     }
+
+    protected String getContainerRelease(final String serverTemplateId,
+                                         final String containerId) {
+        // start forms change with a new container release, so the release is part of the rendered form key
+        return kieServerIntegration.getContainerRelease(serverTemplateId,
+                                                        containerId);
+    }
     
     protected String extractValue(Pattern p, String text) {
         Matcher matcher = p.matcher(text);
@@ -18,13 +18,19 @@ package org.jbpm.workbench.forms.display.backend;
 
 import static org.jbpm.workbench.forms.display.backend.conversion.TaskDataConverterUtil.convert;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 
 import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 import javax.ws.rs.core.Response;
@@ -41,6 +47,7 @@ import org.jbpm.workbench.forms.service.providing.TaskRenderingSettings;
 import org.jbpm.workbench.forms.service.providing.model.TaskDefinition;
 import org.jbpm.workbench.forms.service.shared.FormServiceEntryPoint;
 import org.jbpm.workbench.ks.integration.AbstractKieServerService;
+import org.jbpm.workbench.ks.integration.KieServerBulkExecutor;
 import org.jbpm.workbench.ks.utils.KieServerUtils;
 import org.kie.internal.task.api.ContentMarshallerContext;
 import org.kie.server.api.exception.KieServicesException;
@@ -54,6 +61,9 @@ import org.kie.server.client.KieServicesClient;
 import org.kie.server.client.ProcessServicesClient;
 import org.kie.server.client.UIServicesClient;
 import org.kie.server.client.UserTaskServicesClient;
+import org.kie.server.controller.api.model.events.ContainerSpecUpdated;
+import org.kie.server.controller.api.model.events.ServerTemplateDeleted;
+import org.kie.server.controller.api.model.events.ServerTemplateUpdated;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -63,18 +73,32 @@ public class FormServiceEntryPointImpl extends AbstractKieServerService implemen
 
     private static final Logger logger = LoggerFactory.getLogger(FormServiceEntryPointImpl.class);
 
+    public static final String TASK_FORM_CACHE_SIZE = "org.jbpm.wb.forms.task.cache.size";
+
     private boolean kieServerFormRenderer = KieServerUtils.isKieServerRendererEnabled();
 
     private final FormProvider<? extends FormRenderingSettings> defaultFormProvider;
     private Set<FormProvider<? extends FormRenderingSettings>> providers = new TreeSet<>((o1, o2) -> o1.getPriority() - o2.getPriority());
 
+    private final KieServerBulkExecutor bulkExecutor;
+
+    private final int taskFormCacheSize = Integer.getInteger(TASK_FORM_CACHE_SIZE,
+                                                             500);
+
+    // task definitions and raw forms only change with a new container release, they're cached per serverTemplate@container@release@process@task
+    private final Map<String, TaskInputsDefinition> taskInputDefinitions = newTaskFormCache();
+    private final Map<String, TaskOutputsDefinition> taskOutputDefinitions = newTaskFormCache();
+    private final Map<String, String> taskRawForms = newTaskFormCache();
+
     @Inject
     public FormServiceEntryPointImpl(Instance<FormProvider<? extends FormRenderingSettings>> providersInjected,
-                                     @DefaultFormProvider FormProvider<? extends FormRenderingSettings> defaultFormProvider) {
+                                     @DefaultFormProvider FormProvider<? extends FormRenderingSettings> defaultFormProvider,
+                                     KieServerBulkExecutor bulkExecutor) {
         for (FormProvider provider : providersInjected) {
             providers.add(provider);
         }
         this.defaultFormProvider = defaultFormProvider;
+        this.bulkExecutor = bulkExecutor;
     }
 
     @Override
@@ -183,6 +207,23 @@ public class FormServiceEntryPointImpl extends AbstractKieServerService implemen
                                                          domainId,
                                                          ProcessServicesClient.class);
 
+        // everything else only depends on the task, so it's fetched at once
+        String taskFormKey = serverTemplateId + "@" + domainId + "@" + getContainerRelease(serverTemplateId,
+                                                                                           domainId) + "@" + task.getProcessId() + "@" + task.getName();
+        Future<TaskInputsDefinition> inputDefinitionsFuture = getCached(taskInputDefinitions,
+                                                                        taskFormKey,
+                                                                        () -> processService.getUserTaskInputDefinitions(domainId, task.getProcessId(), task.getName()));
+        Future<TaskOutputsDefinition> outputDefinitionsFuture = getCached(taskOutputDefinitions,
+                                                                          taskFormKey,
+                                                                          () -> processService.getUserTaskOutputDefinitions(domainId, task.getProcessId(), task.getName()));
+        Future<String> formContentFuture = getCached(taskRawForms,
+                                                     taskFormKey,
+                                                     () -> uiServicesClient.getTaskRawForm(domainId, taskId));
+        Future<Map<String, Object>> metaDataFuture = bulkExecutor.submit(() -> processService.getActiveNodeUIMetaData(domainId, task.getProcessInstanceId(), task.getWorkItemId()));
+        Future<Map<String, Object>> processInstanceVariablesFuture = bulkExecutor.submit(() -> getProcessInstanceVariables(processService, domainId, task));
+        Future<Map<String, Object>> inputsFuture = bulkExecutor.submit(() -> processData(documentClient, task.getInputData()));
+        Future<Map<String, Object>> outputsFuture = bulkExecutor.submit(() -> processData(documentClient, task.getOutputData()));
+
         TaskDefinition taskInstance = new TaskDefinition();
         taskInstance.setId(task.getId());
         taskInstance.setName(task.getName());
@@ -193,21 +234,21 @@ public class FormServiceEntryPointImpl extends AbstractKieServerService implemen
 
         taskInstance.setStatus(task.getStatus());
 
-        TaskInputsDefinition inputDefinitions = processService.getUserTaskInputDefinitions(domainId, task.getProcessId(), task.getName());
-        Map<String, Object> metaData = processService.getActiveNodeUIMetaData(domainId, task.getProcessInstanceId(), task.getWorkItemId());
+        TaskInputsDefinition inputDefinitions = bulkExecutor.get(inputDefinitionsFuture);
+        Map<String, Object> metaData = bulkExecutor.get(metaDataFuture);
         
         taskInstance.setTaskInputDefinitions(inputDefinitions.getTaskInputs());
 
-        TaskOutputsDefinition outputDefinitions = processService.getUserTaskOutputDefinitions(domainId, task.getProcessId(), task.getName());
+        TaskOutputsDefinition outputDefinitions = bulkExecutor.get(outputDefinitionsFuture);
 
         taskInstance.setTaskOutputDefinitions(outputDefinitions.getTaskOutputs());
 
         // prepare render context
-        Map<String, Object> inputs = processData(documentClient, task.getInputData());
+        Map<String, Object> inputs = bulkExecutor.get(inputsFuture);
 
         convert(inputDefinitions.getTaskInputs(), inputs);
 
-        Map<String, Object> outputs = processData(documentClient, task.getOutputData());
+        Map<String, Object> outputs = bulkExecutor.get(outputsFuture);
 
         if (outputs != null && !outputs.isEmpty()) {
             taskInstance.setOutputIncluded(true);
@@ -216,7 +257,7 @@ public class FormServiceEntryPointImpl extends AbstractKieServerService implemen
         KieServicesClient kieServicesClient = getKieServicesClient(serverTemplateId, domainId);
 
         try {
-            String formContent = uiServicesClient.getTaskRawForm(domainId, taskId);
+            String formContent = bulkExecutor.get(formContentFuture);
 
             TaskRenderingSettings settings = new TaskRenderingSettings(taskInstance,
                                                                        inputs,
@@ -226,14 +267,10 @@ public class FormServiceEntryPointImpl extends AbstractKieServerService implemen
                                                                        new ContentMarshallerContext(null,
                                                                                                     kieServicesClient.getClassLoader()));
             settings.getRenderingMetaData().putAll(metaData);
-            try {
-            	Map processInstanceVariables = processService.getProcessInstanceVariables(domainId, task.getProcessInstanceId());
-            	if(null != processInstanceVariables){
-            		settings.setProcessInstanceVariables(shallowCopy(processInstanceVariables));
-            	}
-			} catch (Exception e) {
-				logger.debug("Unable to get process instance variables from kie server", taskId, e.getMessage());
-			}
+            Map<String, Object> processInstanceVariables = bulkExecutor.get(processInstanceVariablesFuture);
+            if (null != processInstanceVariables) {
+                settings.setProcessInstanceVariables(shallowCopy(processInstanceVariables));
+            }
             for (FormProvider provider : providers) {
                 FormRenderingSettings template = provider.render(settings);
                 if (template != null) {
@@ -256,6 +293,80 @@ public class FormServiceEntryPointImpl extends AbstractKieServerService implemen
                                      kieServicesClient);
     }
 
+    protected Map<String, Object> getProcessInstanceVariables(ProcessServicesClient processService,
+                                                              String domainId,
+                                                              TaskInstance task) {
+        try {
+            return processService.getProcessInstanceVariables(domainId, task.getProcessInstanceId());
+        } catch (Exception e) {
+            logger.debug("Unable to get process instance variables for task {} from kie server due to {}", task.getId(), e.getMessage());
+        }
+        return null;
+    }
+
+    protected String getContainerRelease(String serverTemplateId,
+                                         String containerId) {
+        return kieServerIntegration.getContainerRelease(serverTemplateId,
+                                                        containerId);
+    }
+
+    private <T> Map<String, T> newTaskFormCache() {
+        return Collections.synchronizedMap(new LinkedHashMap<String, T>(16,
+                                                                        0.75f,
+                                                                        true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, T> eldest) {
+                return size() > taskFormCacheSize;
+            }
+        });
+    }
+
+    protected <T> Future<T> getCached(Map<String, T> cache,
+                                      String key,
+                                      Supplier<T> call) {
+        T value = cache.get(key);
+        if (value != null) {
+            return CompletableFuture.completedFuture(value);
+        }
+        return bulkExecutor.submit(() -> {
+            T loaded = call.get();
+            if (loaded != null) {
+                cache.put(key, loaded);
+            }
+            return loaded;
+        });
+    }
+
+    public void onServerTemplateUpdated(@Observes ServerTemplateUpdated serverTemplateUpdated) {
+        clearTaskFormCache(serverTemplateUpdated.getServerTemplate().getId());
+    }
+
+    public void onServerTemplateDeleted(@Observes ServerTemplateDeleted serverTemplateDeleted) {
+        clearTaskFormCache(serverTemplateDeleted.getServerTemplateId());
+    }
+
+    public void onContainerSpecUpdated(@Observes ContainerSpecUpdated containerSpecUpdated) {
+        // a container may be referenced by its alias as well, so drop everything cached for the server template
+        clearTaskFormCache(containerSpecUpdated.getServerTemplate().getId());
+    }
+
+    protected void clearTaskFormCache(String serverTemplateId) {
+        String prefix = serverTemplateId + "@";
+        removeIfStartsWith(taskInputDefinitions,
+                           prefix);
+        removeIfStartsWith(taskOutputDefinitions,
+                           prefix);
+        removeIfStartsWith(taskRawForms,
+                           prefix);
+    }
+
+    private void removeIfStartsWith(Map<String, ?> cache,
+                                    String prefix) {
+        synchronized (cache) {
+            cache.keySet().removeIf(key -> key.startsWith(prefix));
+        }
+    }
+
     protected FormRenderingSettings getEmbeddedFormDisplayProcess(String serverTemplateId,
                                                                   String domainId,
                                                                   String processId) {
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.forms.display.backend;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import org.kie.server.controller.api.model.events.ContainerSpecUpdated;
+import org.kie.server.controller.api.model.events.ServerTemplateDeleted;
+import org.kie.server.controller.api.model.events.ServerTemplateUpdated;
+
+/**
+ * Process and case start forms rendered by KIE server only change with a new container release, so they are kept
+ * per serverTemplate@user@container@release@definition@renderer, together with their ETag and gzipped content. The
+ * user is part of the key as KIE server checks the access to the definition when rendering it.
+ */
+@ApplicationScoped
+public class RenderedFormCache {
+
+    public static final String CACHE_SIZE = "org.jbpm.wb.forms.rendered.cache.size";
+
+    private final int cacheSize = Integer.getInteger(CACHE_SIZE,
+                                                     200);
+
+    private final Map<String, RenderedForm> forms = Collections.synchronizedMap(new LinkedHashMap<String, RenderedForm>(16,
+                                                                                                                       0.75f,
+                                                                                                                       true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, RenderedForm> eldest) {
+            return size() > cacheSize;
+        }
+    });
+
+    public RenderedForm getRenderedForm(String serverTemplateId,
+                                        String user,
+                                        String containerId,
+                                        String release,
+                                        String definitionId,
+                                        String renderer,
+                                        Supplier<String> render) {
+        String key = serverTemplateId + "@" + user + "@" + containerId + "@" + release + "@" + definitionId + "@" + renderer;
+        RenderedForm form = forms.get(key);
+        if (form == null) {
+            String content = render.get();
+            if (content == null) {
+                return null;
+            }
+            form = new RenderedForm(content);
+            forms.put(key,
+                      form);
+        }
+        return form;
+    }
+
+    public void onServerTemplateUpdated(@Observes ServerTemplateUpdated serverTemplateUpdated) {
+        clear(serverTemplateUpdated.getServerTemplate().getId());
+    }
+
+    public void onServerTemplateDeleted(@Observes ServerTemplateDeleted serverTemplateDeleted) {
+        clear(serverTemplateDeleted.getServerTemplateId());
+    }
+
+    public void onContainerSpecUpdated(@Observes ContainerSpecUpdated containerSpecUpdated) {
+        // a container may be referenced by its alias as well, so drop everything cached for the server template
+        clear(containerSpecUpdated.getServerTemplate().getId());
+    }
+
+    protected void clear(String serverTemplateId) {
+        String prefix = serverTemplateId + "@";
+        synchronized (forms) {
+            forms.keySet().removeIf(key -> key.startsWith(prefix));
+        }
+    }
+
+    public static class RenderedForm {
+
+        private final byte[] content;
+
+        private final String etag;
+
+        private volatile byte[] gzippedContent;
+
+        public RenderedForm(String content) {
+            this.content = content.getBytes(StandardCharsets.UTF_8);
+            this.etag = "\"" + digest(this.content) + "\"";
+        }
+
+        public byte[] getContent() {
+            return content;
+        }
+
+        public String getETag() {
+            return etag;
+        }
+
+        public byte[] getGzippedContent() {
+            if (gzippedContent == null) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 4 + 64);
+                try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                    gzip.write(content);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                gzippedContent = out.toByteArray();
+            }
+            return gzippedContent;
+        }
+
+        private static String digest(byte[] content) {
+            try {
+                StringBuilder hex = new StringBuilder();
+                for (byte b : MessageDigest.getInstance("SHA-1").digest(content)) {
+                    hex.append(String.format("%02x",
+                                             b));
+                }
+                return hex.toString();
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,370 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.forms.display.backend.provider;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.errai.security.shared.api.identity.User;
+import org.jbpm.workbench.ks.integration.KieServerBulkExecutor;
+import org.kie.workbench.common.forms.fields.shared.fieldTypes.basic.lists.selector.AbstractMultipleSelectorFieldDefinition;
+import org.kie.workbench.common.forms.fields.shared.fieldTypes.basic.lists.selector.MultipleSelectorFieldType;
+import org.kie.workbench.common.forms.fields.shared.fieldTypes.basic.selectors.DefaultSelectorOption;
+import org.kie.workbench.common.forms.fields.shared.fieldTypes.basic.selectors.SelectorFieldBaseDefinition;
+import org.kie.workbench.common.forms.fields.shared.fieldTypes.basic.selectors.listBox.type.ListBoxFieldType;
+import org.kie.workbench.common.forms.fields.shared.fieldTypes.basic.selectors.radioGroup.type.RadioGroupFieldType;
+import org.kie.workbench.common.forms.model.FieldDefinition;
+import org.kie.workbench.common.forms.model.FieldType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.prodaxis.solar.udm.ModelFactory;
+import com.prodaxis.solar.util.BusinessComponentScriptHelper;
+import com.prodaxis.solar.util.IProcessInstanceData;
+import com.prodaxis.solar.xtc.model.IObjectModel;
+
+/**
+ * Loads the data of form fields bound to a business component script (<code>methodClassMappingParteor</code>).
+ * Fields are evaluated concurrently once all their scripts are known not to update process variables, in the
+ * order of the form otherwise. The outcome of a script is kept for {@link #DYNAMIC_DATA_TTL} ms, for the user
+ * and the process variables it read while running.
+ */
+@ApplicationScoped
+public class DynamicFieldDataLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(DynamicFieldDataLoader.class);
+
+    public static final String DYNAMIC_DATA_TTL = "org.jbpm.wb.forms.dynamic.data.ttl";
+
+    protected static final int MAX_CACHED_VARIANTS = 50;
+
+    private long ttl = Long.getLong(DYNAMIC_DATA_TTL,
+                                    60000);
+
+    private final Map<String, List<CachedFieldData>> cache = new ConcurrentHashMap<>();
+
+    // scripts that ran without updating process variables, only those are run concurrently
+    private final Set<String> readOnlyScripts = ConcurrentHashMap.newKeySet();
+
+    private KieServerBulkExecutor bulkExecutor;
+
+    private User identity;
+
+    public DynamicFieldDataLoader() {
+    }
+
+    @Inject
+    public DynamicFieldDataLoader(KieServerBulkExecutor bulkExecutor,
+                                  User identity) {
+        this.bulkExecutor = bulkExecutor;
+        this.identity = identity;
+    }
+
+    public static boolean isDynamic(FieldDefinition field) {
+        String methodClassMapping = field.getMethodClassMappingParteor();
+        return null != methodClassMapping && methodClassMapping.contains("#");
+    }
+
+    public void loadDynamicData(List<FieldDefinition> fields,
+                                IProcessInstanceData processInstanceData) {
+        List<FieldDefinition> dynamicFields = fields.stream()
+                .filter(DynamicFieldDataLoader::isDynamic)
+                .collect(Collectors.toList());
+        if (dynamicFields.isEmpty()) {
+            return;
+        }
+
+        // the identity is request scoped, it's read here as the fields may be loaded on other threads
+        String userId = getUserId();
+        List<FieldData> results;
+        if (bulkExecutor == null || dynamicFields.size() == 1 || !areReadOnly(dynamicFields)) {
+            results = dynamicFields.stream()
+                    .map(field -> getFieldData(field,
+                                               userId,
+                                               processInstanceData))
+                    .collect(Collectors.toList());
+        } else {
+            results = bulkExecutor.invokeAll(dynamicFields,
+                                             field -> getFieldData(field,
+                                                                   userId,
+                                                                   processInstanceData));
+        }
+
+        for (int i = 0; i < dynamicFields.size(); i++) {
+            if (results.get(i) != null) {
+                results.get(i).applyTo(dynamicFields.get(i));
+            }
+        }
+    }
+
+    public void clear() {
+        cache.clear();
+        readOnlyScripts.clear();
+    }
+
+    protected boolean areReadOnly(List<FieldDefinition> fields) {
+        return fields.stream()
+                .allMatch(field -> readOnlyScripts.contains(field.getMethodClassMappingParteor()));
+    }
+
+    protected FieldData getFieldData(FieldDefinition field,
+                                     String userId,
+                                     IProcessInstanceData processInstanceData) {
+        String key = getCacheKey(field,
+                                 userId);
+        FieldData cached = getCachedFieldData(key,
+                                              processInstanceData);
+        if (cached != null) {
+            return cached;
+        }
+
+        try {
+            RecordingProcessInstanceData recordingData = new RecordingProcessInstanceData(processInstanceData);
+            Object resultReturn = executeScript(field.getMethodClassMappingParteor(),
+                                                recordingData);
+            FieldData fieldData = buildFieldData(field,
+                                                 resultReturn);
+            if (recordingData.isUpdated()) {
+                readOnlyScripts.remove(field.getMethodClassMappingParteor());
+            } else {
+                readOnlyScripts.add(field.getMethodClassMappingParteor());
+            }
+            // scripts updating process variables have side effects and errors must be retried, neither is kept
+            if (ttl > 0 && !recordingData.isUpdated() && fieldData.asyncErrorKey == null) {
+                putCachedFieldData(key,
+                                   new CachedFieldData(recordingData.getReadVariables(),
+                                                       fieldData,
+                                                       System.currentTimeMillis() + ttl));
+            }
+            return fieldData;
+        } catch (Exception e) {
+            logger.error("Error load dynamic data initial : " + e.getMessage());
+        }
+        return null;
+    }
+
+    protected Object executeScript(String methodClassMapping,
+                                   IProcessInstanceData processInstanceData) throws Exception {
+        return BusinessComponentScriptHelper.getInstance().executionBusinessComponentScript(processInstanceData,
+                                                                                            methodClassMapping,
+                                                                                            null);
+    }
+
+    protected FieldData buildFieldData(FieldDefinition field,
+                                       Object resultReturn) {
+        FieldData fieldData = new FieldData();
+        String keyMapping = field.getKeyMappingParteor();
+        String valueMapping = field.getValueMappingParteor();
+        if (field.isDoLoadInitialData() && null != resultReturn) {
+            if (null != keyMapping && keyMapping.contains("#")) { // return is collection or object
+                String keyAttribut = keyMapping.split("#")[1];
+                FieldType fieldType = field.getFieldType();
+                if (resultReturn instanceof Collection) {
+                    Collection results = (Collection) resultReturn;
+                    if (MultipleSelectorFieldType.NAME.equals(fieldType.getTypeName())) {
+                        fieldData.listOfValues = new ArrayList<>();
+                        for (Object result : results) {
+                            IObjectModel resultModel = ModelFactory.getInstance().createObjectModel("TmpModel", result);
+                            fieldData.listOfValues.add(resultModel.getAttribute(keyAttribut).get());
+                        }
+                    } else if (ListBoxFieldType.NAME.equals(fieldType.getTypeName()) || RadioGroupFieldType.NAME.equals(fieldType.getTypeName()) || "ComboBox".equals(fieldType.getTypeName())) {
+                        String valueAttribut = null != valueMapping && valueMapping.contains("#") ? valueMapping.split("#")[1] : null;
+                        fieldData.options = new ArrayList<>();
+                        for (Object result : results) {
+                            IObjectModel resultModel = ModelFactory.getInstance().createObjectModel("TmpModel", result);
+                            Object keyValue = resultModel.getAttribute(keyAttribut).get();
+                            String text = keyValue + "";
+                            if (valueAttribut != null && !keyAttribut.equals(valueAttribut)) {
+                                Object value = resultModel.getAttribute(valueAttribut).get();
+                                text += (null == value) ? "" : (" : " + value.toString());
+                            }
+                            fieldData.options.add(new DefaultSelectorOption(keyValue, text));
+                        }
+                    }
+                } else if (!resultReturn.getClass().getName().startsWith("java.lang")) { // return object
+                    IObjectModel resultModel = ModelFactory.getInstance().createObjectModel("TmpModel", resultReturn);
+                    Object keyValue = resultModel.getAttribute(keyAttribut).get();
+                    fieldData.dataInitialLoaded = keyValue + "";
+                }
+            } else {
+                fieldData.dataInitialLoaded = resultReturn + "";
+            }
+        }
+        if (resultReturn != null && resultReturn.toString().startsWith("ERROR")) {
+            fieldData.asyncErrorKey = resultReturn.toString();
+            fieldData.dataInitialLoaded = resultReturn.toString();
+        }
+        return fieldData;
+    }
+
+    protected String getCacheKey(FieldDefinition field,
+                                 String userId) {
+        // scripts may look data up on behalf of the user, their outcome is never shared between users
+        return userId + "|" + field.getMethodClassMappingParteor() + "|" + field.getKeyMappingParteor() + "|" + field.getValueMappingParteor()
+                + "|" + field.getFieldType().getTypeName() + "|" + field.isDoLoadInitialData();
+    }
+
+    protected FieldData getCachedFieldData(String key,
+                                           IProcessInstanceData processInstanceData) {
+        List<CachedFieldData> variants = cache.get(key);
+        if (ttl <= 0 || variants == null) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        synchronized (variants) {
+            for (Iterator<CachedFieldData> it = variants.iterator(); it.hasNext(); ) {
+                CachedFieldData variant = it.next();
+                if (variant.expiresAt < now) {
+                    it.remove();
+                } else if (variant.matches(processInstanceData)) {
+                    return variant.fieldData;
+                }
+            }
+        }
+        return null;
+    }
+
+    protected void putCachedFieldData(String key,
+                                      CachedFieldData cachedFieldData) {
+        List<CachedFieldData> variants = cache.computeIfAbsent(key,
+                                                               k -> new LinkedList<>());
+        synchronized (variants) {
+            variants.add(0,
+                         cachedFieldData);
+            if (variants.size() > MAX_CACHED_VARIANTS) {
+                variants.remove(variants.size() - 1);
+            }
+        }
+    }
+
+    protected String getUserId() {
+        return identity == null ? "" : identity.getIdentifier();
+    }
+
+    /*
+     * For test purpose only
+     */
+    protected void setTtl(long ttl) {
+        this.ttl = ttl;
+    }
+
+    /**
+     * The outcome of a script for a field, shared by all the renders it's cached for.
+     */
+    protected static class FieldData {
+
+        private List<Object> listOfValues;
+        private List<DefaultSelectorOption> options;
+        private String dataInitialLoaded;
+        private String asyncErrorKey;
+
+        @SuppressWarnings("unchecked")
+        protected void applyTo(FieldDefinition field) {
+            if (listOfValues != null) {
+                ((AbstractMultipleSelectorFieldDefinition) field).getListOfValues().addAll(listOfValues);
+            }
+            if (options != null) {
+                ((SelectorFieldBaseDefinition) field).getOptions().addAll(options);
+            }
+            if (dataInitialLoaded != null) {
+                field.setDataInitialLoaded(dataInitialLoaded);
+            }
+            if (asyncErrorKey != null) {
+                field.setAsyncErrorKey(asyncErrorKey);
+            }
+        }
+    }
+
+    protected static class CachedFieldData {
+
+        private final Map<String, Object> readVariables;
+        private final FieldData fieldData;
+        private final long expiresAt;
+
+        protected CachedFieldData(Map<String, Object> readVariables,
+                                  FieldData fieldData,
+                                  long expiresAt) {
+            this.readVariables = readVariables;
+            this.fieldData = fieldData;
+            this.expiresAt = expiresAt;
+        }
+
+        protected boolean matches(IProcessInstanceData processInstanceData) {
+            return readVariables.entrySet().stream()
+                    .allMatch(variable -> Objects.equals(variable.getValue(),
+                                                         processInstanceData.getProcessVariable(variable.getKey())));
+        }
+    }
+
+    /**
+     * Keeps track of the process variables a script reads, so its outcome is only reused when they're unchanged.
+     */
+    protected static class RecordingProcessInstanceData implements IProcessInstanceData {
+
+        private final IProcessInstanceData delegate;
+        private final Map<String, Object> readVariables = Collections.synchronizedMap(new LinkedHashMap<>());
+        private volatile boolean updated;
+
+        protected RecordingProcessInstanceData(IProcessInstanceData delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Object getProcessVariable(String name) {
+            Object value = delegate.getProcessVariable(name);
+            readVariables.put(name,
+                              value);
+            return value;
+        }
+
+        @Override
+        public void updateProcessVariable(String name,
+                                          Object value) {
+            updated = true;
+            delegate.updateProcessVariable(name,
+                                           value);
+        }
+
+        @Override
+        public Object convertBPMNObject(String variableName,
+                                        Object objectValue) {
+            return delegate.convertBPMNObject(variableName,
+                                              objectValue);
+        }
+
+        protected Map<String, Object> getReadVariables() {
+            return new LinkedHashMap<>(readVariables);
+        }
+
+        protected boolean isUpdated() {
+            return updated;
+        }
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.forms.display.backend.provider;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jbpm.workbench.forms.display.api.FormRenderingContextExpiredException;
+import org.kie.workbench.common.forms.dynamic.service.context.generation.dynamic.BackendFormRenderingContext;
+import org.kie.workbench.common.forms.dynamic.service.context.generation.dynamic.BackendFormRenderingContextManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps track of the {@link BackendFormRenderingContext} registered for every rendered form. Contexts are only needed
+ * again when the form is submitted, so the store is bounded by {@link #MAX_CONTEXTS} and {@link #IDLE_TIMEOUT}: the
+ * least recently used contexts are removed from the {@link BackendFormRenderingContextManager} and submitting them
+ * fails with a {@link FormRenderingContextExpiredException}.
+ */
+@ApplicationScoped
+public class FormRenderingContextStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(FormRenderingContextStore.class);
+
+    public static final String MAX_CONTEXTS = "org.jbpm.wb.forms.context.max";
+
+    public static final String IDLE_TIMEOUT = "org.jbpm.wb.forms.context.idle.timeout";
+
+    private int maxContexts = Integer.getInteger(MAX_CONTEXTS,
+                                                 1000);
+
+    private long idleTimeout = Long.getLong(IDLE_TIMEOUT,
+                                            TimeUnit.MINUTES.toMillis(30));
+
+    // access ordered, the eldest entry is always the least recently used context
+    private final LinkedHashMap<Long, ContextEntry> entries = new LinkedHashMap<>(16,
+                                                                                  0.75f,
+                                                                                  true);
+
+    private final AtomicLong evictedContexts = new AtomicLong();
+
+    private final AtomicLong expiredSubmissions = new AtomicLong();
+
+    private long retainedBytes;
+
+    private BackendFormRenderingContextManager contextManager;
+
+    public FormRenderingContextStore() {
+    }
+
+    @Inject
+    public FormRenderingContextStore(BackendFormRenderingContextManager contextManager) {
+        this.contextManager = contextManager;
+    }
+
+    public void register(BackendFormRenderingContext context,
+                         long estimatedBytes) {
+        List<Long> evicted;
+        synchronized (this) {
+            ContextEntry previous = entries.put(context.getTimestamp(),
+                                                new ContextEntry(estimatedBytes,
+                                                                 System.currentTimeMillis()));
+            if (previous != null) {
+                retainedBytes -= previous.bytes;
+            }
+            retainedBytes += estimatedBytes;
+            evicted = evict();
+        }
+        removeContexts(evicted);
+    }
+
+    public BackendFormRenderingContext getContext(long timestamp) {
+        List<Long> evicted;
+        boolean expired;
+        synchronized (this) {
+            evicted = evict();
+            ContextEntry entry = entries.get(timestamp);
+            expired = entry == null;
+            if (!expired) {
+                entry.lastAccess = System.currentTimeMillis();
+            }
+        }
+        removeContexts(evicted);
+
+        BackendFormRenderingContext context = expired ? null : contextManager.getContext(timestamp);
+        if (context == null) {
+            remove(timestamp);
+            expiredSubmissions.incrementAndGet();
+            logger.warn("Rendering context {} is no longer available, the form has to be reloaded",
+                        timestamp);
+            throw new FormRenderingContextExpiredException("The form has expired, please reload it");
+        }
+        return context;
+    }
+
+    public void removeContext(long timestamp) {
+        remove(timestamp);
+        contextManager.removeContext(timestamp);
+    }
+
+    public synchronized int getLiveContexts() {
+        return entries.size();
+    }
+
+    public synchronized long getRetainedBytes() {
+        return retainedBytes;
+    }
+
+    public long getEvictedContexts() {
+        return evictedContexts.get();
+    }
+
+    public long getExpiredSubmissions() {
+        return expiredSubmissions.get();
+    }
+
+    protected synchronized void remove(long timestamp) {
+        ContextEntry entry = entries.remove(timestamp);
+        if (entry != null) {
+            retainedBytes -= entry.bytes;
+        }
+    }
+
+    private List<Long> evict() {
+        long idleSince = System.currentTimeMillis() - idleTimeout;
+        List<Long> evicted = Collections.emptyList();
+        Iterator<Map.Entry<Long, ContextEntry>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Long, ContextEntry> eldest = it.next();
+            if (entries.size() <= maxContexts && eldest.getValue().lastAccess >= idleSince) {
+                break;
+            }
+            if (evicted.isEmpty()) {
+                evicted = new ArrayList<>();
+            }
+            evicted.add(eldest.getKey());
+            retainedBytes -= eldest.getValue().bytes;
+            it.remove();
+        }
+        return evicted;
+    }
+
+    private void removeContexts(List<Long> timestamps) {
+        if (timestamps.isEmpty()) {
+            return;
+        }
+        timestamps.forEach(contextManager::removeContext);
+        evictedContexts.addAndGet(timestamps.size());
+        logger.debug("Evicted {} rendering contexts, {} contexts alive retaining ~{} bytes",
+                     timestamps.size(),
+                     getLiveContexts(),
+                     getRetainedBytes());
+    }
+
+    /**
+     * Rough estimation of the heap retained by the given value: strings, numbers, collections, maps and arrays are
+     * walked, any other object is accounted with a fixed size.
+     */
+    public static long estimateSize(Object value) {
+        return estimateSize(value,
+                            Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+
+    private static long estimateSize(Object value,
+                                     Set<Object> visited) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof String) {
+            return 40 + 2L * ((String) value).length();
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+            return 16;
+        }
+        if (!visited.add(value)) {
+            return 0;
+        }
+        if (value instanceof Map) {
+            long size = 48;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                size += 32 + estimateSize(entry.getKey(),
+                                          visited) + estimateSize(entry.getValue(),
+                                                                  visited);
+            }
+            return size;
+        }
+        if (value instanceof Collection) {
+            long size = 40;
+            for (Object element : (Collection<?>) value) {
+                size += 8 + estimateSize(element,
+                                         visited);
+            }
+            return size;
+        }
+        if (value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            if (value.getClass().getComponentType().isPrimitive()) {
+                return 16 + 8L * length;
+            }
+            long size = 16;
+            for (int i = 0; i < length; i++) {
+                size += 8 + estimateSize(Array.get(value,
+                                                   i),
+                                         visited);
+            }
+            return size;
+        }
+        return 64;
+    }
+
+    protected void setMaxContexts(int maxContexts) {
+        this.maxContexts = maxContexts;
+    }
+
+    protected void setIdleTimeout(long idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    private static class ContextEntry {
+
+        private final long bytes;
+
+        private long lastAccess;
+
+        ContextEntry(long bytes,
+                     long lastAccess) {
+            this.bytes = bytes;
+            this.lastAccess = lastAccess;
+        }
+    }
+}
@@ -16,15 +16,21 @@
 
 package org.jbpm.workbench.forms.display.backend.provider;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import javax.inject.Inject;
+
 import org.apache.commons.beanutils.BeanUtils;
+import org.apache.commons.beanutils.PropertyUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.jbpm.workbench.forms.display.api.KieWorkbenchFormRenderingSettings;
 import org.jbpm.workbench.forms.service.providing.RenderingSettings;
@@ -32,15 +38,10 @@ import org.kie.workbench.common.forms.dynamic.service.context.generation.dynamic
 import org.kie.workbench.common.forms.dynamic.service.context.generation.dynamic.BackendFormRenderingContextManager;
 import org.kie.workbench.common.forms.dynamic.service.shared.impl.MapModelRenderingContext;
 import org.kie.workbench.common.forms.fields.shared.fieldTypes.basic.lists.selector.AbstractMultipleSelectorFieldDefinition;
-import org.kie.workbench.common.forms.fields.shared.fieldTypes.basic.lists.selector.MultipleSelectorFieldType;
-import org.kie.workbench.common.forms.fields.shared.fieldTypes.basic.selectors.DefaultSelectorOption;
 import org.kie.workbench.common.forms.fields.shared.fieldTypes.basic.selectors.SelectorFieldBaseDefinition;
-import org.kie.workbench.common.forms.fields.shared.fieldTypes.basic.selectors.listBox.type.ListBoxFieldType;
-import org.kie.workbench.common.forms.fields.shared.fieldTypes.basic.selectors.radioGroup.type.RadioGroupFieldType;
 import org.kie.workbench.common.forms.jbpm.service.bpmn.DynamicBPMNFormGenerator;
 import org.kie.workbench.common.forms.jbpm.service.bpmn.util.BPMNVariableUtils;
 import org.kie.workbench.common.forms.model.FieldDefinition;
-import org.kie.workbench.common.forms.model.FieldType;
 import org.kie.workbench.common.forms.model.FormDefinition;
 import org.kie.workbench.common.forms.services.backend.serialization.FormDefinitionSerializer;
 import org.slf4j.Logger;
@@ -49,24 +50,38 @@ import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParser;
-import com.prodaxis.solar.udm.ModelFactory;
-import com.prodaxis.solar.util.BusinessComponentScriptHelper;
 import com.prodaxis.solar.util.IProcessInstanceData;
-import com.prodaxis.solar.xtc.model.IObjectModel;
 
-public abstract class KieWorkbenchFormsValuesProcessor<T extends RenderingSettings> implements IProcessInstanceData {
+public abstract class KieWorkbenchFormsValuesProcessor<T extends RenderingSettings> {
 
     public static final String SERVER_TEMPLATE_ID = "serverTemplateId";
 
     public static final String SETTINGS_ATRA_NAME = "_rendering_settings";
 
+    public static final String FORM_TEMPLATES_CACHE_SIZE = "org.jbpm.wb.forms.templates.cache.size";
+
     protected FormDefinitionSerializer formSerializer;
 
     protected BackendFormRenderingContextManager contextManager;
 
     protected DynamicBPMNFormGenerator dynamicBPMNFormGenerator;
-    
-    Map processInstanceVariables;
+
+    protected DynamicFieldDataLoader dynamicFieldDataLoader = new DynamicFieldDataLoader();
+
+    protected FormRenderingContextStore contextStore;
+
+    private final int formTemplatesCacheSize = Integer.getInteger(FORM_TEMPLATES_CACHE_SIZE,
+                                                                  100);
+
+    // parsed forms by content hash, bounded so redeployed form versions don't pile up
+    private final Map<String, List<FormTemplate>> formTemplates = Collections.synchronizedMap(new LinkedHashMap<String, List<FormTemplate>>(16,
+                                                                                                                                         0.75f,
+                                                                                                                                         true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, List<FormTemplate>> eldest) {
+            return size() > formTemplatesCacheSize;
+        }
+    });
 
     public KieWorkbenchFormsValuesProcessor(FormDefinitionSerializer formSerializer,
                                             BackendFormRenderingContextManager contextManager,
@@ -74,6 +89,17 @@ public abstract class KieWorkbenchFormsValuesProcessor<T extends RenderingSettin
         this.formSerializer = formSerializer;
         this.contextManager = contextManager;
         this.dynamicBPMNFormGenerator = dynamicBPMNFormGenerator;
+        this.contextStore = new FormRenderingContextStore(contextManager);
+    }
+
+    @Inject
+    public void setDynamicFieldDataLoader(DynamicFieldDataLoader dynamicFieldDataLoader) {
+        this.dynamicFieldDataLoader = dynamicFieldDataLoader;
+    }
+
+    @Inject
+    public void setContextStore(FormRenderingContextStore contextStore) {
+        this.contextStore = contextStore;
     }
 
     public KieWorkbenchFormRenderingSettings generateRenderingContext(T settings) {
@@ -104,6 +130,10 @@ public abstract class KieWorkbenchFormsValuesProcessor<T extends RenderingSettin
                                                                                      params,
                                                                                      forms.getNestedForms().toArray(new FormDefinition[forms.getNestedForms().size()]));
 
+                contextStore.register(context,
+                                      estimateContextSize(settings,
+                                                          rawData));
+
                 prepareContext(settings,
                                context);
 
@@ -126,110 +156,90 @@ public abstract class KieWorkbenchFormsValuesProcessor<T extends RenderingSettin
     public Map<String, Object> generateRuntimeValuesMap(long timestamp,
                                                         Map<String, Object> formValues) {
 
-        BackendFormRenderingContext context = contextManager.getContext(timestamp);
+        BackendFormRenderingContext context = contextStore.getContext(timestamp);
 
-        if (context != null) {
-            FormDefinition form = context.getRenderingContext().getRootForm();
+        FormDefinition form = context.getRenderingContext().getRootForm();
 
-            if (isValid(form)) {
-                Map<String, Object> formData = contextManager.updateContextData(timestamp,
-                                                                                formValues).getFormData();
-                return getOutputValues(formData, form, (T) context.getAttributes().get(SETTINGS_ATRA_NAME));
-            }
+        if (isValid(form)) {
+            Map<String, Object> formData = contextManager.updateContextData(timestamp,
+                                                                            formValues).getFormData();
+            return getOutputValues(formData, form, (T) context.getAttributes().get(SETTINGS_ATRA_NAME));
         }
         return Collections.emptyMap();
     }
 
+    protected long estimateContextSize(T settings,
+                                       Map<String, Object> rawData) {
+        long formContentSize = settings.getFormContent() == null ? 0 : 2L * settings.getFormContent().length();
+        return formContentSize + FormRenderingContextStore.estimateSize(rawData) + FormRenderingContextStore.estimateSize(settings.getProcessInstanceVariables());
+    }
+
     protected ContextForms parseForms(T settings) {
         ContextForms result = new ContextForms();
-        processInstanceVariables = settings.getProcessInstanceVariables();
-        JsonParser parser = new JsonParser();
-        Gson gson = new Gson();
-        JsonElement element = parser.parse(settings.getFormContent());
-
-        JsonArray forms = element.getAsJsonArray();
-		forms.forEach(jsonForm -> {
-			String content = gson.toJson(jsonForm);
-			if (!StringUtils.isEmpty(content)) {
-				FormDefinition formDefinition = formSerializer.deserialize(content);
-				if (formDefinition != null) {
+        List<FieldDefinition> dynamicFields = new ArrayList<>();
+		getFormTemplates(settings.getFormContent()).forEach(template -> {
+				FormDefinition formDefinition = template.newFormDefinition();
+				if (template.isDynamic()) {
 					// <Prodaxis> - Load dynamic data initial
-					List<FieldDefinition> fields = formDefinition.getFields();
-					if (null != fields) {
-						for (FieldDefinition field : fields) {
-							try {
-								field.setDataInitialLoaded(null);
-								String fieldBinding = field.getBinding();
-								String methodClassMapping = field.getMethodClassMappingParteor();
-								if (null != methodClassMapping && methodClassMapping.contains("#")) {
-									String keyMapping = field.getKeyMappingParteor();
-									String valueMapping = field.getValueMappingParteor();
-									Object resultReturn = BusinessComponentScriptHelper.getInstance().executionBusinessComponentScript(this, methodClassMapping, null);
-									if (field.isDoLoadInitialData() && null != resultReturn) {
-										if(null != keyMapping && keyMapping.contains("#")){ // return is collection or object
-											String[] componentClassKey = keyMapping.split("#");
-											String keyAttribut = componentClassKey[1];
-											FieldType fieldType = field.getFieldType();
-											if (null != resultReturn) {
-												if (resultReturn instanceof Collection) {
-													Collection results = (Collection) resultReturn;
-													Iterator it = results.iterator();
-													if (MultipleSelectorFieldType.NAME.equals(fieldType.getTypeName())) {
-														AbstractMultipleSelectorFieldDefinition multipleSelectorField = (AbstractMultipleSelectorFieldDefinition) field;
-														while (it.hasNext()) {
-															IObjectModel resultModel = ModelFactory.getInstance().createObjectModel("TmpModel", it.next());
-															multipleSelectorField.getListOfValues().add(resultModel.getAttribute(keyAttribut).get());
-														}
-													} else if (ListBoxFieldType.NAME.equals(fieldType.getTypeName()) || RadioGroupFieldType.NAME.equals(fieldType.getTypeName()) || "ComboBox".equals(fieldType.getTypeName())) {
-														SelectorFieldBaseDefinition selectorFieldBaseDefinition = (SelectorFieldBaseDefinition) field;
-														while (it.hasNext()) {
-															IObjectModel resultModel = ModelFactory.getInstance().createObjectModel("TmpModel", it.next());
-															Object keyValue = resultModel.getAttribute(keyAttribut).get();
-															String text = keyValue + "";
-															if (null != valueMapping && valueMapping.contains("#")) {
-																String[] valueMappings = valueMapping.split("#");
-																String valueAttribut = valueMappings[1];
-																if (!keyAttribut.equals(valueAttribut)) {
-																	Object value = resultModel.getAttribute(valueAttribut).get();
-																	text += (null == value) ? "" : (" : " + value.toString());
-																}
-															}
-															DefaultSelectorOption option = new DefaultSelectorOption(keyValue, text);
-															selectorFieldBaseDefinition.getOptions().add(option);
-														}
-													}
-												} else if (!resultReturn.getClass().getName().startsWith("java.lang")) { // return object
-													IObjectModel resultModel = ModelFactory.getInstance().createObjectModel("TmpModel", resultReturn);
-													Object keyValue = resultModel.getAttribute(keyAttribut).get();
-													field.setDataInitialLoaded(keyValue + "");
-												}
-											}
-										}else{
-											field.setDataInitialLoaded(resultReturn + "");
-										}
-									}
-									if(resultReturn!= null && resultReturn.toString().startsWith("ERROR")){
-										field.setAsyncErrorKey(resultReturn.toString());
-										field.setDataInitialLoaded(resultReturn.toString());
-									}
-								}
-							} catch (Exception e) {
-								getLogger().error("Error load dynamic data initial : " + e.getMessage());
-							}
-						}
-					}
+					dynamicFields.addAll(formDefinition.getFields());
 					// </Prodaxis>
-					if (formDefinition.getName().startsWith(getFormName(settings) + BPMNVariableUtils.TASK_FORM_SUFFIX)) {
-						result.setRootForm(formDefinition);
-					} else {
-						result.getNestedForms().add(formDefinition);
-					}
 				}
-			}
+				if (formDefinition.getName().startsWith(getFormName(settings) + BPMNVariableUtils.TASK_FORM_SUFFIX)) {
+					result.setRootForm(formDefinition);
+				} else {
+					result.getNestedForms().add(formDefinition);
+				}
 		});
+		// fields of all the forms are loaded at once, each render works on its own process variables
+		dynamicFieldDataLoader.loadDynamicData(dynamicFields,
+		                                       new RenderProcessInstanceData(settings.getProcessInstanceVariables()));
         return result;
     }
 
+    protected List<FormTemplate> getFormTemplates(String formContent) {
+        String contentHash = getContentHash(formContent);
+        List<FormTemplate> templates = formTemplates.get(contentHash);
+        if (templates == null) {
+            templates = parseFormTemplates(formContent);
+            formTemplates.put(contentHash,
+                              templates);
+        }
+        return templates;
+    }
+
+    protected List<FormTemplate> parseFormTemplates(String formContent) {
+        List<FormTemplate> templates = new ArrayList<>();
+        Gson gson = new Gson();
+        JsonElement element = new JsonParser().parse(formContent);
+
+        JsonArray forms = element.getAsJsonArray();
+        forms.forEach(jsonForm -> {
+            String content = gson.toJson(jsonForm);
+            if (!StringUtils.isEmpty(content)) {
+                FormDefinition formDefinition = formSerializer.deserialize(content);
+                if (formDefinition != null) {
+                    templates.add(new FormTemplate(content,
+                                                   formDefinition));
+                }
+            }
+        });
+        return templates;
+    }
+
+    protected String getContentHash(String content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hash = new StringBuilder();
+            for (byte b : digest) {
+                hash.append(String.format("%02x",
+                                          b));
+            }
+            return hash.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     protected ContextForms generateDefaultForms(T settings) {
         ContextForms result = new ContextForms();
 
@@ -270,6 +280,76 @@ public abstract class KieWorkbenchFormsValuesProcessor<T extends RenderingSettin
 
     protected abstract Logger getLogger();
 
+    /**
+     * A parsed form, shared between renders. Fields loading dynamic data are modified while rendering, so every render
+     * gets its own copy of them, the other fields are immutable and shared.
+     */
+    protected class FormTemplate {
+
+        private final String content;
+        private final FormDefinition formDefinition;
+        private final boolean dynamic;
+
+        public FormTemplate(String content,
+                            FormDefinition formDefinition) {
+            this.content = content;
+            this.formDefinition = formDefinition;
+            this.dynamic = formDefinition.getFields() != null && formDefinition.getFields().stream()
+                    .anyMatch(DynamicFieldDataLoader::isDynamic);
+            if (formDefinition.getFields() != null) {
+                // <Prodaxis> - initial data is only known once loaded while rendering
+                formDefinition.getFields().forEach(field -> field.setDataInitialLoaded(null));
+            }
+        }
+
+        public boolean isDynamic() {
+            return dynamic;
+        }
+
+        public FormDefinition newFormDefinition() {
+            return dynamic ? copyFormDefinition() : formDefinition;
+        }
+
+        protected FormDefinition copyFormDefinition() {
+            try {
+                FormDefinition copy = new FormDefinition(formDefinition.getModel());
+                copy.setId(formDefinition.getId());
+                copy.setName(formDefinition.getName());
+                copy.setLayoutTemplate(formDefinition.getLayoutTemplate());
+                for (FieldDefinition field : formDefinition.getFields()) {
+                    copy.getFields().add(DynamicFieldDataLoader.isDynamic(field) ? copyField(field) : field);
+                }
+                return copy;
+            } catch (Exception e) {
+                getLogger().warn("Unable to copy form '{}', parsing it again: {}",
+                                 formDefinition.getName(),
+                                 e.getMessage());
+                return formSerializer.deserialize(content);
+            }
+        }
+
+        // the data loading sets the initial value and the async error, and adds to the values and options lists
+        @SuppressWarnings("unchecked")
+        protected FieldDefinition copyField(FieldDefinition field) throws Exception {
+            FieldDefinition copy = field.getClass().newInstance();
+            PropertyUtils.copyProperties(copy,
+                                         field);
+            if (copy instanceof AbstractMultipleSelectorFieldDefinition) {
+                AbstractMultipleSelectorFieldDefinition selector = (AbstractMultipleSelectorFieldDefinition) copy;
+                if (selector.getListOfValues() != null) {
+                    selector.setListOfValues(new ArrayList<>(selector.getListOfValues()));
+                }
+            }
+            if (copy instanceof SelectorFieldBaseDefinition) {
+                SelectorFieldBaseDefinition selector = (SelectorFieldBaseDefinition) copy;
+                if (selector.getOptions() != null) {
+                    selector.setOptions(new ArrayList<>(selector.getOptions()));
+                }
+            }
+            return copy;
+        }
+    }
+
     protected class ContextForms {
 
         private FormDefinition rootForm;
@@ -288,21 +368,39 @@ public abstract class KieWorkbenchFormsValuesProcessor<T extends RenderingSettin
         }
     }
     
-    @Override
-	public Object getProcessVariable(String name) {
-    	if(null != processInstanceVariables)
-    		return processInstanceVariables.get(name);
-    	return null;
-	}
-
-	@Override
-	public void updateProcessVariable(String name, Object value) {
-		if(null != processInstanceVariables)
-			processInstanceVariables.put(name, value);
-	}
-
-	@Override
 	public Object convertBPMNObject(String variableName, Object objectValue) {
 		return null;
 	}
+
+    /**
+     * The process variables of a single render, as seen by the business component scripts of its dynamic fields.
+     */
+    protected class RenderProcessInstanceData implements IProcessInstanceData {
+
+        private final Map processInstanceVariables;
+
+        public RenderProcessInstanceData(Map processInstanceVariables) {
+            this.processInstanceVariables = processInstanceVariables;
+        }
+
+        @Override
+        public synchronized Object getProcessVariable(String name) {
+            if (null != processInstanceVariables) {
+                return processInstanceVariables.get(name);
+            }
+            return null;
+        }
+
+        @Override
+        public synchronized void updateProcessVariable(String name, Object value) {
+            if (null != processInstanceVariables) {
+                processInstanceVariables.put(name, value);
+            }
+        }
+
+        @Override
+        public Object convertBPMNObject(String variableName, Object objectValue) {
+            return KieWorkbenchFormsValuesProcessor.this.convertBPMNObject(variableName, objectValue);
+        }
+    }
 }
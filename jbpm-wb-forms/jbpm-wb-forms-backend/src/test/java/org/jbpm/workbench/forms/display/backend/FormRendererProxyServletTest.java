@@ -0,0 +1,79 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.forms.display.backend;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class FormRendererProxyServletTest {
+
+    private static final String ETAG = "\"5d41402abc4b2a76b9719d911017c592\"";
+
+    private FormRendererProxyServlet servlet;
+
+    @Before
+    public void init() {
+        servlet = new FormRendererProxyServlet();
+    }
+
+    @Test
+    public void testAcceptsGzip() {
+        assertTrue(acceptsGzip("gzip, deflate"));
+        assertTrue(acceptsGzip("deflate, GZIP;q=0.5"));
+        assertTrue(acceptsGzip("*"));
+        assertFalse(acceptsGzip(null));
+        assertFalse(acceptsGzip("deflate"));
+    }
+
+    @Test
+    public void testGzipRefusedWithZeroQuality() {
+        assertFalse(acceptsGzip("gzip;q=0"));
+        assertFalse(acceptsGzip("gzip; q=0.0, deflate"));
+        assertFalse(acceptsGzip("*;q=0"));
+        assertFalse(acceptsGzip("gzip;q=0, *"));
+        assertTrue(acceptsGzip("gzip;q=1, *;q=0"));
+    }
+
+    @Test
+    public void testMatchesETag() {
+        assertTrue(servlet.matchesETag(ETAG,
+                                       ETAG));
+        assertTrue(servlet.matchesETag("W/" + ETAG,
+                                       ETAG));
+        assertTrue(servlet.matchesETag("\"other\", W/" + ETAG,
+                                       ETAG));
+        assertTrue(servlet.matchesETag("*",
+                                       ETAG));
+        assertFalse(servlet.matchesETag(null,
+                                        ETAG));
+        assertFalse(servlet.matchesETag("\"other\", W/\"another\"",
+                                        ETAG));
+    }
+
+    private boolean acceptsGzip(String acceptEncoding) {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getHeader("Accept-Encoding")).thenReturn(acceptEncoding);
+        return servlet.acceptsGzip(request);
+    }
+}
@@ -20,6 +20,8 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import javax.enterprise.inject.Instance;
 import javax.ws.rs.core.Response;
@@ -37,6 +39,8 @@ import org.jbpm.workbench.forms.display.backend.provider.util.FormContentReader;
 import org.jbpm.workbench.forms.service.providing.FormProvider;
 import org.jbpm.workbench.forms.service.providing.ProcessRenderingSettings;
 import org.jbpm.workbench.forms.service.providing.TaskRenderingSettings;
+import org.jbpm.workbench.ks.integration.KieServerBulkExecutor;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -51,6 +55,8 @@ import org.kie.server.client.KieServicesClient;
 import org.kie.server.client.ProcessServicesClient;
 import org.kie.server.client.UIServicesClient;
 import org.kie.server.client.UserTaskServicesClient;
+import org.kie.server.controller.api.model.events.ServerTemplateUpdated;
+import org.kie.server.controller.api.model.spec.ServerTemplate;
 import org.kie.soup.project.datamodel.commons.util.RawMVELEvaluator;
 import org.kie.workbench.common.forms.data.modeller.service.ext.ModelReaderService;
 import org.kie.workbench.common.forms.data.modeller.service.impl.ext.dmo.runtime.RuntimeDMOModelReader;
@@ -128,6 +134,10 @@ public class FormServiceEntryPointImplTest {
 
     private String formContent;
 
+    private ExecutorService executorService;
+
+    private String containerRelease = "org.jbpm:invoices:1.0";
+
     @Before
     public void init() {
         SubFormFieldValueMarshaller subFormFieldValueMarshaller = new SubFormFieldValueMarshaller();
@@ -180,7 +190,9 @@ public class FormServiceEntryPointImplTest {
 
         when(instance.iterator()).then(result -> Arrays.asList(kieWorkbenchFormsProvider).iterator());
 
-        serviceEntryPoint = new FormServiceEntryPointImpl(instance, defaultProvider) {
+        executorService = Executors.newCachedThreadPool();
+
+        serviceEntryPoint = new FormServiceEntryPointImpl(instance, defaultProvider, new KieServerBulkExecutor(executorService)) {
 
             @Override
             protected <T> T getClient(String serverTemplateId,
@@ -207,6 +219,12 @@ public class FormServiceEntryPointImplTest {
                                                              String containerId) {
                 return kieServicesClient;
             }
+
+            @Override
+            protected String getContainerRelease(String serverTemplateId,
+                                                 String containerId) {
+                return containerRelease;
+            }
         };
 
         ProcessDefinition processDefinition = new ProcessDefinition();
@@ -241,6 +259,11 @@ public class FormServiceEntryPointImplTest {
                                                     anyBoolean())).thenReturn(taskInstance);
     }
 
+    @After
+    public void cleanup() {
+        executorService.shutdownNow();
+    }
+
     @Test
     public void testRenderProcessForm() {
 
@@ -474,6 +497,93 @@ public class FormServiceEntryPointImplTest {
         checkRenderingSettings(settings);
     }
     
+    @Test
+    public void testRenderTaskFormCachesTaskDefinitions() {
+        formContent = FormContentReader.getTaskForms();
+
+        when(uiServicesClient.getTaskRawForm(anyString(),
+                                             anyLong())).thenReturn(formContent);
+
+        serviceEntryPoint.getFormDisplayTask("template",
+                                             "domain",
+                                             12);
+        FormRenderingSettings settings = serviceEntryPoint.getFormDisplayTask("template",
+                                                                              "domain",
+                                                                              12);
+
+        verify(userTaskServicesClient,
+               times(2)).getTaskInstance(anyString(),
+                                         anyLong(),
+                                         anyBoolean(),
+                                         anyBoolean(),
+                                         anyBoolean());
+        verify(processServicesClient).getUserTaskInputDefinitions(anyString(),
+                                                                  anyString(),
+                                                                  anyString());
+        verify(processServicesClient).getUserTaskOutputDefinitions(anyString(),
+                                                                   anyString(),
+                                                                   anyString());
+        verify(uiServicesClient).getTaskRawForm(anyString(),
+                                                anyLong());
+        verify(processServicesClient,
+               times(2)).getProcessInstanceVariables(anyString(),
+                                                     anyLong());
+
+        checkRenderingSettings(settings);
+    }
+
+    @Test
+    public void testServerTemplateUpdateClearsTaskDefinitions() {
+        formContent = FormContentReader.getTaskForms();
+
+        when(uiServicesClient.getTaskRawForm(anyString(),
+                                             anyLong())).thenReturn(formContent);
+
+        serviceEntryPoint.getFormDisplayTask("template",
+                                             "domain",
+                                             12);
+
+        ServerTemplate serverTemplate = new ServerTemplate();
+        serverTemplate.setId("template");
+        serviceEntryPoint.onServerTemplateUpdated(new ServerTemplateUpdated(serverTemplate));
+
+        serviceEntryPoint.getFormDisplayTask("template",
+                                             "domain",
+                                             12);
+
+        verify(processServicesClient,
+               times(2)).getUserTaskInputDefinitions(anyString(),
+                                                     anyString(),
+                                                     anyString());
+        verify(uiServicesClient,
+               times(2)).getTaskRawForm(anyString(),
+                                        anyLong());
+    }
+
+    @Test
+    public void testContainerReleaseChangeReloadsTaskDefinitions() {
+        formContent = FormContentReader.getTaskForms();
+
+        when(uiServicesClient.getTaskRawForm(anyString(),
+                                             anyLong())).thenReturn(formContent);
+
+        serviceEntryPoint.getFormDisplayTask("template",
+                                             "domain",
+                                             12);
+        containerRelease = "org.jbpm:invoices:1.1";
+        serviceEntryPoint.getFormDisplayTask("template",
+                                             "domain",
+                                             12);
+
+        verify(processServicesClient,
+               times(2)).getUserTaskInputDefinitions(anyString(),
+                                                     anyString(),
+                                                     anyString());
+        verify(uiServicesClient,
+               times(2)).getTaskRawForm(anyString(),
+                                        anyLong());
+    }
+
     @Test
     public void testKieServerRenderProcessForm() {
 
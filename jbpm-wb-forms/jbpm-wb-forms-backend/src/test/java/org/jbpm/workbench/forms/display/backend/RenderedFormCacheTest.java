@@ -0,0 +1,194 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.forms.display.backend;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import org.jbpm.workbench.forms.display.backend.RenderedFormCache.RenderedForm;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.server.controller.api.model.events.ServerTemplateDeleted;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class RenderedFormCacheTest {
+
+    private static final String FORM = "<form>\n<input name=\"name\"/>\n</form>";
+
+    private RenderedFormCache cache;
+
+    private AtomicInteger renders;
+
+    @Before
+    public void init() {
+        cache = new RenderedFormCache();
+        renders = new AtomicInteger();
+    }
+
+    @Test
+    public void testRenderedFormIsCached() {
+        RenderedForm first = render("template",
+                                    "process:evaluation");
+        RenderedForm second = render("template",
+                                     "process:evaluation");
+
+        assertSame(first,
+                   second);
+        assertEquals(1,
+                     renders.get());
+        assertEquals(FORM,
+                     new String(first.getContent(),
+                                StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testETagDependsOnContent() {
+        RenderedForm form = new RenderedForm(FORM);
+
+        assertEquals(form.getETag(),
+                     new RenderedForm(FORM).getETag());
+        assertNotEquals(form.getETag(),
+                        new RenderedForm(FORM + " ").getETag());
+    }
+
+    @Test
+    public void testGzippedContent() throws IOException {
+        RenderedForm form = new RenderedForm(FORM);
+
+        try (InputStream input = new GZIPInputStream(new ByteArrayInputStream(form.getGzippedContent()))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                out.write(buffer,
+                          0,
+                          read);
+            }
+            assertEquals(FORM,
+                         new String(out.toByteArray(),
+                                    StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void testMissingFormIsNotCached() {
+        assertNull(cache.getRenderedForm("template",
+                                         "katy",
+                                         "container",
+                                         "1.0",
+                                         "case:missing",
+                                         "renderer",
+                                         () -> null));
+        assertNull(cache.getRenderedForm("template",
+                                         "katy",
+                                         "container",
+                                         "1.0",
+                                         "case:missing",
+                                         "renderer",
+                                         () -> null));
+    }
+
+    @Test
+    public void testRenderedFormIsNotSharedBetweenUsers() {
+        render("template",
+               "katy",
+               "process:evaluation");
+        render("template",
+               "john",
+               "process:evaluation");
+
+        assertEquals(2,
+                     renders.get());
+    }
+
+    @Test
+    public void testFormIsRenderedAgainForNewRelease() {
+        RenderedForm first = render("template",
+                                    "katy",
+                                    "1.0",
+                                    "process:evaluation");
+        RenderedForm upgraded = render("template",
+                                       "katy",
+                                       "1.1",
+                                       "process:evaluation");
+
+        assertNotSame(first,
+                      upgraded);
+        assertEquals(2,
+                     renders.get());
+    }
+
+    @Test
+    public void testServerTemplateDeletedClearsForms() {
+        render("template",
+               "process:evaluation");
+        render("other",
+               "process:evaluation");
+
+        cache.onServerTemplateDeleted(new ServerTemplateDeleted("template"));
+
+        render("template",
+               "process:evaluation");
+        render("other",
+               "process:evaluation");
+
+        assertEquals(3,
+                     renders.get());
+    }
+
+    private RenderedForm render(String serverTemplateId,
+                                String definitionId) {
+        return render(serverTemplateId,
+                      "katy",
+                      definitionId);
+    }
+
+    private RenderedForm render(String serverTemplateId,
+                                String user,
+                                String definitionId) {
+        return render(serverTemplateId,
+                      user,
+                      "1.0",
+                      definitionId);
+    }
+
+    private RenderedForm render(String serverTemplateId,
+                                String user,
+                                String release,
+                                String definitionId) {
+        return cache.getRenderedForm(serverTemplateId,
+                                     user,
+                                     "container",
+                                     release,
+                                     definitionId,
+                                     "renderer",
+                                     () -> {
+                                         renders.incrementAndGet();
+                                         return FORM;
+                                     });
+    }
+}
@@ -48,11 +48,15 @@ import org.kie.workbench.common.forms.dynamic.backend.server.context.generation.
 import org.kie.workbench.common.forms.dynamic.backend.server.context.generation.dynamic.validation.impl.ContextModelConstraintsExtractorImpl;
 import org.kie.workbench.common.forms.dynamic.service.context.generation.dynamic.BackendFormRenderingContextManager;
 import org.kie.workbench.common.forms.dynamic.service.shared.impl.MapModelRenderingContext;
+import org.kie.workbench.common.forms.fields.shared.fieldTypes.basic.selectors.StringSelectorOption;
+import org.kie.workbench.common.forms.fields.shared.fieldTypes.basic.selectors.listBox.definition.StringListBoxFieldDefinition;
+import org.kie.workbench.common.forms.fields.shared.fieldTypes.basic.textBox.definition.TextBoxFieldDefinition;
 import org.kie.workbench.common.forms.fields.test.TestFieldManager;
 import org.kie.workbench.common.forms.fields.test.TestMetaDataEntryManager;
 import org.kie.workbench.common.forms.jbpm.server.service.formGeneration.impl.runtime.BPMNRuntimeFormGeneratorService;
 import org.kie.workbench.common.forms.jbpm.server.service.impl.DynamicBPMNFormGeneratorImpl;
 import org.kie.workbench.common.forms.jbpm.service.bpmn.DynamicBPMNFormGenerator;
+import org.kie.workbench.common.forms.model.FormDefinition;
 import org.kie.workbench.common.forms.services.backend.serialization.FormDefinitionSerializer;
 import org.kie.workbench.common.forms.services.backend.serialization.impl.FieldSerializer;
 import org.kie.workbench.common.forms.services.backend.serialization.impl.FormDefinitionSerializerImpl;
@@ -62,6 +66,8 @@ import org.mockito.Mock;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
@@ -159,6 +165,58 @@ public abstract class AbstractFormsValuesProcessorTest<PROCESSOR extends KieWork
         checkGeneratedContext();
     }
 
+    @Test
+    public void testParsedFormsAreReused() {
+        renderingSettings = getFullRenderingSettings();
+
+        KieWorkbenchFormRenderingSettings first = processor.generateRenderingContext(renderingSettings);
+        kieWorkbenchFormRenderingSettings = processor.generateRenderingContext(renderingSettings);
+
+        checkGeneratedContext();
+        assertSame(first.getRenderingContext().getRootForm(),
+                   kieWorkbenchFormRenderingSettings.getRenderingContext().getRootForm());
+    }
+
+    @Test
+    public void testDynamicFieldsAreCopied() {
+        TextBoxFieldDefinition staticField = new TextBoxFieldDefinition();
+        DynamicListBoxFieldDefinition dynamicField = new DynamicListBoxFieldDefinition();
+        dynamicField.getOptions().add(new StringSelectorOption("1",
+                                                               "one"));
+
+        FormDefinition form = new FormDefinition();
+        form.setId(INVOICE);
+        form.setName(INVOICE);
+        form.getFields().add(staticField);
+        form.getFields().add(dynamicField);
+
+        KieWorkbenchFormsValuesProcessor<SETTINGS> owner = processor;
+        KieWorkbenchFormsValuesProcessor<SETTINGS>.FormTemplate template = owner.new FormTemplate("",
+                                                                                                 form);
+        FormDefinition first = template.newFormDefinition();
+        FormDefinition second = template.newFormDefinition();
+
+        assertNotSame(first,
+                      second);
+        assertEquals(INVOICE,
+                     first.getName());
+        assertSame(staticField,
+                   first.getFields().get(0));
+        assertSame(staticField,
+                   second.getFields().get(0));
+
+        StringListBoxFieldDefinition firstCopy = (StringListBoxFieldDefinition) first.getFields().get(1);
+        StringListBoxFieldDefinition secondCopy = (StringListBoxFieldDefinition) second.getFields().get(1);
+        assertNotSame(dynamicField,
+                      firstCopy);
+        assertNotSame(firstCopy,
+                      secondCopy);
+        assertNotSame(firstCopy.getOptions(),
+                      secondCopy.getOptions());
+        assertEquals(dynamicField.getOptions(),
+                     firstCopy.getOptions());
+    }
+
     @Test
     public void testGenerateRenderingContextWithoutForms() {
 
@@ -292,4 +350,12 @@ public abstract class AbstractFormsValuesProcessorTest<PROCESSOR extends KieWork
     abstract PROCESSOR getProcessorInstance(FormDefinitionSerializer serializer,
                                             BackendFormRenderingContextManager backendFormRenderingContextManager,
                                             DynamicBPMNFormGenerator dynamicBPMNFormGenerator);
+
+    public static class DynamicListBoxFieldDefinition extends StringListBoxFieldDefinition {
+
+        @Override
+        public String getMethodClassMappingParteor() {
+            return "Component#method";
+        }
+    }
 }
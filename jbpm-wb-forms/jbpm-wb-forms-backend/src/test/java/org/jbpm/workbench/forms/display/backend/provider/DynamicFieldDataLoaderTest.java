@@ -0,0 +1,279 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.forms.display.backend.provider;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.jboss.errai.security.shared.api.identity.User;
+import org.jbpm.workbench.ks.integration.KieServerBulkExecutor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.workbench.common.forms.model.FieldDefinition;
+import org.kie.workbench.common.forms.model.FieldType;
+
+import com.prodaxis.solar.util.IProcessInstanceData;
+
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DynamicFieldDataLoaderTest {
+
+    private static final String MAPPING = "CountryComponent#getDefaultCountry";
+
+    private AtomicInteger executions;
+
+    private boolean updateVariable;
+
+    private DynamicFieldDataLoader loader;
+
+    private Map<String, Object> variables;
+
+    private ExecutorService executorService;
+
+    private KieServerBulkExecutor bulkExecutor;
+
+    private User identity;
+
+    @Before
+    public void init() {
+        executions = new AtomicInteger();
+        updateVariable = false;
+        variables = new HashMap<>();
+        variables.put("region",
+                      "EU");
+        executorService = Executors.newFixedThreadPool(2);
+        bulkExecutor = spy(new KieServerBulkExecutor(executorService));
+        identity = mock(User.class);
+        when(identity.getIdentifier()).thenReturn("katy");
+
+        loader = new DynamicFieldDataLoader(bulkExecutor,
+                                            identity) {
+            @Override
+            protected Object executeScript(String methodClassMapping,
+                                           IProcessInstanceData processInstanceData) {
+                executions.incrementAndGet();
+                if (updateVariable) {
+                    processInstanceData.updateProcessVariable("visited",
+                                                              true);
+                }
+                return "country-" + processInstanceData.getProcessVariable("region");
+            }
+        };
+    }
+
+    @After
+    public void shutdown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void testResultIsCachedForSameVariables() {
+        FieldDefinition first = newDynamicField();
+        FieldDefinition second = newDynamicField();
+
+        loader.loadDynamicData(singletonList(first),
+                               newProcessInstanceData());
+        loader.loadDynamicData(singletonList(second),
+                               newProcessInstanceData());
+
+        assertEquals(1,
+                     executions.get());
+        verify(first).setDataInitialLoaded("country-EU");
+        verify(second).setDataInitialLoaded("country-EU");
+    }
+
+    @Test
+    public void testResultIsReevaluatedWhenReadVariablesChange() {
+        loader.loadDynamicData(singletonList(newDynamicField()),
+                               newProcessInstanceData());
+
+        variables.put("region",
+                      "US");
+        FieldDefinition field = newDynamicField();
+        loader.loadDynamicData(singletonList(field),
+                               newProcessInstanceData());
+
+        assertEquals(2,
+                     executions.get());
+        verify(field).setDataInitialLoaded("country-US");
+    }
+
+    @Test
+    public void testScriptsUpdatingVariablesAreNotCached() {
+        updateVariable = true;
+
+        loader.loadDynamicData(singletonList(newDynamicField()),
+                               newProcessInstanceData());
+        loader.loadDynamicData(singletonList(newDynamicField()),
+                               newProcessInstanceData());
+
+        assertEquals(2,
+                     executions.get());
+        assertEquals(true,
+                     variables.get("visited"));
+    }
+
+    @Test
+    public void testResultIsNotSharedBetweenUsers() {
+        loader.loadDynamicData(singletonList(newDynamicField()),
+                               newProcessInstanceData());
+
+        when(identity.getIdentifier()).thenReturn("john");
+        loader.loadDynamicData(singletonList(newDynamicField()),
+                               newProcessInstanceData());
+
+        assertEquals(2,
+                     executions.get());
+    }
+
+    @Test
+    public void testScriptsRunConcurrentlyOnceKnownReadOnly() {
+        loader.loadDynamicData(Arrays.asList(newDynamicField(),
+                                             newDynamicField()),
+                               newProcessInstanceData());
+        verify(bulkExecutor,
+               never()).invokeAll(anyList(),
+                                  any(Function.class));
+
+        FieldDefinition field = newDynamicField();
+        loader.loadDynamicData(Arrays.asList(newDynamicField(),
+                                             field),
+                               newProcessInstanceData());
+
+        verify(bulkExecutor,
+               times(1)).invokeAll(anyList(),
+                                   any(Function.class));
+        verify(field).setDataInitialLoaded("country-EU");
+    }
+
+    @Test
+    public void testUserIsReadOnTheCallingThread() {
+        // like the request scoped identity, the user can only be read from the thread of the request
+        Thread requestThread = Thread.currentThread();
+        when(identity.getIdentifier()).thenAnswer(invocation -> {
+            if (Thread.currentThread() != requestThread) {
+                throw new IllegalStateException("No active contexts for scope type javax.enterprise.context.RequestScoped");
+            }
+            return "katy";
+        });
+
+        loader.loadDynamicData(Arrays.asList(newDynamicField(),
+                                             newDynamicField()),
+                               newProcessInstanceData());
+        FieldDefinition field = newDynamicField();
+        loader.loadDynamicData(Arrays.asList(newDynamicField(),
+                                             field),
+                               newProcessInstanceData());
+
+        verify(identity,
+               times(2)).getIdentifier();
+        verify(field).setDataInitialLoaded("country-EU");
+    }
+
+    @Test
+    public void testScriptsUpdatingVariablesRunSequentially() {
+        updateVariable = true;
+
+        loader.loadDynamicData(Arrays.asList(newDynamicField(),
+                                             newDynamicField()),
+                               newProcessInstanceData());
+        loader.loadDynamicData(Arrays.asList(newDynamicField(),
+                                             newDynamicField()),
+                               newProcessInstanceData());
+
+        assertEquals(4,
+                     executions.get());
+        verify(bulkExecutor,
+               never()).invokeAll(anyList(),
+                                  any(Function.class));
+    }
+
+    @Test
+    public void testCacheDisabled() {
+        loader.setTtl(0);
+
+        loader.loadDynamicData(singletonList(newDynamicField()),
+                               newProcessInstanceData());
+        loader.loadDynamicData(singletonList(newDynamicField()),
+                               newProcessInstanceData());
+
+        assertEquals(2,
+                     executions.get());
+    }
+
+    @Test
+    public void testStaticFieldsAreIgnored() {
+        FieldDefinition staticField = mock(FieldDefinition.class);
+
+        loader.loadDynamicData(Arrays.asList(staticField,
+                                             newDynamicField()),
+                               newProcessInstanceData());
+
+        assertEquals(1,
+                     executions.get());
+        verify(staticField,
+               never()).setDataInitialLoaded("country-EU");
+    }
+
+    private FieldDefinition newDynamicField() {
+        FieldType fieldType = mock(FieldType.class);
+        when(fieldType.getTypeName()).thenReturn("TextBox");
+
+        FieldDefinition field = mock(FieldDefinition.class);
+        when(field.getMethodClassMappingParteor()).thenReturn(MAPPING);
+        when(field.isDoLoadInitialData()).thenReturn(true);
+        when(field.getFieldType()).thenReturn(fieldType);
+        return field;
+    }
+
+    private IProcessInstanceData newProcessInstanceData() {
+        return new IProcessInstanceData() {
+            @Override
+            public Object getProcessVariable(String name) {
+                return variables.get(name);
+            }
+
+            @Override
+            public void updateProcessVariable(String name,
+                                              Object value) {
+                variables.put(name,
+                              value);
+            }
+
+            @Override
+            public Object convertBPMNObject(String variableName,
+                                            Object objectValue) {
+                return null;
+            }
+        };
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.forms.display.backend.provider;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jbpm.workbench.forms.display.api.FormRenderingContextExpiredException;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.forms.dynamic.service.context.generation.dynamic.BackendFormRenderingContext;
+import org.kie.workbench.common.forms.dynamic.service.context.generation.dynamic.BackendFormRenderingContextManager;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class FormRenderingContextStoreTest {
+
+    @Mock
+    private BackendFormRenderingContextManager contextManager;
+
+    private FormRenderingContextStore store;
+
+    @Before
+    public void init() {
+        store = new FormRenderingContextStore(contextManager);
+    }
+
+    @Test
+    public void testRegisterAndGetContext() {
+        BackendFormRenderingContext context = registerContext(1L,
+                                                              100);
+
+        assertSame(context,
+                   store.getContext(1L));
+        assertEquals(1,
+                     store.getLiveContexts());
+        assertEquals(100,
+                     store.getRetainedBytes());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedContextIsEvicted() {
+        store.setMaxContexts(2);
+
+        registerContext(1L,
+                        100);
+        registerContext(2L,
+                        100);
+        store.getContext(1L);
+        registerContext(3L,
+                        100);
+
+        verify(contextManager).removeContext(2L);
+        verify(contextManager,
+               never()).removeContext(1L);
+        assertEquals(2,
+                     store.getLiveContexts());
+        assertEquals(200,
+                     store.getRetainedBytes());
+        assertEquals(1,
+                     store.getEvictedContexts());
+
+        assertExpired(2L);
+    }
+
+    @Test
+    public void testIdleContextIsEvicted() {
+        store.setIdleTimeout(-1);
+
+        registerContext(1L,
+                        100);
+
+        verify(contextManager).removeContext(1L);
+        assertEquals(0,
+                     store.getLiveContexts());
+        assertEquals(0,
+                     store.getRetainedBytes());
+        assertExpired(1L);
+    }
+
+    @Test
+    public void testContextRemovedFromManagerIsExpired() {
+        registerContext(1L,
+                        100);
+        when(contextManager.getContext(1L)).thenReturn(null);
+
+        assertExpired(1L);
+        assertEquals(0,
+                     store.getLiveContexts());
+    }
+
+    @Test
+    public void testRemoveContext() {
+        registerContext(1L,
+                        100);
+
+        store.removeContext(1L);
+
+        verify(contextManager).removeContext(1L);
+        assertEquals(0,
+                     store.getLiveContexts());
+        assertEquals(0,
+                     store.getRetainedBytes());
+        assertExpired(1L);
+    }
+
+    @Test
+    public void testEstimateSize() {
+        Map<String, Object> data = new HashMap<>();
+        data.put("name",
+                 "John");
+        data.put("values",
+                 Arrays.asList(1,
+                               2,
+                               3));
+        data.put("self",
+                 data);
+
+        long size = FormRenderingContextStore.estimateSize(data);
+
+        assertTrue(size > FormRenderingContextStore.estimateSize("John"));
+        assertEquals(0,
+                     FormRenderingContextStore.estimateSize(null));
+    }
+
+    private BackendFormRenderingContext registerContext(long timestamp,
+                                                        long bytes) {
+        BackendFormRenderingContext context = mock(BackendFormRenderingContext.class);
+        when(context.getTimestamp()).thenReturn(timestamp);
+        when(contextManager.getContext(timestamp)).thenReturn(context);
+        store.register(context,
+                       bytes);
+        return context;
+    }
+
+    private void assertExpired(long timestamp) {
+        try {
+            store.getContext(timestamp);
+            fail("Context " + timestamp + " should have expired");
+        } catch (FormRenderingContextExpiredException ex) {
+            assertTrue(store.getExpiredSubmissions() > 0);
+        }
+    }
+}
@@ -18,7 +18,10 @@ package org.jbpm.workbench.forms.client.display;
 
 import com.google.gwt.user.client.ui.IsWidget;
 import com.google.gwt.user.client.ui.Panel;
+import org.jboss.errai.bus.client.api.messaging.Message;
+import org.jboss.errai.common.client.api.ErrorCallback;
 import org.jbpm.workbench.forms.display.FormDisplayerConfig;
+import org.jbpm.workbench.forms.display.api.FormRenderingContextExpiredException;
 import org.jbpm.workbench.forms.display.FormRenderingSettings;
 import org.jbpm.workbench.common.service.ItemKey;
 import org.uberfire.mvp.BiParameterizedCommand;
@@ -47,4 +50,24 @@ public interface GenericFormDisplayer<T extends ItemKey, S extends FormRendering
     boolean appendFooter();
     
     void runCallbackAfterValid(RunTypeEnum runType);
+
+    /**
+     * Called when the server no longer holds the rendering context of the form, the form has to be rendered again.
+     */
+    void onRenderContextExpired();
+
+    /**
+     * Error callback for the calls made with the rendering context of the form, an expired context reloads the form
+     * and any other error is handed to the given callback.
+     */
+    default ErrorCallback<Message> getRenderContextErrorCallback(ErrorCallback<Message> errorCallback) {
+        return (message, throwable) -> {
+            if (throwable instanceof FormRenderingContextExpiredException) {
+                onRenderContextExpired();
+                return false;
+            }
+            return errorCallback.error(message,
+                                       throwable);
+        };
+    }
 }
@@ -19,6 +19,7 @@ package org.jbpm.workbench.forms.client.display;
 import javax.enterprise.context.Dependent;
 import javax.inject.Inject;
 
+import org.jboss.errai.bus.client.api.messaging.Message;
 import org.jboss.errai.common.client.api.Caller;
 import org.jboss.errai.common.client.api.ErrorCallback;
 import org.jboss.errai.common.client.api.RemoteCallback;
@@ -69,7 +70,7 @@ public class KieWorkbenchFormsHumanTaskDisplayer extends AbstractHumanTaskFormDi
     protected void saveStateFromDisplayer() {
         if (formDisplayer.isValid()) {
             service.call(getSaveTaskStateCallback(),
-                         getUnexpectedErrorCallback()).saveTaskStateFromRenderContext(
+                         getRenderContextErrorCallback()).saveTaskStateFromRenderContext(
                     renderingSettings.getTimestamp(),
                     renderingSettings.getRenderingContext().getModel(),
                     serverTemplateId,
@@ -136,9 +137,13 @@ public class KieWorkbenchFormsHumanTaskDisplayer extends AbstractHumanTaskFormDi
     }
     
     private void completeTaskFromContext(){
-    	service.call(getCompleteTaskRemoteCallback(), getUnexpectedErrorCallback()).completeTaskFromContext(renderingSettings.getTimestamp(), renderingSettings.getRenderingContext().getModel(), serverTemplateId, deploymentId, taskId);
+    	service.call(getCompleteTaskRemoteCallback(), getRenderContextErrorCallback()).completeTaskFromContext(renderingSettings.getTimestamp(), renderingSettings.getRenderingContext().getModel(), serverTemplateId, deploymentId, taskId);
     }
     
+    protected ErrorCallback<Message> getRenderContextErrorCallback() {
+        return getRenderContextErrorCallback(getUnexpectedErrorCallback());
+    }
+
     private boolean isRootFormNeedValid(){
     	Object scriptFormValid = renderingSettings.getRenderingContext().getNodeRenderingSettingsMetaData().get("onValidationAction");
     	if(null != scriptFormValid && scriptFormValid.toString().trim().length() > 0){
@@ -69,7 +69,9 @@ public class KieWorkbenchFormsStartProcessDisplayer extends AbstractStartProcess
     @Override
     public void runCallbackAfterValid(RunTypeEnum runType) {
         if(runType == RunTypeEnum.START){
-            service.call(getStartProcessRemoteCallback()).startProcessFromRenderContext(
+            // other errors keep the default workbench handling
+            service.call(getStartProcessRemoteCallback(),
+                         getRenderContextErrorCallback((message, throwable) -> true)).startProcessFromRenderContext(
                     renderingSettings.getTimestamp(),
                     renderingSettings.getRenderingContext().getModel(),
                     serverTemplateId,
@@ -263,6 +263,12 @@ public abstract class AbstractStartProcessFormDisplayer<S extends FormRenderingS
         }
     }
 	
+    @Override
+    public void onRenderContextExpired() {
+        errorPopup.showMessage(constants.FormExpired());
+        refresh();
+    }
+
 	public void validationFailed(String header, String message) {
         if (this.onValidationFailed != null) {
             this.onValidationFailed.execute(header, message);
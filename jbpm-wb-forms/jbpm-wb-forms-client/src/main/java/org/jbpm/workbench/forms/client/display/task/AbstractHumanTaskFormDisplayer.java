@@ -334,6 +334,12 @@ public abstract class AbstractHumanTaskFormDisplayer<S extends FormRenderingSett
         }
     }
 	
+    @Override
+    public void onRenderContextExpired() {
+        errorPopup.showMessage(constants.FormExpired());
+        refresh();
+    }
+
 	protected void validFailed(String header, String message){
 		if (this.onValidationFailed != null) {
             this.onValidationFailed.execute(header, message);
@@ -100,4 +100,6 @@ public interface Constants extends Messages {
     String FieldKeyValueMappingFormatErorr();
 
     String Exception(String message);
+
+    String FormExpired();
 }
\ No newline at end of file
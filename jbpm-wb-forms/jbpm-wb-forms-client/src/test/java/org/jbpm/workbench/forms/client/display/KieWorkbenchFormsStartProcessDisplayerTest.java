@@ -18,22 +18,33 @@ package org.jbpm.workbench.forms.client.display;
 
 import com.google.gwtmockito.GwtMockitoTestRunner;
 import org.jboss.errai.common.client.api.Caller;
+import org.jboss.errai.common.client.api.ErrorCallback;
 import org.jbpm.workbench.forms.client.display.displayer.KieWorkbenchFormDisplayer;
 import org.jbpm.workbench.forms.client.display.displayers.pr.AbstractStartProcessFormDisplayerTest;
 import org.jbpm.workbench.forms.client.display.process.AbstractStartProcessFormDisplayer;
+import org.jbpm.workbench.forms.display.api.FormRenderingContextExpiredException;
 import org.jbpm.workbench.forms.display.api.KieWorkbenchFormRenderingSettings;
 import org.jbpm.workbench.forms.display.api.ProcessDisplayerConfig;
 import org.jbpm.workbench.forms.display.service.KieWorkbenchFormsEntryPoint;
 import org.jbpm.workbench.pr.model.ProcessDefinitionKey;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.kie.workbench.common.forms.dynamic.client.DynamicFormRenderer;
 import org.kie.workbench.common.forms.dynamic.service.shared.impl.MapModelRenderingContext;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.uberfire.client.workbench.widgets.common.ErrorPopupPresenter;
+import org.uberfire.mvp.Command;
 
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -52,9 +63,22 @@ public class KieWorkbenchFormsStartProcessDisplayerTest extends AbstractStartPro
     @Mock
     protected KieWorkbenchFormRenderingSettings formRenderingSettings;
 
+    @Mock
+    protected ErrorPopupPresenter errorPopup;
+
     @InjectMocks
     protected KieWorkbenchFormsStartProcessDisplayer kieWorkbenchFormsStartProcessDisplayer;
 
+    @Before
+    public void setupDisplayer() {
+        // a valid form runs the displayer's callback
+        doAnswer(invocation -> {
+            ((GenericFormDisplayer) invocation.getArguments()[0]).runCallbackAfterValid((RunTypeEnum) invocation.getArguments()[1]);
+            return null;
+        }).when(displayer).validAndRun(any(GenericFormDisplayer.class),
+                                       any(RunTypeEnum.class));
+    }
+
     @Test
     public void testStartProcessFromDisplayer() {
         when(displayer.isValid()).thenReturn(true);
@@ -62,7 +86,8 @@ public class KieWorkbenchFormsStartProcessDisplayerTest extends AbstractStartPro
 
         MapModelRenderingContext mapModelRenderingContext = mock(MapModelRenderingContext.class);
         when(formRenderingSettings.getRenderingContext()).thenReturn(mapModelRenderingContext);
-        when(service.call(any())).thenReturn(kieWorkbenchFormsEntryPoint);
+        when(service.call(any(),
+                          any())).thenReturn(kieWorkbenchFormsEntryPoint);
 
         ProcessDefinitionKey processDefinitionKey = new ProcessDefinitionKey( "test-serverTemplateId",
                                                                               "test-deploymentId",
@@ -75,8 +100,14 @@ public class KieWorkbenchFormsStartProcessDisplayerTest extends AbstractStartPro
         kieWorkbenchFormsStartProcessDisplayer.initConfigs(processDisplayerConfig, null, null);
         kieWorkbenchFormsStartProcessDisplayer.startProcessFromDisplayer();
 
-        //Verify that the call is DefaultWorkbenchErrorCallback, not a custom one.
-        verify(service).call(any());
+        //Verify that errors other than an expired form are left to the DefaultWorkbenchErrorCallback.
+        final ArgumentCaptor<ErrorCallback> errorCallback = ArgumentCaptor.forClass(ErrorCallback.class);
+        verify(service).call(any(),
+                             errorCallback.capture());
+        assertTrue(errorCallback.getValue().error(null,
+                                                  new RuntimeException("error")));
+        verify(errorPopup,
+               never()).showMessage(anyString());
         verify(kieWorkbenchFormsEntryPoint).startProcessFromRenderContext(100000l,
                                                                           null,
                                                                           "test-serverTemplateId",
@@ -85,6 +116,35 @@ public class KieWorkbenchFormsStartProcessDisplayerTest extends AbstractStartPro
                                                                           "");
     }
 
+    @Test
+    public void testExpiredRenderContextReloadsForm() {
+        MapModelRenderingContext mapModelRenderingContext = mock(MapModelRenderingContext.class);
+        when(formRenderingSettings.getRenderingContext()).thenReturn(mapModelRenderingContext);
+        when(service.call(any(),
+                          any())).thenReturn(kieWorkbenchFormsEntryPoint);
+        Command onRefresh = mock(Command.class);
+
+        ProcessDisplayerConfig processDisplayerConfig = new ProcessDisplayerConfig(new ProcessDefinitionKey("test-serverTemplateId",
+                                                                                                            "test-deploymentId",
+                                                                                                            "test-processId",
+                                                                                                            "test-processDefName"),
+                                                                                   "test",
+                                                                                   false);
+        processDisplayerConfig.setRenderingSettings(formRenderingSettings);
+        kieWorkbenchFormsStartProcessDisplayer.initConfigs(processDisplayerConfig,
+                                                           null,
+                                                           onRefresh);
+        kieWorkbenchFormsStartProcessDisplayer.startProcessFromDisplayer();
+
+        final ArgumentCaptor<ErrorCallback> errorCallback = ArgumentCaptor.forClass(ErrorCallback.class);
+        verify(service).call(any(),
+                             errorCallback.capture());
+        assertFalse(errorCallback.getValue().error(null,
+                                                   new FormRenderingContextExpiredException("expired")));
+        verify(errorPopup).showMessage(anyString());
+        verify(onRefresh).execute();
+    }
+
     @Override
     public AbstractStartProcessFormDisplayer getStartProcessFormDisplayer() {
         return kieWorkbenchFormsStartProcessDisplayer;
@@ -35,6 +35,7 @@ public class TaskAssignmentSummary extends GenericSummary<Long> {
     private Boolean delegationAllowed;
     private Boolean forwardAllowed;
     private String deploymentId;
+    private String errorMessage;
 
     public TaskAssignmentSummary() {
 
@@ -154,6 +155,14 @@ public class TaskAssignmentSummary extends GenericSummary<Long> {
         this.deploymentId = deploymentId;
     }
 
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
     @NonPortable
     public static final class Builder {
 
@@ -205,6 +214,11 @@ public class TaskAssignmentSummary extends GenericSummary<Long> {
             this.taskAssignmentSummary.setDeploymentId(deploymentId);
             return this;
         }
+
+        public Builder errorMessage(String errorMessage) {
+            this.taskAssignmentSummary.setErrorMessage(errorMessage);
+            return this;
+        }
     }
 
     @Override
@@ -220,6 +234,7 @@ public class TaskAssignmentSummary extends GenericSummary<Long> {
                 ", delegationAllowed=" + delegationAllowed +
                 ", forwardAllowed=" + forwardAllowed +
                 ", deploymentId=" + deploymentId +
+                ", errorMessage='" + errorMessage + '\'' +
                 "} " + super.toString();
     }
 }
\ No newline at end of file
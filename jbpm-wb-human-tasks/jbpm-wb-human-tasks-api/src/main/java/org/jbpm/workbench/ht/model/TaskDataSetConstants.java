@@ -21,6 +21,7 @@ public final class TaskDataSetConstants {
     public static final String HUMAN_TASKS_WITH_USER_DATASET = "jbpmHumanTasksWithUser";
     public static final String HUMAN_TASKS_WITH_ADMIN_DATASET = "jbpmHumanTasksWithAdmin";
     public static final String HUMAN_TASKS_WITH_VARIABLES_DATASET = "jbpmHumanTasksWithVariables";
+    public static final String HUMAN_TASKS_ASSIGNMENTS_DATASET = "jbpmHumanTasksAssignments";
 
     public static final String COLUMN_ACTIVATION_TIME = "activationTime";
     public static final String COLUMN_ACTUAL_OWNER = "actualOwner";
@@ -52,5 +53,8 @@ public final class TaskDataSetConstants {
 
     public static final String COLUMN_ERROR_COUNT = "errorCount";
 
+    public static final String COLUMN_ASSIGNMENT_POTENTIAL_OWNER = "potentialOwner";
+    public static final String COLUMN_ASSIGNMENT_BUSINESS_ADMIN = "businessAdmin";
+
     private TaskDataSetConstants() {}
 }
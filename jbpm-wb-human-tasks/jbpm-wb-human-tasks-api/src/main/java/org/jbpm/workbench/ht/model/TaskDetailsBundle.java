@@ -0,0 +1,91 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.ht.model;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jboss.errai.common.client.api.annotations.Portable;
+
+@Portable
+public class TaskDetailsBundle {
+
+    private TaskSummary task;
+    private List<CommentSummary> comments;
+    private List<TaskEventSummary> events;
+    private TaskAssignmentSummary assignmentDetails;
+    private Set<TaskDetailsSection> loadedSections = new HashSet<>();
+
+    public TaskDetailsBundle() {
+    }
+
+    public TaskSummary getTask() {
+        return task;
+    }
+
+    public void setTask(TaskSummary task) {
+        this.task = task;
+    }
+
+    public List<CommentSummary> getComments() {
+        return comments;
+    }
+
+    public void setComments(List<CommentSummary> comments) {
+        this.comments = comments;
+    }
+
+    public List<TaskEventSummary> getEvents() {
+        return events;
+    }
+
+    public void setEvents(List<TaskEventSummary> events) {
+        this.events = events;
+    }
+
+    public TaskAssignmentSummary getAssignmentDetails() {
+        return assignmentDetails;
+    }
+
+    public void setAssignmentDetails(TaskAssignmentSummary assignmentDetails) {
+        this.assignmentDetails = assignmentDetails;
+    }
+
+    public Set<TaskDetailsSection> getLoadedSections() {
+        return loadedSections;
+    }
+
+    public void setLoadedSections(Set<TaskDetailsSection> loadedSections) {
+        this.loadedSections = loadedSections;
+    }
+
+    public boolean isLoaded(final TaskDetailsSection section) {
+        return loadedSections != null && loadedSections.contains(section);
+    }
+
+    @Override
+    public String toString() {
+        return "TaskDetailsBundle{" +
+                "task=" + task +
+                ", comments=" + comments +
+                ", events=" + events +
+                ", assignmentDetails=" + assignmentDetails +
+                ", loadedSections=" + loadedSections +
+                '}';
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.ht.model;
+
+import org.jboss.errai.common.client.api.annotations.Portable;
+
+@Portable
+public class TaskOperationResult {
+
+    private TaskKey taskKey;
+    private boolean successful;
+    private String errorMessage;
+
+    public TaskOperationResult() {
+    }
+
+    public TaskOperationResult(final TaskKey taskKey,
+                               final boolean successful,
+                               final String errorMessage) {
+        this.taskKey = taskKey;
+        this.successful = successful;
+        this.errorMessage = errorMessage;
+    }
+
+    public static TaskOperationResult success(final TaskKey taskKey) {
+        return new TaskOperationResult(taskKey,
+                                       true,
+                                       null);
+    }
+
+    public static TaskOperationResult failure(final TaskKey taskKey,
+                                              final String errorMessage) {
+        return new TaskOperationResult(taskKey,
+                                       false,
+                                       errorMessage);
+    }
+
+    public TaskKey getTaskKey() {
+        return taskKey;
+    }
+
+    public void setTaskKey(TaskKey taskKey) {
+        this.taskKey = taskKey;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    public boolean isSuccessful() {
+        return successful;
+    }
+
+    public void setSuccessful(boolean successful) {
+        this.successful = successful;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskOperationResult{" +
+                "taskKey=" + taskKey +
+                ", successful=" + successful +
+                ", errorMessage='" + errorMessage + '\'' +
+                '}';
+    }
+}
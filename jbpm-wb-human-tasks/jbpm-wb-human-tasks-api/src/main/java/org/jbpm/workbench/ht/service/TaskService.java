@@ -19,12 +19,17 @@ package org.jbpm.workbench.ht.service;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.jboss.errai.bus.server.annotations.Remote;
 import org.jbpm.workbench.ht.model.CommentSummary;
 import org.jbpm.workbench.ht.model.TaskAssignmentSummary;
+import org.jbpm.workbench.ht.model.TaskAttribute;
+import org.jbpm.workbench.ht.model.TaskDetailsBundle;
+import org.jbpm.workbench.ht.model.TaskDetailsSection;
 import org.jbpm.workbench.ht.model.TaskEventSummary;
 import org.jbpm.workbench.ht.model.TaskKey;
+import org.jbpm.workbench.ht.model.TaskOperationResult;
 import org.jbpm.workbench.ht.model.TaskSummary;
 
 @Remote
@@ -34,8 +39,15 @@ public interface TaskService {
 
     TaskSummary getTaskWithSLA(String serverTemplateId, String containerId, Long taskId);
 
+    TaskDetailsBundle getTaskDetailsBundle(String serverTemplateId, String containerId, Long taskId,
+                                           Set<TaskDetailsSection> sections, Integer eventsPageSize);
+
+    /**
+     * Applies the attributes listed in changedAttributes, the others are left untouched. A changed attribute with a
+     * null value is cleared.
+     */
     void updateTask(String serverTemplateId, String containerId, Long taskId, Integer priority, String description,
-                    Date dueDate);
+                    Date dueDate, Set<TaskAttribute> changedAttributes);
 
     void claimTask(String serverTemplateId, String containerId, Long taskId);
 
@@ -49,6 +61,18 @@ public interface TaskService {
 
     void suspendTask(String serverTemplateId, String containerId, Long taskId);
 
+    List<TaskOperationResult> claimTasks(String serverTemplateId, List<TaskKey> taskKeys);
+
+    List<TaskOperationResult> releaseTasks(String serverTemplateId, List<TaskKey> taskKeys);
+
+    List<TaskOperationResult> startTasks(String serverTemplateId, List<TaskKey> taskKeys);
+
+    List<TaskOperationResult> completeTasks(String serverTemplateId, List<TaskKey> taskKeys, Map<String, Object> output);
+
+    List<TaskOperationResult> resumeTasks(String serverTemplateId, List<TaskKey> taskKeys);
+
+    List<TaskOperationResult> suspendTasks(String serverTemplateId, List<TaskKey> taskKeys);
+
     void saveTaskContent(String serverTemplateId, String containerId, Long taskId, Map<String, Object> output);
 
     void addTaskComment(String serverTemplateId, String containerId, Long taskId, String text, Date addedOn);
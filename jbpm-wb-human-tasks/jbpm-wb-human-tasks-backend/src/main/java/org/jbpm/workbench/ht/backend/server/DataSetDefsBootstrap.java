@@ -54,6 +54,18 @@ public class DataSetDefsBootstrap extends AbstractDataSetDefsBootstrap {
                                                       .label(COLUMN_TASK_VARIABLE_NAME)
                                                       .label(COLUMN_TASK_VARIABLE_VALUE)
             );
+        } else if (event.getDefinition().getName().equals(HUMAN_TASKS_ASSIGNMENTS_DATASET)) {
+            registerDataSetDefinition(event.getDefinition(),
+                                      builder ->
+                                              builder.number(COLUMN_TASK_ID)
+                                                      .label(COLUMN_NAME)
+                                                      .label(COLUMN_STATUS)
+                                                      .label(COLUMN_ACTUAL_OWNER)
+                                                      .label(COLUMN_CREATED_BY)
+                                                      .label(COLUMN_DEPLOYMENT_ID)
+                                                      .label(COLUMN_ASSIGNMENT_POTENTIAL_OWNER)
+                                                      .label(COLUMN_ASSIGNMENT_BUSINESS_ADMIN)
+            );
         }
     }
 
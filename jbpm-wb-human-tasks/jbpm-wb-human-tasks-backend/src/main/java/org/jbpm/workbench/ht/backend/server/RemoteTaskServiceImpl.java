@@ -16,11 +16,17 @@
 
 package org.jbpm.workbench.ht.backend.server;
 
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Event;
@@ -29,21 +35,32 @@ import javax.inject.Inject;
 import org.jboss.errai.bus.server.annotations.Service;
 import org.jbpm.workbench.ht.model.CommentSummary;
 import org.jbpm.workbench.ht.model.TaskAssignmentSummary;
+import org.jbpm.workbench.ht.model.TaskAttribute;
+import org.jbpm.workbench.ht.model.TaskDetailsBundle;
+import org.jbpm.workbench.ht.model.TaskDetailsSection;
 import org.jbpm.workbench.ht.model.TaskEventSummary;
 import org.jbpm.workbench.ht.model.TaskKey;
+import org.jbpm.workbench.ht.model.TaskOperationResult;
 import org.jbpm.workbench.ht.model.TaskSummary;
 import org.jbpm.workbench.ht.model.events.TaskCompletedEvent;
 import org.jbpm.workbench.ht.service.TaskService;
 import org.jbpm.workbench.ks.integration.AbstractKieServerService;
+import org.jbpm.workbench.ks.integration.KieServerBulkExecutor;
 import org.kie.internal.identity.IdentityProvider;
 import org.kie.server.api.exception.KieServicesHttpException;
+import org.kie.server.api.model.definition.QueryFilterSpec;
 import org.kie.server.api.model.instance.TaskComment;
 import org.kie.server.api.model.instance.TaskEventInstance;
 import org.kie.server.api.model.instance.TaskInstance;
+import org.kie.server.api.util.QueryFilterSpecBuilder;
+import org.kie.server.client.QueryServicesClient;
 import org.kie.server.client.UserTaskServicesClient;
 
 import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
+import static org.jbpm.workbench.ht.model.TaskDataSetConstants.COLUMN_TASK_ID;
+import static org.jbpm.workbench.ht.model.TaskDataSetConstants.HUMAN_TASKS_ASSIGNMENTS_DATASET;
 
 @Service
 @ApplicationScoped
@@ -51,12 +68,22 @@ public class RemoteTaskServiceImpl extends AbstractKieServerService implements T
 
     public static int NOT_FOUND_ERROR_CODE = 404;
 
+    public static final String TASK_DETAILS_TIMEOUT = "org.jbpm.wb.task.details.timeout";
+
+    protected static final int ASSIGNMENTS_BATCH_SIZE = 500;
+
+    private long taskDetailsTimeout = Long.getLong(TASK_DETAILS_TIMEOUT,
+                                                   10000);
+
     @Inject
     private IdentityProvider identityProvider;
 
     @Inject
     private Event<TaskCompletedEvent> taskCompletedEvent;
 
+    @Inject
+    private KieServerBulkExecutor bulkExecutor;
+
     @Override
     public TaskSummary getTask(String serverTemplateId, String containerId, Long taskId) {
         if (serverTemplateId == null || serverTemplateId.isEmpty()) {
@@ -99,29 +126,102 @@ public class RemoteTaskServiceImpl extends AbstractKieServerService implements T
         }
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public TaskDetailsBundle getTaskDetailsBundle(final String serverTemplateId,
+                                                  final String containerId,
+                                                  final Long taskId,
+                                                  final Set<TaskDetailsSection> sections,
+                                                  final Integer eventsPageSize) {
+        final TaskDetailsBundle bundle = new TaskDetailsBundle();
+        if (serverTemplateId == null || serverTemplateId.isEmpty() || sections == null || sections.isEmpty()) {
+            return bundle;
+        }
+
+        final Map<TaskDetailsSection, Supplier<?>> fetchers = new EnumMap<>(TaskDetailsSection.class);
+        if (sections.contains(TaskDetailsSection.TASK)) {
+            fetchers.put(TaskDetailsSection.TASK,
+                         () -> getTaskWithSLA(serverTemplateId,
+                                              containerId,
+                                              taskId));
+        }
+        if (sections.contains(TaskDetailsSection.COMMENTS)) {
+            fetchers.put(TaskDetailsSection.COMMENTS,
+                         () -> getTaskComments(serverTemplateId,
+                                               containerId,
+                                               taskId));
+        }
+        if (sections.contains(TaskDetailsSection.EVENTS)) {
+            fetchers.put(TaskDetailsSection.EVENTS,
+                         () -> getTaskEvents(serverTemplateId,
+                                             containerId,
+                                             taskId,
+                                             0,
+                                             eventsPageSize));
+        }
+        if (sections.contains(TaskDetailsSection.ASSIGNMENTS)) {
+            // the identity is only available on the request thread, so the task is mapped once fetched
+            fetchers.put(TaskDetailsSection.ASSIGNMENTS,
+                         () -> getTaskInstanceWithAssignments(serverTemplateId,
+                                                              containerId,
+                                                              taskId));
+        }
+
+        final Map<TaskDetailsSection, Object> results = bulkExecutor.invokeAll(fetchers,
+                                                                               taskDetailsTimeout);
+        bundle.setTask((TaskSummary) results.get(TaskDetailsSection.TASK));
+        bundle.setComments((List<CommentSummary>) results.get(TaskDetailsSection.COMMENTS));
+        bundle.setEvents((List<TaskEventSummary>) results.get(TaskDetailsSection.EVENTS));
+        bundle.setAssignmentDetails(new TaskAssignmentSummaryMapper().apply((TaskInstance) results.get(TaskDetailsSection.ASSIGNMENTS),
+                                                                            identityProvider));
+        bundle.getLoadedSections().addAll(results.keySet());
+        return bundle;
+    }
+
     @Override
     public void updateTask(String serverTemplateId,
                            String containerId,
                            Long taskId,
                            Integer priority,
                            String description,
-                           Date dueDate) {
+                           Date dueDate,
+                           Set<TaskAttribute> changedAttributes) {
         if (serverTemplateId == null || serverTemplateId.isEmpty()) {
             return;
         }
 
+        // attributes not listed are left unchanged, the rest is applied in a single update
+        if (changedAttributes == null || changedAttributes.isEmpty()) {
+            return;
+        }
+
+        final TaskInstance updatedTask = new TaskInstance();
+        if (changedAttributes.contains(TaskAttribute.PRIORITY)) {
+            updatedTask.setPriority(priority);
+        }
+        if (changedAttributes.contains(TaskAttribute.DESCRIPTION)) {
+            // the KIE server skips null attributes of a partial update, an empty description clears it
+            updatedTask.setDescription(description == null ? "" : description);
+        }
+        final boolean dueDateCleared = changedAttributes.contains(TaskAttribute.DUE_DATE) && dueDate == null;
+        if (changedAttributes.contains(TaskAttribute.DUE_DATE)) {
+            updatedTask.setExpirationDate(dueDate);
+        }
+
         UserTaskServicesClient client = getClient(serverTemplateId,
                                                   UserTaskServicesClient.class);
-        // TODO update only when it actually changed
-        client.setTaskDescription(containerId,
-                                  taskId,
-                                  description);
-        client.setTaskPriority(containerId,
-                               taskId,
-                               priority);
-        client.setTaskExpirationDate(containerId,
-                                     taskId,
-                                     dueDate);
+        if (updatedTask.getPriority() != null || updatedTask.getDescription() != null || updatedTask.getExpirationDate() != null) {
+            client.updateTask(containerId,
+                              taskId,
+                              identityProvider.getName(),
+                              updatedTask);
+        }
+        // a null due date can't be told apart from an unchanged one in a partial update, so it's cleared on its own
+        if (dueDateCleared) {
+            client.setTaskExpirationDate(containerId,
+                                         taskId,
+                                         null);
+        }
     }
 
     @Override
@@ -225,6 +325,116 @@ public class RemoteTaskServiceImpl extends AbstractKieServerService implements T
                            identityProvider.getName());
     }
 
+    @Override
+    public List<TaskOperationResult> claimTasks(final String serverTemplateId,
+                                                final List<TaskKey> taskKeys) {
+        return executeOnTasks(serverTemplateId,
+                              taskKeys,
+                              (client, taskKey, userId) -> client.claimTask(taskKey.getDeploymentId(),
+                                                                            taskKey.getTaskId(),
+                                                                            userId));
+    }
+
+    @Override
+    public List<TaskOperationResult> releaseTasks(final String serverTemplateId,
+                                                  final List<TaskKey> taskKeys) {
+        return executeOnTasks(serverTemplateId,
+                              taskKeys,
+                              (client, taskKey, userId) -> client.releaseTask(taskKey.getDeploymentId(),
+                                                                              taskKey.getTaskId(),
+                                                                              userId));
+    }
+
+    @Override
+    public List<TaskOperationResult> startTasks(final String serverTemplateId,
+                                                final List<TaskKey> taskKeys) {
+        return executeOnTasks(serverTemplateId,
+                              taskKeys,
+                              (client, taskKey, userId) -> client.startTask(taskKey.getDeploymentId(),
+                                                                            taskKey.getTaskId(),
+                                                                            userId));
+    }
+
+    @Override
+    public List<TaskOperationResult> completeTasks(final String serverTemplateId,
+                                                   final List<TaskKey> taskKeys,
+                                                   final Map<String, Object> output) {
+        final List<TaskOperationResult> results = executeOnTasks(serverTemplateId,
+                                                                 taskKeys,
+                                                                 (client, taskKey, userId) -> client.completeTask(taskKey.getDeploymentId(),
+                                                                                                                  taskKey.getTaskId(),
+                                                                                                                  userId,
+                                                                                                                  output));
+        results.stream()
+                .filter(TaskOperationResult::isSuccessful)
+                .forEach(result -> taskCompletedEvent.fire(new TaskCompletedEvent(serverTemplateId,
+                                                                                  result.getTaskKey().getDeploymentId(),
+                                                                                  result.getTaskKey().getTaskId())));
+        return results;
+    }
+
+    @Override
+    public List<TaskOperationResult> resumeTasks(final String serverTemplateId,
+                                                 final List<TaskKey> taskKeys) {
+        return executeOnTasks(serverTemplateId,
+                              taskKeys,
+                              (client, taskKey, userId) -> client.resumeTask(taskKey.getDeploymentId(),
+                                                                             taskKey.getTaskId(),
+                                                                             userId));
+    }
+
+    @Override
+    public List<TaskOperationResult> suspendTasks(final String serverTemplateId,
+                                                  final List<TaskKey> taskKeys) {
+        return executeOnTasks(serverTemplateId,
+                              taskKeys,
+                              (client, taskKey, userId) -> client.suspendTask(taskKey.getDeploymentId(),
+                                                                              taskKey.getTaskId(),
+                                                                              userId));
+    }
+
+    protected List<TaskOperationResult> executeOnTasks(final String serverTemplateId,
+                                                       final List<TaskKey> taskKeys,
+                                                       final TaskOperation operation) {
+        if (serverTemplateId == null || serverTemplateId.isEmpty() || taskKeys == null || taskKeys.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // resolve the client once per container, so every task goes to a server hosting its container
+        final String userId = identityProvider.getName();
+        final Map<String, UserTaskServicesClient> clients = new HashMap<>();
+        final Map<String, String> unavailableContainers = new HashMap<>();
+        taskKeys.stream().map(TaskKey::getDeploymentId).distinct().forEach(containerId -> {
+            try {
+                clients.put(containerId,
+                            getClient(serverTemplateId,
+                                      containerId,
+                                      UserTaskServicesClient.class));
+            } catch (RuntimeException e) {
+                unavailableContainers.put(containerId,
+                                          getErrorMessage(e));
+            }
+        });
+
+        return bulkExecutor.invokeAll(taskKeys,
+                                      taskKey -> {
+                                          final UserTaskServicesClient client = clients.get(taskKey.getDeploymentId());
+                                          if (client == null) {
+                                              return TaskOperationResult.failure(taskKey,
+                                                                                 unavailableContainers.get(taskKey.getDeploymentId()));
+                                          }
+                                          try {
+                                              operation.execute(client,
+                                                                taskKey,
+                                                                userId);
+                                              return TaskOperationResult.success(taskKey);
+                                          } catch (RuntimeException e) {
+                                              return TaskOperationResult.failure(taskKey,
+                                                                                 getErrorMessage(e));
+                                          }
+                                      });
+    }
+
     @Override
     public void saveTaskContent(String serverTemplateId,
                                 String containerId,
@@ -343,20 +553,126 @@ public class RemoteTaskServiceImpl extends AbstractKieServerService implements T
         if (serverTemplateId == null || serverTemplateId.isEmpty()) {
             return reassignments;
         }
-        if (tasksKeyToReassign != null && tasksKeyToReassign.size() > 0) {
-            tasksKeyToReassign.forEach(taskKey -> {
-                TaskAssignmentSummary assignmentSummary = getTaskAssignmentDetails(taskKey.getServerTemplateId(),
-                                                                                   taskKey.getDeploymentId(),
-                                                                                   taskKey.getTaskId());
-                if (assignmentSummary != null && assignmentSummary.isDelegationAllowed()) {
-                    delegate(taskKey.getServerTemplateId(), taskKey.getDeploymentId(), taskKey.getTaskId(), entity);
-                }
-                reassignments.add(assignmentSummary);
-            });
+        if (tasksKeyToReassign == null || tasksKeyToReassign.isEmpty()) {
+            return reassignments;
         }
+
+        // keys selected across server templates are looked up and delegated on the servers of their own template
+        final Map<String, List<TaskKey>> keysByServerTemplate = tasksKeyToReassign.stream()
+                .collect(groupingBy(taskKey -> getServerTemplateId(serverTemplateId,
+                                                                   taskKey),
+                                    LinkedHashMap::new,
+                                    toList()));
+        final Map<String, Map<Long, TaskInstance>> tasksByServerTemplate = new HashMap<>();
+        keysByServerTemplate.forEach((templateId, taskKeys) -> tasksByServerTemplate.put(templateId,
+                                                                                         getTaskAssignments(templateId,
+                                                                                                            taskKeys.stream().map(TaskKey::getTaskId).distinct().collect(toList()))));
+
+        final TaskAssignmentSummaryMapper mapper = new TaskAssignmentSummaryMapper();
+        final Map<String, List<TaskAssignmentSummary>> delegationsByServerTemplate = new LinkedHashMap<>();
+        tasksKeyToReassign.forEach(taskKey -> {
+            final String templateId = getServerTemplateId(serverTemplateId,
+                                                          taskKey);
+            final TaskAssignmentSummary assignmentSummary = mapper.apply(tasksByServerTemplate.get(templateId).get(taskKey.getTaskId()),
+                                                                         identityProvider);
+            reassignments.add(assignmentSummary);
+            if (assignmentSummary != null && assignmentSummary.isDelegationAllowed()) {
+                delegationsByServerTemplate.computeIfAbsent(templateId,
+                                                            id -> new ArrayList<>()).add(assignmentSummary);
+            }
+        });
+        if (delegationsByServerTemplate.isEmpty()) {
+            return reassignments;
+        }
+
+        final String userId = identityProvider.getName();
+        final List<Map.Entry<UserTaskServicesClient, TaskAssignmentSummary>> delegations = new ArrayList<>();
+        delegationsByServerTemplate.forEach((templateId, assignmentSummaries) -> {
+            try {
+                final UserTaskServicesClient client = getClient(templateId,
+                                                                UserTaskServicesClient.class);
+                assignmentSummaries.forEach(assignmentSummary -> delegations.add(new SimpleImmutableEntry<>(client,
+                                                                                                            assignmentSummary)));
+            } catch (RuntimeException e) {
+                assignmentSummaries.forEach(assignmentSummary -> assignmentSummary.setErrorMessage(getErrorMessage(e)));
+            }
+        });
+        bulkExecutor.invokeAll(delegations,
+                               delegation -> {
+                                   final TaskAssignmentSummary assignmentSummary = delegation.getValue();
+                                   try {
+                                       delegation.getKey().delegateTask(assignmentSummary.getDeploymentId(),
+                                                                        assignmentSummary.getTaskId(),
+                                                                        userId,
+                                                                        entity);
+                                   } catch (RuntimeException e) {
+                                       assignmentSummary.setErrorMessage(getErrorMessage(e));
+                                   }
+                                   return assignmentSummary;
+                               });
         return reassignments;
     }
 
+    private String getServerTemplateId(final String serverTemplateId,
+                                       final TaskKey taskKey) {
+        final String taskServerTemplateId = taskKey.getServerTemplateId();
+        return taskServerTemplateId == null || taskServerTemplateId.isEmpty() ? serverTemplateId : taskServerTemplateId;
+    }
+
+    private String getErrorMessage(final RuntimeException e) {
+        return e.getMessage() == null ? e.toString() : e.getMessage();
+    }
+
+    protected Map<Long, TaskInstance> getTaskAssignments(final String serverTemplateId,
+                                                         final List<Long> taskIds) {
+        final Map<Long, TaskInstance> tasks = new HashMap<>();
+        final QueryServicesClient queryServicesClient = getClient(serverTemplateId,
+                                                                  QueryServicesClient.class);
+        for (int i = 0; i < taskIds.size(); i += ASSIGNMENTS_BATCH_SIZE) {
+            final List<Long> batch = taskIds.subList(i,
+                                                     Math.min(i + ASSIGNMENTS_BATCH_SIZE,
+                                                              taskIds.size()));
+            final QueryFilterSpec filterSpec = new QueryFilterSpecBuilder()
+                    .in(COLUMN_TASK_ID,
+                        batch)
+                    .get();
+            final List<List> rows = queryServicesClient.query(HUMAN_TASKS_ASSIGNMENTS_DATASET,
+                                                              QueryServicesClient.QUERY_MAP_RAW,
+                                                              filterSpec,
+                                                              0,
+                                                              Integer.MAX_VALUE,
+                                                              List.class);
+
+            // one row per potential owner and business admin combination, pivot them back per task
+            for (List row : rows) {
+                final Long taskId = ((Number) row.get(0)).longValue();
+                final TaskInstance task = tasks.computeIfAbsent(taskId,
+                                                                id -> TaskInstance.builder()
+                                                                        .id(id)
+                                                                        .name((String) row.get(1))
+                                                                        .status((String) row.get(2))
+                                                                        .actualOwner((String) row.get(3))
+                                                                        .createdBy((String) row.get(4))
+                                                                        .containerId((String) row.get(5))
+                                                                        .potentialOwners(new ArrayList<>())
+                                                                        .businessAdmins(new ArrayList<>())
+                                                                        .build());
+                addIfAbsent(task.getPotentialOwners(),
+                            (String) row.get(6));
+                addIfAbsent(task.getBusinessAdmins(),
+                            (String) row.get(7));
+            }
+        }
+        return tasks;
+    }
+
+    private void addIfAbsent(final List<String> entities,
+                             final String entity) {
+        if (entity != null && !entities.contains(entity)) {
+            entities.add(entity);
+        }
+    }
+
     @Override
     public void forward(String serverTemplateId,
                         String containerId,
@@ -383,16 +699,23 @@ public class RemoteTaskServiceImpl extends AbstractKieServerService implements T
             return null;
         }
 
+        return new TaskAssignmentSummaryMapper().apply(getTaskInstanceWithAssignments(serverTemplateId,
+                                                                                      containerId,
+                                                                                      taskId),
+                                                       identityProvider);
+    }
+
+    protected TaskInstance getTaskInstanceWithAssignments(final String serverTemplateId,
+                                                          final String containerId,
+                                                          final Long taskId) {
         UserTaskServicesClient client = getClient(serverTemplateId,
                                                   UserTaskServicesClient.class);
         try {
-            TaskInstance task = client.getTaskInstance(containerId,
-                                                       taskId,
-                                                       false,
-                                                       false,
-                                                       true);
-
-            return new TaskAssignmentSummaryMapper().apply(task, identityProvider);
+            return client.getTaskInstance(containerId,
+                                          taskId,
+                                          false,
+                                          false,
+                                          true);
         } catch (KieServicesHttpException kieException) {
             if (kieException.getHttpCode() == NOT_FOUND_ERROR_CODE) {
                 return null;
@@ -458,4 +781,12 @@ public class RemoteTaskServiceImpl extends AbstractKieServerService implements T
             }
         }
     }
+
+    @FunctionalInterface
+    protected interface TaskOperation {
+
+        void execute(UserTaskServicesClient client,
+                     TaskKey taskKey,
+                     String userId);
+    }
 }
\ No newline at end of file
@@ -103,4 +103,20 @@ public class DataSetDefsBootstrapTest {
         assertEquals("SELECT *", dataSetDef.getDbSQL());
         assertEquals(3, dataSetDef.getColumns().size());
     }
+
+    @Test
+    public void testHumanTasksAssignmentsDataSet() {
+        QueryDefinition qd = QueryDefinition.builder().name(HUMAN_TASKS_ASSIGNMENTS_DATASET).expression("SELECT *").source("source").target("target").build();
+        dataSetsBootstrap.registerDataSetDefinitions(new QueryDefinitionLoaded(qd));
+
+        ArgumentCaptor<SQLDataSetDef> argument = ArgumentCaptor.forClass(SQLDataSetDef.class);
+        verify(dataSetDefRegistry).registerDataSetDef(argument.capture());
+
+        SQLDataSetDef dataSetDef = argument.getValue();
+        assertEquals(HUMAN_TASKS_ASSIGNMENTS_DATASET, dataSetDef.getUUID());
+        assertEquals("target-" + HUMAN_TASKS_ASSIGNMENTS_DATASET, dataSetDef.getName());
+        assertEquals(KieServerDataSetProvider.TYPE, dataSetDef.getProvider());
+        assertEquals("SELECT *", dataSetDef.getDbSQL());
+        assertEquals(8, dataSetDef.getColumns().size());
+    }
 }
\ No newline at end of file
@@ -16,36 +16,51 @@
 package org.jbpm.workbench.ht.backend.server;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executors;
 
 import javax.enterprise.event.Event;
 
+import org.jbpm.workbench.ht.model.TaskAssignmentSummary;
+import org.jbpm.workbench.ht.model.TaskAttribute;
+import org.jbpm.workbench.ht.model.TaskDetailsBundle;
+import org.jbpm.workbench.ht.model.TaskDetailsSection;
 import org.jbpm.workbench.ht.model.TaskEventSummary;
 import org.jbpm.workbench.ht.model.TaskKey;
+import org.jbpm.workbench.ht.model.TaskOperationResult;
 import org.jbpm.workbench.ht.model.TaskSummary;
 import org.jbpm.workbench.ht.model.events.TaskCompletedEvent;
 import org.jbpm.workbench.ht.service.TaskService;
 import org.jbpm.workbench.ht.util.TaskStatus;
+import org.jbpm.workbench.ks.integration.KieServerBulkExecutor;
 import org.jbpm.workbench.ks.integration.KieServerIntegration;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.kie.internal.identity.IdentityProvider;
+import org.kie.server.api.exception.KieServicesException;
+import org.kie.server.api.model.definition.QueryFilterSpec;
 import org.kie.server.api.model.instance.TaskEventInstance;
 import org.kie.server.api.model.instance.TaskInstance;
 import org.kie.server.client.KieServicesClient;
+import org.kie.server.client.QueryServicesClient;
 import org.kie.server.client.UserTaskServicesClient;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.uberfire.commons.async.DescriptiveThreadFactory;
 
 import static java.lang.String.format;
+import static org.jbpm.workbench.ht.model.TaskDataSetConstants.HUMAN_TASKS_ASSIGNMENTS_DATASET;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
@@ -66,9 +81,15 @@ public class RemoteTaskServiceImplTest {
     @Mock
     UserTaskServicesClient userTaskServicesClient;
 
+    @Mock
+    QueryServicesClient queryServicesClient;
+
     @Mock
     Event<TaskCompletedEvent> taskCompletedEvent;
 
+    @Spy
+    KieServerBulkExecutor bulkExecutor = new KieServerBulkExecutor(Executors.newCachedThreadPool(new DescriptiveThreadFactory()));
+
     @InjectMocks
     RemoteTaskServiceImpl remoteTaskService;
 
@@ -77,6 +98,7 @@ public class RemoteTaskServiceImplTest {
         when(identityProvider.getName()).thenReturn(CURRENT_USER);
         when(kieServerIntegration.getServerClient(anyString())).thenReturn(kieServicesClient);
         when(kieServicesClient.getServicesClient(UserTaskServicesClient.class)).thenReturn(userTaskServicesClient);
+        when(kieServicesClient.getServicesClient(QueryServicesClient.class)).thenReturn(queryServicesClient);
     }
 
     @Test
@@ -149,6 +171,55 @@ public class RemoteTaskServiceImplTest {
         }
     }
 
+    @Test
+    public void testUpdateTaskSendsSingleUpdate() {
+        final String serverTemplateId = "serverTemplateId";
+        final String containerId = "containerId";
+        final Long taskId = 1L;
+        final Date dueDate = new Date();
+
+        remoteTaskService.updateTask(serverTemplateId, containerId, taskId, 5, "description", dueDate, EnumSet.allOf(TaskAttribute.class));
+
+        final ArgumentCaptor<TaskInstance> taskCaptor = ArgumentCaptor.forClass(TaskInstance.class);
+        verify(userTaskServicesClient).updateTask(eq(containerId), eq(taskId), eq(CURRENT_USER), taskCaptor.capture());
+        assertEquals(Integer.valueOf(5), taskCaptor.getValue().getPriority());
+        assertEquals("description", taskCaptor.getValue().getDescription());
+        assertEquals(dueDate, taskCaptor.getValue().getExpirationDate());
+        verify(userTaskServicesClient, never()).setTaskDescription(anyString(), anyLong(), anyString());
+        verify(userTaskServicesClient, never()).setTaskPriority(anyString(), anyLong(), anyInt());
+        verify(userTaskServicesClient, never()).setTaskExpirationDate(anyString(), anyLong(), any());
+    }
+
+    @Test
+    public void testUpdateTaskOnlyChangedAttributes() {
+        remoteTaskService.updateTask("serverTemplateId", "containerId", 1L, 5, "description", new Date(), EnumSet.of(TaskAttribute.DESCRIPTION));
+
+        final ArgumentCaptor<TaskInstance> taskCaptor = ArgumentCaptor.forClass(TaskInstance.class);
+        verify(userTaskServicesClient).updateTask(eq("containerId"), eq(1L), eq(CURRENT_USER), taskCaptor.capture());
+        assertNull(taskCaptor.getValue().getPriority());
+        assertEquals("description", taskCaptor.getValue().getDescription());
+        assertNull(taskCaptor.getValue().getExpirationDate());
+    }
+
+    @Test
+    public void testUpdateTaskWithoutChanges() {
+        remoteTaskService.updateTask("serverTemplateId", "containerId", 1L, 5, "description", new Date(), EnumSet.noneOf(TaskAttribute.class));
+
+        verifyZeroInteractions(userTaskServicesClient);
+        verify(kieServerIntegration, never()).getServerClient(anyString());
+    }
+
+    @Test
+    public void testUpdateTaskClearsAttributes() {
+        remoteTaskService.updateTask("serverTemplateId", "containerId", 1L, 5, null, null, EnumSet.of(TaskAttribute.DESCRIPTION, TaskAttribute.DUE_DATE));
+
+        final ArgumentCaptor<TaskInstance> taskCaptor = ArgumentCaptor.forClass(TaskInstance.class);
+        verify(userTaskServicesClient).updateTask(eq("containerId"), eq(1L), eq(CURRENT_USER), taskCaptor.capture());
+        assertNull(taskCaptor.getValue().getPriority());
+        assertEquals("", taskCaptor.getValue().getDescription());
+        verify(userTaskServicesClient).setTaskExpirationDate("containerId", 1L, null);
+    }
+
     @Test
     public void testForward() {
         final String containerId = "containerId";
@@ -183,22 +254,31 @@ public class RemoteTaskServiceImplTest {
                                                          new TaskKey(serverTemplateId, deploymentId2, taskId2),
                                                          new TaskKey(serverTemplateId, deploymentId3, taskId3));
         String currentUser = identityProvider.getName();
-        TaskInstance taskInstance = TaskInstance.builder().id(1L).status(TaskStatus.TASK_STATUS_RESERVED.getIdentifier()).actualOwner(currentUser).build();
-
-        when(userTaskServicesClient.getTaskInstance(anyString(), anyLong(), eq(false), eq(false), eq(true)))
-                .thenReturn(taskInstance);
-
-        remoteTaskService.delegateTasks(serverTemplateId, taskKeysToReassign, userId);
-
-        verify(userTaskServicesClient).getTaskInstance(deploymentId1, taskId1, false, false, true);
-        verify(userTaskServicesClient).getTaskInstance(deploymentId2, taskId2, false, false, true);
-        verify(userTaskServicesClient).getTaskInstance(deploymentId3, taskId3, false, false, true);
-
-        verify(userTaskServicesClient).delegateTask(deploymentId1, taskId1, identityProvider.getName(), userId);
-        verify(userTaskServicesClient).delegateTask(deploymentId2, taskId2, identityProvider.getName(), userId);
-        verify(userTaskServicesClient).delegateTask(deploymentId3, taskId3, identityProvider.getName(), userId);
-
-        verify(kieServerIntegration, times(6)).getServerClient(serverTemplateId);
+        String reserved = TaskStatus.TASK_STATUS_RESERVED.getIdentifier();
+        when(queryServicesClient.query(eq(HUMAN_TASKS_ASSIGNMENTS_DATASET), eq(QueryServicesClient.QUERY_MAP_RAW), any(QueryFilterSpec.class), eq(0), eq(Integer.MAX_VALUE), eq(List.class)))
+                .thenReturn(Arrays.asList(assignmentRow(taskId1, reserved, currentUser, deploymentId1, null, null),
+                                          assignmentRow(taskId2, reserved, currentUser, deploymentId2, null, null),
+                                          assignmentRow(taskId3, reserved, currentUser, deploymentId3, null, null)));
+
+        List<TaskAssignmentSummary> reassignments = remoteTaskService.delegateTasks(serverTemplateId, taskKeysToReassign, userId);
+
+        verify(queryServicesClient).query(eq(HUMAN_TASKS_ASSIGNMENTS_DATASET), eq(QueryServicesClient.QUERY_MAP_RAW), any(QueryFilterSpec.class), eq(0), eq(Integer.MAX_VALUE), eq(List.class));
+        verify(userTaskServicesClient, never()).getTaskInstance(anyString(), anyLong(), anyBoolean(), anyBoolean(), anyBoolean());
+
+        verify(userTaskServicesClient).delegateTask(deploymentId1, taskId1, CURRENT_USER, userId);
+        verify(userTaskServicesClient).delegateTask(deploymentId2, taskId2, CURRENT_USER, userId);
+        verify(userTaskServicesClient).delegateTask(deploymentId3, taskId3, CURRENT_USER, userId);
+
+        assertEquals(3, reassignments.size());
+        assertEquals(taskId1, reassignments.get(0).getTaskId());
+        assertEquals(taskId2, reassignments.get(1).getTaskId());
+        assertEquals(taskId3, reassignments.get(2).getTaskId());
+        reassignments.forEach(summary -> {
+            assertTrue(summary.isDelegationAllowed());
+            assertNull(summary.getErrorMessage());
+        });
+
+        verify(kieServerIntegration, times(2)).getServerClient(serverTemplateId);
     }
 
     @Test
@@ -215,19 +295,220 @@ public class RemoteTaskServiceImplTest {
                                                          new TaskKey(serverTemplateId, deploymentId2, taskId2),
                                                          new TaskKey(serverTemplateId, deploymentId3, taskId3));
         String currentUser = identityProvider.getName();
-        TaskInstance taskInstance = TaskInstance.builder().id(1L).status(TaskStatus.TASK_STATUS_COMPLETED.getIdentifier()).actualOwner(currentUser).build();
+        String completed = TaskStatus.TASK_STATUS_COMPLETED.getIdentifier();
+        when(queryServicesClient.query(eq(HUMAN_TASKS_ASSIGNMENTS_DATASET), eq(QueryServicesClient.QUERY_MAP_RAW), any(QueryFilterSpec.class), eq(0), eq(Integer.MAX_VALUE), eq(List.class)))
+                .thenReturn(Arrays.asList(assignmentRow(taskId1, completed, currentUser, deploymentId1, null, null),
+                                          assignmentRow(taskId2, completed, currentUser, deploymentId2, null, null),
+                                          assignmentRow(taskId3, completed, currentUser, deploymentId3, null, null)));
 
-        when(userTaskServicesClient.getTaskInstance(anyString(), anyLong(), eq(false), eq(false), eq(true)))
-                .thenReturn(taskInstance);
+        List<TaskAssignmentSummary> reassignments = remoteTaskService.delegateTasks(serverTemplateId, taskKeysToReassign, userId);
 
-        remoteTaskService.delegateTasks(serverTemplateId, taskKeysToReassign, userId);
+        verify(userTaskServicesClient, never()).delegateTask(anyString(), anyLong(), anyString(), anyString());
+        assertEquals(3, reassignments.size());
+        reassignments.forEach(summary -> assertFalse(summary.isDelegationAllowed()));
+        verify(kieServerIntegration, times(1)).getServerClient(serverTemplateId);
+    }
+
+    @Test
+    public void testDelegateTasksMergesAssignmentRows() {
+        final String userId = "user";
+        final String serverTemplateId = "serverTemplateId";
+        final Long taskId = 1L;
+        final String deploymentId = "deploymentId";
+        final String ready = TaskStatus.TASK_STATUS_READY.getIdentifier();
+        when(identityProvider.getRoles()).thenReturn(Collections.singletonList("managers"));
+        when(queryServicesClient.query(eq(HUMAN_TASKS_ASSIGNMENTS_DATASET), eq(QueryServicesClient.QUERY_MAP_RAW), any(QueryFilterSpec.class), eq(0), eq(Integer.MAX_VALUE), eq(List.class)))
+                .thenReturn(Arrays.asList(assignmentRow(taskId, ready, null, deploymentId, "users", "Administrators"),
+                                          assignmentRow(taskId, ready, null, deploymentId, "managers", "Administrators"),
+                                          assignmentRow(taskId, ready, null, deploymentId, "users", "admins")));
+
+        List<TaskAssignmentSummary> reassignments = remoteTaskService.delegateTasks(serverTemplateId,
+                                                                                    Collections.singletonList(new TaskKey(serverTemplateId, deploymentId, taskId)),
+                                                                                    userId);
+
+        assertEquals(1, reassignments.size());
+        assertEquals(Arrays.asList("users", "managers"), reassignments.get(0).getPotOwnersString());
+        assertEquals(Arrays.asList("Administrators", "admins"), reassignments.get(0).getBusinessAdmins());
+        assertTrue(reassignments.get(0).isDelegationAllowed());
+        verify(userTaskServicesClient).delegateTask(deploymentId, taskId, CURRENT_USER, userId);
+    }
+
+    @Test
+    public void testDelegateTasksReportsFailuresPerTask() {
+        final String userId = "user";
+        final String serverTemplateId = "serverTemplateId";
+        final String deploymentId = "deploymentId";
+        final String reserved = TaskStatus.TASK_STATUS_RESERVED.getIdentifier();
+        when(queryServicesClient.query(eq(HUMAN_TASKS_ASSIGNMENTS_DATASET), eq(QueryServicesClient.QUERY_MAP_RAW), any(QueryFilterSpec.class), eq(0), eq(Integer.MAX_VALUE), eq(List.class)))
+                .thenReturn(Arrays.asList(assignmentRow(1L, reserved, CURRENT_USER, deploymentId, null, null),
+                                          assignmentRow(2L, reserved, CURRENT_USER, deploymentId, null, null)));
+        doThrow(new KieServicesException("Task 2 was modified")).when(userTaskServicesClient).delegateTask(deploymentId, 2L, CURRENT_USER, userId);
+
+        List<TaskAssignmentSummary> reassignments = remoteTaskService.delegateTasks(serverTemplateId,
+                                                                                    Arrays.asList(new TaskKey(serverTemplateId, deploymentId, 1L),
+                                                                                                  new TaskKey(serverTemplateId, deploymentId, 2L),
+                                                                                                  new TaskKey(serverTemplateId, deploymentId, 3L)),
+                                                                                    userId);
+
+        assertEquals(3, reassignments.size());
+        assertNull(reassignments.get(0).getErrorMessage());
+        assertEquals("Task 2 was modified", reassignments.get(1).getErrorMessage());
+        assertNull(reassignments.get(2));
+        verify(userTaskServicesClient).delegateTask(deploymentId, 1L, CURRENT_USER, userId);
+        verify(userTaskServicesClient).delegateTask(deploymentId, 2L, CURRENT_USER, userId);
+    }
 
-        verify(userTaskServicesClient).getTaskInstance(deploymentId1, taskId1, false, false, true);
-        verify(userTaskServicesClient).getTaskInstance(deploymentId2, taskId2, false, false, true);
-        verify(userTaskServicesClient).getTaskInstance(deploymentId3, taskId3, false, false, true);
+    @Test
+    public void testDelegateTasksPerServerTemplate() {
+        final String userId = "user";
+        final String deploymentId = "deploymentId";
+        final String reserved = TaskStatus.TASK_STATUS_RESERVED.getIdentifier();
+        final KieServicesClient otherKieServicesClient = mock(KieServicesClient.class);
+        final QueryServicesClient otherQueryServicesClient = mock(QueryServicesClient.class);
+        final UserTaskServicesClient otherUserTaskServicesClient = mock(UserTaskServicesClient.class);
+        when(kieServerIntegration.getServerClient("otherServerTemplateId")).thenReturn(otherKieServicesClient);
+        when(otherKieServicesClient.getServicesClient(QueryServicesClient.class)).thenReturn(otherQueryServicesClient);
+        when(otherKieServicesClient.getServicesClient(UserTaskServicesClient.class)).thenReturn(otherUserTaskServicesClient);
+        when(queryServicesClient.query(eq(HUMAN_TASKS_ASSIGNMENTS_DATASET), eq(QueryServicesClient.QUERY_MAP_RAW), any(QueryFilterSpec.class), eq(0), eq(Integer.MAX_VALUE), eq(List.class)))
+                .thenReturn(Collections.singletonList(assignmentRow(1L, reserved, CURRENT_USER, deploymentId, null, null)));
+        when(otherQueryServicesClient.query(eq(HUMAN_TASKS_ASSIGNMENTS_DATASET), eq(QueryServicesClient.QUERY_MAP_RAW), any(QueryFilterSpec.class), eq(0), eq(Integer.MAX_VALUE), eq(List.class)))
+                .thenReturn(Collections.singletonList(assignmentRow(1L, reserved, CURRENT_USER, deploymentId, null, null)));
+        doThrow(new IllegalStateException()).when(otherUserTaskServicesClient).delegateTask(deploymentId, 1L, CURRENT_USER, userId);
+
+        List<TaskAssignmentSummary> reassignments = remoteTaskService.delegateTasks("serverTemplateId",
+                                                                                    Arrays.asList(new TaskKey("serverTemplateId", deploymentId, 1L),
+                                                                                                  new TaskKey("otherServerTemplateId", deploymentId, 1L)),
+                                                                                    userId);
+
+        assertEquals(2, reassignments.size());
+        assertNull(reassignments.get(0).getErrorMessage());
+        assertNotNull(reassignments.get(1).getErrorMessage());
+        verify(userTaskServicesClient).delegateTask(deploymentId, 1L, CURRENT_USER, userId);
+        verify(otherUserTaskServicesClient).delegateTask(deploymentId, 1L, CURRENT_USER, userId);
+    }
 
+    @Test
+    public void testDelegateTasksQueriesAssignmentsInBatches() {
+        final String serverTemplateId = "serverTemplateId";
+        final List<TaskKey> taskKeys = new ArrayList<>();
+        for (long i = 0; i < RemoteTaskServiceImpl.ASSIGNMENTS_BATCH_SIZE + 1; i++) {
+            taskKeys.add(new TaskKey(serverTemplateId, "deploymentId", i));
+        }
+        when(queryServicesClient.query(eq(HUMAN_TASKS_ASSIGNMENTS_DATASET), eq(QueryServicesClient.QUERY_MAP_RAW), any(QueryFilterSpec.class), eq(0), eq(Integer.MAX_VALUE), eq(List.class)))
+                .thenReturn(Collections.emptyList());
+
+        List<TaskAssignmentSummary> reassignments = remoteTaskService.delegateTasks(serverTemplateId, taskKeys, "user");
+
+        verify(queryServicesClient, times(2)).query(eq(HUMAN_TASKS_ASSIGNMENTS_DATASET), eq(QueryServicesClient.QUERY_MAP_RAW), any(QueryFilterSpec.class), eq(0), eq(Integer.MAX_VALUE), eq(List.class));
         verify(userTaskServicesClient, never()).delegateTask(anyString(), anyLong(), anyString(), anyString());
-        verify(kieServerIntegration, times(3)).getServerClient(serverTemplateId);
+        assertEquals(taskKeys.size(), reassignments.size());
+    }
+
+    @Test
+    public void testClaimTasks() {
+        final String serverTemplateId = "serverTemplateId";
+        when(kieServerIntegration.getServerClient(eq(serverTemplateId), anyString())).thenReturn(kieServicesClient);
+        final List<TaskKey> taskKeys = Arrays.asList(new TaskKey(serverTemplateId, "container1", 1L),
+                                                     new TaskKey(serverTemplateId, "container2", 2L),
+                                                     new TaskKey(serverTemplateId, "container1", 3L));
+
+        List<TaskOperationResult> results = remoteTaskService.claimTasks(serverTemplateId, taskKeys);
+
+        verify(userTaskServicesClient).claimTask("container1", 1L, CURRENT_USER);
+        verify(userTaskServicesClient).claimTask("container2", 2L, CURRENT_USER);
+        verify(userTaskServicesClient).claimTask("container1", 3L, CURRENT_USER);
+        verify(kieServerIntegration).getServerClient(serverTemplateId, "container1");
+        verify(kieServerIntegration).getServerClient(serverTemplateId, "container2");
+        assertEquals(3, results.size());
+        for (int i = 0; i < taskKeys.size(); i++) {
+            assertEquals(taskKeys.get(i), results.get(i).getTaskKey());
+            assertTrue(results.get(i).isSuccessful());
+        }
+    }
+
+    @Test
+    public void testReleaseStartResumeSuspendTasks() {
+        final String serverTemplateId = "serverTemplateId";
+        when(kieServerIntegration.getServerClient(eq(serverTemplateId), anyString())).thenReturn(kieServicesClient);
+        final List<TaskKey> taskKeys = Collections.singletonList(new TaskKey(serverTemplateId, "container", 1L));
+
+        remoteTaskService.releaseTasks(serverTemplateId, taskKeys);
+        remoteTaskService.startTasks(serverTemplateId, taskKeys);
+        remoteTaskService.suspendTasks(serverTemplateId, taskKeys);
+        remoteTaskService.resumeTasks(serverTemplateId, taskKeys);
+
+        verify(userTaskServicesClient).releaseTask("container", 1L, CURRENT_USER);
+        verify(userTaskServicesClient).startTask("container", 1L, CURRENT_USER);
+        verify(userTaskServicesClient).suspendTask("container", 1L, CURRENT_USER);
+        verify(userTaskServicesClient).resumeTask("container", 1L, CURRENT_USER);
+    }
+
+    @Test
+    public void testCompleteTasksReportsFailuresPerTask() {
+        final String serverTemplateId = "serverTemplateId";
+        final Map<String, Object> output = Collections.singletonMap("approved", true);
+        when(kieServerIntegration.getServerClient(eq(serverTemplateId), anyString())).thenReturn(kieServicesClient);
+        doThrow(new KieServicesException("Task 2 is not in progress")).when(userTaskServicesClient).completeTask("container", 2L, CURRENT_USER, output);
+
+        List<TaskOperationResult> results = remoteTaskService.completeTasks(serverTemplateId,
+                                                                          Arrays.asList(new TaskKey(serverTemplateId, "container", 1L),
+                                                                                        new TaskKey(serverTemplateId, "container", 2L)),
+                                                                          output);
+
+        assertTrue(results.get(0).isSuccessful());
+        assertFalse(results.get(1).isSuccessful());
+        assertEquals("Task 2 is not in progress", results.get(1).getErrorMessage());
+        final ArgumentCaptor<TaskCompletedEvent> eventCaptor = ArgumentCaptor.forClass(TaskCompletedEvent.class);
+        verify(taskCompletedEvent).fire(eventCaptor.capture());
+        assertEquals(Long.valueOf(1L), eventCaptor.getValue().getTaskId());
+    }
+
+    @Test
+    public void testCompleteTasksFailingWithoutMessage() {
+        final String serverTemplateId = "serverTemplateId";
+        final Map<String, Object> output = Collections.emptyMap();
+        when(kieServerIntegration.getServerClient(eq(serverTemplateId), anyString())).thenReturn(kieServicesClient);
+        doThrow(new IllegalStateException()).when(userTaskServicesClient).completeTask("container", 1L, CURRENT_USER, output);
+
+        List<TaskOperationResult> results = remoteTaskService.completeTasks(serverTemplateId,
+                                                                          Collections.singletonList(new TaskKey(serverTemplateId, "container", 1L)),
+                                                                          output);
+
+        assertFalse(results.get(0).isSuccessful());
+        assertNotNull(results.get(0).getErrorMessage());
+        verify(taskCompletedEvent, never()).fire(any(TaskCompletedEvent.class));
+    }
+
+    @Test
+    public void testBulkOperationOnUnavailableContainer() {
+        final String serverTemplateId = "serverTemplateId";
+        when(kieServerIntegration.getServerClient(serverTemplateId, "container")).thenReturn(kieServicesClient);
+
+        List<TaskOperationResult> results = remoteTaskService.claimTasks(serverTemplateId,
+                                                                       Arrays.asList(new TaskKey(serverTemplateId, "missing", 1L),
+                                                                                     new TaskKey(serverTemplateId, "container", 2L)));
+
+        assertFalse(results.get(0).isSuccessful());
+        assertNotNull(results.get(0).getErrorMessage());
+        assertTrue(results.get(1).isSuccessful());
+        verify(userTaskServicesClient, never()).claimTask("missing", 1L, CURRENT_USER);
+        verify(userTaskServicesClient).claimTask("container", 2L, CURRENT_USER);
+    }
+
+    @Test
+    public void testBulkOperationWithoutTasks() {
+        assertTrue(remoteTaskService.claimTasks("serverTemplateId", Collections.emptyList()).isEmpty());
+        assertTrue(remoteTaskService.claimTasks("", Collections.singletonList(new TaskKey("", "container", 1L))).isEmpty());
+        verifyZeroInteractions(userTaskServicesClient);
+    }
+
+    private List assignmentRow(final Long taskId,
+                               final String status,
+                               final String actualOwner,
+                               final String deploymentId,
+                               final String potentialOwner,
+                               final String businessAdmin) {
+        return Arrays.asList(taskId, "task" + taskId, status, actualOwner, "creator", deploymentId, potentialOwner, businessAdmin);
     }
 
     @Test
@@ -395,4 +676,79 @@ public class RemoteTaskServiceImplTest {
         assertEquals(eventInstance.getMessage(),
                      taskEventSummaries.get(0).getMessage());
     }
+
+    @Test
+    public void testGetTaskDetailsBundle() {
+        final String serverTemplateId = "serverTemplateId";
+        final String containerId = "containerId";
+        final Long taskId = 1L;
+        when(userTaskServicesClient.findTaskById(taskId, true)).thenReturn(TaskInstance.builder().id(taskId).name("task").build());
+        when(userTaskServicesClient.getTaskCommentsByTaskId(containerId, taskId)).thenReturn(Collections.emptyList());
+        when(userTaskServicesClient.findTaskEvents(containerId, taskId, 0, 10, "id", false))
+                .thenReturn(Collections.singletonList(TaskEventInstance.builder().id(2L).taskId(taskId).date(new Date()).build()));
+        when(userTaskServicesClient.getTaskInstance(containerId, taskId, false, false, true))
+                .thenReturn(TaskInstance.builder().id(taskId).actualOwner(CURRENT_USER).build());
+
+        final TaskDetailsBundle bundle = remoteTaskService.getTaskDetailsBundle(serverTemplateId,
+                                                                                containerId,
+                                                                                taskId,
+                                                                                EnumSet.allOf(TaskDetailsSection.class),
+                                                                                10);
+
+        assertEquals(EnumSet.allOf(TaskDetailsSection.class), bundle.getLoadedSections());
+        assertEquals(taskId, bundle.getTask().getId());
+        assertTrue(bundle.getComments().isEmpty());
+        assertEquals(1, bundle.getEvents().size());
+        assertEquals(CURRENT_USER, bundle.getAssignmentDetails().getActualOwner());
+    }
+
+    @Test
+    public void testGetTaskDetailsBundleOnlyRequestedSections() {
+        final String containerId = "containerId";
+        final Long taskId = 1L;
+        when(userTaskServicesClient.getTaskCommentsByTaskId(containerId, taskId)).thenReturn(Collections.emptyList());
+
+        final TaskDetailsBundle bundle = remoteTaskService.getTaskDetailsBundle("serverTemplateId",
+                                                                                containerId,
+                                                                                taskId,
+                                                                                EnumSet.of(TaskDetailsSection.COMMENTS),
+                                                                                10);
+
+        assertEquals(EnumSet.of(TaskDetailsSection.COMMENTS), bundle.getLoadedSections());
+        assertFalse(bundle.isLoaded(TaskDetailsSection.EVENTS));
+        verify(userTaskServicesClient).getTaskCommentsByTaskId(containerId, taskId);
+        verifyNoMoreInteractions(userTaskServicesClient);
+    }
+
+    @Test
+    public void testGetTaskDetailsBundleSkipsFailedSection() {
+        final String containerId = "containerId";
+        final Long taskId = 1L;
+        when(userTaskServicesClient.getTaskCommentsByTaskId(containerId, taskId)).thenThrow(new KieServicesException("error"));
+        when(userTaskServicesClient.getTaskInstance(containerId, taskId, false, false, true)).thenReturn(null);
+
+        final TaskDetailsBundle bundle = remoteTaskService.getTaskDetailsBundle("serverTemplateId",
+                                                                                containerId,
+                                                                                taskId,
+                                                                                EnumSet.of(TaskDetailsSection.COMMENTS,
+                                                                                           TaskDetailsSection.ASSIGNMENTS),
+                                                                                10);
+
+        assertFalse(bundle.isLoaded(TaskDetailsSection.COMMENTS));
+        assertTrue(bundle.isLoaded(TaskDetailsSection.ASSIGNMENTS));
+        assertNull(bundle.getComments());
+        assertNull(bundle.getAssignmentDetails());
+    }
+
+    @Test
+    public void testGetTaskDetailsBundleWithoutServerTemplate() {
+        final TaskDetailsBundle bundle = remoteTaskService.getTaskDetailsBundle("",
+                                                                                "containerId",
+                                                                                1L,
+                                                                                EnumSet.allOf(TaskDetailsSection.class),
+                                                                                10);
+
+        assertTrue(bundle.getLoadedSections().isEmpty());
+        verifyZeroInteractions(userTaskServicesClient);
+    }
 }
\ No newline at end of file
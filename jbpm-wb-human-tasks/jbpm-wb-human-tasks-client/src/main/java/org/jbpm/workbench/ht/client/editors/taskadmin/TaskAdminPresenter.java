@@ -90,42 +90,49 @@ public class TaskAdminPresenter extends AbstractTaskPresenter {
     }
 
     public void refreshTaskPotentialOwners() {
+        resetTaskPotentialOwners();
+        taskService.call((TaskAssignmentSummary ts) -> setTaskAssignmentDetails(ts)
+        ).getTaskAssignmentDetails(getServerTemplateId(),
+                                   getContainerId(),
+                                   getTaskId());
+    }
+
+    protected void resetTaskPotentialOwners() {
         view.enableReminderButton(false);
         view.enableForwardButton(false);
         view.enableUserOrGroupText(false);
         view.setUsersGroupsControlsPanelText(emptyList());
         view.clearUserOrGroupText();
         view.setActualOwnerText("");
-        taskService.call((TaskAssignmentSummary ts) -> {
-                             if (ts == null) {
-                                 return;
-                             }
-                             if (ts.getPotOwnersString() == null || ts.getPotOwnersString().isEmpty()) {
-                                 view.setUsersGroupsControlsPanelText(singletonList(Constants.INSTANCE.No_Potential_Owners()));
-                             } else {
-                                 view.setUsersGroupsControlsPanelText(ts.getPotOwnersString());
-                             }
-
-                             view.enableForwardButton(ts.isForwardAllowed());
-                             view.enableUserOrGroupText(ts.isForwardAllowed());
-
-                             if (ts.getActualOwner() == null || ts.getActualOwner().equals("")) {
-                                 view.enableReminderButton(false);
-                                 view.setActualOwnerText(Constants.INSTANCE.No_Actual_Owner());
-                             } else {
-                                 view.enableReminderButton(true);
-                                 view.setActualOwnerText(ts.getActualOwner());
-                             }
-                         }
-        ).getTaskAssignmentDetails(getServerTemplateId(),
-                                   getContainerId(),
-                                   getTaskId());
+    }
+
+    public void setTaskAssignmentDetails(final TaskAssignmentSummary ts) {
+        if (ts == null) {
+            return;
+        }
+        if (ts.getPotOwnersString() == null || ts.getPotOwnersString().isEmpty()) {
+            view.setUsersGroupsControlsPanelText(singletonList(Constants.INSTANCE.No_Potential_Owners()));
+        } else {
+            view.setUsersGroupsControlsPanelText(ts.getPotOwnersString());
+        }
+
+        view.enableForwardButton(ts.isForwardAllowed());
+        view.enableUserOrGroupText(ts.isForwardAllowed());
+
+        if (ts.getActualOwner() == null || ts.getActualOwner().equals("")) {
+            view.enableReminderButton(false);
+            view.setActualOwnerText(Constants.INSTANCE.No_Actual_Owner());
+        } else {
+            view.enableReminderButton(true);
+            view.setActualOwnerText(ts.getActualOwner());
+        }
     }
 
     public void onTaskSelectionEvent(@Observes final TaskSelectionEvent event) {
         if (!event.isForLog()) {
             setSelectedTask(event);
-            refreshTaskPotentialOwners();
+            // assignment details are pushed through setTaskAssignmentDetails by the task details screen
+            resetTaskPotentialOwners();
         }
     }
 
@@ -103,20 +103,12 @@ public class TaskAssignmentsPresenter extends AbstractTaskPresenter {
 
     public void refreshTaskPotentialOwners() {
         if (getTaskId() != null) {
-            view.enableDelegateButton(false);
-            view.enableUserOrGroupInput(false);
-            view.setPotentialOwnersInfo(emptyList());
+            resetTaskPotentialOwners();
 
             taskService.call(new RemoteCallback<TaskAssignmentSummary>() {
                 @Override
                 public void callback(final TaskAssignmentSummary response) {
-                    if (response == null || response.getPotOwnersString() == null || response.getPotOwnersString().isEmpty()) {
-                        view.setPotentialOwnersInfo(singletonList(constants.No_Potential_Owners()));
-                    } else {
-                        view.setPotentialOwnersInfo(response.getPotOwnersString());
-                        view.enableDelegateButton(response.isDelegationAllowed());
-                        view.enableUserOrGroupInput(response.isDelegationAllowed());
-                    }
+                    setTaskAssignmentDetails(response);
                 }
             }).getTaskAssignmentDetails(getServerTemplateId(),
                                         getContainerId(),
@@ -124,12 +116,29 @@ public class TaskAssignmentsPresenter extends AbstractTaskPresenter {
         }
     }
 
+    protected void resetTaskPotentialOwners() {
+        view.enableDelegateButton(false);
+        view.enableUserOrGroupInput(false);
+        view.setPotentialOwnersInfo(emptyList());
+    }
+
+    public void setTaskAssignmentDetails(final TaskAssignmentSummary response) {
+        if (response == null || response.getPotOwnersString() == null || response.getPotOwnersString().isEmpty()) {
+            view.setPotentialOwnersInfo(singletonList(constants.No_Potential_Owners()));
+        } else {
+            view.setPotentialOwnersInfo(response.getPotOwnersString());
+            view.enableDelegateButton(response.isDelegationAllowed());
+            view.enableUserOrGroupInput(response.isDelegationAllowed());
+        }
+    }
+
     public void onTaskSelectionEvent(@Observes final TaskSelectionEvent event) {
         if (!event.isForLog()) {
             setSelectedTask(event);
             view.setHelpText("");
             view.clearUserOrGroupInput();
-            refreshTaskPotentialOwners();
+            // assignment details are pushed through setTaskAssignmentDetails by the task details screen
+            resetTaskPotentialOwners();
         }
     }
 
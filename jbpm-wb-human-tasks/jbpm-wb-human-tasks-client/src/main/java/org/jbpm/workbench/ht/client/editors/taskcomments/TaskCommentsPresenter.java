@@ -103,30 +103,36 @@ public class TaskCommentsPresenter extends AbstractTaskPresenter {
 
     private void loadTaskComments() {
         taskService.call(
-                (List<CommentSummary> allComments) -> {
-                    if (allComments != null) {
-                        view.setCommentList(allComments.stream()
-                                                    .sorted((isSortAsc() ?
-                                                            comparing(CommentSummary::getAddedAt) :
-                                                            comparing(CommentSummary::getAddedAt).reversed()))
-                                                    .collect(toList())
-                                                    .subList(0, Math.min(allComments.size(), getPageSize() * getCurrentPage())));
-                        if (allComments.size() <= (getPageSize() * getCurrentPage())) {
-                            view.hideLoadButton();
-                        } else {
-                            view.showLoadButton();
-                        }
-                    }
-                }
+                (List<CommentSummary> allComments) -> setTaskComments(allComments)
         ).getTaskComments(getServerTemplateId(),
                           getContainerId(),
                           getTaskId());
     }
 
+    public void setTaskComments(final List<CommentSummary> allComments) {
+        if (allComments != null) {
+            view.setCommentList(allComments.stream()
+                                        .sorted((isSortAsc() ?
+                                                comparing(CommentSummary::getAddedAt) :
+                                                comparing(CommentSummary::getAddedAt).reversed()))
+                                        .collect(toList())
+                                        .subList(0, Math.min(allComments.size(), getPageSize() * getCurrentPage())));
+            if (allComments.size() <= (getPageSize() * getCurrentPage())) {
+                view.hideLoadButton();
+            } else {
+                view.showLoadButton();
+            }
+        }
+    }
+
     public void refreshCommentsView() {
+        resetCommentsView();
+        loadTaskComments();
+    }
+
+    protected void resetCommentsView() {
         setCurrentPage(1);
         view.clearCommentInputForm();
-        loadTaskComments();
     }
 
     public void loadMoreTaskComments() {
@@ -173,7 +179,8 @@ public class TaskCommentsPresenter extends AbstractTaskPresenter {
         if (forLog) {
             view.disableNewComments();
         }
-        refreshCommentsView();
+        // comments are pushed through setTaskComments by the task details screen
+        resetCommentsView();
     }
 
     public Predicate<CommentSummary> getDeleteCondition() {
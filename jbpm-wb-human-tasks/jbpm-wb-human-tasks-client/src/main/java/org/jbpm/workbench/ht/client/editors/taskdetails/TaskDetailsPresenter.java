@@ -16,6 +16,9 @@
 package org.jbpm.workbench.ht.client.editors.taskdetails;
 
 import java.util.Date;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
 import javax.annotation.PostConstruct;
 import javax.enterprise.context.Dependent;
 import javax.enterprise.event.Event;
@@ -27,6 +30,7 @@ import org.jboss.errai.common.client.api.Caller;
 import org.jboss.errai.ui.client.local.spi.TranslationService;
 import org.jbpm.workbench.ht.client.editors.AbstractTaskPresenter;
 import org.jbpm.workbench.ht.client.resources.i18n.Constants;
+import org.jbpm.workbench.ht.model.TaskAttribute;
 import org.jbpm.workbench.ht.model.TaskSummary;
 import org.jbpm.workbench.ht.model.events.TaskRefreshedEvent;
 import org.jbpm.workbench.ht.model.events.TaskSelectionEvent;
@@ -48,6 +52,12 @@ public class TaskDetailsPresenter extends AbstractTaskPresenter {
     @Inject
     private Caller<TaskService> taskService;
 
+    private String currentDescription;
+
+    private Date currentDueDate;
+
+    private Integer currentPriority;
+
     @Inject
     public TaskDetailsPresenter(TaskDetailsView view,
                                 Caller<TaskService> taskService,
@@ -71,9 +81,29 @@ public class TaskDetailsPresenter extends AbstractTaskPresenter {
                            final int priority) {
 
         if (getTaskId() != null) {
+            // only the attributes that differ from the displayed task are applied, a null value clears it
+            final Set<TaskAttribute> changedAttributes = EnumSet.noneOf(TaskAttribute.class);
+            if (!Objects.equals(taskDescription,
+                                currentDescription)) {
+                changedAttributes.add(TaskAttribute.DESCRIPTION);
+            }
+            if (!Objects.equals(dueDate,
+                                currentDueDate)) {
+                changedAttributes.add(TaskAttribute.DUE_DATE);
+            }
+            if (!Objects.equals(priority,
+                                currentPriority)) {
+                changedAttributes.add(TaskAttribute.PRIORITY);
+            }
+            if (changedAttributes.isEmpty()) {
+                return;
+            }
 
             taskService.call((Void) -> {
                 view.displayNotification(constants.TaskDetailsUpdatedForTaskId(getTaskId()));
+                setCurrentTaskDetails(taskDescription,
+                                      dueDate,
+                                      priority);
                 taskRefreshed.fire(new TaskRefreshedEvent(getServerTemplateId(),
                                                           getContainerId(),
                                                           getTaskId()));
@@ -82,15 +112,24 @@ public class TaskDetailsPresenter extends AbstractTaskPresenter {
                           getTaskId(),
                           priority,
                           taskDescription,
-                          dueDate);
+                          dueDate,
+                          changedAttributes);
         }
     }
 
+    protected void setCurrentTaskDetails(final String description,
+                                         final Date dueDate,
+                                         final Integer priority) {
+        this.currentDescription = description;
+        this.currentDueDate = dueDate;
+        this.currentPriority = priority;
+    }
+
     protected void setTaskDetails(String status,
                                   String description,
                                   String actualOwner,
                                   Date expirationTime,
-                                  String priority,
+                                  Integer priority,
                                   Long processInstanceId,
                                   String processId,
                                   Integer slaCompliance) {
@@ -98,7 +137,10 @@ public class TaskDetailsPresenter extends AbstractTaskPresenter {
         view.setSelectedDate(expirationTime);
         view.setUser(actualOwner);
         view.setTaskStatus(status);
-        view.setTaskPriority(priority);
+        view.setTaskPriority(String.valueOf(priority));
+        setCurrentTaskDetails(description,
+                              expirationTime,
+                              priority);
         view.setSlaCompliance(slaCompliance);
         if (processInstanceId == null) {
             view.setProcessInstanceId("");
@@ -127,7 +169,7 @@ public class TaskDetailsPresenter extends AbstractTaskPresenter {
                        event.getDescription(),
                        event.getActualOwner(),
                        event.getExpirationTime(),
-                       String.valueOf(event.getPriority()),
+                       event.getPriority(),
                        event.getProcessInstanceId(),
                        event.getProcessId(),
                        event.getSlaCompliance());
@@ -142,7 +184,7 @@ public class TaskDetailsPresenter extends AbstractTaskPresenter {
                                            task.getDescription(),
                                            task.getActualOwner(),
                                            task.getExpirationTime(),
-                                           String.valueOf(task.getPriority()),
+                                           task.getPriority(),
                                            task.getProcessInstanceId(),
                                            task.getProcessId(),
                                            task.getSlaCompliance());
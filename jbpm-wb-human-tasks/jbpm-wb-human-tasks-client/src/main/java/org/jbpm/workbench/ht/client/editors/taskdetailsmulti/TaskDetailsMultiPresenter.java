@@ -15,6 +15,8 @@
  */
 package org.jbpm.workbench.ht.client.editors.taskdetailsmulti;
 
+import java.util.HashSet;
+import java.util.Set;
 import java.util.function.Consumer;
 
 import javax.annotation.PostConstruct;
@@ -31,6 +33,8 @@ import org.jbpm.workbench.common.client.menu.RefreshMenuBuilder;
 import org.jbpm.workbench.common.preferences.ManagePreferences;
 import org.jbpm.workbench.ht.client.editors.AbstractTaskPresenter;
 import org.jbpm.workbench.ht.client.editors.taskcomments.TaskCommentsPresenter;
+import org.jbpm.workbench.ht.model.TaskDetailsBundle;
+import org.jbpm.workbench.ht.model.TaskDetailsSection;
 import org.jbpm.workbench.ht.model.TaskSummary;
 import org.jbpm.workbench.ht.service.TaskService;
 import org.jbpm.workbench.ht.client.editors.taskadmin.TaskAdminPresenter;
@@ -113,6 +117,8 @@ public class TaskDetailsMultiPresenter extends AbstractTaskPresenter implements
 
     private boolean forAdmin = false;
 
+    private int detailsBundleRequest;
+
     @WorkbenchPartView
     public UberView<TaskDetailsMultiPresenter> getView() {
         return view;
@@ -181,6 +187,50 @@ public class TaskDetailsMultiPresenter extends AbstractTaskPresenter implements
         if (!refreshDetails) {
             view.resetTabs(event.isForLog());
         }
+
+        loadTaskDetailsBundle();
+    }
+
+    protected void loadTaskDetailsBundle() {
+        final Set<TaskDetailsSection> sections = new HashSet<>();
+        sections.add(TaskDetailsSection.COMMENTS);
+        sections.add(TaskDetailsSection.EVENTS);
+        if (!isForLog()) {
+            sections.add(TaskDetailsSection.ASSIGNMENTS);
+        }
+        // a response for a task that is no longer selected is dropped
+        final int request = ++detailsBundleRequest;
+        taskDataService.call((TaskDetailsBundle bundle) -> {
+            if (request != detailsBundleRequest) {
+                return;
+            }
+            // sections that did not make it within the server deadline are fetched on their own
+            if (bundle != null && bundle.isLoaded(TaskDetailsSection.COMMENTS)) {
+                taskWorkCommentsPresenter.setTaskComments(bundle.getComments());
+                taskCommentsPresenter.setTaskComments(bundle.getComments());
+            } else {
+                taskCommentsRefresh();
+            }
+            if (bundle != null && bundle.isLoaded(TaskDetailsSection.EVENTS)) {
+                taskLogsPresenter.setTaskLogs(bundle.getEvents());
+            } else {
+                taskLogsRefresh();
+            }
+            if (isForLog()) {
+                return;
+            }
+            if (bundle != null && bundle.isLoaded(TaskDetailsSection.ASSIGNMENTS)) {
+                taskAssignmentsPresenter.setTaskAssignmentDetails(bundle.getAssignmentDetails());
+                taskAdminPresenter.setTaskAssignmentDetails(bundle.getAssignmentDetails());
+            } else {
+                taskAssignmentsRefresh();
+                taskAdminRefresh();
+            }
+        }).getTaskDetailsBundle(getServerTemplateId(),
+                                getContainerId(),
+                                getTaskId(),
+                                sections,
+                                TaskLogsPresenter.PAGE_SIZE);
     }
 
     public void closeDetails() {
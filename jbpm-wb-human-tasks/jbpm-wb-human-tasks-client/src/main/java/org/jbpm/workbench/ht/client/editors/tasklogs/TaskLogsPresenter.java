@@ -75,20 +75,22 @@ public class TaskLogsPresenter extends AbstractTaskPresenter {
     }
 
     public void loadTaskLogs() {
-        taskService.call((final List<TaskEventSummary> events) -> {
-            if (currentPage == 0) {
-                visibleLogs = new ArrayList();
-            }
-            visibleLogs.addAll(events);
-            view.hideLoadButton(events.size() < PAGE_SIZE);
-            view.setLogs(visibleLogs.stream().collect(Collectors.toList()));
-        }).getTaskEvents(getServerTemplateId(),
+        taskService.call((final List<TaskEventSummary> events) -> setTaskLogs(events)).getTaskEvents(getServerTemplateId(),
                          getContainerId(),
                          getTaskId(),
                          currentPage,
                          getPageSize());
     }
 
+    public void setTaskLogs(final List<TaskEventSummary> events) {
+        if (currentPage == 0) {
+            visibleLogs = new ArrayList();
+        }
+        visibleLogs.addAll(events);
+        view.hideLoadButton(events.size() < PAGE_SIZE);
+        view.setLogs(visibleLogs.stream().collect(Collectors.toList()));
+    }
+
     public void loadMoreProcessInstanceLogs() {
         setCurrentPage(currentPage + 1);
         loadTaskLogs();
@@ -96,7 +98,8 @@ public class TaskLogsPresenter extends AbstractTaskPresenter {
 
     public void onTaskSelectionEvent(@Observes final TaskSelectionEvent event) {
         setSelectedTask(event);
-        refreshLogs();
+        // the first page of events is pushed through setTaskLogs by the task details screen
+        setCurrentPage(0);
     }
 
     public void onTaskRefreshedEvent(@Observes final TaskRefreshedEvent event) {
@@ -21,7 +21,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -29,6 +31,7 @@ import javax.enterprise.event.Event;
 import javax.enterprise.event.Observes;
 import javax.inject.Inject;
 
+import org.dashbuilder.dataset.DataSet;
 import org.dashbuilder.dataset.DataSetOp;
 import org.dashbuilder.dataset.DataSetOpType;
 import org.dashbuilder.dataset.client.DataSetReadyCallback;
@@ -41,11 +44,14 @@ import org.jbpm.workbench.common.client.PerspectiveIds;
 import org.jbpm.workbench.common.client.filters.active.ActiveFilterItem;
 import org.jbpm.workbench.common.client.list.AbstractMultiGridPresenter;
 import org.jbpm.workbench.common.client.list.MultiGridView;
+import org.jbpm.workbench.common.client.menu.LiveUpdatesMenuBuilder;
 import org.jbpm.workbench.common.client.menu.RefreshMenuBuilder;
 import org.jbpm.workbench.df.client.filter.FilterSettings;
 import org.jbpm.workbench.df.client.list.DataSetQueryHelper;
 import org.jbpm.workbench.ht.client.editors.taskslist.popup.TasksReassignmentPresenter;
 import org.jbpm.workbench.ht.client.resources.i18n.Constants;
+import org.jbpm.workbench.ht.model.TaskKey;
+import org.jbpm.workbench.ht.model.TaskOperationResult;
 import org.jbpm.workbench.ht.model.TaskSummary;
 import org.jbpm.workbench.ht.model.events.*;
 import org.jbpm.workbench.ht.service.TaskService;
@@ -298,9 +304,30 @@ public abstract class AbstractTaskListPresenter<V extends AbstractTaskListPresen
     public void getMenus(final Consumer<Menus> menusConsumer) { //To be used by subclass methods annotated with @WorkbenchMenu
         menusConsumer.accept(MenuFactory
                                      .newTopLevelCustomMenu(new RefreshMenuBuilder(this)).endMenu()
+                                     .newTopLevelCustomMenu(new LiveUpdatesMenuBuilder(this)).endMenu()
                                      .build());
     }
 
+    @Override
+    protected String getLiveUpdatesIdColumn() {
+        return COLUMN_TASK_ID;
+    }
+
+    @Override
+    protected String getLiveUpdatesLastModificationColumn() {
+        return COLUMN_LAST_MODIFICATION_DATE;
+    }
+
+    @Override
+    protected TaskSummary createLiveUpdatedSummary(final TaskSummary current,
+                                                   final DataSet dataSet,
+                                                   final int row) {
+        final TaskSummary summary = new TaskSummaryDataSetMapper().apply(dataSet,
+                                                                         row);
+        summary.setDomainData(current.getDomainData());
+        return summary;
+    }
+
     @Override
     public void selectSummaryItem(final TaskSummary summary) {
         boolean logOnly = false;
@@ -463,14 +490,17 @@ public abstract class AbstractTaskListPresenter<V extends AbstractTaskListPresen
         if (taskSummaries == null || taskSummaries.isEmpty()) {
             return;
         }
-        taskSummaries.forEach(taskSummary -> {
-            if (getClaimActionCondition().test(taskSummary)) {
-                claimTask(taskSummary);
-            } else {
-                view.displayNotification(
-                        constants.ClaimNotAllowedOn(String.valueOf(taskSummary.getId()), taskSummary.getName()));
-            }
-        });
+        final List<TaskSummary> tasks = getAllowedTasks(taskSummaries,
+                                                        getClaimActionCondition(),
+                                                        task -> constants.ClaimNotAllowedOn(String.valueOf(task.getId()), task.getName()));
+        if (!tasks.isEmpty()) {
+            taskService.call((List<TaskOperationResult> results) -> onBulkOperationResults(tasks,
+                                                                                            results,
+                                                                                            task -> constants.TaskWasClaimed(String.valueOf(task.getId()), task.getName()),
+                                                                                            (task, error) -> constants.UnableToClaimTask(String.valueOf(task.getId()), task.getName(), error))
+            ).claimTasks(getSelectedServerTemplate(),
+                         getTaskKeys(tasks));
+        }
         deselectAllItems();
     }
 
@@ -478,14 +508,17 @@ public abstract class AbstractTaskListPresenter<V extends AbstractTaskListPresen
         if (taskSummaries == null || taskSummaries.isEmpty()) {
             return;
         }
-        taskSummaries.forEach(taskSummary -> {
-            if (getReleaseActionCondition().test(taskSummary)) {
-                releaseTask(taskSummary);
-            } else {
-                view.displayNotification(
-                        constants.ReleaseNotAllowedOn(String.valueOf(taskSummary.getId()), taskSummary.getName()));
-            }
-        });
+        final List<TaskSummary> tasks = getAllowedTasks(taskSummaries,
+                                                        getReleaseActionCondition(),
+                                                        task -> constants.ReleaseNotAllowedOn(String.valueOf(task.getId()), task.getName()));
+        if (!tasks.isEmpty()) {
+            taskService.call((List<TaskOperationResult> results) -> onBulkOperationResults(tasks,
+                                                                                            results,
+                                                                                            task -> constants.TaskWasReleased(String.valueOf(task.getId()), task.getName()),
+                                                                                            (task, error) -> constants.UnableToReleaseTask(String.valueOf(task.getId()), task.getName(), error))
+            ).releaseTasks(getSelectedServerTemplate(),
+                           getTaskKeys(tasks));
+        }
         deselectAllItems();
     }
 
@@ -493,14 +526,17 @@ public abstract class AbstractTaskListPresenter<V extends AbstractTaskListPresen
         if (taskSummaries == null || taskSummaries.isEmpty()) {
             return;
         }
-        taskSummaries.forEach(taskSummary -> {
-            if (getResumeActionCondition().test(taskSummary)) {
-                resumeTask(taskSummary);
-            } else {
-                view.displayNotification(
-                        constants.ResumeNotAllowedOn(String.valueOf(taskSummary.getId()), taskSummary.getName()));
-            }
-        });
+        final List<TaskSummary> tasks = getAllowedTasks(taskSummaries,
+                                                        getResumeActionCondition(),
+                                                        task -> constants.ResumeNotAllowedOn(String.valueOf(task.getId()), task.getName()));
+        if (!tasks.isEmpty()) {
+            taskService.call((List<TaskOperationResult> results) -> onBulkOperationResults(tasks,
+                                                                                            results,
+                                                                                            task -> constants.TaskWasResumed(String.valueOf(task.getId()), task.getName()),
+                                                                                            (task, error) -> constants.UnableToResumeTask(String.valueOf(task.getId()), task.getName(), error))
+            ).resumeTasks(getSelectedServerTemplate(),
+                          getTaskKeys(tasks));
+        }
         deselectAllItems();
     }
 
@@ -508,15 +544,58 @@ public abstract class AbstractTaskListPresenter<V extends AbstractTaskListPresen
         if (taskSummaries == null || taskSummaries.isEmpty()) {
             return;
         }
+        final List<TaskSummary> tasks = getAllowedTasks(taskSummaries,
+                                                        getSuspendActionCondition(),
+                                                        task -> constants.SuspendNotAllowedOn(String.valueOf(task.getId()), task.getName()));
+        if (!tasks.isEmpty()) {
+            taskService.call((List<TaskOperationResult> results) -> onBulkOperationResults(tasks,
+                                                                                            results,
+                                                                                            task -> constants.TaskWasSuspended(String.valueOf(task.getId()), task.getName()),
+                                                                                            (task, error) -> constants.UnableToSuspendTask(String.valueOf(task.getId()), task.getName(), error))
+            ).suspendTasks(getSelectedServerTemplate(),
+                           getTaskKeys(tasks));
+        }
+        deselectAllItems();
+    }
+
+    protected List<TaskSummary> getAllowedTasks(final List<TaskSummary> taskSummaries,
+                                                final Predicate<TaskSummary> condition,
+                                                final Function<TaskSummary, String> notAllowedMessage) {
+        final List<TaskSummary> tasks = new ArrayList<>();
         taskSummaries.forEach(taskSummary -> {
-            if (getSuspendActionCondition().test(taskSummary)) {
-                suspendTask(taskSummary);
+            if (condition.test(taskSummary)) {
+                tasks.add(taskSummary);
             } else {
-                view.displayNotification(
-                        constants.SuspendNotAllowedOn(String.valueOf(taskSummary.getId()), taskSummary.getName()));
+                view.displayNotification(notAllowedMessage.apply(taskSummary));
             }
         });
-        deselectAllItems();
+        return tasks;
+    }
+
+    protected List<TaskKey> getTaskKeys(final List<TaskSummary> tasks) {
+        return tasks.stream()
+                .map(task -> new TaskKey(getSelectedServerTemplate(),
+                                         task.getDeploymentId(),
+                                         task.getId()))
+                .collect(Collectors.toList());
+    }
+
+    protected void onBulkOperationResults(final List<TaskSummary> tasks,
+                                          final List<TaskOperationResult> results,
+                                          final Function<TaskSummary, String> successMessage,
+                                          final BiFunction<TaskSummary, String, String> errorMessage) {
+        // results come back in the order of the submitted task keys
+        for (int i = 0; i < results.size(); i++) {
+            final TaskSummary task = tasks.get(i);
+            final TaskOperationResult result = results.get(i);
+            if (result.isSuccessful()) {
+                view.displayNotification(successMessage.apply(task));
+            } else {
+                view.displayNotification(errorMessage.apply(task,
+                                                            result.getErrorMessage()));
+            }
+        }
+        refreshGrid();
     }
 
     public void bulkReassign(List<TaskSummary> taskSummaries) {
@@ -114,14 +114,16 @@ public class TasksReassignmentPresenter {
 
         taskService.call((List<TaskAssignmentSummary> reassignments) -> {
                              reassignments.forEach(taskAssignmentSummary -> {
-                                 if (taskAssignmentSummary.isDelegationAllowed()) {
-                                     displayNotification(constants.TaskWasDelegated(String.valueOf(taskAssignmentSummary.getTaskId()), taskAssignmentSummary.getTaskName(), userId));
-                                 } else {
+                                 if (!taskAssignmentSummary.isDelegationAllowed()) {
                                      displayUnsuccessfulNotification(constants.ReassignmentNotAllowedOn(String.valueOf(taskAssignmentSummary.getTaskId()), taskAssignmentSummary.getTaskName(), userId));
+                                 } else if (taskAssignmentSummary.getErrorMessage() != null) {
+                                     displayUnsuccessfulNotification(constants.UnableToPerformReassignment(userId, taskAssignmentSummary.getErrorMessage()));
+                                 } else {
+                                     displayNotification(constants.TaskWasDelegated(String.valueOf(taskAssignmentSummary.getTaskId()), taskAssignmentSummary.getTaskName(), userId));
                                  }
                              });
                              reassignments.stream()
-                                     .filter(taskAssignmentSummary -> taskAssignmentSummary.isDelegationAllowed())
+                                     .filter(taskAssignmentSummary -> taskAssignmentSummary.isDelegationAllowed() && taskAssignmentSummary.getErrorMessage() == null)
                                      .findFirst()
                                      .ifPresent(taskAssignmentSummary ->
                                                         taskRefreshed.fire(new TaskRefreshedEvent(serverTemplateId,
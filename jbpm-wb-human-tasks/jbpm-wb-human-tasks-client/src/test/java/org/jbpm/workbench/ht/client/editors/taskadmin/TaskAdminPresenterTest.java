@@ -130,9 +130,13 @@ public class TaskAdminPresenterTest extends AbstractTaskPresenterTest {
 
         presenter.onTaskSelectionEvent(event);
 
-        verify(taskService).getTaskAssignmentDetails(serverTemplateId,
-                                                     containerId,
-                                                     taskId);
+        verify(taskService,
+               never()).getTaskAssignmentDetails(serverTemplateId,
+                                                 containerId,
+                                                 taskId);
+
+        presenter.setTaskAssignmentDetails(ts);
+
         verify(viewMock).enableForwardButton(true);
         verify(viewMock).enableUserOrGroupText(true);
         verify(viewMock).enableReminderButton(true);
@@ -184,6 +188,7 @@ public class TaskAdminPresenterTest extends AbstractTaskPresenterTest {
                                                   taskId)).thenReturn(summary);
 
         presenter.onTaskSelectionEvent(event);
+        presenter.refreshTaskPotentialOwners();
 
         InOrder inOrder = inOrder(viewMock);
 
@@ -16,6 +16,7 @@
 package org.jbpm.workbench.ht.client.editors.taskassignments;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 
 import javax.enterprise.event.Event;
@@ -167,6 +168,7 @@ public class TaskAssignmentsPresenterTest extends AbstractTaskPresenterTest {
                                                           1L,
                                                           "processId");
         presenter.onTaskSelectionEvent(event);
+        presenter.setTaskAssignmentDetails(task);
 
         verify(viewMock,
                times(2)).enableDelegateButton(false);
@@ -208,6 +210,7 @@ public class TaskAssignmentsPresenterTest extends AbstractTaskPresenterTest {
                                                           1L,
                                                           "processId");
         presenter.onTaskSelectionEvent(event);
+        presenter.setTaskAssignmentDetails(task);
 
         verify(viewMock,
                times(2)).enableDelegateButton(false);
@@ -250,6 +253,7 @@ public class TaskAssignmentsPresenterTest extends AbstractTaskPresenterTest {
                                                           1L,
                                                           "processId");
         presenter.onTaskSelectionEvent(event);
+        presenter.setTaskAssignmentDetails(task);
 
         final InOrder inOrder = inOrder(viewMock);
         inOrder.verify(viewMock).enableDelegateButton(false);
@@ -297,8 +301,12 @@ public class TaskAssignmentsPresenterTest extends AbstractTaskPresenterTest {
 
         presenter.onTaskSelectionEvent(event);
 
-        verify(taskService).getTaskAssignmentDetails(serverTemplateId,
-                                                     containerId,
-                                                     taskId);
+        verify(taskService,
+               never()).getTaskAssignmentDetails(serverTemplateId,
+                                                 containerId,
+                                                 taskId);
+        verify(viewMock).setHelpText("");
+        verify(viewMock).clearUserOrGroupInput();
+        verify(viewMock).setPotentialOwnersInfo(Collections.emptyList());
     }
 }
\ No newline at end of file
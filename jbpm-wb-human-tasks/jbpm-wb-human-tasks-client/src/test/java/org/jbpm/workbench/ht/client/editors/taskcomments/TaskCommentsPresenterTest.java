@@ -114,11 +114,11 @@ public class TaskCommentsPresenterTest extends AbstractTaskPresenterTest {
                                                           "processId");
         getPresenter().onTaskSelectionEvent(event);
 
-        verify(commentsService).getTaskComments(serverTemplateId, containerId, TASK_ID);
+        verify(commentsService, never()).getTaskComments(serverTemplateId, containerId, TASK_ID);
 
         getPresenter().onTaskRefreshedEvent(new TaskRefreshedEvent(serverTemplateId, containerId, TASK_ID));
 
-        verify(commentsService, times(2)).getTaskComments(serverTemplateId, containerId, TASK_ID);
+        verify(commentsService).getTaskComments(serverTemplateId, containerId, TASK_ID);
     }
 
     @Test
@@ -200,7 +200,8 @@ public class TaskCommentsPresenterTest extends AbstractTaskPresenterTest {
 
         getPresenter().onTaskSelectionEvent(event);
 
-        verify(commentsService).getTaskComments(serverTemplateId, containerId, taskId);
+        verify(commentsService, never()).getTaskComments(serverTemplateId, containerId, taskId);
+        verify(getPresenter().getTaskCommentView()).clearCommentInputForm();
         verify(getPresenter().getTaskCommentView()).disableNewComments();
     }
 
@@ -217,7 +218,8 @@ public class TaskCommentsPresenterTest extends AbstractTaskPresenterTest {
 
         getPresenter().onTaskSelectionEvent(event);
 
-        verify(commentsService).getTaskComments(serverTemplateId, containerId, taskId);
+        verify(commentsService, never()).getTaskComments(serverTemplateId, containerId, taskId);
+        verify(getPresenter().getTaskCommentView()).clearCommentInputForm();
         verify(getPresenter().getTaskCommentView(), never()).disableNewComments();
     }
 
@@ -273,11 +275,10 @@ public class TaskCommentsPresenterTest extends AbstractTaskPresenterTest {
                                                           "description", new Date(), "Ready", "actualOwner", 2, 1L,
                                                           "processId");
         getPresenter().onTaskSelectionEvent(event);
+        getPresenter().onTaskCompletedEvent(new TaskCompletedEvent(serverTemplateId, containerId, TASK_ID));
 
         verify(commentsService).getTaskComments(serverTemplateId, containerId, TASK_ID);
 
-        getPresenter().onTaskCompletedEvent(new TaskCompletedEvent(serverTemplateId, containerId, TASK_ID));
-
         verify(getPresenter().getTaskCommentView()).disableNewComments();
     }
 
@@ -292,6 +293,18 @@ public class TaskCommentsPresenterTest extends AbstractTaskPresenterTest {
                 .thenReturn(comments);
     }
 
+    @Test
+    public void setTaskCommentsRendersFirstPageTest() {
+        createTaskCommentsResults(getPresenter().getPageSize() + 5);
+
+        getPresenter().setTaskComments(commentsService.getTaskComments("serverTemplateId", "containerId", TASK_ID));
+        ArgumentCaptor<List> comentsList = ArgumentCaptor.forClass(List.class);
+        verify(getPresenter().getTaskCommentView()).setCommentList(comentsList.capture());
+
+        assertEquals(getPresenter().getPageSize(), comentsList.getValue().size());
+        verify(getPresenter().getTaskCommentView()).showLoadButton();
+    }
+
     @Test
     public void showLoadMoreButtonTest() {
         createTaskCommentsResults(getPresenter().getPageSize() + 5);
@@ -16,11 +16,13 @@
 package org.jbpm.workbench.ht.client.editors.taskdetails;
 
 import java.util.Date;
+import java.util.EnumSet;
 
 import com.google.gwtmockito.GwtMockitoTestRunner;
 import org.jboss.errai.ui.client.local.spi.TranslationService;
 import org.jbpm.workbench.ht.client.editors.AbstractTaskPresenter;
 import org.jbpm.workbench.ht.client.editors.AbstractTaskPresenterTest;
+import org.jbpm.workbench.ht.model.TaskAttribute;
 import org.jbpm.workbench.ht.model.events.TaskRefreshedEvent;
 import org.jbpm.workbench.ht.model.events.TaskSelectionEvent;
 import org.jbpm.workbench.ht.service.TaskService;
@@ -122,21 +124,64 @@ public class TaskDetailsPresenterTest extends AbstractTaskPresenterTest {
         boolean isForLog = false;
 
         TaskSelectionEvent event = new TaskSelectionEvent(serverTemplateId, containerId, taskId, "task", true, isForLog,
-                                                          "description", new Date(), "Completed", "actualOwner", 2, 1L,
+                                                          "description", new Date(0), "Completed", "actualOwner", 2, 1L,
                                                           "processId", 1);
         presenter.onTaskSelectionEvent(event);
 
-        String description = "description";
-        Date dueDate = new Date();
+        String description = "new description";
+        Date dueDate = new Date(1000);
         int priority = 3;
         presenter.updateTask(description, dueDate, priority);
 
-        verify(taskService).updateTask(serverTemplateId, containerId, taskId, priority, description, dueDate);
+        verify(taskService).updateTask(serverTemplateId, containerId, taskId, priority, description, dueDate, EnumSet.allOf(TaskAttribute.class));
         final ArgumentCaptor<TaskRefreshedEvent> argument = ArgumentCaptor.forClass(TaskRefreshedEvent.class);
         verify(taskRefreshedEvent).fire(argument.capture());
         assertEquals(taskId, argument.getValue().getTaskId());
     }
 
+    @Test
+    public void testUpdateDetailsSendsOnlyChangedAttributes() {
+        Date dueDate = new Date(0);
+        TaskSelectionEvent event = new TaskSelectionEvent("serverTemplateId", "containerId", 1L, "task", true, false,
+                                                          "description", dueDate, "Ready", "actualOwner", 2, 1L,
+                                                          "processId", 1);
+        presenter.onTaskSelectionEvent(event);
+
+        presenter.updateTask("description", new Date(0), 5);
+
+        verify(taskService).updateTask("serverTemplateId", "containerId", 1L, 5, "description", new Date(0), EnumSet.of(TaskAttribute.PRIORITY));
+
+        presenter.updateTask("description", dueDate, 5);
+
+        verify(taskService, times(1)).updateTask(anyString(), anyString(), anyLong(), any(), any(), any(), any());
+    }
+
+    @Test
+    public void testUpdateDetailsWithoutChanges() {
+        Date dueDate = new Date(0);
+        TaskSelectionEvent event = new TaskSelectionEvent("serverTemplateId", "containerId", 1L, "task", true, false,
+                                                          "description", dueDate, "Ready", "actualOwner", 2, 1L,
+                                                          "processId", 1);
+        presenter.onTaskSelectionEvent(event);
+
+        presenter.updateTask("description", dueDate, 2);
+
+        verify(taskService, never()).updateTask(anyString(), anyString(), anyLong(), any(), any(), any(), any());
+        verify(taskRefreshedEvent, never()).fire(any(TaskRefreshedEvent.class));
+    }
+
+    @Test
+    public void testUpdateDetailsClearsDueDate() {
+        TaskSelectionEvent event = new TaskSelectionEvent("serverTemplateId", "containerId", 1L, "task", true, false,
+                                                          "description", new Date(0), "Ready", "actualOwner", 2, 1L,
+                                                          "processId", 1);
+        presenter.onTaskSelectionEvent(event);
+
+        presenter.updateTask("description", null, 2);
+
+        verify(taskService).updateTask("serverTemplateId", "containerId", 1L, 2, "description", null, EnumSet.of(TaskAttribute.DUE_DATE));
+    }
+
     private void verifySetTaskDetails(String actualOwner,
                                       String status,
                                       String priority) {
@@ -15,7 +15,10 @@
  */
 package org.jbpm.workbench.ht.client.editors.taskdetailsmulti;
 
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
+import java.util.Set;
 
 import javax.enterprise.event.Event;
 
@@ -26,9 +29,17 @@ import org.jbpm.workbench.forms.client.display.api.HumanTaskFormDisplayProvider;
 import org.jbpm.workbench.forms.client.display.views.FormDisplayerView;
 import org.jbpm.workbench.ht.client.editors.AbstractTaskPresenter;
 import org.jbpm.workbench.ht.client.editors.AbstractTaskPresenterTest;
+import org.jbpm.workbench.ht.client.editors.taskadmin.TaskAdminPresenter;
+import org.jbpm.workbench.ht.client.editors.taskassignments.TaskAssignmentsPresenter;
 import org.jbpm.workbench.ht.client.editors.taskcomments.TaskCommentsPresenter;
 import org.jbpm.workbench.ht.client.editors.taskdetails.TaskDetailsPresenter;
 import org.jbpm.workbench.ht.client.editors.taskform.TaskFormPresenter;
+import org.jbpm.workbench.ht.client.editors.tasklogs.TaskLogsPresenter;
+import org.jbpm.workbench.ht.model.CommentSummary;
+import org.jbpm.workbench.ht.model.TaskAssignmentSummary;
+import org.jbpm.workbench.ht.model.TaskDetailsBundle;
+import org.jbpm.workbench.ht.model.TaskDetailsSection;
+import org.jbpm.workbench.ht.model.TaskEventSummary;
 import org.jbpm.workbench.ht.model.TaskSummary;
 import org.jbpm.workbench.ht.model.events.TaskSelectionEvent;
 import org.jbpm.workbench.ht.service.TaskService;
@@ -81,6 +92,15 @@ public class TaskDetailsMultiPresenterTest extends AbstractTaskPresenterTest {
     @Mock
     private TaskCommentsPresenter taskWorkCommentsPresenter;
 
+    @Mock
+    private TaskLogsPresenter taskLogsPresenter;
+
+    @Mock
+    private TaskAssignmentsPresenter taskAssignmentsPresenter;
+
+    @Mock
+    private TaskAdminPresenter taskAdminPresenter;
+
     @Mock
     private TaskDetailsMultiViewImpl view;
 
@@ -269,4 +289,95 @@ public class TaskDetailsMultiPresenterTest extends AbstractTaskPresenterTest {
         verify(taskFormPresenter).getView();
         verify(taskCommentsPresenter, never()).getView();
     }
+
+    @Test
+    public void taskSelectionLoadsDetailsBundleTest() {
+        final String serverTemplateId = "serverTemplateId";
+        final String containerId = "containerId";
+        final TaskDetailsBundle bundle = new TaskDetailsBundle();
+        final List<CommentSummary> comments = Collections.singletonList(new CommentSummary());
+        final List<TaskEventSummary> events = Collections.singletonList(new TaskEventSummary());
+        final TaskAssignmentSummary assignmentDetails = new TaskAssignmentSummary();
+        bundle.setComments(comments);
+        bundle.setEvents(events);
+        bundle.setAssignmentDetails(assignmentDetails);
+        bundle.getLoadedSections().add(TaskDetailsSection.COMMENTS);
+        bundle.getLoadedSections().add(TaskDetailsSection.EVENTS);
+        bundle.getLoadedSections().add(TaskDetailsSection.ASSIGNMENTS);
+        when(taskServiceMock.getTaskDetailsBundle(eq(serverTemplateId),
+                                                  eq(containerId),
+                                                  eq(TASK_ID),
+                                                  any(),
+                                                  eq(TaskLogsPresenter.PAGE_SIZE))).thenReturn(bundle);
+
+        presenter.onTaskSelectionEvent(new TaskSelectionEvent(serverTemplateId, containerId, TASK_ID, TASK_NAME, true, false));
+
+        final ArgumentCaptor<Set> sections = ArgumentCaptor.forClass(Set.class);
+        verify(taskServiceMock).getTaskDetailsBundle(eq(serverTemplateId),
+                                                     eq(containerId),
+                                                     eq(TASK_ID),
+                                                     sections.capture(),
+                                                     eq(TaskLogsPresenter.PAGE_SIZE));
+        assertEquals(3, sections.getValue().size());
+        assertFalse(sections.getValue().contains(TaskDetailsSection.TASK));
+        verify(taskCommentsPresenter).setTaskComments(comments);
+        verify(taskWorkCommentsPresenter).setTaskComments(comments);
+        verify(taskLogsPresenter).setTaskLogs(events);
+        verify(taskAssignmentsPresenter).setTaskAssignmentDetails(assignmentDetails);
+        verify(taskAdminPresenter).setTaskAssignmentDetails(assignmentDetails);
+        verify(taskCommentsPresenter, never()).refreshCommentsView();
+        verify(taskLogsPresenter, never()).refreshLogs();
+        verify(taskAssignmentsPresenter, never()).refreshTaskPotentialOwners();
+        verify(taskAdminPresenter, never()).refreshTaskPotentialOwners();
+    }
+
+    @Test
+    public void taskSelectionRefreshesSectionsMissingFromBundleTest() {
+        final TaskDetailsBundle bundle = new TaskDetailsBundle();
+        bundle.setComments(Collections.emptyList());
+        bundle.getLoadedSections().add(TaskDetailsSection.COMMENTS);
+        when(taskServiceMock.getTaskDetailsBundle(anyString(), anyString(), anyLong(), any(), anyInt())).thenReturn(bundle);
+
+        presenter.onTaskSelectionEvent(new TaskSelectionEvent("", "", TASK_ID, TASK_NAME, true, false));
+
+        verify(taskCommentsPresenter).setTaskComments(Collections.emptyList());
+        verify(taskCommentsPresenter, never()).refreshCommentsView();
+        verify(taskLogsPresenter).refreshLogs();
+        verify(taskAssignmentsPresenter).refreshTaskPotentialOwners();
+        verify(taskAdminPresenter).refreshTaskPotentialOwners();
+    }
+
+    @Test
+    public void staleDetailsBundleIsDroppedTest() {
+        final TaskDetailsBundle staleBundle = new TaskDetailsBundle();
+        staleBundle.setComments(Collections.singletonList(new CommentSummary()));
+        staleBundle.getLoadedSections().add(TaskDetailsSection.COMMENTS);
+        final TaskDetailsBundle currentBundle = new TaskDetailsBundle();
+        currentBundle.setComments(Collections.emptyList());
+        currentBundle.getLoadedSections().add(TaskDetailsSection.COMMENTS);
+        when(taskServiceMock.getTaskDetailsBundle(anyString(), anyString(), eq(TASK_ID + 1), any(), anyInt())).thenReturn(currentBundle);
+        // the next task gets selected while the bundle of the first one is still loading
+        when(taskServiceMock.getTaskDetailsBundle(anyString(), anyString(), eq(TASK_ID), any(), anyInt())).thenAnswer(invocation -> {
+            presenter.onTaskSelectionEvent(new TaskSelectionEvent("", "", TASK_ID + 1, TASK_NAME, true, false));
+            return staleBundle;
+        });
+
+        presenter.onTaskSelectionEvent(new TaskSelectionEvent("", "", TASK_ID, TASK_NAME, true, false));
+
+        verify(taskCommentsPresenter).setTaskComments(currentBundle.getComments());
+        verify(taskCommentsPresenter, never()).setTaskComments(staleBundle.getComments());
+    }
+
+    @Test
+    public void taskSelectionForLogSkipsAssignmentsTest() {
+        presenter.onTaskSelectionEvent(new TaskSelectionEvent("", "", TASK_ID, TASK_NAME, false, true));
+
+        final ArgumentCaptor<Set> sections = ArgumentCaptor.forClass(Set.class);
+        verify(taskServiceMock).getTaskDetailsBundle(anyString(), anyString(), anyLong(), sections.capture(), anyInt());
+        assertFalse(sections.getValue().contains(TaskDetailsSection.ASSIGNMENTS));
+        verify(taskCommentsPresenter).refreshCommentsView();
+        verify(taskLogsPresenter).refreshLogs();
+        verifyZeroInteractions(taskAssignmentsPresenter,
+                               taskAdminPresenter);
+    }
 }
@@ -42,9 +42,11 @@ import org.uberfire.mocks.CallerMock;
 import static java.util.Collections.emptyList;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.anyList;
 import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -89,12 +91,14 @@ public class TaskLogsPresenterTest extends AbstractTaskPresenterTest {
         presenter.onTaskSelectionEvent(new TaskSelectionEvent(serverTemplateId,
                                                               containerId,
                                                               TASK_ID));
+        presenter.setTaskLogs(createEventSummariesForTask(TASK_ID));
 
-        verify(taskService).getTaskEvents(serverTemplateId,
-                                          containerId,
-                                          TASK_ID,
-                                          0,
-                                          10);
+        verify(taskService,
+               never()).getTaskEvents(anyString(),
+                                      anyString(),
+                                      anyLong(),
+                                      anyInt(),
+                                      anyInt());
         ArgumentCaptor<List> argumentDESC = ArgumentCaptor.forClass(List.class);
         verify(taskLogsView).setLogs(argumentDESC.capture());
         assertEquals(3,
@@ -114,14 +118,12 @@ public class TaskLogsPresenterTest extends AbstractTaskPresenterTest {
                                                               TASK_ID));
 
         //Logs retrieved and text area refreshed
-        verify(taskService,
-               times(2)).getTaskEvents(anyString(),
-                                       anyString(),
-                                       anyLong(),
-                                       anyInt(),
-                                       anyInt());
-        verify(taskLogsView,
-               times(2)).setLogs(emptyList());
+        verify(taskService).getTaskEvents(anyString(),
+                                          anyString(),
+                                          anyLong(),
+                                          anyInt(),
+                                          anyInt());
+        verify(taskLogsView).setLogs(emptyList());
     }
 
     @Test
@@ -136,13 +138,15 @@ public class TaskLogsPresenterTest extends AbstractTaskPresenterTest {
                                                               "",
                                                               TASK_ID + 1));
 
-        //Logs retrieved and text area refreshed
-        verify(taskService).getTaskEvents(anyString(),
-                                          anyString(),
-                                          anyLong(),
-                                          anyInt(),
-                                          anyInt());
-        verify(taskLogsView).setLogs(emptyList());
+        //Logs not retrieved
+        verify(taskService,
+               never()).getTaskEvents(anyString(),
+                                      anyString(),
+                                      anyLong(),
+                                      anyInt(),
+                                      anyInt());
+        verify(taskLogsView,
+               never()).setLogs(anyList());
     }
 
     @Test
@@ -168,16 +172,13 @@ public class TaskLogsPresenterTest extends AbstractTaskPresenterTest {
         presenter.onTaskSelectionEvent(new TaskSelectionEvent(serverTemplateId,
                                                               containerId,
                                                               TASK_ID));
+        presenter.setTaskLogs(allLogs.subList(0,
+                                              10));
 
         ArgumentCaptor<List> argumentDESC = ArgumentCaptor.forClass(List.class);
         verify(taskLogsView).setLogs(argumentDESC.capture());
         assertEquals(presenter.getPageSize(),
                      argumentDESC.getValue().size());
-        verify(taskService).getTaskEvents(serverTemplateId,
-                                          containerId,
-                                          TASK_ID,
-                                          0,
-                                          10);
 
         presenter.loadMoreProcessInstanceLogs();
         verify(taskService).getTaskEvents(serverTemplateId,
@@ -18,6 +18,7 @@ package org.jbpm.workbench.ht.client.editors.taskslist;
 
 import java.util.*;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import javax.enterprise.event.Event;
 
@@ -42,6 +43,8 @@ import org.jbpm.workbench.df.client.filter.FilterSettings;
 import org.jbpm.workbench.df.client.list.DataSetQueryHelper;
 import org.jbpm.workbench.ht.client.editors.taskslist.popup.TasksReassignmentPresenter;
 import org.jbpm.workbench.ht.client.resources.i18n.Constants;
+import org.jbpm.workbench.ht.model.TaskKey;
+import org.jbpm.workbench.ht.model.TaskOperationResult;
 import org.jbpm.workbench.ht.model.TaskSummary;
 import org.jbpm.workbench.ht.model.events.TaskCompletedEvent;
 import org.jbpm.workbench.ht.model.events.TaskSelectionEvent;
@@ -240,7 +243,9 @@ public abstract class AbstractTaskListPresenterTest {
 
         getPresenter().bulkRelease(taskSummaries);
 
-        verify(taskService, times(3)).releaseTask(anyString(), eq(TASK_DEPLOYMENT_ID), anyLong());
+        final ArgumentCaptor<List> taskKeys = ArgumentCaptor.forClass(List.class);
+        verify(taskService).releaseTasks(eq(""), taskKeys.capture());
+        assertTaskIds(taskKeys.getValue(), TASK_ID, TASK_ID + 1, TASK_ID + 2);
         verify(extendedPagedTable).deselectAllItems();
     }
 
@@ -265,7 +270,9 @@ public abstract class AbstractTaskListPresenterTest {
 
         getPresenter().bulkClaim(taskSummaries);
 
-        verify(taskService, times(3)).claimTask(anyString(), eq(TASK_DEPLOYMENT_ID), anyLong());
+        final ArgumentCaptor<List> taskKeys = ArgumentCaptor.forClass(List.class);
+        verify(taskService).claimTasks(eq(""), taskKeys.capture());
+        assertTaskIds(taskKeys.getValue(), TASK_ID, TASK_ID + 1, TASK_ID + 2);
         verify(extendedPagedTable).deselectAllItems();
     }
 
@@ -278,9 +285,34 @@ public abstract class AbstractTaskListPresenterTest {
 
         getPresenter().bulkClaim(taskSummaries);
 
-        verify(taskService, times(2)).claimTask(anyString(), eq(TASK_DEPLOYMENT_ID), anyLong());
-        verify(taskService).claimTask(anyString(), eq(TASK_DEPLOYMENT_ID), eq(TASK_ID + 1));
-        verify(taskService).claimTask(anyString(), eq(TASK_DEPLOYMENT_ID), eq(TASK_ID + 2));
+        final ArgumentCaptor<List> taskKeys = ArgumentCaptor.forClass(List.class);
+        verify(taskService).claimTasks(eq(""), taskKeys.capture());
+        assertTaskIds(taskKeys.getValue(), TASK_ID + 1, TASK_ID + 2);
+    }
+
+    @Test
+    public void bulkClaimDisplaysResultPerTaskTest() {
+        List<TaskSummary> taskSummaries = new ArrayList<>();
+        taskSummaries.add(createTestTaskSummary(TASK_ID, TASK_STATUS_READY, ""));
+        taskSummaries.add(createTestTaskSummary(TASK_ID + 1, TASK_STATUS_READY, ""));
+        when(taskService.claimTasks(eq(""), anyList())).thenReturn(Arrays.asList(
+                TaskOperationResult.success(new TaskKey("", TASK_DEPLOYMENT_ID, TASK_ID)),
+                TaskOperationResult.failure(new TaskKey("", TASK_DEPLOYMENT_ID, TASK_ID + 1), "error")));
+
+        getPresenter().bulkClaim(taskSummaries);
+
+        verify(taskService).claimTasks(eq(""), anyList());
+        verify(taskService, never()).claimTask(anyString(), anyString(), anyLong());
+        verify(viewMock).displayNotification(Constants.INSTANCE.TaskWasClaimed(String.valueOf(TASK_ID), null));
+        verify(viewMock).displayNotification(Constants.INSTANCE.UnableToClaimTask(String.valueOf(TASK_ID + 1), null, "error"));
+    }
+
+    @Test
+    public void bulkClaimWithoutAllowedTasksTest() {
+        getPresenter().bulkClaim(singletonList(createTestTaskSummary(TASK_ID, TASK_STATUS_COMPLETED, "")));
+
+        verify(taskService, never()).claimTasks(anyString(), anyList());
+        verify(extendedPagedTable).deselectAllItems();
     }
 
     @Test
@@ -293,7 +325,9 @@ public abstract class AbstractTaskListPresenterTest {
 
         getPresenter().bulkResume(taskSummaries);
 
-        verify(taskService, times(3)).resumeTask(anyString(), eq(TASK_DEPLOYMENT_ID), anyLong());
+        final ArgumentCaptor<List> taskKeys = ArgumentCaptor.forClass(List.class);
+        verify(taskService).resumeTasks(eq(""), taskKeys.capture());
+        assertTaskIds(taskKeys.getValue(), TASK_ID, TASK_ID + 1, TASK_ID + 2);
         verify(extendedPagedTable).deselectAllItems();
     }
 
@@ -306,9 +340,9 @@ public abstract class AbstractTaskListPresenterTest {
 
         getPresenter().bulkResume(taskSummaries);
 
-        verify(taskService, times(2)).resumeTask(anyString(), eq(TASK_DEPLOYMENT_ID), anyLong());
-        verify(taskService).resumeTask(anyString(), eq(TASK_DEPLOYMENT_ID), eq(TASK_ID + 1));
-        verify(taskService).resumeTask(anyString(), eq(TASK_DEPLOYMENT_ID), eq(TASK_ID + 2));
+        final ArgumentCaptor<List> taskKeys = ArgumentCaptor.forClass(List.class);
+        verify(taskService).resumeTasks(eq(""), taskKeys.capture());
+        assertTaskIds(taskKeys.getValue(), TASK_ID + 1, TASK_ID + 2);
     }
 
     @Test
@@ -320,10 +354,9 @@ public abstract class AbstractTaskListPresenterTest {
 
         getPresenter().bulkSuspend(taskSummaries);
 
-        verify(taskService, times(3)).suspendTask(anyString(), eq(TASK_DEPLOYMENT_ID), anyLong());
-        verify(taskService).suspendTask(anyString(), eq(TASK_DEPLOYMENT_ID), eq(TASK_ID));
-        verify(taskService).suspendTask(anyString(), eq(TASK_DEPLOYMENT_ID), eq(TASK_ID + 1));
-        verify(taskService).suspendTask(anyString(), eq(TASK_DEPLOYMENT_ID), eq(TASK_ID + 2));
+        final ArgumentCaptor<List> taskKeys = ArgumentCaptor.forClass(List.class);
+        verify(taskService).suspendTasks(eq(""), taskKeys.capture());
+        assertTaskIds(taskKeys.getValue(), TASK_ID, TASK_ID + 1, TASK_ID + 2);
         verify(extendedPagedTable).deselectAllItems();
     }
 
@@ -336,9 +369,9 @@ public abstract class AbstractTaskListPresenterTest {
 
         getPresenter().bulkSuspend(taskSummaries);
 
-        verify(taskService, times(2)).suspendTask(anyString(), eq(TASK_DEPLOYMENT_ID), anyLong());
-        verify(taskService).suspendTask(anyString(), eq(TASK_DEPLOYMENT_ID), eq(TASK_ID));
-        verify(taskService).suspendTask(anyString(), eq(TASK_DEPLOYMENT_ID), eq(TASK_ID + 1));
+        final ArgumentCaptor<List> taskKeys = ArgumentCaptor.forClass(List.class);
+        verify(taskService).suspendTasks(eq(""), taskKeys.capture());
+        assertTaskIds(taskKeys.getValue(), TASK_ID, TASK_ID + 1);
     }
 
     @Test
@@ -757,4 +790,11 @@ public abstract class AbstractTaskListPresenterTest {
                 .actualOwner(actualOwner)
                 .build();
     }
+
+    protected void assertTaskIds(final List<TaskKey> taskKeys,
+                                 final Long... taskIds) {
+        assertEquals(Arrays.asList(taskIds),
+                     taskKeys.stream().map(TaskKey::getTaskId).collect(Collectors.toList()));
+        taskKeys.forEach(taskKey -> assertEquals(TASK_DEPLOYMENT_ID, taskKey.getDeploymentId()));
+    }
 }
@@ -156,10 +156,9 @@ public class TaskAdminListPresenterTest extends AbstractTaskListPresenterTest {
 
         getPresenter().bulkRelease(taskSummaries);
 
-        verify(taskService, times(3)).releaseTask(anyString(), eq(TASK_DEPLOYMENT_ID), anyLong());
-        verify(taskService).releaseTask(anyString(), eq(TASK_DEPLOYMENT_ID), eq(TASK_ID));
-        verify(taskService).releaseTask(anyString(), eq(TASK_DEPLOYMENT_ID), eq(TASK_ID + 1));
-        verify(taskService).releaseTask(anyString(), eq(TASK_DEPLOYMENT_ID), eq(TASK_ID + 3));
+        final ArgumentCaptor<List> taskKeys = ArgumentCaptor.forClass(List.class);
+        verify(taskService).releaseTasks(eq(""), taskKeys.capture());
+        assertTaskIds(taskKeys.getValue(), TASK_ID, TASK_ID + 1, TASK_ID + 3);
     }
 
     @Test
@@ -172,10 +171,9 @@ public class TaskAdminListPresenterTest extends AbstractTaskListPresenterTest {
 
         getPresenter().bulkSuspend(taskSummaries);
 
-        verify(taskService, times(3)).suspendTask(anyString(), eq(TASK_DEPLOYMENT_ID), anyLong());
-        verify(taskService).suspendTask(anyString(), eq(TASK_DEPLOYMENT_ID), eq(TASK_ID));
-        verify(taskService).suspendTask(anyString(), eq(TASK_DEPLOYMENT_ID), eq(TASK_ID + 1));
-        verify(taskService).suspendTask(anyString(), eq(TASK_DEPLOYMENT_ID), eq(TASK_ID + 2));
+        final ArgumentCaptor<List> taskKeys = ArgumentCaptor.forClass(List.class);
+        verify(taskService).suspendTasks(eq(""), taskKeys.capture());
+        assertTaskIds(taskKeys.getValue(), TASK_ID, TASK_ID + 1, TASK_ID + 2);
     }
 
 }
\ No newline at end of file
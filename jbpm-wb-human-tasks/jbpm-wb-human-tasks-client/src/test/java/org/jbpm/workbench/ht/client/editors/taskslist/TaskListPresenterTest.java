@@ -155,9 +155,9 @@ public class TaskListPresenterTest extends AbstractTaskListPresenterTest {
 
         getPresenter().bulkRelease(taskSummaries);
 
-        verify(taskService, times(2)).releaseTask(anyString(), eq(TASK_DEPLOYMENT_ID), anyLong());
-        verify(taskService).releaseTask(anyString(), eq(TASK_DEPLOYMENT_ID), eq(TASK_ID));
-        verify(taskService).releaseTask(anyString(), eq(TASK_DEPLOYMENT_ID), eq(TASK_ID + 3));
+        final ArgumentCaptor<List> taskKeys = ArgumentCaptor.forClass(List.class);
+        verify(taskService).releaseTasks(eq(""), taskKeys.capture());
+        assertTaskIds(taskKeys.getValue(), TASK_ID, TASK_ID + 3);
     }
 
     @Test
@@ -170,8 +170,8 @@ public class TaskListPresenterTest extends AbstractTaskListPresenterTest {
 
         getPresenter().bulkSuspend(taskSummaries);
 
-        verify(taskService, times(2)).suspendTask(anyString(), eq(TASK_DEPLOYMENT_ID), anyLong());
-        verify(taskService).suspendTask(anyString(), eq(TASK_DEPLOYMENT_ID), eq(TASK_ID));
-        verify(taskService).suspendTask(anyString(), eq(TASK_DEPLOYMENT_ID), eq(TASK_ID + 1));
+        final ArgumentCaptor<List> taskKeys = ArgumentCaptor.forClass(List.class);
+        verify(taskService).suspendTasks(eq(""), taskKeys.capture());
+        assertTaskIds(taskKeys.getValue(), TASK_ID, TASK_ID + 1);
     }
 }
\ No newline at end of file
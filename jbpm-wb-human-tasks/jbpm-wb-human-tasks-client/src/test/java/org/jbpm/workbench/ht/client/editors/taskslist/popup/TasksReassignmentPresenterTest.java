@@ -48,6 +48,7 @@ import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -141,4 +142,29 @@ public class TasksReassignmentPresenterTest {
         assertEquals(NotificationEvent.NotificationType.WARNING, captor.getAllValues().get(1).getType());
         assertEquals(Constants.INSTANCE.ReassignmentNotAllowedOn(String.valueOf(TASK_ID2), TASK_NAME2, userId), captor.getAllValues().get(1).getNotification());
     }
+
+    @Test
+    public void reassignTasksFailedDelegationTest() {
+        String userId = "testUser";
+        String errorMessage = "Task is already completed";
+
+        when(place.getParameter("serverTemplateId", "")).thenReturn(SERVER_TEMPLATE_ID);
+        when(place.getParameter("deploymentIds", "")).thenReturn(DEPLOYMENT_ID);
+        when(place.getParameter("taskIds", "-1")).thenReturn(TASK_ID.toString());
+
+        when(taskService.delegateTasks(anyString(), anyList(), eq(userId)))
+                .thenReturn(Arrays.asList(TaskAssignmentSummary.builder().taskId(Long.valueOf(TASK_ID)).taskName(TASK_NAME).delegationAllowed(true).errorMessage(errorMessage).build()));
+
+        presenter.onStartup(place);
+        presenter.onOpen();
+        presenter.reassignTasksToUser(userId);
+
+        final ArgumentCaptor<NotificationEvent> captor = ArgumentCaptor.forClass(NotificationEvent.class);
+        verify(notificationEvent).fire(captor.capture());
+        assertEquals(NotificationEvent.NotificationType.WARNING, captor.getValue().getType());
+        assertEquals(Constants.INSTANCE.UnableToPerformReassignment(userId, errorMessage), captor.getValue().getNotification());
+        verify(taskRefreshedEvent, never()).fire(any(TaskRefreshedEvent.class));
+        verify(deselectAllItemsEvent).fire(any(DeselectAllItemsEvent.class));
+        verify(placeManager).closePlace(place);
+    }
 }
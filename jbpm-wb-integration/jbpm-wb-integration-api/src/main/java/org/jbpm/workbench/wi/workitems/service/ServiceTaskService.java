@@ -35,6 +35,8 @@ public interface ServiceTaskService {
     void disableServiceTask(String id);
     
     void installServiceTask(String id, String target, List<String> parameters, String branchName);
+
+    void installServiceTasks(Map<String, List<String>> serviceTasks, String target, String branchName);
     
     void uninstallServiceTask(String id, String target, String branchName);
 
@@ -25,6 +25,7 @@ import javax.enterprise.event.Observes;
 import javax.inject.Inject;
 
 import org.jbpm.designer.notification.DesignerWorkitemInstalledEvent;
+import org.jbpm.workbench.wi.backend.server.workitem.ServiceTaskResourcesEvent;
 import org.jbpm.workbench.wi.dd.model.DeploymentDescriptorModel;
 import org.jbpm.workbench.wi.dd.model.ItemObjectModel;
 import org.jbpm.workbench.wi.dd.service.DDEditorService;
@@ -97,6 +98,34 @@ public class DDConfigUpdater {
         }
     }
 
+    public void processServiceTasksEvent(@Observes final ServiceTaskResourcesEvent serviceResourcesEvent) {
+        // all the service tasks installed together are added with a single load and save of the descriptor
+        Path deploymentDescriptorPath = getDeploymentDescriptorPath(moduleService.resolveModule(serviceResourcesEvent.getPath()));
+        ddEditorService.createIfNotExists(deploymentDescriptorPath);
+        DeploymentDescriptorModel descriptorModel = ddEditorService.load(deploymentDescriptorPath);
+
+        if (descriptorModel != null) {
+            boolean added = false;
+            for (ServiceTaskResourceEvent event : serviceResourcesEvent.getEvents()) {
+                added |= addWorkItemToModel(descriptorModel,
+                                            event.getName(),
+                                            event.getValue(),
+                                            event.getResolver());
+            }
+
+            if (added) {
+                CommentedOption commentedOption = new CommentedOption("system",
+                                                                      null,
+                                                                      "Workitem config added by system.",
+                                                                      new Date());
+                ((DDEditorServiceImpl) ddEditorService).save(deploymentDescriptorPath,
+                                                             descriptorModel,
+                                                             descriptorModel.getOverview().getMetadata(),
+                                                             commentedOption);
+            }
+        }
+    }
+
     private void addWorkItemToConfig(final KieModule kieModule,
                                      final String name, 
                                      final String value, 
@@ -106,19 +135,10 @@ public class DDConfigUpdater {
         DeploymentDescriptorModel descriptorModel = ddEditorService.load(deploymentDescriptorPath);
 
         if (descriptorModel != null) {
-            if (descriptorModel.getWorkItemHandlers() == null) {
-                descriptorModel.setWorkItemHandlers(new ArrayList<>());
-            }
-
-            if (isValidWorkitem(name, value) && !workItemAlreadyInstalled(descriptorModel.getWorkItemHandlers(),
-                                                                                     name)) {
-                ItemObjectModel itemModel = new ItemObjectModel(name,
-                                                                parseWorkitemValue(value),
-                                                                getWorkitemResolver(value,
-                                                                                    resolver),
-                                                                null);
-                descriptorModel.getWorkItemHandlers().add(itemModel);
-
+            if (addWorkItemToModel(descriptorModel,
+                                   name,
+                                   value,
+                                   resolver)) {
                 CommentedOption commentedOption = new CommentedOption("system",
                                                                       null,
                                                                       "Workitem config added by system.",
@@ -130,6 +150,27 @@ public class DDConfigUpdater {
             }
         }
     }
+
+    private boolean addWorkItemToModel(final DeploymentDescriptorModel descriptorModel,
+                                       final String name,
+                                       final String value,
+                                       final String resolver) {
+        if (descriptorModel.getWorkItemHandlers() == null) {
+            descriptorModel.setWorkItemHandlers(new ArrayList<>());
+        }
+
+        if (isValidWorkitem(name, value) && !workItemAlreadyInstalled(descriptorModel.getWorkItemHandlers(),
+                                                                     name)) {
+            ItemObjectModel itemModel = new ItemObjectModel(name,
+                                                            parseWorkitemValue(value),
+                                                            getWorkitemResolver(value,
+                                                                                resolver),
+                                                            null);
+            descriptorModel.getWorkItemHandlers().add(itemModel);
+            return true;
+        }
+        return false;
+    }
     
     private void removeWorkItemFromConfig(final KieModule kieModule,
                                      final String name) {
@@ -16,7 +16,6 @@
 
 package org.jbpm.workbench.wi.backend.server.dd;
 
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -45,7 +44,6 @@ import org.kie.internal.runtime.conf.NamedObjectModel;
 import org.kie.internal.runtime.conf.ObjectModel;
 import org.kie.internal.runtime.conf.PersistenceMode;
 import org.kie.internal.runtime.conf.RuntimeStrategy;
-import org.kie.internal.runtime.manager.deploy.DeploymentDescriptorIO;
 import org.kie.internal.runtime.manager.deploy.DeploymentDescriptorImpl;
 import org.kie.internal.runtime.manager.deploy.DeploymentDescriptorManager;
 import org.kie.workbench.common.services.backend.service.KieService;
@@ -82,6 +80,9 @@ public class DDEditorServiceImpl
     @Inject
     private CommentedOptionFactory commentedOptionFactory;
 
+    @Inject
+    private DeploymentDescriptorCache descriptorCache;
+
     @Override
     public DeploymentDescriptorModel load(Path path) {
         return super.loadContent(path);
@@ -91,9 +92,8 @@ public class DDEditorServiceImpl
     protected DeploymentDescriptorModel constructContent(Path path,
                                                          Overview overview) {
 
-        InputStream input = ioService.newInputStream(Paths.convert(path));
-
-        DeploymentDescriptor originDD = DeploymentDescriptorIO.fromXml(input);
+        // unchanged descriptors are not parsed again on every build and service task installation
+        DeploymentDescriptor originDD = descriptorCache.getDescriptor(Paths.convert(path));
 
         DeploymentDescriptorModel ddModel = marshal(originDD);
 
@@ -134,6 +134,7 @@ public class DDEditorServiceImpl
                             metadataService.setUpAttributes(path,
                                                             metadata),
                             commentedOption);
+            descriptorCache.invalidate(path.toURI());
 
             return path;
         } catch (Exception e) {
@@ -501,8 +502,7 @@ public class DDEditorServiceImpl
     @Override
     public List<ValidationMessage> validate(Path path) {
         try {
-            InputStream input = ioService.newInputStream(Paths.convert(path));
-            DeploymentDescriptorModel ddModel = marshal(DeploymentDescriptorIO.fromXml(input));
+            DeploymentDescriptorModel ddModel = marshal(descriptorCache.getDescriptor(Paths.convert(path)));
 
             return validate(path, ddModel);
         } catch (Exception e) {
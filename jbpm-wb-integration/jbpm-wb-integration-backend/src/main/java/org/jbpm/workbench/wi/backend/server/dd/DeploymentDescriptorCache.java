@@ -0,0 +1,113 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.wi.backend.server.dd;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.kie.internal.runtime.conf.DeploymentDescriptor;
+import org.kie.internal.runtime.manager.deploy.DeploymentDescriptorIO;
+import org.uberfire.io.IOService;
+import org.uberfire.java.nio.file.Path;
+import org.uberfire.workbench.events.ResourceDeletedEvent;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
+
+/**
+ * Parsed deployment descriptors by path, a descriptor is only parsed again when the content stored in the VFS
+ * differs from the one it was parsed from. The returned descriptors are shared and must not be modified.
+ */
+@ApplicationScoped
+public class DeploymentDescriptorCache {
+
+    public static final String CACHE_SIZE = "org.jbpm.wb.dd.cache.size";
+
+    private final int cacheSize = Integer.getInteger(CACHE_SIZE,
+                                                     500);
+
+    private final Map<String, CachedDescriptor> descriptors = Collections.synchronizedMap(new LinkedHashMap<String, CachedDescriptor>(16,
+                                                                                                                                      0.75f,
+                                                                                                                                      true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedDescriptor> eldest) {
+            return size() > cacheSize;
+        }
+    });
+
+    private IOService ioService;
+
+    public DeploymentDescriptorCache() {
+    }
+
+    @Inject
+    public DeploymentDescriptorCache(@Named("ioStrategy") IOService ioService) {
+        this.ioService = ioService;
+    }
+
+    public DeploymentDescriptor getDescriptor(Path path) {
+        String key = path.toUri().toString();
+        byte[] content = ioService.readAllBytes(path);
+
+        CachedDescriptor cached = descriptors.get(key);
+        if (cached != null && Arrays.equals(cached.content,
+                                            content)) {
+            return cached.descriptor;
+        }
+
+        DeploymentDescriptor descriptor = DeploymentDescriptorIO.fromXml(new ByteArrayInputStream(content));
+        descriptors.put(key,
+                        new CachedDescriptor(content,
+                                             descriptor));
+        return descriptor;
+    }
+
+    public void invalidate(String uri) {
+        descriptors.remove(uri);
+    }
+
+    public void onResourceUpdated(@Observes ResourceUpdatedEvent resourceUpdatedEvent) {
+        invalidate(resourceUpdatedEvent.getPath().toURI());
+    }
+
+    public void onResourceDeleted(@Observes ResourceDeletedEvent resourceDeletedEvent) {
+        invalidate(resourceDeletedEvent.getPath().toURI());
+    }
+
+    protected int size() {
+        return descriptors.size();
+    }
+
+    private static class CachedDescriptor {
+
+        private final byte[] content;
+
+        private final DeploymentDescriptor descriptor;
+
+        CachedDescriptor(byte[] content,
+                         DeploymentDescriptor descriptor) {
+            this.content = content;
+            this.descriptor = descriptor;
+        }
+    }
+}
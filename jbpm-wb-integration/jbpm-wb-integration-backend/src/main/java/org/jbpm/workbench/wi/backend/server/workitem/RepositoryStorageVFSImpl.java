@@ -16,8 +16,16 @@
 
 package org.jbpm.workbench.wi.backend.server.workitem;
 
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
@@ -45,14 +53,23 @@ public class RepositoryStorageVFSImpl extends InMemoryRepositoryStorage<ServiceT
 
     private static final Logger logger = LoggerFactory.getLogger(RepositoryStorageVFSImpl.class);
 
+    public static final String JOURNAL_COMPACTION_THRESHOLD = "org.jbpm.wb.servicetasks.journal.compaction";
+
+    private int compactionThreshold = Integer.getInteger(JOURNAL_COMPACTION_THRESHOLD, 100);
+
     private IOService ioService;
     private FileSystem fileSystem;
 
     private XStream xs;
 
     private Path storagePath;
+    private Path journalPath;
     private Path configPath;
 
+    // services changed since the last snapshot, each with the journal file holding its latest state
+    private Map<String, Path> journal = new LinkedHashMap<>();
+    private Set<String> storedServiceIds = new HashSet<>();
+
     private ServiceTasksConfiguration configuration;
 
     //enable proxy
@@ -85,6 +102,19 @@ public class RepositoryStorageVFSImpl extends InMemoryRepositoryStorage<ServiceT
             services = new ArrayList<>();
             logger.debug("Service tasks not found in storage ");
         }
+
+        journalPath = fileSystem.getPath("service-tasks", "remote", "service-repository-journal");
+        journal = new LinkedHashMap<>();
+        if (ioService.exists(journalPath)) {
+            for (Path change : ioService.newDirectoryStream(journalPath,
+                                                            path -> path.getFileName().toString().endsWith(".xml"))) {
+                RepoData service = (RepoData) xs.fromXML(ioService.readAllString(change));
+                replay(service);
+                journal.put(service.getId(), change);
+            }
+            logger.debug("Replayed {} service task changes from the journal", journal.size());
+        }
+        storedServiceIds = getServiceIds();
     }
 
     @Override
@@ -103,34 +133,34 @@ public class RepositoryStorageVFSImpl extends InMemoryRepositoryStorage<ServiceT
                 }
             }
         }
-        store(storagePath, services);
+        compact();
         return services;
     }
 
     @Override
     public void onAdded(RepoData service) {
         enforceId(service);
-        store(storagePath, services);
+        append(service);
     }
 
     @Override
     public void onEnabled(RepoData service) {
-        store(storagePath, services);
+        append(service);
     }
 
     @Override
     public void onDisabled(RepoData service) {
-        store(storagePath, services);
+        append(service);
     }
 
     @Override
     public void onInstalled(RepoData service, String target) {
-        store(storagePath, services);
+        append(service);
     }
 
     @Override
     public void onUninstalled(RepoData service, String target) {
-        store(storagePath, services);
+        append(service);
     }
 
     @Override
@@ -172,6 +202,70 @@ public class RepositoryStorageVFSImpl extends InMemoryRepositoryStorage<ServiceT
                 });
     }
 
+    /*
+     * Every change stores the new state of the changed service only, in a journal file of its own that the next
+     * change of the same service replaces. The journal is folded into the snapshot once it holds as many services
+     * as the compaction threshold
+     */
+    protected synchronized void append(RepoData service) {
+        if (!getServiceIds().containsAll(storedServiceIds)) {
+            // services were removed since the last write, only a snapshot can record that
+            compact();
+            return;
+        }
+        Path change = journal.get(service.getId());
+        if (change == null) {
+            change = journalPath.resolve(getJournalFileName(service));
+            journal.put(service.getId(), change);
+        }
+        if (journal.size() >= compactionThreshold) {
+            compact();
+        } else {
+            store(change, service);
+            storedServiceIds.add(service.getId());
+        }
+    }
+
+    protected synchronized void compact() {
+        try {
+            ioService.startBatch(fileSystem);
+            ioService.write(storagePath, xs.toXML(services));
+            for (Path change : journal.values()) {
+                ioService.deleteIfExists(change);
+            }
+        } finally {
+            ioService.endBatch();
+        }
+        journal = new LinkedHashMap<>();
+        storedServiceIds = getServiceIds();
+    }
+
+    protected String getJournalFileName(RepoData service) {
+        try {
+            return URLEncoder.encode(service.getId(), StandardCharsets.UTF_8.name()) + ".xml";
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    protected void replay(RepoData change) {
+        for (int i = 0; i < services.size(); i++) {
+            if (services.get(i).getId() != null && services.get(i).getId().equals(change.getId())) {
+                services.set(i, change);
+                return;
+            }
+        }
+        services.add(change);
+    }
+
+    protected Set<String> getServiceIds() {
+        return services.stream().map(RepoData::getId).collect(Collectors.toSet());
+    }
+
+    protected void setCompactionThreshold(int compactionThreshold) {
+        this.compactionThreshold = compactionThreshold;
+    }
+
     protected void store(Path path, Object data) {
         try {
             ioService.startBatch(fileSystem);
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.wi.backend.server.workitem;
+
+import java.util.List;
+
+import org.jbpm.workbench.wi.workitems.model.ServiceTaskResourceEvent;
+import org.uberfire.backend.vfs.Path;
+
+/**
+ * Deployment descriptor changes of several service tasks installed into the same project at once, so that the
+ * descriptor is loaded and saved only once.
+ */
+public class ServiceTaskResourcesEvent {
+
+    private final Path path;
+
+    private final List<ServiceTaskResourceEvent> events;
+
+    public ServiceTaskResourcesEvent(final Path path,
+                                     final List<ServiceTaskResourceEvent> events) {
+        this.path = path;
+        this.events = events;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public List<ServiceTaskResourceEvent> getEvents() {
+        return events;
+    }
+
+    @Override
+    public String toString() {
+        return "ServiceTaskResourcesEvent [path=" + path + ", events=" + events + "]";
+    }
+}
@@ -17,15 +17,12 @@
 package org.jbpm.workbench.wi.backend.server.workitem;
 
 import java.io.File;
-import java.net.MalformedURLException;
-import java.net.URL;
-import java.net.URLClassLoader;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -38,7 +35,6 @@ import org.guvnor.common.services.project.model.GAV;
 import org.guvnor.m2repo.backend.server.GuvnorM2Repository;
 import org.jboss.errai.bus.server.annotations.Service;
 import org.jbpm.process.workitem.core.util.Wid;
-import org.jbpm.process.workitem.repository.RepositoryEventListener;
 import org.jbpm.process.workitem.repository.RepositoryStorage;
 import org.jbpm.process.workitem.repository.service.RepoAuthParameter;
 import org.jbpm.process.workitem.repository.service.RepoData;
@@ -46,11 +42,10 @@ import org.jbpm.process.workitem.repository.service.RepoMavenDepend;
 import org.jbpm.process.workitem.repository.service.RepoParameter;
 import org.jbpm.process.workitem.repository.service.RepoResult;
 import org.jbpm.process.workitem.repository.service.RepoService;
+import org.jbpm.workbench.wi.backend.server.workitem.WidAnnotationIndex.WidType;
 import org.jbpm.workbench.wi.workitems.model.ServiceTaskSummary;
 import org.jbpm.workbench.wi.workitems.model.ServiceTasksConfiguration;
 import org.jbpm.workbench.wi.workitems.service.ServiceTaskService;
-import org.reflections.Reflections;
-import org.reflections.util.ConfigurationBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -68,11 +63,13 @@ public class ServiceTaskServiceImpl implements ServiceTaskService {
     private RepositoryStorage<ServiceTasksConfiguration> repositoryStorage;
     
     @Inject
-    private RepositoryEventListener eventListener;
+    private WorkbenchRepositoryEventListener eventListener;
     
     @Inject
     private GuvnorM2Repository m2Repository;
 
+    private final WidAnnotationIndex widAnnotationIndex = new WidAnnotationIndex();
+
     @PostConstruct
     public void initialLoad() {
         
@@ -83,6 +80,10 @@ public class ServiceTaskServiceImpl implements ServiceTaskService {
         this.repoService = repoService;
     }
 
+    protected void setEventListener(WorkbenchRepositoryEventListener eventListener) {
+        this.eventListener = eventListener;
+    }
+
     protected void setM2Repository(GuvnorM2Repository m2Repository){
         this.m2Repository = m2Repository;
     }
@@ -122,6 +123,17 @@ public class ServiceTaskServiceImpl implements ServiceTaskService {
         repoService.installService(id, target, parameters, branchName);
     }
 
+    @Override
+    public void installServiceTasks(Map<String, List<String>> serviceTasks, String target, String branchName) {
+        // one pom update, one deployment descriptor save and one commit for all the service tasks
+        eventListener.beginInstallBatch();
+        try {
+            serviceTasks.forEach((id, parameters) -> repoService.installService(id, target, parameters, branchName));
+        } finally {
+            eventListener.endInstallBatch();
+        }
+    }
+
     @Override
     public void uninstallServiceTask(String id, String target, String branchName) {
         repoService.uninstallService(id, target, branchName);
@@ -151,78 +163,66 @@ public class ServiceTaskServiceImpl implements ServiceTaskService {
         resultMap.put(RepoService.SKIPPED, new ArrayList<String>());
 
         try {
-            URL[] urls = new URL[] {uploadedServiceArtifact.toURI().toURL()};
-            URLClassLoader classLoader = new URLClassLoader(urls, Wid.class.getClassLoader());
-            
-            ConfigurationBuilder builder = new ConfigurationBuilder();
-            builder.addUrls(urls);
-            builder.addClassLoader(classLoader);
-
-            Reflections reflections = new Reflections(builder);
-
-            Set<Class<?>> workItems = reflections.getTypesAnnotatedWith(Wid.class);
+            // @Wid values are read from the class files, the artifact classes are never loaded
+            List<WidType> workItems = widAnnotationIndex.getWidTypes(uploadedServiceArtifact);
             
-            for (Class<?> workItem : workItems) {
+            for (WidType workItem : workItems) {
+                
+                Wid widInfo = workItem.getWid();
                 
-                if (workItem.isAnnotationPresent(Wid.class)) {
-                    Wid widInfo = workItem.getAnnotation(Wid.class);
-                    
-                    RepoData service = new RepoData();
-                    service.setGav(gav);
-                    service.setActiontitle(widInfo.serviceInfo().action().title());
-                    service.setAuthparams(Stream.of(widInfo.serviceInfo().authinfo().paramsdescription()).filter(name -> !name.isEmpty()).map(name -> {
-                                            RepoAuthParameter p = new RepoAuthParameter(); 
-                                            p.setName(name); 
-                                            return p;})
-                                          .collect(Collectors.toList()));
-                    service.setAuthreferencesite(widInfo.serviceInfo().authinfo().referencesite());
-                    service.setCategory(widInfo.category());
-                    service.setDescription(widInfo.serviceInfo().description());
-                    service.setDisplayName(widInfo.displayName());
-                    service.setDefaultHandler(widInfo.defaultHandler());
-                    service.setDocumentation(widInfo.documentation());
-                    service.setEnabled(false);
-                    service.setIcon(widInfo.icon());
-                    service.setIsaction(null);
-                    service.setIstrigger(null);
-                    service.setKeywords(Arrays.asList(widInfo.serviceInfo().keywords().split(" ")));
-                    service.setMavenDependencies(Stream.of(widInfo.mavenDepends()).map(dep -> {
-                                                        RepoMavenDepend dependency = new RepoMavenDepend();
-                                                        dependency.setArtifactId(dep.artifact());
-                                                        dependency.setGroupId(dep.group());
-                                                        dependency.setVersion(dep.version());
-                                                        
-                                                        return dependency;
-                                                    })
-                                                 .collect(Collectors.toList()));
-                    service.setModule(actualGav.getArtifactId());                
-                    service.setName(widInfo.name());
-                    service.setParameters(Stream.of(widInfo.parameters()).map(p -> {
-                                            RepoParameter param = new RepoParameter();
-                                            param.setName(p.name());
-                                            param.setType(p.runtimeType());
-                                            
-                                            return param;
-                                        })
-                                     .collect(Collectors.toList()));
-                    service.setRequiresauth(String.valueOf(widInfo.serviceInfo().authinfo().required()));
-                    service.setResults(Stream.of(widInfo.parameters()).map(r -> {
-                                        RepoResult result = new RepoResult();
-                                        result.setName(r.name());
-                                        result.setType(r.runtimeType());
-                                        return result;
+                RepoData service = new RepoData();
+                service.setGav(gav);
+                service.setActiontitle(widInfo.serviceInfo().action().title());
+                service.setAuthparams(Stream.of(widInfo.serviceInfo().authinfo().paramsdescription()).filter(name -> !name.isEmpty()).map(name -> {
+                                        RepoAuthParameter p = new RepoAuthParameter(); 
+                                        p.setName(name); 
+                                        return p;})
+                                      .collect(Collectors.toList()));
+                service.setAuthreferencesite(widInfo.serviceInfo().authinfo().referencesite());
+                service.setCategory(widInfo.category());
+                service.setDescription(widInfo.serviceInfo().description());
+                service.setDisplayName(widInfo.displayName());
+                service.setDefaultHandler(widInfo.defaultHandler());
+                service.setDocumentation(widInfo.documentation());
+                service.setEnabled(false);
+                service.setIcon(widInfo.icon());
+                service.setIsaction(null);
+                service.setIstrigger(null);
+                service.setKeywords(Arrays.asList(widInfo.serviceInfo().keywords().split(" ")));
+                service.setMavenDependencies(Stream.of(widInfo.mavenDepends()).map(dep -> {
+                                                    RepoMavenDepend dependency = new RepoMavenDepend();
+                                                    dependency.setArtifactId(dep.artifact());
+                                                    dependency.setGroupId(dep.group());
+                                                    dependency.setVersion(dep.version());
+                                                    
+                                                    return dependency;
+                                                })
+                                             .collect(Collectors.toList()));
+                service.setModule(actualGav.getArtifactId());                
+                service.setName(widInfo.name());
+                service.setParameters(Stream.of(widInfo.parameters()).map(p -> {
+                                        RepoParameter param = new RepoParameter();
+                                        param.setName(p.name());
+                                        param.setType(p.runtimeType());
+                                        
+                                        return param;
                                     })
-                                   .collect(Collectors.toList()));
-                    service.setTriggertitle(widInfo.serviceInfo().trigger().title());
-                    
-                    logger.debug("Adding service task with name {} of type {}", service.getName(), workItem);
-                    repoService.addService(service, resultMap);
-                } else {
-                    logger.warn("Wid annotation was not found on type {}", workItem);
-                }
+                                 .collect(Collectors.toList()));
+                service.setRequiresauth(String.valueOf(widInfo.serviceInfo().authinfo().required()));
+                service.setResults(Stream.of(widInfo.parameters()).map(r -> {
+                                    RepoResult result = new RepoResult();
+                                    result.setName(r.name());
+                                    result.setType(r.runtimeType());
+                                    return result;
+                                })
+                               .collect(Collectors.toList()));
+                service.setTriggertitle(widInfo.serviceInfo().trigger().title());
+                
+                logger.debug("Adding service task with name {} of type {}", service.getName(), workItem.getClassName());
+                repoService.addService(service, resultMap);
             }
             return resultMap;
-        } catch (MalformedURLException e) {
+        } catch (IOException e) {
             throw new RuntimeException(e);
         } 
     }
@@ -0,0 +1,390 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.wi.backend.server.workitem;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.jbpm.process.workitem.core.util.Wid;
+
+/**
+ * Finds the types annotated with {@link Wid} in a service task artifact by reading the class files of the jar,
+ * none of its classes is loaded. Results are kept by artifact checksum, so adding the same artifact again doesn't
+ * scan it again.
+ */
+public class WidAnnotationIndex {
+
+    private static final String WID_DESCRIPTOR = "L" + Wid.class.getName().replace('.', '/') + ";";
+
+    private static final byte[] WID_DESCRIPTOR_BYTES = WID_DESCRIPTOR.getBytes(StandardCharsets.UTF_8);
+
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+    private static final int MAX_INDEXED_ARTIFACTS = 50;
+
+    private final Map<String, List<WidType>> index = Collections.synchronizedMap(new LinkedHashMap<String, List<WidType>>(16,
+                                                                                                                       0.75f,
+                                                                                                                       true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, List<WidType>> eldest) {
+            return size() > MAX_INDEXED_ARTIFACTS;
+        }
+    });
+
+    public List<WidType> getWidTypes(File artifact) throws IOException {
+        String checksum = checksum(artifact);
+        List<WidType> widTypes = index.get(checksum);
+        if (widTypes == null) {
+            widTypes = Collections.unmodifiableList(scan(artifact));
+            index.put(checksum,
+                      widTypes);
+        }
+        return widTypes;
+    }
+
+    protected List<WidType> scan(File artifact) throws IOException {
+        List<WidType> widTypes = new ArrayList<>();
+        try (ZipInputStream jar = new ZipInputStream(new FileInputStream(artifact))) {
+            byte[] buffer = new byte[8192];
+            ZipEntry entry;
+            while ((entry = jar.getNextEntry()) != null) {
+                if (entry.isDirectory() || !entry.getName().endsWith(".class")) {
+                    continue;
+                }
+                ByteArrayOutputStream content = new ByteArrayOutputStream();
+                int read;
+                while ((read = jar.read(buffer)) != -1) {
+                    content.write(buffer,
+                                  0,
+                                  read);
+                }
+                byte[] classFile = content.toByteArray();
+                // the descriptor is in the constant pool of every class annotated with @Wid, skip the others unparsed
+                if (contains(classFile,
+                             WID_DESCRIPTOR_BYTES)) {
+                    WidType widType = readWidType(classFile);
+                    if (widType != null) {
+                        widTypes.add(widType);
+                    }
+                }
+            }
+        }
+        return widTypes;
+    }
+
+    protected WidType readWidType(byte[] classFile) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(classFile));
+        if (in.readInt() != 0xCAFEBABE) {
+            return null;
+        }
+        in.readUnsignedShort();
+        in.readUnsignedShort();
+
+        Object[] constants = readConstantPool(in);
+
+        in.readUnsignedShort();
+        String className = ((String) constants[(Integer) constants[in.readUnsignedShort()]]).replace('/', '.');
+        in.readUnsignedShort();
+        in.skipBytes(2 * in.readUnsignedShort());
+        skipMembers(in);
+        skipMembers(in);
+
+        int attributes = in.readUnsignedShort();
+        for (int i = 0; i < attributes; i++) {
+            String name = (String) constants[in.readUnsignedShort()];
+            int length = in.readInt();
+            if (!RUNTIME_VISIBLE_ANNOTATIONS.equals(name)) {
+                in.skipBytes(length);
+                continue;
+            }
+            int annotations = in.readUnsignedShort();
+            for (int j = 0; j < annotations; j++) {
+                String type = (String) constants[in.readUnsignedShort()];
+                Map<String, Object> values = readAnnotationValues(in,
+                                                                  constants);
+                if (WID_DESCRIPTOR.equals(type)) {
+                    return new WidType(className,
+                                       newAnnotation(Wid.class,
+                                                     values));
+                }
+            }
+        }
+        return null;
+    }
+
+    private Object[] readConstantPool(DataInputStream in) throws IOException {
+        int count = in.readUnsignedShort();
+        Object[] constants = new Object[count];
+        for (int i = 1; i < count; i++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1:
+                    constants[i] = in.readUTF();
+                    break;
+                case 3:
+                    constants[i] = in.readInt();
+                    break;
+                case 4:
+                    constants[i] = in.readFloat();
+                    break;
+                case 5:
+                    constants[i++] = in.readLong();
+                    break;
+                case 6:
+                    constants[i++] = in.readDouble();
+                    break;
+                case 7:
+                case 8:
+                case 16:
+                case 19:
+                case 20:
+                    // only class names are looked up, keep the index of their UTF8 entry
+                    constants[i] = in.readUnsignedShort();
+                    break;
+                case 15:
+                    in.skipBytes(3);
+                    break;
+                case 9:
+                case 10:
+                case 11:
+                case 12:
+                case 17:
+                case 18:
+                    in.skipBytes(4);
+                    break;
+                default:
+                    throw new IOException("Unsupported constant pool tag " + tag);
+            }
+        }
+        return constants;
+    }
+
+    private void skipMembers(DataInputStream in) throws IOException {
+        int members = in.readUnsignedShort();
+        for (int i = 0; i < members; i++) {
+            in.skipBytes(6);
+            int attributes = in.readUnsignedShort();
+            for (int j = 0; j < attributes; j++) {
+                in.skipBytes(2);
+                in.skipBytes(in.readInt());
+            }
+        }
+    }
+
+    private Map<String, Object> readAnnotationValues(DataInputStream in,
+                                                     Object[] constants) throws IOException {
+        Map<String, Object> values = new HashMap<>();
+        int pairs = in.readUnsignedShort();
+        for (int i = 0; i < pairs; i++) {
+            String name = (String) constants[in.readUnsignedShort()];
+            values.put(name,
+                       readElementValue(in,
+                                        constants));
+        }
+        return values;
+    }
+
+    private Object readElementValue(DataInputStream in,
+                                    Object[] constants) throws IOException {
+        char tag = (char) in.readUnsignedByte();
+        switch (tag) {
+            case 'e':
+                in.readUnsignedShort();
+                return new EnumValue((String) constants[in.readUnsignedShort()]);
+            case 'c':
+                // class values can't be resolved without loading the class, the member default is used instead
+                in.readUnsignedShort();
+                return null;
+            case '@':
+                in.readUnsignedShort();
+                return new NestedAnnotation(readAnnotationValues(in,
+                                                                 constants));
+            case '[':
+                int length = in.readUnsignedShort();
+                List<Object> elements = new ArrayList<>(length);
+                for (int i = 0; i < length; i++) {
+                    elements.add(readElementValue(in,
+                                                  constants));
+                }
+                return elements;
+            default:
+                return constants[in.readUnsignedShort()];
+        }
+    }
+
+    /**
+     * Creates an instance of the given annotation type backed by the values read from the class file, members that
+     * were not set return their declared default.
+     */
+    @SuppressWarnings("unchecked")
+    protected static <A extends Annotation> A newAnnotation(Class<A> annotationType,
+                                                           Map<String, Object> values) {
+        Map<String, Object> members = new HashMap<>();
+        for (Method member : annotationType.getDeclaredMethods()) {
+            Object value = values.get(member.getName());
+            members.put(member.getName(),
+                        value == null ? member.getDefaultValue() : convert(value,
+                                                                           member.getReturnType()));
+        }
+        return (A) Proxy.newProxyInstance(annotationType.getClassLoader(),
+                                          new Class[]{annotationType},
+                                          (proxy, method, args) -> {
+                                              switch (method.getName()) {
+                                                  case "annotationType":
+                                                      return annotationType;
+                                                  case "toString":
+                                                      return "@" + annotationType.getName() + members;
+                                                  case "hashCode":
+                                                      return members.hashCode();
+                                                  case "equals":
+                                                      return proxy == args[0];
+                                                  default:
+                                                      return members.get(method.getName());
+                                              }
+                                          });
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object convert(Object value,
+                                  Class<?> type) {
+        if (type.isArray()) {
+            List<?> elements = value instanceof List ? (List<?>) value : Collections.singletonList(value);
+            Object array = Array.newInstance(type.getComponentType(),
+                                             elements.size());
+            for (int i = 0; i < elements.size(); i++) {
+                Array.set(array,
+                          i,
+                          convert(elements.get(i),
+                                  type.getComponentType()));
+            }
+            return array;
+        }
+        if (value instanceof NestedAnnotation) {
+            return newAnnotation((Class<? extends Annotation>) type,
+                                 ((NestedAnnotation) value).values);
+        }
+        if (value instanceof EnumValue) {
+            return Enum.valueOf((Class<Enum>) type,
+                                ((EnumValue) value).name);
+        }
+        if (value instanceof Integer) {
+            int intValue = (Integer) value;
+            if (type == boolean.class) {
+                return intValue != 0;
+            } else if (type == char.class) {
+                return (char) intValue;
+            } else if (type == byte.class) {
+                return (byte) intValue;
+            } else if (type == short.class) {
+                return (short) intValue;
+            }
+        }
+        return value;
+    }
+
+    private static boolean contains(byte[] content,
+                                    byte[] pattern) {
+        outer:
+        for (int i = 0; i <= content.length - pattern.length; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (content[i + j] != pattern[j]) {
+                    continue outer;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static String checksum(File artifact) throws IOException {
+        try (InputStream in = new DigestInputStream(new FileInputStream(artifact),
+                                                    MessageDigest.getInstance("SHA-256"))) {
+            byte[] buffer = new byte[8192];
+            while (in.read(buffer) != -1) {
+                // reading the stream updates the digest
+            }
+            StringBuilder hex = new StringBuilder();
+            for (byte b : ((DigestInputStream) in).getMessageDigest().digest()) {
+                hex.append(String.format("%02x",
+                                         b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static class WidType {
+
+        private final String className;
+
+        private final Wid wid;
+
+        public WidType(String className,
+                       Wid wid) {
+            this.className = className;
+            this.wid = wid;
+        }
+
+        public String getClassName() {
+            return className;
+        }
+
+        public Wid getWid() {
+            return wid;
+        }
+    }
+
+    private static class EnumValue {
+
+        private final String name;
+
+        EnumValue(String name) {
+            this.name = name;
+        }
+    }
+
+    private static class NestedAnnotation {
+
+        private final Map<String, Object> values;
+
+        NestedAnnotation(Map<String, Object> values) {
+            this.values = values;
+        }
+    }
+}
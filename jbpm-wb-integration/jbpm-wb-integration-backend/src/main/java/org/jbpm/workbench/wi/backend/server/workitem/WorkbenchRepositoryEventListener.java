@@ -19,7 +19,10 @@ package org.jbpm.workbench.wi.backend.server.workitem;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -104,6 +107,11 @@ public class WorkbenchRepositoryEventListener implements RepositoryEventListener
     
     @Inject
     private Event<ServiceTaskResourceEvent> serviceTaskResourceEvent;
+
+    @Inject
+    private Event<ServiceTaskResourcesEvent> serviceTaskResourcesEvent;
+
+    private final ThreadLocal<InstallBatch> installBatch = new ThreadLocal<>();
     
     
     @PostConstruct
@@ -156,14 +164,55 @@ public class WorkbenchRepositoryEventListener implements RepositoryEventListener
 
     }
 
+    /**
+     * Starts collecting the service tasks installed by the current thread, their pom dependencies, assets and
+     * deployment descriptor entries are only written by {@link #endInstallBatch()}, once per project.
+     */
+    public void beginInstallBatch() {
+        if (installBatch.get() == null) {
+            installBatch.set(new InstallBatch());
+        }
+    }
+
+    /**
+     * Writes what the service tasks installed since {@link #beginInstallBatch()} changed in each project. Every
+     * project is attempted, the first failure is then rethrown so the caller doesn't report a partial installation
+     * as a success.
+     */
+    public void endInstallBatch() {
+        InstallBatch batch = installBatch.get();
+        installBatch.remove();
+        if (batch == null) {
+            return;
+        }
+        RuntimeException failure = null;
+        for (ModuleInstall moduleInstall : batch.modules.values()) {
+            try {
+                flush(moduleInstall);
+            } catch (RuntimeException e) {
+                logger.error("Unexpected error when installing service tasks into {}", moduleInstall.path, e);
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
     @Override
     public void onServiceTaskInstalled(RepoData service, String target, List<String> parameters, String branchName) {
+        InstallBatch batch = installBatch.get();
         try {
             boolean installPomDepds = repositoryStorage.loadConfiguration().getInstallPomDeps();
             Path path = getTargetPath("pom.xml", branchName, target);
             
             Module module = moduleService.resolveModule(path);
-            POM projectPOM = pomService.load(module.getPomXMLPath());
+            ModuleInstall moduleInstall = batch == null ? null : batch.getModuleInstall(path, module);
+            POM projectPOM = moduleInstall == null ? pomService.load(module.getPomXMLPath()) : moduleInstall.pom;
             
             if (installPomDepds && projectPOM != null && !ServiceTaskUtils.DEFAULT_HANDLERS.contains(service.getModule())) {
                 boolean useVersionRange = repositoryStorage.loadConfiguration().getVersionRange();
@@ -175,14 +224,20 @@ public class WorkbenchRepositoryEventListener implements RepositoryEventListener
                     for (Dependency workitemDependency : validDependsFromWorkitem) {
                         projectPOM.getDependencies().add(workitemDependency);
                     }
-    
-                    pomService.save(module.getPomXMLPath(),
-                                    projectPOM,
-                                    metadataService.getMetadata(module.getPomXMLPath()),
-                                    "System updated dependencies from service task installation.",
-                                    false);
+                    if (moduleInstall != null) {
+                        moduleInstall.pomChanged = true;
+                    } else {
+                        pomService.save(module.getPomXMLPath(),
+                                        projectPOM,
+                                        metadataService.getMetadata(module.getPomXMLPath()),
+                                        "System updated dependencies from service task installation.",
+                                        false);
+                    }
                 }
-            }            
+            }
+            if (batch != null) {
+                batch.current = moduleInstall;
+            }
             if (service.getGav() == null) {
                 installFromLocal(service, module);
             } else {
@@ -195,11 +250,20 @@ public class WorkbenchRepositoryEventListener implements RepositoryEventListener
                 handler = handler.replaceFirst("\\(.*?\\)", strParams);
             }
             // install service task into deployment descriptor
-            serviceTaskResourceEvent.fire(new ServiceTaskResourceEvent(path, "mvel", handler, service.getName(), "", ResourceChangeType.ADD));
-            
-            logger.info("Service task {} has been installed", service.getName());
+            ServiceTaskResourceEvent resourceEvent = new ServiceTaskResourceEvent(path, "mvel", handler, service.getName(), "", ResourceChangeType.ADD);
+            if (moduleInstall != null) {
+                moduleInstall.events.add(resourceEvent);
+                logger.info("Service task {} has been added to the installation batch", service.getName());
+            } else {
+                serviceTaskResourceEvent.fire(resourceEvent);
+                logger.info("Service task {} has been installed", service.getName());
+            }
         } catch (Exception e) {
             logger.error("Unexpected error when installing service task {}", service.getName(), e);
+        } finally {
+            if (batch != null) {
+                batch.current = null;
+            }
         }
         
     }
@@ -333,6 +397,11 @@ public class WorkbenchRepositoryEventListener implements RepositoryEventListener
     }
     
     protected void store(org.uberfire.java.nio.file.Path path, byte[] content) {
+        InstallBatch batch = installBatch.get();
+        if (batch != null && batch.current != null) {
+            batch.current.assets.put(path, content);
+            return;
+        }
         try {
             ioService.startBatch(path.getFileSystem());
             ioService.write(path, content);
@@ -341,6 +410,30 @@ public class WorkbenchRepositoryEventListener implements RepositoryEventListener
         }
     }
     
+    protected void flush(ModuleInstall moduleInstall) {
+        try {
+            // the pom, icons, wids and deployment descriptor entries of all the service tasks of the project end up
+            // in a single commit
+            ioService.startBatch(Paths.convert(moduleInstall.module.getRootPath()).getFileSystem());
+            if (moduleInstall.pomChanged) {
+                pomService.save(moduleInstall.module.getPomXMLPath(),
+                                moduleInstall.pom,
+                                metadataService.getMetadata(moduleInstall.module.getPomXMLPath()),
+                                "System updated dependencies from service task installation.",
+                                false);
+            }
+            for (Map.Entry<org.uberfire.java.nio.file.Path, byte[]> asset : moduleInstall.assets.entrySet()) {
+                ioService.write(asset.getKey(), asset.getValue());
+            }
+            if (!moduleInstall.events.isEmpty()) {
+                serviceTaskResourcesEvent.fire(new ServiceTaskResourcesEvent(moduleInstall.path, moduleInstall.events));
+            }
+        } finally {
+            ioService.endBatch();
+        }
+        logger.info("{} service task(s) have been installed into {}", moduleInstall.events.size(), moduleInstall.path);
+    }
+    
     protected void delete(org.uberfire.java.nio.file.Path path) {
         try {
             ioService.startBatch(path.getFileSystem());
@@ -381,5 +474,37 @@ public class WorkbenchRepositoryEventListener implements RepositoryEventListener
         return PathFactory.newPath(fileName, "default://" + branchName + "@" + target);
     }
 
+    private class InstallBatch {
+
+        private final Map<String, ModuleInstall> modules = new LinkedHashMap<>();
+
+        private ModuleInstall current;
+
+        ModuleInstall getModuleInstall(Path path, Module module) {
+            return modules.computeIfAbsent(path.toURI(), uri -> new ModuleInstall(path, module, pomService.load(module.getPomXMLPath())));
+        }
+    }
+
+    protected static class ModuleInstall {
+
+        private final Path path;
+
+        private final Module module;
+
+        private final POM pom;
+
+        private boolean pomChanged;
+
+        private final Map<org.uberfire.java.nio.file.Path, byte[]> assets = new LinkedHashMap<>();
+
+        private final List<ServiceTaskResourceEvent> events = new ArrayList<>();
+
+        ModuleInstall(Path path, Module module, POM pom) {
+            this.path = path;
+            this.module = module;
+            this.pom = pom;
+        }
+    }
+
 
 }
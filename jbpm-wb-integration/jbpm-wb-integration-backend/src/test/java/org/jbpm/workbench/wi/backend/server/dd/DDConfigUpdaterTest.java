@@ -16,12 +16,17 @@
 
 package org.jbpm.workbench.wi.backend.server.dd;
 
+import java.util.Arrays;
+
 import org.guvnor.common.services.project.builder.model.BuildResults;
+import org.guvnor.common.services.shared.metadata.model.Metadata;
 import org.guvnor.common.services.shared.metadata.model.Overview;
 import org.jbpm.designer.notification.DesignerWorkitemInstalledEvent;
 import org.jbpm.workbench.wi.backend.server.builder.BPMPostBuildHandler;
+import org.jbpm.workbench.wi.backend.server.workitem.ServiceTaskResourcesEvent;
 import org.jbpm.workbench.wi.dd.model.DeploymentDescriptorModel;
 import org.jbpm.workbench.wi.dd.model.ItemObjectModel;
+import org.jbpm.workbench.wi.workitems.model.ServiceTaskResourceEvent;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -32,8 +37,10 @@ import org.mockito.Mockito;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.uberfire.backend.vfs.Path;
 import org.uberfire.io.IOService;
+import org.uberfire.java.nio.base.options.CommentedOption;
 import org.uberfire.rpc.SessionInfo;
 import org.uberfire.workbench.events.ResourceAddedEvent;
+import org.uberfire.workbench.events.ResourceChangeType;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -214,6 +221,52 @@ public class DDConfigUpdaterTest {
                      objectModel3.getValue());
     }
 
+    @Test
+    public void testProcessServiceTasksEvent() {
+        Path path = Mockito.mock(Path.class);
+        ddConfigUpdater.processServiceTasksEvent(new ServiceTaskResourcesEvent(path,
+                                                                               Arrays.asList(new ServiceTaskResourceEvent(path,
+                                                                                                                          "mvel",
+                                                                                                                          "new com.myhandlers.MyHandler()",
+                                                                                                                          "MyWorkItem",
+                                                                                                                          "",
+                                                                                                                          ResourceChangeType.ADD),
+                                                                                             new ServiceTaskResourceEvent(path,
+                                                                                                                          "mvel",
+                                                                                                                          "new com.myhandlers.MyHandler2()",
+                                                                                                                          "MyWorkItem2",
+                                                                                                                          "",
+                                                                                                                          ResourceChangeType.ADD))));
+
+        assertEquals(2,
+                     model.getWorkItemHandlers().size());
+        assertEquals("MyWorkItem",
+                     model.getWorkItemHandlers().get(0).getName());
+        assertEquals("MyWorkItem2",
+                     model.getWorkItemHandlers().get(1).getName());
+        // the descriptor is loaded and saved once for all the service tasks
+        verify(ddEditorService).load(any(Path.class));
+        verify(ddEditorService).save(any(Path.class),
+                                     eq(model),
+                                     any(Metadata.class),
+                                     any(CommentedOption.class));
+
+        // already installed -- should not save again
+        ddConfigUpdater.processServiceTasksEvent(new ServiceTaskResourcesEvent(path,
+                                                                               Arrays.asList(new ServiceTaskResourceEvent(path,
+                                                                                                                          "mvel",
+                                                                                                                          "new com.myhandlers.MyHandler()",
+                                                                                                                          "MyWorkItem",
+                                                                                                                          "",
+                                                                                                                          ResourceChangeType.ADD))));
+        assertEquals(2,
+                     model.getWorkItemHandlers().size());
+        verify(ddEditorService).save(any(Path.class),
+                                     eq(model),
+                                     any(Metadata.class),
+                                     any(CommentedOption.class));
+    }
+
     @Test
     public void testIsValidWorkitem() {
         assertFalse(ddConfigUpdater.isValidWorkitem(null, null));
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.wi.backend.server.dd;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.internal.runtime.conf.DeploymentDescriptor;
+import org.kie.internal.runtime.conf.RuntimeStrategy;
+import org.kie.internal.runtime.manager.deploy.DeploymentDescriptorManager;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.io.IOService;
+import org.uberfire.rpc.SessionInfo;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DeploymentDescriptorCacheTest {
+
+    private static final String DD_URI = "default://master@myspace/myproject/src/main/resources/META-INF/kie-deployment-descriptor.xml";
+
+    @Mock
+    private IOService ioService;
+
+    @Mock
+    private org.uberfire.java.nio.file.Path ddPath;
+
+    private DeploymentDescriptorCache cache;
+
+    @Before
+    public void setup() {
+        cache = new DeploymentDescriptorCache(ioService);
+        when(ddPath.toUri()).thenReturn(URI.create(DD_URI));
+        when(ioService.readAllBytes(ddPath)).thenReturn(descriptor(RuntimeStrategy.SINGLETON));
+    }
+
+    @Test
+    public void testUnchangedDescriptorIsNotParsedAgain() {
+        DeploymentDescriptor descriptor = cache.getDescriptor(ddPath);
+
+        assertEquals(RuntimeStrategy.SINGLETON,
+                     descriptor.getRuntimeStrategy());
+        assertSame(descriptor,
+                   cache.getDescriptor(ddPath));
+    }
+
+    @Test
+    public void testChangedDescriptorIsParsedAgain() {
+        DeploymentDescriptor descriptor = cache.getDescriptor(ddPath);
+        when(ioService.readAllBytes(ddPath)).thenReturn(descriptor(RuntimeStrategy.PER_PROCESS_INSTANCE));
+
+        DeploymentDescriptor changed = cache.getDescriptor(ddPath);
+
+        assertNotSame(descriptor,
+                      changed);
+        assertEquals(RuntimeStrategy.PER_PROCESS_INSTANCE,
+                     changed.getRuntimeStrategy());
+    }
+
+    @Test
+    public void testResourceUpdatedInvalidatesDescriptor() {
+        cache.getDescriptor(ddPath);
+        assertEquals(1,
+                     cache.size());
+
+        Path path = mock(Path.class);
+        when(path.toURI()).thenReturn(DD_URI);
+        cache.onResourceUpdated(new ResourceUpdatedEvent(path,
+                                                         "updated",
+                                                         mock(SessionInfo.class)));
+
+        assertEquals(0,
+                     cache.size());
+    }
+
+    private static byte[] descriptor(RuntimeStrategy runtimeStrategy) {
+        DeploymentDescriptor descriptor = new DeploymentDescriptorManager("org.jbpm.domain").getDefaultDescriptor();
+        descriptor.getBuilder().runtimeStrategy(runtimeStrategy);
+        return descriptor.toXml().getBytes(StandardCharsets.UTF_8);
+    }
+}
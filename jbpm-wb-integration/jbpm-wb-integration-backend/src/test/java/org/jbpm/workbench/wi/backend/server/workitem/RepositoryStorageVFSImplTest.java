@@ -17,9 +17,12 @@
 package org.jbpm.workbench.wi.backend.server.workitem;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import org.guvnor.structure.organizationalunit.RepoRemovedFromOrganizationalUnitEvent;
@@ -29,10 +32,13 @@ import org.jbpm.process.workitem.repository.service.RepoData;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.kie.soup.xstream.XStreamUtils;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.uberfire.io.IOService;
+import org.uberfire.java.nio.file.DirectoryStream;
 import org.uberfire.java.nio.file.FileSystem;
+import org.uberfire.java.nio.file.Path;
 
 @RunWith(MockitoJUnitRunner.class)
 public class RepositoryStorageVFSImplTest {
@@ -51,8 +57,21 @@ public class RepositoryStorageVFSImplTest {
     
     @Mock
     private Repository repo;
+
+    @Mock
+    private Path storagePath;
+
+    @Mock
+    private Path journalPath;
+
+    @Mock
+    private Path changePath;
+
+    @Mock
+    private Path otherChangePath;
     
     private RepoData service;
+    private List<RepoData> storedServices;
     private RepositoryStorageVFSImpl storage;
     
     @Before
@@ -95,5 +114,103 @@ public class RepositoryStorageVFSImplTest {
         
         assertEquals(0, service.getInstalledOn().size());       
     }
-    
+
+    @Test
+    public void testChangeIsJournaled() {
+        initWithPaths();
+
+        storage.onEnabled(service);
+
+        verify(ioService).write(eq(journalPath), anyString());
+        verify(ioService, never()).write(eq(storagePath), anyString());
+    }
+
+    @Test
+    public void testChangesOfAServiceReplaceEachOther() {
+        initWithPaths();
+        storage.setCompactionThreshold(2);
+
+        storage.onEnabled(service);
+        storage.onDisabled(service);
+
+        verify(ioService, times(2)).write(eq(changePath), anyString());
+        verify(ioService, never()).write(eq(storagePath), anyString());
+    }
+
+    @Test
+    public void testJournalIsCompacted() {
+        initWithPaths();
+        storage.setCompactionThreshold(2);
+        RepoData other = new RepoData();
+        other.setId("other");
+        other.setName("other");
+        storedServices.add(other);
+
+        storage.onEnabled(service);
+        storage.onEnabled(other);
+
+        verify(ioService, times(1)).write(eq(changePath), anyString());
+        verify(ioService, never()).write(eq(otherChangePath), anyString());
+        verify(ioService).write(eq(storagePath), anyString());
+        verify(ioService).deleteIfExists(changePath);
+        verify(ioService).deleteIfExists(otherChangePath);
+    }
+
+    @Test
+    public void testRemovedServiceIsCompacted() {
+        initWithPaths();
+        RepoData other = new RepoData();
+        other.setId("other");
+        other.setName("other");
+        other.setModule("module");
+        storedServices.add(other);
+        storage.onAdded(other);
+        storedServices.remove(service);
+
+        storage.onEnabled(other);
+
+        verify(ioService, times(1)).write(eq(otherChangePath), anyString());
+        verify(ioService, times(1)).write(eq(storagePath), anyString());
+    }
+
+    @Test
+    public void testJournalIsReplayed() {
+        RepoData enabled = new RepoData();
+        enabled.setId(service.getId());
+        enabled.setName(service.getName());
+        enabled.setModule(service.getModule());
+        enabled.setEnabled(true);
+        RepoData added = new RepoData();
+        added.setId("added");
+        added.setName("added");
+
+        initWithPaths();
+        when(ioService.exists(storagePath)).thenReturn(true);
+        when(ioService.readAllString(storagePath)).thenReturn(XStreamUtils.createTrustingXStream().toXML(new ArrayList<>(Collections.singletonList(service))));
+        when(ioService.exists(journalPath)).thenReturn(true);
+        DirectoryStream<Path> journal = mock(DirectoryStream.class);
+        when(journal.iterator()).thenReturn(Arrays.asList(changePath, otherChangePath).iterator());
+        when(ioService.newDirectoryStream(eq(journalPath), any())).thenReturn(journal);
+        when(ioService.readAllString(changePath)).thenReturn(XStreamUtils.createTrustingXStream().toXML(enabled));
+        when(ioService.readAllString(otherChangePath)).thenReturn(XStreamUtils.createTrustingXStream().toXML(added));
+
+        storage.init();
+
+        List<RepoData> services = storage.synchronizeServices(Collections.emptyList());
+        assertEquals(2, services.size());
+        assertEquals(service.getId(), services.get(0).getId());
+        assertTrue(services.get(0).isEnabled());
+        assertEquals("added", services.get(1).getId());
+    }
+
+    private void initWithPaths() {
+        when(fileSystem.getPath("service-tasks", "remote", "service-repository-storage.xml")).thenReturn(storagePath);
+        when(fileSystem.getPath("service-tasks", "remote", "service-repository-journal")).thenReturn(journalPath);
+        storage = new RepositoryStorageVFSImpl(ioService, fileSystem);
+        when(journalPath.resolve(anyString())).thenReturn(otherChangePath);
+        when(journalPath.resolve(storage.getJournalFileName(service))).thenReturn(changePath);
+        storage.init();
+        storedServices = storage.synchronizeServices(Collections.singletonList(service));
+        reset(ioService);
+    }
 }
@@ -19,6 +19,7 @@ package org.jbpm.workbench.wi.backend.server.workitem;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -32,15 +33,20 @@ import org.jbpm.workbench.wi.workitems.model.ServiceTaskSummary;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.uberfire.io.IOService;
 import org.uberfire.java.nio.file.FileSystem;
+import org.uberfire.java.nio.file.Path;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -55,6 +61,9 @@ public class ServiceTaskServiceImplTest {
     @Mock
     private FileSystem fileSystem;
 
+    @Mock
+    private Path journalPath;
+
     @Mock
     private RepositoryEventListener eventListener;
 
@@ -71,6 +80,7 @@ public class ServiceTaskServiceImplTest {
 
     @Before
     public void init() {
+        when(fileSystem.getPath("service-tasks", "remote", "service-repository-journal")).thenReturn(journalPath);
         storage = new RepositoryStorageVFSImpl(ioService, fileSystem);
         storage.init();
 
@@ -137,4 +147,33 @@ public class ServiceTaskServiceImplTest {
         Optional<ServiceTaskSummary> optionalServiceTaskSummary = afterRemoveAction.stream().filter(s -> s.getName().equals(stName)).findFirst();
         assertFalse(optionalServiceTaskSummary.isPresent());
     }
+
+    @Test
+    public void testInstallServiceTasksInOneBatch() {
+        WorkbenchRepositoryEventListener workbenchEventListener = mock(WorkbenchRepositoryEventListener.class);
+        RepoService batchRepoService = mock(RepoService.class);
+        serviceTaskServiceImpl.setEventListener(workbenchEventListener);
+        serviceTaskServiceImpl.setRepoService(batchRepoService);
+
+        Map<String, List<String>> serviceTasks = new LinkedHashMap<>();
+        serviceTasks.put("1", null);
+        serviceTasks.put("2", Collections.singletonList("param"));
+        serviceTaskServiceImpl.installServiceTasks(serviceTasks, "myspace/myproject", "master");
+
+        InOrder inOrder = inOrder(workbenchEventListener, batchRepoService);
+        inOrder.verify(workbenchEventListener).beginInstallBatch();
+        inOrder.verify(batchRepoService).installService("1", "myspace/myproject", null, "master");
+        inOrder.verify(batchRepoService).installService("2", "myspace/myproject", Collections.singletonList("param"), "master");
+        inOrder.verify(workbenchEventListener).endInstallBatch();
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testInstallServiceTasksReportsBatchFailure() {
+        WorkbenchRepositoryEventListener workbenchEventListener = mock(WorkbenchRepositoryEventListener.class);
+        doThrow(new RuntimeException("commit failed")).when(workbenchEventListener).endInstallBatch();
+        serviceTaskServiceImpl.setEventListener(workbenchEventListener);
+        serviceTaskServiceImpl.setRepoService(mock(RepoService.class));
+
+        serviceTaskServiceImpl.installServiceTasks(Collections.singletonMap("1", null), "myspace/myproject", "master");
+    }
 }
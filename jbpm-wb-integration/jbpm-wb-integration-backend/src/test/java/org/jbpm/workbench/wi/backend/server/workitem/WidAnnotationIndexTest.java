@@ -0,0 +1,58 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.wi.backend.server.workitem;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import org.jbpm.process.workitem.core.util.Wid;
+import org.jbpm.workbench.wi.backend.server.workitem.WidAnnotationIndex.WidType;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class WidAnnotationIndexTest {
+
+    private final File artifact = new File(WidAnnotationIndexTest.class.getResource("/workitem.test-1.0.jar").getFile());
+
+    @Test
+    public void testReadWidValues() throws IOException {
+        List<WidType> widTypes = new WidAnnotationIndex().getWidTypes(artifact);
+
+        assertEquals(1, widTypes.size());
+        assertEquals("org.jbpm.workitem.test.TestWorkItemHandler", widTypes.get(0).getClassName());
+
+        Wid wid = widTypes.get(0).getWid();
+        assertEquals("Test", wid.name());
+        assertEquals("mvel: new org.jbpm.workitem.test.TestWorkItemHandler()", wid.defaultHandler());
+        assertEquals("test,test", wid.serviceInfo().keywords());
+        assertEquals("test", wid.serviceInfo().action().title());
+        assertEquals(1, wid.mavenDepends().length);
+        assertEquals("workitem.test", wid.mavenDepends()[0].artifact());
+        // members not set on the handler return their default
+        assertEquals(0, wid.parameters().length);
+    }
+
+    @Test
+    public void testArtifactIsScannedOnce() throws IOException {
+        WidAnnotationIndex index = new WidAnnotationIndex();
+
+        assertSame(index.getWidTypes(artifact), index.getWidTypes(artifact));
+    }
+}
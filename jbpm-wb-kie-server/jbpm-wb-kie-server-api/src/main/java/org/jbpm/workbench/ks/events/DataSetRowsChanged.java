@@ -0,0 +1,112 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jbpm.workbench.ks.events;
+
+import java.util.List;
+
+import org.jboss.errai.common.client.api.annotations.Portable;
+
+/**
+ * Event pushed to clients when rows of a live data set were modified on a server template.
+ * Only the row identifiers are carried, clients re-fetch the rows they display with their own credentials.
+ */
+@Portable
+public class DataSetRowsChanged {
+
+    private String serverTemplateId;
+
+    private String dataSetId;
+
+    private List<Long> rowIds;
+
+    public DataSetRowsChanged() {
+    }
+
+    public DataSetRowsChanged(String serverTemplateId,
+                              String dataSetId,
+                              List<Long> rowIds) {
+        this.serverTemplateId = serverTemplateId;
+        this.dataSetId = dataSetId;
+        this.rowIds = rowIds;
+    }
+
+    public String getServerTemplateId() {
+        return serverTemplateId;
+    }
+
+    public void setServerTemplateId(String serverTemplateId) {
+        this.serverTemplateId = serverTemplateId;
+    }
+
+    public String getDataSetId() {
+        return dataSetId;
+    }
+
+    public void setDataSetId(String dataSetId) {
+        this.dataSetId = dataSetId;
+    }
+
+    public List<Long> getRowIds() {
+        return rowIds;
+    }
+
+    public void setRowIds(List<Long> rowIds) {
+        this.rowIds = rowIds;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        DataSetRowsChanged that = (DataSetRowsChanged) o;
+
+        if (!serverTemplateId.equals(that.serverTemplateId)) {
+            return false;
+        }
+        if (!dataSetId.equals(that.dataSetId)) {
+            return false;
+        }
+        return rowIds.equals(that.rowIds);
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidMultipleUnaryOperators")
+    public int hashCode() {
+        int result = serverTemplateId.hashCode();
+        result = ~~result;
+        result = 31 * result + dataSetId.hashCode();
+        result = ~~result;
+        result = 31 * result + rowIds.hashCode();
+        result = ~~result;
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "DataSetRowsChanged{" +
+                "serverTemplateId='" + serverTemplateId + '\'' +
+                ", dataSetId='" + dataSetId + '\'' +
+                ", rowIds=" + rowIds +
+                '}';
+    }
+}
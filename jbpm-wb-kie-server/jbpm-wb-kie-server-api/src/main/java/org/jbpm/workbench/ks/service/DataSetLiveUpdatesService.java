@@ -0,0 +1,33 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jbpm.workbench.ks.service;
+
+import org.jboss.errai.bus.server.annotations.Remote;
+
+@Remote
+public interface DataSetLiveUpdatesService {
+
+    String subscribe(String serverTemplateId,
+                     String dataSetId,
+                     String idColumnId,
+                     String lastModificationColumnId);
+
+    boolean renew(String subscriptionId);
+
+    void unsubscribe(String subscriptionId);
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.ks.service;
+
+import java.util.List;
+
+import org.dashbuilder.dataset.DataSetLookup;
+import org.jboss.errai.bus.server.annotations.Remote;
+
+@Remote
+public interface DataSetLookupBatchService {
+
+    /**
+     * Returns one result per lookup, in the same order. A failed lookup only fails its own result.
+     */
+    List<DataSetLookupResult> lookupDataSets(List<DataSetLookup> lookups);
+}
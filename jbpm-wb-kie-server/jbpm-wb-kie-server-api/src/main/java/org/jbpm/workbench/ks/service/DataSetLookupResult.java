@@ -0,0 +1,79 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.ks.service;
+
+import org.dashbuilder.dataset.DataSet;
+import org.jboss.errai.common.client.api.annotations.Portable;
+
+/**
+ * Outcome of one lookup of a {@link DataSetLookupBatchService} call: the data set, none when it doesn't exist, or
+ * the error the lookup failed with.
+ */
+@Portable
+public class DataSetLookupResult {
+
+    private DataSet dataSet;
+
+    private String errorMessage;
+
+    public DataSetLookupResult() {
+    }
+
+    public DataSetLookupResult(DataSet dataSet,
+                               String errorMessage) {
+        this.dataSet = dataSet;
+        this.errorMessage = errorMessage;
+    }
+
+    public static DataSetLookupResult ofDataSet(DataSet dataSet) {
+        return new DataSetLookupResult(dataSet,
+                                       null);
+    }
+
+    public static DataSetLookupResult ofError(String errorMessage) {
+        return new DataSetLookupResult(null,
+                                       errorMessage);
+    }
+
+    public DataSet getDataSet() {
+        return dataSet;
+    }
+
+    public void setDataSet(DataSet dataSet) {
+        this.dataSet = dataSet;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    public boolean isFailed() {
+        return errorMessage != null;
+    }
+
+    @Override
+    public String toString() {
+        return "DataSetLookupResult{" +
+                "dataSet=" + dataSet +
+                ", errorMessage='" + errorMessage + '\'' +
+                '}';
+    }
+}
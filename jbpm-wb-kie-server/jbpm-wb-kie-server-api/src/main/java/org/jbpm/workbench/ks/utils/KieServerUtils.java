@@ -18,6 +18,7 @@ package org.jbpm.workbench.ks.utils;
 
 import java.security.Principal;
 import java.util.Arrays;
+import java.util.concurrent.Callable;
 
 import org.jbpm.workbench.ks.security.KeyCloakTokenCredentialsProvider;
 import org.keycloak.KeycloakPrincipal;
@@ -43,6 +44,8 @@ public class KieServerUtils {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(KieServerUtils.class);
 
+    private static final ThreadLocal<String> PROPAGATED_AUTHORIZATION = new ThreadLocal<>();
+
     private static boolean KIE_SERVER_FORM_RENDERER = Boolean.parseBoolean(System.getProperty("org.jbpm.wb.forms.renderer.ext", "false"));
     
     public static KieServicesClient createKieServicesClient(final String... capabilities) {
@@ -130,6 +133,10 @@ public class KieServerUtils {
 
             @Override
             public String getAuthorization() {
+                final String propagated = PROPAGATED_AUTHORIZATION.get();
+                if (propagated != null) {
+                    return propagated;
+                }
                 Principal principal = SecurityIntegrationFilter.getRequest().getUserPrincipal();
                 if (principal instanceof KeycloakPrincipal) {
                     return keyCloakProvider.getAuthorization();
@@ -150,6 +157,31 @@ public class KieServerUtils {
         }
     }
 
+    /**
+     * Wraps the given task so that KIE server calls it makes on another thread are authenticated as the user
+     * of the current request.
+     */
+    public static <T> Callable<T> withCurrentCredentials(final Callable<T> task) {
+        final String authorization = SecurityIntegrationFilter.getRequest() == null ?
+                PROPAGATED_AUTHORIZATION.get() :
+                getCredentialsProvider().getAuthorization();
+        return () -> {
+            final String previous = PROPAGATED_AUTHORIZATION.get();
+            if (authorization != null) {
+                PROPAGATED_AUTHORIZATION.set(authorization);
+            }
+            try {
+                return task.call();
+            } finally {
+                if (previous == null) {
+                    PROPAGATED_AUTHORIZATION.remove();
+                } else {
+                    PROPAGATED_AUTHORIZATION.set(previous);
+                }
+            }
+        };
+    }
+
     public static boolean isKieServerRendererEnabled() {
         return KIE_SERVER_FORM_RENDERER;
     }
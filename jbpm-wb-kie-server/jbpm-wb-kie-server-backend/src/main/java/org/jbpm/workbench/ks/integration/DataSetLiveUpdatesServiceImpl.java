@@ -0,0 +1,489 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jbpm.workbench.ks.integration;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Event;
+import javax.inject.Inject;
+import javax.naming.InitialContext;
+import javax.naming.NamingException;
+
+import org.dashbuilder.dataset.def.DataColumnDef;
+import org.dashbuilder.dataset.def.DataSetDef;
+import org.dashbuilder.dataset.def.DataSetDefRegistry;
+import org.dashbuilder.dataset.def.SQLDataSetDef;
+import org.jboss.errai.bus.server.annotations.Service;
+import org.jbpm.workbench.ks.events.DataSetRowsChanged;
+import org.jbpm.workbench.ks.service.DataSetLiveUpdatesService;
+import org.kie.server.api.model.definition.QueryDefinition;
+import org.kie.server.api.util.QueryFilterSpecBuilder;
+import org.kie.server.client.KieServicesClient;
+import org.kie.server.client.QueryServicesClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.kie.soup.commons.validation.PortablePreconditions.checkNotEmpty;
+
+/**
+ * Polls KIE server for rows of the subscribed data sets modified since the last poll and pushes their ids to the clients.
+ * One query is issued per subscribed data set and server template, regardless of the number of clients subscribed to it.
+ * <p>
+ * The poll doesn't use the data set query itself, whose target may restrict the rows to the ones of the polling user
+ * (e.g. the task lists), but an unfiltered CUSTOM query with the same SQL, registered on the KIE servers on first use.
+ * Polling runs on the container's managed scheduled executor.
+ */
+@Service
+@ApplicationScoped
+public class DataSetLiveUpdatesServiceImpl implements DataSetLiveUpdatesService {
+
+    public static final String LIVE_UPDATES_INTERVAL = "org.jbpm.wb.live.updates.interval";
+
+    public static final String LIVE_UPDATES_LEASE = "org.jbpm.wb.live.updates.lease";
+
+    public static final String LIVE_UPDATES_MAX_ROWS = "org.jbpm.wb.live.updates.maxrows";
+
+    public static final String LIVE_QUERY_SUFFIX = "-liveUpdates";
+
+    protected static final String MANAGED_SCHEDULED_EXECUTOR = "java:comp/DefaultManagedScheduledExecutorService";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DataSetLiveUpdatesServiceImpl.class);
+
+    private final long interval = Long.getLong(LIVE_UPDATES_INTERVAL,
+                                               5000);
+
+    private final long lease = Long.getLong(LIVE_UPDATES_LEASE,
+                                            90000);
+
+    private final int maxRows = Integer.getInteger(LIVE_UPDATES_MAX_ROWS,
+                                                   200);
+
+    private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+
+    private final Map<LiveDataSet, Date> watermarks = new ConcurrentHashMap<>();
+
+    // ids already reported with a modification equal to the watermark, the next poll starts at the watermark included
+    private final Map<LiveDataSet, Set<Long>> watermarkIds = new ConcurrentHashMap<>();
+
+    private final Set<LiveDataSet> registeredQueries = ConcurrentHashMap.newKeySet();
+
+    private ScheduledFuture<?> pollTask;
+
+    private DataSetDefRegistry dataSetDefRegistry;
+
+    private KieServerIntegration kieServerIntegration;
+
+    private Event<DataSetRowsChanged> event;
+
+    @Inject
+    public DataSetLiveUpdatesServiceImpl(DataSetDefRegistry dataSetDefRegistry,
+                                         KieServerIntegration kieServerIntegration,
+                                         Event<DataSetRowsChanged> event) {
+        this.dataSetDefRegistry = dataSetDefRegistry;
+        this.kieServerIntegration = kieServerIntegration;
+        this.event = event;
+    }
+
+    @PostConstruct
+    public void start() {
+        final ScheduledExecutorService scheduler = getScheduledExecutorService();
+        if (scheduler == null) {
+            return;
+        }
+        pollTask = scheduler.scheduleWithFixedDelay(this::poll,
+                                                    interval,
+                                                    interval,
+                                                    TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (pollTask != null) {
+            pollTask.cancel(false);
+        }
+    }
+
+    protected ScheduledExecutorService getScheduledExecutorService() {
+        try {
+            return InitialContext.doLookup(MANAGED_SCHEDULED_EXECUTOR);
+        } catch (NamingException e) {
+            LOGGER.warn("Managed scheduled executor {} not available, live updates are disabled",
+                        MANAGED_SCHEDULED_EXECUTOR);
+            LOGGER.debug("Managed scheduled executor lookup error",
+                         e);
+            return null;
+        }
+    }
+
+    @Override
+    public String subscribe(final String serverTemplateId,
+                            final String dataSetId,
+                            final String idColumnId,
+                            final String lastModificationColumnId) {
+        checkNotEmpty("serverTemplateId",
+                      serverTemplateId);
+        checkNotEmpty("dataSetId",
+                      dataSetId);
+        checkNotEmpty("idColumnId",
+                      idColumnId);
+        checkNotEmpty("lastModificationColumnId",
+                      lastModificationColumnId);
+
+        final String subscriptionId = UUID.randomUUID().toString();
+        subscriptions.put(subscriptionId,
+                          new Subscription(new LiveDataSet(serverTemplateId,
+                                                           dataSetId,
+                                                           idColumnId,
+                                                           lastModificationColumnId),
+                                           System.currentTimeMillis()));
+        LOGGER.debug("Live updates subscription {} created for data set {} on server template {}",
+                     subscriptionId,
+                     dataSetId,
+                     serverTemplateId);
+        return subscriptionId;
+    }
+
+    @Override
+    public boolean renew(final String subscriptionId) {
+        final Subscription subscription = subscriptions.get(subscriptionId);
+        if (subscription == null) {
+            return false;
+        }
+        subscription.setLastRenewal(System.currentTimeMillis());
+        return true;
+    }
+
+    @Override
+    public void unsubscribe(final String subscriptionId) {
+        if (subscriptionId != null && subscriptions.remove(subscriptionId) != null) {
+            LOGGER.debug("Live updates subscription {} removed",
+                         subscriptionId);
+        }
+    }
+
+    protected void poll() {
+        try {
+            final long expiration = System.currentTimeMillis() - lease;
+            subscriptions.values().removeIf(subscription -> subscription.getLastRenewal() < expiration);
+
+            final Set<LiveDataSet> liveDataSets = subscriptions.values().stream()
+                    .map(Subscription::getLiveDataSet)
+                    .collect(Collectors.toSet());
+            // forget the position of data sets nobody listens to anymore, next subscription starts from the current state
+            watermarks.keySet().retainAll(liveDataSets);
+            watermarkIds.keySet().retainAll(liveDataSets);
+
+            liveDataSets.forEach(liveDataSet -> {
+                try {
+                    pollDataSet(liveDataSet);
+                } catch (Exception e) {
+                    LOGGER.warn("Unable to check modified rows of data set {} on server template {} due to {}",
+                                liveDataSet.getDataSetId(),
+                                liveDataSet.getServerTemplateId(),
+                                e.getMessage());
+                    LOGGER.debug("Live updates polling error",
+                                 e);
+                }
+            });
+        } catch (Exception e) {
+            LOGGER.error("Unexpected error while polling live data sets",
+                         e);
+        }
+    }
+
+    protected void pollDataSet(final LiveDataSet liveDataSet) {
+        final DataSetDef def = dataSetDefRegistry.getDataSetDef(liveDataSet.getDataSetId());
+        if (def == null || def.getColumns() == null) {
+            return;
+        }
+
+        final int idIndex = getColumnIndex(def,
+                                           liveDataSet.getIdColumnId());
+        final int lastModificationIndex = getColumnIndex(def,
+                                                         liveDataSet.getLastModificationColumnId());
+        if (idIndex < 0 || lastModificationIndex < 0) {
+            LOGGER.warn("Data set {} does not define columns {} and {}, live updates not possible",
+                        liveDataSet.getDataSetId(),
+                        liveDataSet.getIdColumnId(),
+                        liveDataSet.getLastModificationColumnId());
+            return;
+        }
+
+        if (!(def instanceof SQLDataSetDef)) {
+            return;
+        }
+        if (!registerLiveQuery(liveDataSet,
+                               (SQLDataSetDef) def)) {
+            return;
+        }
+
+        final KieServicesClient client = kieServerIntegration.getAdminServerClientCheckEndpoints(liveDataSet.getServerTemplateId());
+        if (client == null) {
+            return;
+        }
+        final QueryServicesClient queryClient = client.getServicesClient(QueryServicesClient.class);
+        final String queryName = getLiveQueryName(liveDataSet);
+
+        try {
+            final Date watermark = watermarks.get(liveDataSet);
+            if (watermark == null) {
+                // first poll only records the most recent modification, changes are reported from there on
+                final List<List> latest = queryClient.query(queryName,
+                                                            QueryServicesClient.QUERY_MAP_RAW,
+                                                            new QueryFilterSpecBuilder()
+                                                                    .greaterThan(liveDataSet.getLastModificationColumnId(),
+                                                                                 new Date(0))
+                                                                    .orderBy(liveDataSet.getLastModificationColumnId(),
+                                                                             false)
+                                                                    .get(),
+                                                            0,
+                                                            1,
+                                                            List.class);
+                final Date baseline = latest.isEmpty() ? null : toDate(latest.get(0).get(lastModificationIndex));
+                final Set<Long> baselineIds = new HashSet<>();
+                if (baseline != null && latest.get(0).get(idIndex) instanceof Number) {
+                    baselineIds.add(((Number) latest.get(0).get(idIndex)).longValue());
+                }
+                watermarks.put(liveDataSet,
+                               baseline == null ? new Date(0) : baseline);
+                watermarkIds.put(liveDataSet,
+                                 baselineIds);
+                return;
+            }
+
+            // the watermark is included so rows sharing its timestamp aren't lost, the ones already reported are skipped
+            final Set<Long> reportedIds = watermarkIds.getOrDefault(liveDataSet,
+                                                                    new HashSet<>());
+            final Set<Long> rowIds = new LinkedHashSet<>();
+            Date newWatermark = watermark;
+            Set<Long> newWatermarkIds = new HashSet<>(reportedIds);
+            int page = 0;
+            List<List> rows;
+            do {
+                rows = queryClient.query(queryName,
+                                         QueryServicesClient.QUERY_MAP_RAW,
+                                         new QueryFilterSpecBuilder()
+                                                 .greaterOrEqualTo(liveDataSet.getLastModificationColumnId(),
+                                                                   watermark)
+                                                 .orderBy(liveDataSet.getLastModificationColumnId(),
+                                                          true)
+                                                 .get(),
+                                         page++,
+                                         maxRows,
+                                         List.class);
+                for (List row : rows) {
+                    final Object id = row.get(idIndex);
+                    final Date modified = toDate(row.get(lastModificationIndex));
+                    if (!(id instanceof Number) || modified == null) {
+                        continue;
+                    }
+                    final Long rowId = ((Number) id).longValue();
+                    if (modified.equals(watermark) && reportedIds.contains(rowId)) {
+                        continue;
+                    }
+                    rowIds.add(rowId);
+                    if (modified.after(newWatermark)) {
+                        newWatermark = modified;
+                        newWatermarkIds = new HashSet<>();
+                    }
+                    if (modified.equals(newWatermark)) {
+                        newWatermarkIds.add(rowId);
+                    }
+                }
+            } while (rows.size() == maxRows);
+
+            watermarks.put(liveDataSet,
+                           newWatermark);
+            watermarkIds.put(liveDataSet,
+                             newWatermarkIds);
+            if (rowIds.isEmpty()) {
+                return;
+            }
+
+            LOGGER.debug("Found {} modified rows in data set {} on server template {}",
+                         rowIds.size(),
+                         liveDataSet.getDataSetId(),
+                         liveDataSet.getServerTemplateId());
+            event.fire(new DataSetRowsChanged(liveDataSet.getServerTemplateId(),
+                                              liveDataSet.getDataSetId(),
+                                              new ArrayList<>(rowIds)));
+        } catch (RuntimeException e) {
+            // the query may be gone from the KIE server, it's registered again on next poll
+            registeredQueries.remove(liveDataSet);
+            throw e;
+        }
+    }
+
+    protected boolean registerLiveQuery(final LiveDataSet liveDataSet,
+                                        final SQLDataSetDef def) {
+        if (registeredQueries.contains(liveDataSet)) {
+            return true;
+        }
+        final QueryDefinition queryDefinition = QueryDefinition.builder()
+                .name(getLiveQueryName(liveDataSet))
+                .source(def.getDataSource())
+                .target("CUSTOM")
+                .expression(def.getDbSQL())
+                .build();
+        final List<Object> registered = kieServerIntegration.broadcastToKieServers(liveDataSet.getServerTemplateId(),
+                                                                                   client -> client.getServicesClient(QueryServicesClient.class).replaceQuery(queryDefinition));
+        if (registered.isEmpty()) {
+            return false;
+        }
+        registeredQueries.add(liveDataSet);
+        return true;
+    }
+
+    protected String getLiveQueryName(final LiveDataSet liveDataSet) {
+        return liveDataSet.getDataSetId() + LIVE_QUERY_SUFFIX;
+    }
+
+    protected int getColumnIndex(final DataSetDef def,
+                                 final String columnId) {
+        final List<DataColumnDef> columns = def.getColumns();
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i).getId().equals(columnId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    protected Date toDate(final Object value) {
+        if (value instanceof Date) {
+            return (Date) value;
+        }
+        if (value instanceof Number) {
+            return new Date(((Number) value).longValue());
+        }
+        return null;
+    }
+
+    protected Map<String, Subscription> getSubscriptions() {
+        return subscriptions;
+    }
+
+    protected Map<LiveDataSet, Date> getWatermarks() {
+        return watermarks;
+    }
+
+    protected Map<LiveDataSet, Set<Long>> getWatermarkIds() {
+        return watermarkIds;
+    }
+
+    protected static class Subscription {
+
+        private final LiveDataSet liveDataSet;
+
+        private volatile long lastRenewal;
+
+        public Subscription(LiveDataSet liveDataSet,
+                            long lastRenewal) {
+            this.liveDataSet = liveDataSet;
+            this.lastRenewal = lastRenewal;
+        }
+
+        public LiveDataSet getLiveDataSet() {
+            return liveDataSet;
+        }
+
+        public long getLastRenewal() {
+            return lastRenewal;
+        }
+
+        public void setLastRenewal(long lastRenewal) {
+            this.lastRenewal = lastRenewal;
+        }
+    }
+
+    protected static class LiveDataSet {
+
+        private final String serverTemplateId;
+
+        private final String dataSetId;
+
+        private final String idColumnId;
+
+        private final String lastModificationColumnId;
+
+        public LiveDataSet(String serverTemplateId,
+                           String dataSetId,
+                           String idColumnId,
+                           String lastModificationColumnId) {
+            this.serverTemplateId = serverTemplateId;
+            this.dataSetId = dataSetId;
+            this.idColumnId = idColumnId;
+            this.lastModificationColumnId = lastModificationColumnId;
+        }
+
+        public String getServerTemplateId() {
+            return serverTemplateId;
+        }
+
+        public String getDataSetId() {
+            return dataSetId;
+        }
+
+        public String getIdColumnId() {
+            return idColumnId;
+        }
+
+        public String getLastModificationColumnId() {
+            return lastModificationColumnId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            LiveDataSet that = (LiveDataSet) o;
+            return serverTemplateId.equals(that.serverTemplateId) &&
+                    dataSetId.equals(that.dataSetId) &&
+                    idColumnId.equals(that.idColumnId) &&
+                    lastModificationColumnId.equals(that.lastModificationColumnId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(serverTemplateId,
+                                dataSetId,
+                                idColumnId,
+                                lastModificationColumnId);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.ks.integration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.Instance;
+import javax.inject.Inject;
+
+import org.dashbuilder.dataset.DataSet;
+import org.dashbuilder.dataset.DataSetLookup;
+import org.dashbuilder.dataset.def.DataSetDef;
+import org.dashbuilder.dataset.def.DataSetDefRegistry;
+import org.jboss.errai.bus.server.annotations.Service;
+import org.jbpm.workbench.ks.service.DataSetLookupBatchService;
+import org.jbpm.workbench.ks.service.DataSetLookupResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Looks up all the data sets of a dashboard in a single request. Each distinct lookup is executed once, concurrently
+ * with the others, and its result returned for every position it was requested at. A failing lookup only fails the
+ * positions it was requested at. Lookups a {@link DataSetRollupProvider} can answer don't reach KIE server.
+ */
+@Service
+@ApplicationScoped
+public class DataSetLookupBatchServiceImpl implements DataSetLookupBatchService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DataSetLookupBatchServiceImpl.class);
+
+    private DataSetDefRegistry dataSetDefRegistry;
+
+    private KieServerDataSetProvider kieServerDataSetProvider;
+
+    private KieServerBulkExecutor bulkExecutor;
+
+    private Instance<DataSetRollupProvider> rollupProviders;
+
+    public DataSetLookupBatchServiceImpl() {
+    }
+
+    @Inject
+    public DataSetLookupBatchServiceImpl(final DataSetDefRegistry dataSetDefRegistry,
+                                         final KieServerDataSetProvider kieServerDataSetProvider,
+                                         final KieServerBulkExecutor bulkExecutor,
+                                         final Instance<DataSetRollupProvider> rollupProviders) {
+        this.dataSetDefRegistry = dataSetDefRegistry;
+        this.kieServerDataSetProvider = kieServerDataSetProvider;
+        this.bulkExecutor = bulkExecutor;
+        this.rollupProviders = rollupProviders;
+    }
+
+    @Override
+    public List<DataSetLookupResult> lookupDataSets(final List<DataSetLookup> lookups) {
+        final List<DataSetLookup> distinctLookups = new ArrayList<>();
+        final int[] positions = new int[lookups.size()];
+        for (int i = 0; i < lookups.size(); i++) {
+            positions[i] = indexOf(distinctLookups,
+                                   lookups.get(i));
+            if (positions[i] < 0) {
+                positions[i] = distinctLookups.size();
+                distinctLookups.add(lookups.get(i));
+            }
+        }
+
+        LOGGER.debug("Looking up {} data set(s) for {} lookup(s)",
+                     distinctLookups.size(),
+                     lookups.size());
+        final List<DataSetLookupResult> distinctResults = bulkExecutor.invokeAll(distinctLookups,
+                                                                                 this::lookupDataSetResult);
+
+        final List<DataSetLookupResult> results = new ArrayList<>(lookups.size());
+        for (int position : positions) {
+            results.add(distinctResults.get(position));
+        }
+        return results;
+    }
+
+    protected DataSetLookupResult lookupDataSetResult(final DataSetLookup lookup) {
+        try {
+            return DataSetLookupResult.ofDataSet(lookupDataSet(lookup));
+        } catch (RuntimeException e) {
+            LOGGER.warn("Lookup of data set {} failed: {}",
+                        lookup.getDataSetUUID(),
+                        e.getMessage());
+            LOGGER.debug("Lookup of data set {} failed",
+                         lookup.getDataSetUUID(),
+                         e);
+            return DataSetLookupResult.ofError(e.getMessage() != null ? e.getMessage() : e.getClass().getName());
+        }
+    }
+
+    protected DataSet lookupDataSet(final DataSetLookup lookup) {
+        final DataSetDef def = dataSetDefRegistry.getDataSetDef(lookup.getDataSetUUID());
+        if (def == null) {
+            return null;
+        }
+        if (!KieServerDataSetProvider.TYPE.equals(def.getProvider())) {
+            throw new IllegalArgumentException("Data set " + def.getUUID() + " is not provided by KIE server");
+        }
+        try {
+            if (lookup instanceof ConsoleDataSetLookup) {
+                for (DataSetRollupProvider rollupProvider : rollupProviders) {
+                    final DataSet dataSet = rollupProvider.lookupDataSet(def,
+                                                                         (ConsoleDataSetLookup) lookup);
+                    if (dataSet != null) {
+                        return dataSet;
+                    }
+                }
+            }
+            return kieServerDataSetProvider.lookupDataSet(def,
+                                                          lookup);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static int indexOf(final List<DataSetLookup> lookups,
+                               final DataSetLookup lookup) {
+        // lookups for another server template are equal as far as DataSetLookup is concerned, so it's compared too
+        for (int i = 0; i < lookups.size(); i++) {
+            if (lookups.get(i).equals(lookup) && Objects.equals(serverTemplateId(lookups.get(i)),
+                                                                serverTemplateId(lookup))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String serverTemplateId(final DataSetLookup lookup) {
+        return lookup instanceof ConsoleDataSetLookup ? ((ConsoleDataSetLookup) lookup).getServerTemplateId() : null;
+    }
+}
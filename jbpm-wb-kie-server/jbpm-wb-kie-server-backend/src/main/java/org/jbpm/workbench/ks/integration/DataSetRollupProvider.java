@@ -0,0 +1,33 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.ks.integration;
+
+import org.dashbuilder.dataset.DataSet;
+import org.dashbuilder.dataset.def.DataSetDef;
+
+/**
+ * Answers data set lookups from data aggregated ahead of time instead of querying KIE server.
+ */
+public interface DataSetRollupProvider {
+
+    /**
+     * @return the result of the lookup, or null when it can't be computed from the rollups and the rows of the data
+     * set have to be queried
+     */
+    DataSet lookupDataSet(DataSetDef def,
+                          ConsoleDataSetLookup lookup) throws Exception;
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jbpm.workbench.ks.integration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.uberfire.commons.concurrent.Managed;
+
+import static org.jbpm.workbench.ks.utils.KieServerUtils.withCurrentCredentials;
+
+/**
+ * Runs KIE server calls for many items concurrently, with at most {@link #BULK_PARALLELISM} calls in flight.
+ * Calls are authenticated as the user of the current request, the calling thread takes part in the work.
+ */
+@ApplicationScoped
+public class KieServerBulkExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(KieServerBulkExecutor.class);
+
+    public static final String BULK_PARALLELISM = "org.jbpm.wb.bulk.parallelism";
+
+    private ExecutorService executorService;
+
+    private int parallelism = Integer.getInteger(BULK_PARALLELISM,
+                                                 8);
+
+    public KieServerBulkExecutor() {
+    }
+
+    @Inject
+    public KieServerBulkExecutor(@Managed ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T, R> List<R> invokeAll(final List<T> items,
+                                    final Function<T, R> call) {
+        if (items == null || items.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        final Object[] results = new Object[items.size()];
+        final AtomicInteger next = new AtomicInteger();
+        final Callable<Void> worker = withCurrentCredentials(() -> {
+            int index;
+            while ((index = next.getAndIncrement()) < items.size()) {
+                results[index] = call.apply(items.get(index));
+            }
+            return null;
+        });
+
+        final int workers = Math.min(Math.max(parallelism,
+                                              1),
+                                     items.size());
+        final List<Future<Void>> futures = new ArrayList<>();
+        for (int i = 1; i < workers; i++) {
+            futures.add(executorService.submit(worker));
+        }
+
+        try {
+            worker.call();
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (Exception e) {
+            throw rethrow(e);
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+
+        return (List<R>) new ArrayList<>(Arrays.asList(results));
+    }
+
+    /**
+     * Runs all calls concurrently and waits for them at most {@code timeoutMillis}. Only the results of the calls that
+     * completed successfully in time are returned, the others are cancelled and logged.
+     */
+    public <K> Map<K, Object> invokeAll(final Map<K, Supplier<?>> calls,
+                                        final long timeoutMillis) {
+        final Map<K, Future<?>> futures = new LinkedHashMap<>();
+        calls.forEach((key, call) -> futures.put(key,
+                                                 executorService.submit(withCurrentCredentials(call::get))));
+
+        final long deadline = System.currentTimeMillis() + timeoutMillis;
+        final Map<K, Object> results = new HashMap<>();
+        try {
+            for (Map.Entry<K, Future<?>> entry : futures.entrySet()) {
+                try {
+                    results.put(entry.getKey(),
+                                entry.getValue().get(Math.max(deadline - System.currentTimeMillis(),
+                                                              0),
+                                                     TimeUnit.MILLISECONDS));
+                } catch (ExecutionException e) {
+                    LOGGER.warn("Call '{}' failed: {}",
+                                entry.getKey(),
+                                e.getCause().getMessage());
+                    LOGGER.debug("Call '{}' failed",
+                                 entry.getKey(),
+                                 e.getCause());
+                } catch (TimeoutException e) {
+                    LOGGER.warn("Call '{}' did not complete within {} ms",
+                                entry.getKey(),
+                                timeoutMillis);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            futures.values().forEach(future -> future.cancel(true));
+        }
+        return results;
+    }
+
+    /**
+     * Starts a single call in the background, to be awaited with {@link #get(Future)} once its result is needed.
+     */
+    public <T> Future<T> submit(final Supplier<T> call) {
+        return executorService.submit(withCurrentCredentials(call::get));
+    }
+
+    /**
+     * Waits for a call started with {@link #submit(Supplier)}, failures are rethrown as they were raised by the call.
+     */
+    public <T> T get(final Future<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    protected RuntimeException rethrow(final Throwable e) {
+        if (e instanceof RuntimeException) {
+            return (RuntimeException) e;
+        }
+        return new RuntimeException(e);
+    }
+
+    protected void setParallelism(final int parallelism) {
+        this.parallelism = parallelism;
+    }
+}
@@ -142,6 +142,24 @@ public class KieServerIntegration {
          return client;
     }
 
+    /**
+     * Returns the release deployed for the given container or alias of the server template as read from its spec,
+     * or an empty string when the container is not known.
+     */
+    public String getContainerRelease(String serverTemplateId,
+                                      String containerId) {
+        ServerTemplate serverTemplate = specManagementService.getServerTemplate(serverTemplateId);
+        if (serverTemplate == null || serverTemplate.getContainersSpec() == null) {
+            return "";
+        }
+        return serverTemplate.getContainersSpec().stream()
+                .filter(containerSpec -> containerId.equals(containerSpec.getId()) || containerId.equals(containerSpec.getContainerName()))
+                .filter(containerSpec -> containerSpec.getReleasedId() != null)
+                .map(containerSpec -> containerSpec.getReleasedId().toExternalForm())
+                .findFirst()
+                .orElse("");
+    }
+
     public KieServicesClient getAdminServerClient(String serverTemplateId,
                                                   String serverInstanceId) {
         try {
@@ -0,0 +1,350 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jbpm.workbench.ks.integration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Function;
+
+import org.dashbuilder.dataset.def.DataSetDef;
+import org.dashbuilder.dataset.def.DataSetDefRegistry;
+import org.jbpm.workbench.ks.events.DataSetRowsChanged;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.server.api.model.definition.QueryDefinition;
+import org.kie.server.api.model.definition.QueryFilterSpec;
+import org.kie.server.client.KieServicesClient;
+import org.kie.server.client.QueryServicesClient;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.uberfire.mocks.EventSourceMock;
+
+import static java.util.Collections.*;
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DataSetLiveUpdatesServiceImplTest {
+
+    private static final String SERVER_TEMPLATE_ID = "template";
+
+    private static final String DATA_SET_ID = "jbpmProcessInstances";
+
+    private static final String LIVE_QUERY = DATA_SET_ID + DataSetLiveUpdatesServiceImpl.LIVE_QUERY_SUFFIX;
+
+    private final List<DataSetRowsChanged> receivedEvents = new ArrayList<>();
+
+    @Mock
+    private DataSetDefRegistry dataSetDefRegistry;
+
+    @Mock
+    private KieServerIntegration kieServerIntegration;
+
+    @Mock
+    private KieServicesClient kieClient;
+
+    @Mock
+    private QueryServicesClient queryClient;
+
+    private DataSetLiveUpdatesServiceImpl liveUpdatesService;
+
+    @Before
+    public void setup() {
+        final DataSetDef dataSetDef = RemoteDataSetDefBuilder.get()
+                .uuid(DATA_SET_ID)
+                .dataSource("${org.kie.server.persistence.ds}")
+                .dbSQL("select * from ProcessInstanceInfo",
+                       false)
+                .number("processInstanceId")
+                .label("processId")
+                .date("lastModificationDate")
+                .buildDef();
+        when(dataSetDefRegistry.getDataSetDef(DATA_SET_ID)).thenReturn(dataSetDef);
+        when(kieServerIntegration.getAdminServerClientCheckEndpoints(SERVER_TEMPLATE_ID)).thenReturn(kieClient);
+        when(kieClient.getServicesClient(QueryServicesClient.class)).thenReturn(queryClient);
+        when(kieServerIntegration.broadcastToKieServers(eq(SERVER_TEMPLATE_ID),
+                                                        any())).thenAnswer(invocation -> singletonList(((Function<KieServicesClient, Object>) invocation.getArguments()[1]).apply(kieClient)));
+
+        liveUpdatesService = new DataSetLiveUpdatesServiceImpl(dataSetDefRegistry,
+                                                               kieServerIntegration,
+                                                               new EventSourceMock<DataSetRowsChanged>() {
+                                                                   @Override
+                                                                   public void fire(DataSetRowsChanged event) {
+                                                                       receivedEvents.add(event);
+                                                                   }
+                                                               });
+    }
+
+    @Test
+    public void testFirstPollRecordsBaselineOnly() {
+        subscribe();
+        when(queryClient.query(eq(LIVE_QUERY),
+                               eq(QueryServicesClient.QUERY_MAP_RAW),
+                               any(QueryFilterSpec.class),
+                               eq(0),
+                               eq(1),
+                               eq(List.class))).thenReturn(singletonList(Arrays.asList(1,
+                                                                                       "process",
+                                                                                       1000L)));
+
+        liveUpdatesService.poll();
+
+        assertTrue(receivedEvents.isEmpty());
+        assertEquals(new Date(1000L),
+                     liveUpdatesService.getWatermarks().values().iterator().next());
+    }
+
+    @Test
+    public void testPollPushesModifiedRowIds() {
+        subscribe();
+        liveUpdatesService.getWatermarks().put(new DataSetLiveUpdatesServiceImpl.LiveDataSet(SERVER_TEMPLATE_ID,
+                                                                                             DATA_SET_ID,
+                                                                                             "processInstanceId",
+                                                                                             "lastModificationDate"),
+                                               new Date(1000L));
+        when(queryClient.query(eq(LIVE_QUERY),
+                               eq(QueryServicesClient.QUERY_MAP_RAW),
+                               any(QueryFilterSpec.class),
+                               eq(0),
+                               anyInt(),
+                               eq(List.class))).thenReturn(Arrays.asList(Arrays.asList(2,
+                                                                                       "process",
+                                                                                       2000L),
+                                                                         Arrays.asList(3,
+                                                                                       "process",
+                                                                                       new Date(3000L)),
+                                                                         Arrays.asList(2,
+                                                                                       "process",
+                                                                                       3000L)));
+
+        liveUpdatesService.poll();
+
+        final ArgumentCaptor<QueryFilterSpec> specCaptor = ArgumentCaptor.forClass(QueryFilterSpec.class);
+        verify(queryClient).query(eq(LIVE_QUERY),
+                                  eq(QueryServicesClient.QUERY_MAP_RAW),
+                                  specCaptor.capture(),
+                                  eq(0),
+                                  eq(200),
+                                  eq(List.class));
+        assertEquals("lastModificationDate",
+                     specCaptor.getValue().getOrderBy());
+        assertTrue(specCaptor.getValue().isAscending());
+        assertEquals(new Date(1000L),
+                     specCaptor.getValue().getParameters()[0].getValue().get(0));
+
+        assertEquals(1,
+                     receivedEvents.size());
+        assertEquals(new DataSetRowsChanged(SERVER_TEMPLATE_ID,
+                                            DATA_SET_ID,
+                                            Arrays.asList(2L,
+                                                          3L)),
+                     receivedEvents.get(0));
+        assertEquals(new Date(3000L),
+                     liveUpdatesService.getWatermarks().values().iterator().next());
+        assertEquals(new HashSet<>(Arrays.asList(2L,
+                                                 3L)),
+                     liveUpdatesService.getWatermarkIds().values().iterator().next());
+    }
+
+    @Test
+    public void testLiveQueryIsRegisteredUnfiltered() {
+        subscribe();
+        when(queryClient.query(any(),
+                               any(),
+                               any(QueryFilterSpec.class),
+                               anyInt(),
+                               anyInt(),
+                               eq(List.class))).thenReturn(emptyList());
+
+        liveUpdatesService.poll();
+        liveUpdatesService.poll();
+
+        final ArgumentCaptor<QueryDefinition> captor = ArgumentCaptor.forClass(QueryDefinition.class);
+        verify(queryClient,
+               times(1)).replaceQuery(captor.capture());
+        assertEquals(LIVE_QUERY,
+                     captor.getValue().getName());
+        assertEquals("CUSTOM",
+                     captor.getValue().getTarget());
+        assertEquals("select * from ProcessInstanceInfo",
+                     captor.getValue().getExpression());
+    }
+
+    @Test
+    public void testRowsAtWatermarkAreReportedOnce() {
+        subscribe();
+        final DataSetLiveUpdatesServiceImpl.LiveDataSet liveDataSet = new DataSetLiveUpdatesServiceImpl.LiveDataSet(SERVER_TEMPLATE_ID,
+                                                                                                                    DATA_SET_ID,
+                                                                                                                    "processInstanceId",
+                                                                                                                    "lastModificationDate");
+        liveUpdatesService.getWatermarks().put(liveDataSet,
+                                               new Date(1000L));
+        liveUpdatesService.getWatermarkIds().put(liveDataSet,
+                                                 new HashSet<>(singletonList(1L)));
+        when(queryClient.query(eq(LIVE_QUERY),
+                               eq(QueryServicesClient.QUERY_MAP_RAW),
+                               any(QueryFilterSpec.class),
+                               eq(0),
+                               anyInt(),
+                               eq(List.class))).thenReturn(Arrays.asList(Arrays.asList(1,
+                                                                                       "process",
+                                                                                       1000L),
+                                                                         Arrays.asList(4,
+                                                                                       "process",
+                                                                                       1000L)));
+
+        liveUpdatesService.poll();
+
+        assertEquals(1,
+                     receivedEvents.size());
+        assertEquals(singletonList(4L),
+                     receivedEvents.get(0).getRowIds());
+        assertEquals(new HashSet<>(Arrays.asList(1L,
+                                                 4L)),
+                     liveUpdatesService.getWatermarkIds().get(liveDataSet));
+    }
+
+    @Test
+    public void testPollPagesUntilExhausted() {
+        System.setProperty(DataSetLiveUpdatesServiceImpl.LIVE_UPDATES_MAX_ROWS,
+                           "2");
+        try {
+            setup();
+            subscribe();
+            liveUpdatesService.getWatermarks().put(new DataSetLiveUpdatesServiceImpl.LiveDataSet(SERVER_TEMPLATE_ID,
+                                                                                                 DATA_SET_ID,
+                                                                                                 "processInstanceId",
+                                                                                                 "lastModificationDate"),
+                                                   new Date(1000L));
+            when(queryClient.query(eq(LIVE_QUERY),
+                                   eq(QueryServicesClient.QUERY_MAP_RAW),
+                                   any(QueryFilterSpec.class),
+                                   eq(0),
+                                   eq(2),
+                                   eq(List.class))).thenReturn(Arrays.asList(Arrays.asList(2,
+                                                                                           "process",
+                                                                                           2000L),
+                                                                             Arrays.asList(3,
+                                                                                           "process",
+                                                                                           2000L)));
+            when(queryClient.query(eq(LIVE_QUERY),
+                                   eq(QueryServicesClient.QUERY_MAP_RAW),
+                                   any(QueryFilterSpec.class),
+                                   eq(1),
+                                   eq(2),
+                                   eq(List.class))).thenReturn(singletonList(Arrays.asList(5,
+                                                                                           "process",
+                                                                                           2000L)));
+
+            liveUpdatesService.poll();
+
+            assertEquals(Arrays.asList(2L,
+                                       3L,
+                                       5L),
+                         receivedEvents.get(0).getRowIds());
+        } finally {
+            System.clearProperty(DataSetLiveUpdatesServiceImpl.LIVE_UPDATES_MAX_ROWS);
+        }
+    }
+
+    @Test
+    public void testSubscriptionsShareOnePoll() {
+        subscribe();
+        subscribe();
+        when(queryClient.query(any(),
+                               any(),
+                               any(QueryFilterSpec.class),
+                               anyInt(),
+                               anyInt(),
+                               eq(List.class))).thenReturn(emptyList());
+
+        liveUpdatesService.poll();
+
+        verify(queryClient,
+               times(1)).query(any(),
+                               any(),
+                               any(QueryFilterSpec.class),
+                               anyInt(),
+                               anyInt(),
+                               eq(List.class));
+    }
+
+    @Test
+    public void testUnsubscribeStopsPolling() {
+        final String subscriptionId = subscribe();
+        liveUpdatesService.getWatermarks().put(new DataSetLiveUpdatesServiceImpl.LiveDataSet(SERVER_TEMPLATE_ID,
+                                                                                             DATA_SET_ID,
+                                                                                             "processInstanceId",
+                                                                                             "lastModificationDate"),
+                                               new Date(1000L));
+
+        liveUpdatesService.unsubscribe(subscriptionId);
+        liveUpdatesService.poll();
+
+        assertFalse(liveUpdatesService.renew(subscriptionId));
+        assertTrue(liveUpdatesService.getWatermarks().isEmpty());
+        verifyZeroInteractions(queryClient);
+    }
+
+    @Test
+    public void testExpiredSubscriptionsAreRemoved() {
+        final String subscriptionId = subscribe();
+        liveUpdatesService.getSubscriptions().get(subscriptionId).setLastRenewal(0);
+
+        liveUpdatesService.poll();
+
+        assertTrue(liveUpdatesService.getSubscriptions().isEmpty());
+        verifyZeroInteractions(queryClient);
+    }
+
+    @Test
+    public void testRenewSubscription() {
+        final String subscriptionId = subscribe();
+        liveUpdatesService.getSubscriptions().get(subscriptionId).setLastRenewal(0);
+
+        assertTrue(liveUpdatesService.renew(subscriptionId));
+        assertTrue(liveUpdatesService.getSubscriptions().get(subscriptionId).getLastRenewal() > 0);
+    }
+
+    @Test
+    public void testUnknownColumnsSkipDataSet() {
+        liveUpdatesService.subscribe(SERVER_TEMPLATE_ID,
+                                     DATA_SET_ID,
+                                     "taskId",
+                                     "lastModificationDate");
+
+        liveUpdatesService.poll();
+
+        verifyZeroInteractions(kieServerIntegration);
+    }
+
+    private String subscribe() {
+        return liveUpdatesService.subscribe(SERVER_TEMPLATE_ID,
+                                            DATA_SET_ID,
+                                            "processInstanceId",
+                                            "lastModificationDate");
+    }
+}
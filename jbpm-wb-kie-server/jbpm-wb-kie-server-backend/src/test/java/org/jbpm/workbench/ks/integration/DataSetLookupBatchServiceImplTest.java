@@ -0,0 +1,208 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workbench.ks.integration;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import javax.enterprise.inject.Instance;
+
+import org.dashbuilder.dataset.DataSet;
+import org.dashbuilder.dataset.DataSetFactory;
+import org.dashbuilder.dataset.DataSetLookup;
+import org.dashbuilder.dataset.DataSetLookupFactory;
+import org.dashbuilder.dataset.def.DataSetDef;
+import org.dashbuilder.dataset.def.DataSetDefRegistry;
+import org.jbpm.workbench.ks.service.DataSetLookupResult;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.uberfire.commons.async.DescriptiveThreadFactory;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DataSetLookupBatchServiceImplTest {
+
+    private static final String DATA_SET_ID = "jbpmProcessInstances";
+
+    @Mock
+    private DataSetDefRegistry dataSetDefRegistry;
+
+    @Mock
+    private KieServerDataSetProvider kieServerDataSetProvider;
+
+    @Mock
+    private Instance<DataSetRollupProvider> rollupProviders;
+
+    @Mock
+    private DataSetRollupProvider rollupProvider;
+
+    private ExecutorService executorService;
+
+    private DataSetDef dataSetDef;
+
+    private DataSetLookupBatchServiceImpl batchService;
+
+    @Before
+    public void setup() throws Exception {
+        dataSetDef = RemoteDataSetDefBuilder.get()
+                .uuid(DATA_SET_ID)
+                .number("processInstanceId")
+                .label("processId")
+                .buildDef();
+        when(dataSetDefRegistry.getDataSetDef(DATA_SET_ID)).thenReturn(dataSetDef);
+        when(kieServerDataSetProvider.lookupDataSet(eq(dataSetDef),
+                                                    any(DataSetLookup.class))).thenAnswer(invocation -> DataSetFactory.newEmptyDataSet());
+        when(rollupProviders.iterator()).thenAnswer(invocation -> Collections.<DataSetRollupProvider>emptyList().iterator());
+
+        executorService = Executors.newCachedThreadPool(new DescriptiveThreadFactory());
+        batchService = new DataSetLookupBatchServiceImpl(dataSetDefRegistry,
+                                                         kieServerDataSetProvider,
+                                                         new KieServerBulkExecutor(executorService),
+                                                         rollupProviders);
+    }
+
+    @After
+    public void cleanup() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void testEqualLookupsAreExecutedOnce() throws Exception {
+        final DataSetLookup active = lookup("template",
+                                            "processId");
+        final DataSetLookup completed = lookup("template",
+                                               "processInstanceId");
+
+        final List<DataSet> dataSets = lookupDataSets(Arrays.asList(active,
+                                                                    completed,
+                                                                    lookup("template",
+                                                                           "processId")));
+
+        assertEquals(3,
+                     dataSets.size());
+        assertNotSame(dataSets.get(0),
+                      dataSets.get(1));
+        assertSame(dataSets.get(0),
+                   dataSets.get(2));
+        verify(kieServerDataSetProvider,
+               times(2)).lookupDataSet(eq(dataSetDef),
+                                       any(DataSetLookup.class));
+    }
+
+    @Test
+    public void testLookupsForOtherServerTemplateAreNotMerged() throws Exception {
+        final List<DataSet> dataSets = lookupDataSets(Arrays.asList(lookup("template",
+                                                                           "processId"),
+                                                                    lookup("other",
+                                                                           "processId")));
+
+        assertNotSame(dataSets.get(0),
+                      dataSets.get(1));
+        verify(kieServerDataSetProvider,
+               times(2)).lookupDataSet(eq(dataSetDef),
+                                       any(DataSetLookup.class));
+    }
+
+    @Test
+    public void testUnknownDataSetIsNotFound() {
+        final DataSetLookup lookup = ConsoleDataSetLookup.fromInstance(DataSetLookupFactory.newDataSetLookupBuilder()
+                                                                                     .dataset("unknown")
+                                                                                     .buildLookup(),
+                                                                       "template");
+
+        final List<DataSet> dataSets = lookupDataSets(Arrays.asList(lookup));
+
+        assertEquals(1,
+                     dataSets.size());
+        assertNull(dataSets.get(0));
+    }
+
+    @Test
+    public void testRollupAnswersLookup() throws Exception {
+        final DataSet rollupDataSet = DataSetFactory.newEmptyDataSet();
+        final DataSetLookup byProcess = lookup("template",
+                                               "processId");
+        final DataSetLookup byInstance = lookup("template",
+                                                "processInstanceId");
+        when(rollupProviders.iterator()).thenAnswer(invocation -> Collections.singletonList(rollupProvider).iterator());
+        when(rollupProvider.lookupDataSet(dataSetDef,
+                                          (ConsoleDataSetLookup) byProcess)).thenReturn(rollupDataSet);
+
+        final List<DataSet> dataSets = lookupDataSets(Arrays.asList(byProcess,
+                                                                    byInstance));
+
+        assertSame(rollupDataSet,
+                   dataSets.get(0));
+        assertNotNull(dataSets.get(1));
+        verify(kieServerDataSetProvider).lookupDataSet(dataSetDef,
+                                                       byInstance);
+        verify(kieServerDataSetProvider,
+               never()).lookupDataSet(dataSetDef,
+                                      byProcess);
+    }
+
+    @Test
+    public void testFailingLookupOnlyFailsItsPositions() throws Exception {
+        final DataSetLookup failing = lookup("template",
+                                             "processId");
+        final DataSetLookup working = lookup("template",
+                                             "processInstanceId");
+        when(kieServerDataSetProvider.lookupDataSet(dataSetDef,
+                                                    failing)).thenThrow(new RuntimeException("KIE server unavailable"));
+
+        final List<DataSetLookupResult> results = batchService.lookupDataSets(Arrays.asList(failing,
+                                                                                            working,
+                                                                                            lookup("template",
+                                                                                                   "processId")));
+
+        assertEquals(3,
+                     results.size());
+        assertTrue(results.get(0).isFailed());
+        assertEquals("KIE server unavailable",
+                     results.get(0).getErrorMessage());
+        assertFalse(results.get(1).isFailed());
+        assertNotNull(results.get(1).getDataSet());
+        assertTrue(results.get(2).isFailed());
+    }
+
+    private List<DataSet> lookupDataSets(final List<DataSetLookup> lookups) {
+        return batchService.lookupDataSets(lookups).stream()
+                .map(DataSetLookupResult::getDataSet)
+                .collect(Collectors.toList());
+    }
+
+    private DataSetLookup lookup(final String serverTemplateId,
+                                 final String groupColumnId) {
+        return ConsoleDataSetLookup.fromInstance(DataSetLookupFactory.newDataSetLookupBuilder()
+                                                               .dataset(DATA_SET_ID)
+                                                               .group(groupColumnId)
+                                                               .column(groupColumnId)
+                                                               .buildLookup(),
+                                                 serverTemplateId);
+    }
+}
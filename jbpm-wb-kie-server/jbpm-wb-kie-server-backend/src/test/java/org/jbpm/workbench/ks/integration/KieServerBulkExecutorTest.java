@@ -0,0 +1,217 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jbpm.workbench.ks.integration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.uberfire.commons.async.DescriptiveThreadFactory;
+
+import static org.junit.Assert.*;
+
+public class KieServerBulkExecutorTest {
+
+    private ExecutorService executorService;
+
+    private KieServerBulkExecutor bulkExecutor;
+
+    @Before
+    public void setup() {
+        executorService = Executors.newCachedThreadPool(new DescriptiveThreadFactory());
+        bulkExecutor = new KieServerBulkExecutor(executorService);
+    }
+
+    @After
+    public void cleanup() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void testResultsKeepItemOrder() {
+        final List<Integer> items = IntStream.range(0,
+                                                    100).boxed().collect(Collectors.toList());
+
+        final List<String> results = bulkExecutor.invokeAll(items,
+                                                            item -> "item-" + item);
+
+        assertEquals(items.stream().map(item -> "item-" + item).collect(Collectors.toList()),
+                     results);
+    }
+
+    @Test
+    public void testParallelismIsBounded() {
+        bulkExecutor.setParallelism(3);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        bulkExecutor.invokeAll(IntStream.range(0,
+                                               30).boxed().collect(Collectors.toList()),
+                               item -> {
+                                   maxRunning.accumulateAndGet(running.incrementAndGet(),
+                                                               Math::max);
+                                   threads.add(Thread.currentThread().getName());
+                                   sleep(5);
+                                   running.decrementAndGet();
+                                   return item;
+                               });
+
+        assertTrue(maxRunning.get() <= 3);
+        assertTrue(threads.size() <= 3);
+        assertTrue(threads.contains(Thread.currentThread().getName()));
+    }
+
+    @Test
+    public void testItemsRunConcurrently() throws Exception {
+        bulkExecutor.setParallelism(2);
+        final CountDownLatch latch = new CountDownLatch(2);
+
+        final List<Boolean> results = bulkExecutor.invokeAll(Arrays.asList(1,
+                                                                            2),
+                                                             item -> {
+                                                                 latch.countDown();
+                                                                 try {
+                                                                     return latch.await(5,
+                                                                                        TimeUnit.SECONDS);
+                                                                 } catch (InterruptedException e) {
+                                                                     return false;
+                                                                 }
+                                                             });
+
+        assertEquals(Arrays.asList(true,
+                                   true),
+                     results);
+    }
+
+    @Test
+    public void testEmptyItems() {
+        assertTrue(bulkExecutor.invokeAll(new ArrayList<String>(),
+                                          item -> item).isEmpty());
+        assertTrue(bulkExecutor.invokeAll(null,
+                                          item -> item).isEmpty());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testFailureIsPropagated() {
+        bulkExecutor.invokeAll(Arrays.asList(1,
+                                             2,
+                                             3),
+                               item -> {
+                                   if (item == 2) {
+                                       throw new IllegalStateException("failed");
+                                   }
+                                   return item;
+                               });
+    }
+
+    @Test
+    public void testInvokeAllWithinDeadline() {
+        final Map<String, Supplier<?>> calls = new LinkedHashMap<>();
+        calls.put("fast",
+                  () -> "fast");
+        calls.put("null",
+                  () -> null);
+        calls.put("failing",
+                  () -> {
+                      throw new IllegalStateException("failed");
+                  });
+        calls.put("slow",
+                  () -> {
+                      sleep(5000);
+                      return "slow";
+                  });
+
+        final long start = System.currentTimeMillis();
+        final Map<String, Object> results = bulkExecutor.invokeAll(calls,
+                                                                   200);
+
+        assertTrue(System.currentTimeMillis() - start < 5000);
+        assertEquals("fast",
+                     results.get("fast"));
+        assertTrue(results.containsKey("null"));
+        assertFalse(results.containsKey("failing"));
+        assertFalse(results.containsKey("slow"));
+    }
+
+    @Test
+    public void testInvokeAllRunsCallsConcurrently() {
+        final CountDownLatch latch = new CountDownLatch(3);
+        final Map<Integer, Supplier<?>> calls = new LinkedHashMap<>();
+        IntStream.range(0,
+                        3).forEach(i -> calls.put(i,
+                                                  () -> {
+                                                      latch.countDown();
+                                                      try {
+                                                          return latch.await(5,
+                                                                             TimeUnit.SECONDS);
+                                                      } catch (InterruptedException e) {
+                                                          return false;
+                                                      }
+                                                  }));
+
+        final Map<Integer, Object> results = bulkExecutor.invokeAll(calls,
+                                                                    5000);
+
+        assertEquals(3,
+                     results.size());
+        results.values().forEach(result -> assertEquals(true,
+                                                        result));
+    }
+
+    @Test
+    public void testSubmittedCallResult() {
+        final Future<String> future = bulkExecutor.submit(() -> "result");
+
+        assertEquals("result",
+                     bulkExecutor.get(future));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testSubmittedCallFailureIsPropagated() {
+        final Future<String> future = bulkExecutor.submit(() -> {
+            throw new IllegalStateException("failed");
+        });
+
+        bulkExecutor.get(future);
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
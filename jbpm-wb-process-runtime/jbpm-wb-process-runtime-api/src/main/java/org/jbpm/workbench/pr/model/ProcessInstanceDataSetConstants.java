@@ -20,6 +20,7 @@ public final class ProcessInstanceDataSetConstants {
 
     public static final String PROCESS_INSTANCE_DATASET = "jbpmProcessInstances";
     public static final String PROCESS_INSTANCE_WITH_VARIABLES_DATASET = "jbpmProcessInstancesWithVariables";
+    public static final String PROCESS_INSTANCE_VARIABLE_VALUES_DATASET = "jbpmProcessInstanceVariableValues";
     public static final String COLUMN_PROCESS_INSTANCE_ID = "processInstanceId";
     public static final String COLUMN_PROCESS_ID = "processId";
     public static final String COLUMN_START = "start_date";
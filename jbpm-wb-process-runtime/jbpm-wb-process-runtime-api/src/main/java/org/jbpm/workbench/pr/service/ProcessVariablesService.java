@@ -17,6 +17,7 @@
 package org.jbpm.workbench.pr.service;
 
 import java.util.List;
+import java.util.Map;
 
 import org.jboss.errai.bus.server.annotations.Remote;
 import org.jbpm.workbench.common.model.QueryFilter;
@@ -32,4 +33,8 @@ public interface ProcessVariablesService extends GenericServiceEntryPoint<Proces
                                                     String variableName);
 
     List<ProcessVariableSummary> getProcessVariables(QueryFilter filter);
+
+    Map<Long, Map<String, String>> getProcessInstancesVariables(String serverTemplateId,
+                                                                List<Long> processInstanceIds,
+                                                                List<String> variableNames);
 }
@@ -60,6 +60,14 @@ public class DataSetDefsBootstrap extends AbstractDataSetDefsBootstrap {
                                                       .label(VARIABLE_NAME)
                                                       .label(VARIABLE_VALUE)
             );
+        } else if (event.getDefinition().getName().equals(PROCESS_INSTANCE_VARIABLE_VALUES_DATASET)) {
+            registerDataSetDefinition(event.getDefinition(),
+                                      builder ->
+                                              builder.number(PROCESS_INSTANCE_ID)
+                                                      .number(VARIABLE_ID)
+                                                      .label(VARIABLE_NAME)
+                                                      .label(VARIABLE_VALUE)
+            );
         } else if (event.getDefinition().getName().equals(PROCESS_INSTANCE_LOGS_DATASET)) {
             registerDataSetDefinition(event.getDefinition(),
                                       builder ->
@@ -18,6 +18,7 @@ package org.jbpm.workbench.pr.backend.server;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import javax.enterprise.context.ApplicationScoped;
@@ -31,11 +32,15 @@ import org.jbpm.workbench.pr.model.ProcessVariableSummary;
 import org.jbpm.workbench.pr.service.ProcessVariablesService;
 import org.kie.server.api.exception.KieServicesHttpException;
 import org.kie.server.api.model.definition.VariablesDefinition;
+import org.kie.server.api.model.definition.QueryFilterSpec;
 import org.kie.server.api.model.instance.VariableInstance;
+import org.kie.server.api.util.QueryFilterSpecBuilder;
 import org.kie.server.client.ProcessServicesClient;
 import org.kie.server.client.QueryServicesClient;
 import org.uberfire.paging.PageResponse;
 
+import static org.jbpm.workbench.pr.model.ProcessInstanceDataSetConstants.*;
+
 @Service
 @ApplicationScoped
 public class RemoteProcessVariablesServiceImpl extends AbstractKieServerService implements ProcessVariablesService {
@@ -133,4 +138,47 @@ public class RemoteProcessVariablesServiceImpl extends AbstractKieServerService
                                               null,
                                               true);
     }
+
+    @Override
+    public Map<Long, Map<String, String>> getProcessInstancesVariables(final String serverTemplateId,
+                                                                       final List<Long> processInstanceIds,
+                                                                       final List<String> variableNames) {
+        final Map<Long, Map<String, String>> variables = new HashMap<>();
+        if (serverTemplateId == null || serverTemplateId.isEmpty() || processInstanceIds == null || processInstanceIds.isEmpty()) {
+            return variables;
+        }
+
+        final QueryFilterSpecBuilder filterSpecBuilder = new QueryFilterSpecBuilder()
+                .in(PROCESS_INSTANCE_ID,
+                    processInstanceIds)
+                .orderBy(VARIABLE_ID,
+                         true);
+        if (variableNames != null && !variableNames.isEmpty()) {
+            filterSpecBuilder.in(VARIABLE_NAME,
+                                 variableNames);
+        }
+        final QueryFilterSpec filterSpec = filterSpecBuilder.get();
+
+        final QueryServicesClient queryServicesClient = getClient(serverTemplateId,
+                                                                  QueryServicesClient.class);
+        final List<List> rows = queryServicesClient.query(PROCESS_INSTANCE_VARIABLE_VALUES_DATASET,
+                                                          QueryServicesClient.QUERY_MAP_RAW,
+                                                          filterSpec,
+                                                          0,
+                                                          Integer.MAX_VALUE,
+                                                          List.class);
+
+        // rows are sorted by log id, so the last value seen for a variable is its current one
+        for (List row : rows) {
+            final Long processInstanceId = ((Number) row.get(0)).longValue();
+            final String variableName = (String) row.get(2);
+            final Object value = row.get(3);
+            variables.computeIfAbsent(processInstanceId,
+                                      id -> new LinkedHashMap<>())
+                    .put(variableName,
+                         value == null ? null : value.toString());
+        }
+
+        return variables;
+    }
 }
@@ -28,6 +28,7 @@ import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
 import static org.jbpm.workbench.pr.model.ProcessInstanceDataSetConstants.PROCESS_INSTANCE_DATASET;
+import static org.jbpm.workbench.pr.model.ProcessInstanceDataSetConstants.PROCESS_INSTANCE_VARIABLE_VALUES_DATASET;
 import static org.jbpm.workbench.pr.model.ProcessInstanceDataSetConstants.PROCESS_INSTANCE_WITH_VARIABLES_DATASET;
 import static org.jbpm.workbench.pr.model.ProcessInstanceLogDataSetConstants.PROCESS_INSTANCE_LOGS_DATASET;
 import static org.junit.Assert.*;
@@ -84,6 +85,23 @@ public class DataSetDefsBootstrapTest {
                      dataSetDef.getColumns().size());
     }
 
+    @Test
+    public void testProcessInstanceVariableValuesDataSet() {
+        QueryDefinition qd = QueryDefinition.builder().name(PROCESS_INSTANCE_VARIABLE_VALUES_DATASET).expression("SELECT *").source("source").target("target").build();
+        dataSetsBootstrap.registerDataSetDefinitions(new QueryDefinitionLoaded(qd));
+
+        ArgumentCaptor<SQLDataSetDef> argument = ArgumentCaptor.forClass(SQLDataSetDef.class);
+        verify(dataSetRegistry).registerDataSetDef(argument.capture());
+
+        SQLDataSetDef dataSetDef = argument.getValue();
+        assertEquals(PROCESS_INSTANCE_VARIABLE_VALUES_DATASET,
+                     dataSetDef.getUUID());
+        assertEquals(KieServerDataSetProvider.TYPE,
+                     dataSetDef.getProvider());
+        assertEquals(4,
+                     dataSetDef.getColumns().size());
+    }
+
     @Test
     public void testProcessInstanceLogsDataSet() {
         QueryDefinition qd = QueryDefinition.builder().name(PROCESS_INSTANCE_LOGS_DATASET).expression("SELECT *").source("source").target("target").build();
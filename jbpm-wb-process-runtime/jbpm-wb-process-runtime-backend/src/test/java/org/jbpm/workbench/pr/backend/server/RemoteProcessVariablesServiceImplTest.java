@@ -20,6 +20,7 @@ import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.IntStream;
 
 import org.jbpm.workbench.common.model.PortableQueryFilter;
@@ -31,18 +32,22 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.kie.server.api.exception.KieServicesHttpException;
+import org.kie.server.api.model.definition.QueryFilterSpec;
 import org.kie.server.api.model.definition.VariablesDefinition;
 import org.kie.server.api.model.instance.VariableInstance;
 import org.kie.server.client.KieServicesClient;
 import org.kie.server.client.ProcessServicesClient;
 import org.kie.server.client.QueryServicesClient;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.uberfire.paging.PageResponse;
 
 import static java.util.Collections.singletonList;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonMap;
+import static org.jbpm.workbench.pr.model.ProcessInstanceDataSetConstants.PROCESS_INSTANCE_VARIABLE_VALUES_DATASET;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
@@ -301,4 +306,80 @@ public class RemoteProcessVariablesServiceImplTest {
         assertTrue(response.isFirstPage());
         assertFalse(response.isLastPage());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGetProcessInstancesVariables() {
+        when(queryServicesClient.query(eq(PROCESS_INSTANCE_VARIABLE_VALUES_DATASET),
+                                       eq(QueryServicesClient.QUERY_MAP_RAW),
+                                       any(QueryFilterSpec.class),
+                                       eq(0),
+                                       anyInt(),
+                                       eq(List.class))).thenReturn(Arrays.asList(Arrays.asList(1.0, 10.0, var1, "old"),
+                                                                                 Arrays.asList(2.0, 11.0, var1, var1_value),
+                                                                                 Arrays.asList(1.0, 12.0, var2, "value2"),
+                                                                                 Arrays.asList(1.0, 13.0, var1, "new")));
+
+        final Map<Long, Map<String, String>> variables = processVariablesService.getProcessInstancesVariables(serverTemplateId,
+                                                                                                            Arrays.asList(1L, 2L),
+                                                                                                            null);
+
+        final ArgumentCaptor<QueryFilterSpec> filterSpec = ArgumentCaptor.forClass(QueryFilterSpec.class);
+        verify(queryServicesClient).query(eq(PROCESS_INSTANCE_VARIABLE_VALUES_DATASET),
+                                          eq(QueryServicesClient.QUERY_MAP_RAW),
+                                          filterSpec.capture(),
+                                          eq(0),
+                                          anyInt(),
+                                          eq(List.class));
+        assertEquals(1,
+                     filterSpec.getValue().getParameters().length);
+        assertEquals(Arrays.asList(1L, 2L),
+                     filterSpec.getValue().getParameters()[0].getValue());
+        assertTrue(filterSpec.getValue().isAscending());
+
+        assertEquals(2,
+                     variables.size());
+        assertEquals(2,
+                     variables.get(1L).size());
+        assertEquals("new",
+                     variables.get(1L).get(var1));
+        assertEquals("value2",
+                     variables.get(1L).get(var2));
+        assertEquals(singletonMap(var1, var1_value),
+                     variables.get(2L));
+    }
+
+    @Test
+    public void testGetProcessInstancesVariablesSubset() {
+        when(queryServicesClient.query(anyString(),
+                                       anyString(),
+                                       any(QueryFilterSpec.class),
+                                       anyInt(),
+                                       anyInt(),
+                                       eq(List.class))).thenReturn(emptyList());
+
+        processVariablesService.getProcessInstancesVariables(serverTemplateId,
+                                                             singletonList(1L),
+                                                             singletonList(var1));
+
+        final ArgumentCaptor<QueryFilterSpec> filterSpec = ArgumentCaptor.forClass(QueryFilterSpec.class);
+        verify(queryServicesClient).query(anyString(),
+                                          anyString(),
+                                          filterSpec.capture(),
+                                          anyInt(),
+                                          anyInt(),
+                                          eq(List.class));
+        assertEquals(2,
+                     filterSpec.getValue().getParameters().length);
+        assertEquals(singletonList(var1),
+                     filterSpec.getValue().getParameters()[1].getValue());
+    }
+
+    @Test
+    public void testGetProcessInstancesVariablesWithoutInstances() {
+        assertTrue(processVariablesService.getProcessInstancesVariables(serverTemplateId,
+                                                                        emptyList(),
+                                                                        null).isEmpty());
+
+        verifyZeroInteractions(queryServicesClient);
+    }
+}
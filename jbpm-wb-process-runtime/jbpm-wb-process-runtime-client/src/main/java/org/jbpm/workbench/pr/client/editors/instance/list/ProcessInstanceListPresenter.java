@@ -30,15 +30,14 @@ import org.dashbuilder.dataset.DataSetOp;
 import org.dashbuilder.dataset.DataSetOpType;
 import org.dashbuilder.dataset.client.DataSetReadyCallback;
 import org.dashbuilder.dataset.filter.*;
-import org.dashbuilder.dataset.sort.SortOrder;
 import org.jboss.errai.common.client.api.Caller;
 import org.jbpm.workbench.common.client.filters.active.ActiveFilterItem;
 import org.jbpm.workbench.common.client.list.AbstractMultiGridPresenter;
 import org.jbpm.workbench.common.client.list.MultiGridView;
+import org.jbpm.workbench.common.client.menu.LiveUpdatesMenuBuilder;
 import org.jbpm.workbench.common.client.menu.PrimaryActionMenuBuilder;
 import org.jbpm.workbench.common.client.menu.RefreshMenuBuilder;
 import org.jbpm.workbench.df.client.filter.FilterSettings;
-import org.jbpm.workbench.df.client.list.DataSetQueryHelper;
 import org.jbpm.workbench.forms.client.display.process.QuickNewProcessInstancePopup;
 import org.jbpm.workbench.pr.client.editors.instance.signal.ProcessInstanceSignalPresenter;
 import org.jbpm.workbench.pr.client.resources.i18n.Constants;
@@ -49,6 +48,7 @@ import org.jbpm.workbench.pr.events.ProcessInstancesUpdateEvent;
 import org.jbpm.workbench.pr.model.ProcessInstanceKey;
 import org.jbpm.workbench.pr.model.ProcessInstanceSummary;
 import org.jbpm.workbench.pr.service.ProcessService;
+import org.jbpm.workbench.pr.service.ProcessVariablesService;
 import org.kie.api.runtime.process.ProcessInstance;
 import org.uberfire.client.annotations.WorkbenchMenu;
 import org.uberfire.client.annotations.WorkbenchScreen;
@@ -73,14 +73,13 @@ public class ProcessInstanceListPresenter extends AbstractMultiGridPresenter<Pro
 
     private final org.jbpm.workbench.common.client.resources.i18n.Constants commonConstants = org.jbpm.workbench.common.client.resources.i18n.Constants.INSTANCE;
 
-    @Inject
-    private DataSetQueryHelper dataSetQueryHelperDomainSpecific;
-
     @Inject
     private QuickNewProcessInstancePopup newProcessInstancePopup;
 
     private Caller<ProcessService> processService;
 
+    private Caller<ProcessVariablesService> processVariablesService;
+
     protected Event<ProcessInstanceSelectionEvent> processInstanceSelectionEvent;
 
     @Inject
@@ -101,48 +100,37 @@ public class ProcessInstanceListPresenter extends AbstractMultiGridPresenter<Pro
                               PROCESS_INSTANCE_DETAILS_SCREEN);
     }
 
-    protected DataSetReadyCallback createDataSetDomainSpecificCallback(final int startRange,
-                                                                       final FilterSettings tableSettings,
-                                                                       boolean lastPage) {
-        return errorHandlerBuilder.get().withUUID(tableSettings.getUUID()).withDataSetCallback(
-                dataSet -> {
-                    Set<String> columns = new HashSet<String>();
-                    for (int i = 0; i < dataSet.getRowCount(); i++) {
-                        Long processInstanceId = getColumnLongValue(dataSet,
-                                                                    PROCESS_INSTANCE_ID,
-                                                                    i);
-                        String variableName = getColumnStringValue(dataSet,
-                                                                   VARIABLE_NAME,
-                                                                   i);
-                        String variableValue = getColumnStringValue(dataSet,
-                                                                    VARIABLE_VALUE,
-                                                                    i);
-
-                        for (ProcessInstanceSummary pis : myProcessInstancesFromDataSet) {
-                            String initiator = pis.getInitiator();
-                            if (pis.getProcessInstanceId().equals(processInstanceId) && !filterInitiator(variableName,
-                                                                                                         variableValue,
-                                                                                                         initiator)) {
-                                pis.addDomainData(variableName,
-                                                  variableValue);
-                                columns.add(variableName);
-                            }
-                        }
-                    }
-                    view.addDomainSpecifColumns(columns);
+    protected void addDomainSpecifData(final Integer startRange,
+                                       final Map<Long, Map<String, String>> processInstancesVariables,
+                                       final Boolean lastPage) {
+        final Set<String> columns = new HashSet<String>();
+        for (ProcessInstanceSummary pis : myProcessInstancesFromDataSet) {
+            final Map<String, String> variables = processInstancesVariables.get(pis.getProcessInstanceId());
+            if (variables == null) {
+                continue;
+            }
+            variables.forEach((variableName, variableValue) -> {
+                if (!filterInitiator(variableName,
+                                     variableValue,
+                                     pis.getInitiator())) {
+                    pis.addDomainData(variableName,
+                                      variableValue);
+                    columns.add(variableName);
+                }
+            });
+        }
+        view.addDomainSpecifColumns(columns);
 
-                    updateDataOnCallback(myProcessInstancesFromDataSet,
-                                         startRange,
-                                         startRange + myProcessInstancesFromDataSet.size(),
-                                         lastPage);
-                })
-                .withEmptyResultsCallback(() -> setEmptyResults());
+        updateDataOnCallback(myProcessInstancesFromDataSet,
+                             startRange,
+                             startRange + myProcessInstancesFromDataSet.size(),
+                             lastPage);
     }
 
     protected boolean filterInitiator(String variableName,
                                       String variableValue,
                                       String initiator) {
-        return variableName.equals("initiator") && variableValue.equals(initiator);
+        return variableName.equals("initiator") && variableValue != null && variableValue.equals(initiator);
     }
 
     @Override
@@ -221,19 +209,22 @@ public class ProcessInstanceListPresenter extends AbstractMultiGridPresenter<Pro
     public void getDomainSpecifDataForProcessInstances(final Integer startRange,
                                                        final List<ProcessInstanceSummary> instancesFromDataSet,
                                                        final Boolean lastPage) {
-        List<Long> processIds = instancesFromDataSet.stream().map(t -> t.getId()).collect(Collectors.toList());
-        FilterSettings variablesTableSettings = filterSettingsManager.getVariablesFilterSettings(processIds);
-        variablesTableSettings.setServerTemplateId(getSelectedServerTemplate());
-        variablesTableSettings.setTablePageSize(-1);
-
-        dataSetQueryHelperDomainSpecific.setDataSetHandler(variablesTableSettings);
-        dataSetQueryHelperDomainSpecific.setCurrentTableSettings(variablesTableSettings);
-        dataSetQueryHelperDomainSpecific.setLastOrderedColumn(PROCESS_INSTANCE_ID);
-        dataSetQueryHelperDomainSpecific.setLastSortOrder(SortOrder.ASCENDING);
-        dataSetQueryHelperDomainSpecific.lookupDataSet(0,
-                                                       createDataSetDomainSpecificCallback(startRange,
-                                                                                           variablesTableSettings,
-                                                                                           lastPage));
+        final List<Long> processInstanceIds = instancesFromDataSet.stream().map(ProcessInstanceSummary::getProcessInstanceId).collect(Collectors.toList());
+        processVariablesService.call((Map<Long, Map<String, String>> processInstancesVariables) -> addDomainSpecifData(startRange,
+                                                                                                                        processInstancesVariables,
+                                                                                                                        lastPage),
+                                     (message, throwable) -> {
+                                         errorCallback.error(throwable);
+                                         // the page is still shown, only without the domain columns
+                                         updateDataOnCallback(myProcessInstancesFromDataSet,
+                                                              startRange,
+                                                              startRange + myProcessInstancesFromDataSet.size(),
+                                                              lastPage);
+                                         return false;
+                                     })
+                .getProcessInstancesVariables(getSelectedServerTemplate(),
+                                              processInstanceIds,
+                                              null);
     }
 
     protected ProcessInstanceSummary createProcessInstanceSummaryFromDataSet(DataSet dataSet,
@@ -291,6 +282,26 @@ public class ProcessInstanceListPresenter extends AbstractMultiGridPresenter<Pro
         );
     }
 
+    @Override
+    protected String getLiveUpdatesIdColumn() {
+        return COLUMN_PROCESS_INSTANCE_ID;
+    }
+
+    @Override
+    protected String getLiveUpdatesLastModificationColumn() {
+        return COLUMN_LAST_MODIFICATION_DATE;
+    }
+
+    @Override
+    protected ProcessInstanceSummary createLiveUpdatedSummary(final ProcessInstanceSummary current,
+                                                              final DataSet dataSet,
+                                                              final int row) {
+        final ProcessInstanceSummary summary = createProcessInstanceSummaryFromDataSet(dataSet,
+                                                                                      row);
+        current.getDomainData().forEach(summary::addDomainData);
+        return summary;
+    }
+
     public void newInstanceCreated(@Observes final NewProcessInstanceEvent pi) {
         refreshGrid();
     }
@@ -370,6 +381,7 @@ public class ProcessInstanceListPresenter extends AbstractMultiGridPresenter<Pro
     public void getMenus(final Consumer<Menus> menusConsumer) {
         menusConsumer.accept(MenuFactory
                                      .newTopLevelCustomMenu(new RefreshMenuBuilder(this)).endMenu()
+                                     .newTopLevelCustomMenu(new LiveUpdatesMenuBuilder(this)).endMenu()
                                      .newTopLevelCustomMenu(new PrimaryActionMenuBuilder(constants.New_Process_Instance(),
                                                                                          () -> {
                                                                                              final String selectedServerTemplate = getSelectedServerTemplate();
@@ -424,6 +436,11 @@ public class ProcessInstanceListPresenter extends AbstractMultiGridPresenter<Pro
         this.processService = processService;
     }
 
+    @Inject
+    public void setProcessVariablesService(final Caller<ProcessVariablesService> processVariablesService) {
+        this.processVariablesService = processVariablesService;
+    }
+
     @Override
     public void setupActiveSearchFilters() {
         final Optional<String> processDefinitionSearch = getSearchParameter(SEARCH_PARAMETER_PROCESS_DEFINITION_ID);
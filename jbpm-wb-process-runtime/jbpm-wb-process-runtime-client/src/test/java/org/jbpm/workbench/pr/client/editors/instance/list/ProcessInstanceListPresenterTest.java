@@ -29,7 +29,6 @@ import org.dashbuilder.dataset.DataSetOp;
 import org.dashbuilder.dataset.client.DataSetReadyCallback;
 import org.dashbuilder.dataset.filter.ColumnFilter;
 import org.dashbuilder.dataset.filter.DataSetFilter;
-import org.dashbuilder.dataset.sort.SortOrder;
 import org.jboss.errai.ioc.client.api.ManagedInstance;
 import org.jboss.errai.security.shared.api.identity.User;
 import org.jbpm.workbench.common.client.PerspectiveIds;
@@ -49,10 +48,12 @@ import org.jbpm.workbench.pr.events.ProcessInstanceSelectionEvent;
 import org.jbpm.workbench.pr.model.ProcessInstanceKey;
 import org.jbpm.workbench.pr.model.ProcessInstanceSummary;
 import org.jbpm.workbench.pr.service.ProcessService;
+import org.jbpm.workbench.pr.service.ProcessVariablesService;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.kie.api.runtime.process.ProcessInstance;
+import org.kie.workbench.common.workbench.client.error.DefaultWorkbenchErrorCallback;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -117,7 +118,7 @@ public class ProcessInstanceListPresenterTest {
     private DataSet dataSetProcessVar;
 
     @Mock
-    private DataSetQueryHelper dataSetQueryHelperDomainSpecific;
+    private ProcessVariablesService processVariablesService;
 
     @Mock
     private ListTable extendedPagedTable;
@@ -154,6 +155,9 @@ public class ProcessInstanceListPresenterTest {
     @Mock
     private FilterSettingsManager filterSettingsManager;
 
+    @Mock
+    private DefaultWorkbenchErrorCallback errorCallback;
+
     @Mock
     private EventSourceMock<ProcessInstanceSelectionEvent> processInstanceSelectionEvent = new EventSourceMock<>();
 
@@ -224,7 +228,6 @@ public class ProcessInstanceListPresenterTest {
         when(filterSettingsJSONMarshaller.fromJsonString(anyString())).thenReturn(filterSettings);
         when(dataSetQueryHelper.getCurrentTableSettings()).thenReturn(filterSettings);
         when(filterSettings.getUUID()).thenReturn(datasetUId);
-        when(filterSettingsManager.getVariablesFilterSettings(any())).thenReturn(filterSettings);
         when(serverTemplateSelectorMenuBuilder.getView()).thenReturn(mock(ServerTemplateSelectorMenuBuilder.ServerTemplateSelectorElementView.class));
         when(perspectiveManager.getCurrentPerspective()).thenReturn(perspectiveActivity);
         when(perspectiveActivity.getIdentifier()).thenReturn(PERSPECTIVE_ID);
@@ -239,18 +242,10 @@ public class ProcessInstanceListPresenterTest {
         }).when(dataSetQueryHelper).lookupDataSet(anyInt(),
                                                   any(DataSetReadyCallback.class));
 
-        doAnswer(new Answer() {
-
-            @Override
-            public Object answer(InvocationOnMock invocation) throws Throwable {
-                ((DataSetReadyCallback) invocation.getArguments()[1]).callback(dataSetProcessVar);
-                return null;
-            }
-        }).when(dataSetQueryHelperDomainSpecific).lookupDataSet(anyInt(),
-                                                                any(DataSetReadyCallback.class));
         commonConstants = org.jbpm.workbench.common.client.resources.i18n.Constants.INSTANCE;
 
         presenter.setProcessService(remoteProcessServiceCaller);
+        presenter.setProcessVariablesService(new CallerMock<>(processVariablesService));
 
         when(errorHandlerBuilder.get()).thenReturn(errorHandler);
     }
@@ -262,9 +257,10 @@ public class ProcessInstanceListPresenterTest {
 
         verify(dataSetQueryHelper).lookupDataSet(anyInt(),
                                                  any(DataSetReadyCallback.class));
-        verify(dataSetQueryHelperDomainSpecific,
-               never()).lookupDataSet(anyInt(),
-                                      any(DataSetReadyCallback.class));
+        verify(processVariablesService,
+               never()).getProcessInstancesVariables(any(),
+                                                     any(),
+                                                     any());
         verify(viewMock,
                times(2)).hideBusyIndicator();
     }
@@ -411,22 +407,17 @@ public class ProcessInstanceListPresenterTest {
         when(dataSet.getValueAt(0,
                                 COLUMN_PROCESS_INSTANCE_ID)).thenReturn(Long.valueOf(1));
 
-        when(dataSetProcessVar.getRowCount()).thenReturn(2); //two domain variables associated
-        when(dataSetProcessVar.getValueAt(0,
-                                          PROCESS_INSTANCE_ID)).thenReturn(Long.valueOf(1));
         String processVariable1 = "var1";
-        when(dataSetProcessVar.getValueAt(0,
-                                          VARIABLE_NAME)).thenReturn(processVariable1);
-        when(dataSetProcessVar.getValueAt(0,
-                                          VARIABLE_VALUE)).thenReturn("value1");
-
-        when(dataSetProcessVar.getValueAt(1,
-                                          PROCESS_INSTANCE_ID)).thenReturn(Long.valueOf(1));
         String processVariable2 = "var2";
-        when(dataSetProcessVar.getValueAt(1,
-                                          VARIABLE_NAME)).thenReturn(processVariable2);
-        when(dataSetProcessVar.getValueAt(1,
-                                          VARIABLE_VALUE)).thenReturn("value2");
+        final Map<String, String> variables = new HashMap<>();
+        variables.put(processVariable1,
+                      "value1");
+        variables.put(processVariable2,
+                      "value2");
+        when(processVariablesService.getProcessInstancesVariables(any(),
+                                                                  any(),
+                                                                  any())).thenReturn(singletonMap(1L,
+                                                                                                  variables));
 
         Set<String> expectedColumns = new HashSet<String>();
         expectedColumns.add(processVariable1);
@@ -443,19 +434,16 @@ public class ProcessInstanceListPresenterTest {
 
         verify(dataSetQueryHelper).lookupDataSet(anyInt(),
                                                  any(DataSetReadyCallback.class));
-        verify(dataSetQueryHelperDomainSpecific).lookupDataSet(anyInt(),
-                                                               any(DataSetReadyCallback.class));
-        verify(dataSetQueryHelperDomainSpecific).setLastOrderedColumn(PROCESS_INSTANCE_ID);
-        verify(dataSetQueryHelperDomainSpecific).setLastSortOrder(SortOrder.ASCENDING);
+        verify(processVariablesService).getProcessInstancesVariables(any(),
+                                                                     eq(Collections.singletonList(1L)),
+                                                                     any());
 
-        when(dataSetProcessVar.getRowCount()).thenReturn(1); //one domain variables associated
-        when(dataSetProcessVar.getValueAt(0,
-                                          PROCESS_INSTANCE_ID)).thenReturn(Long.valueOf(1));
         processVariable1 = "varTest1";
-        when(dataSetProcessVar.getValueAt(0,
-                                          VARIABLE_NAME)).thenReturn(processVariable1);
-        when(dataSetProcessVar.getValueAt(0,
-                                          VARIABLE_VALUE)).thenReturn("value1");
+        when(processVariablesService.getProcessInstancesVariables(any(),
+                                                                  any(),
+                                                                  any())).thenReturn(singletonMap(1L,
+                                                                                                  singletonMap(processVariable1,
+                                                                                                               "value1")));
 
         expectedColumns = Collections.singleton(processVariable1);
 
@@ -470,9 +458,60 @@ public class ProcessInstanceListPresenterTest {
         verify(dataSetQueryHelper,
                times(2)).lookupDataSet(anyInt(),
                                        any(DataSetReadyCallback.class));
-        verify(dataSetQueryHelperDomainSpecific,
-               times(2)).lookupDataSet(anyInt(),
-                                       any(DataSetReadyCallback.class));
+        verify(processVariablesService,
+               times(2)).getProcessInstancesVariables(any(),
+                                                      any(),
+                                                      any());
+    }
+
+    @Test
+    public void getDomainSpecifDataErrorTest() {
+        final DataSetFilter filter = new DataSetFilter();
+        filter.addFilterColumn(equalsTo(COLUMN_PROCESS_ID,
+                                        "testProc"));
+        filterSettings.getDataSetLookup().addOperation(filter);
+
+        when(dataSet.getRowCount()).thenReturn(1);
+        when(dataSet.getValueAt(0,
+                                COLUMN_PROCESS_INSTANCE_ID)).thenReturn(Long.valueOf(1));
+        when(processVariablesService.getProcessInstancesVariables(any(),
+                                                                  any(),
+                                                                  any())).thenThrow(new RuntimeException("KIE server unavailable"));
+
+        presenter.getData(new Range(0,
+                                    5));
+
+        verify(errorCallback).error(any(Throwable.class));
+        verify(viewMock,
+               never()).addDomainSpecifColumns(any());
+        verify(viewMock,
+               times(2)).hideBusyIndicator();
+    }
+
+    @Test
+    public void getDomainSpecifDataSkipsInitiatorTest() {
+        final DataSetFilter filter = new DataSetFilter();
+        filter.addFilterColumn(equalsTo(COLUMN_PROCESS_ID,
+                                        "testProc"));
+        filterSettings.getDataSetLookup().addOperation(filter);
+
+        when(dataSet.getRowCount()).thenReturn(1);
+        when(dataSet.getValueAt(0,
+                                COLUMN_PROCESS_INSTANCE_ID)).thenReturn(Long.valueOf(1));
+        when(dataSet.getValueAt(0,
+                                COLUMN_IDENTITY)).thenReturn("admin");
+        when(processVariablesService.getProcessInstancesVariables(any(),
+                                                                  any(),
+                                                                  any())).thenReturn(singletonMap(1L,
+                                                                                                  singletonMap("initiator",
+                                                                                                               "admin")));
+
+        presenter.getData(new Range(0,
+                                    5));
+
+        ArgumentCaptor<Set> argument = ArgumentCaptor.forClass(Set.class);
+        verify(viewMock).addDomainSpecifColumns(argument.capture());
+        assertTrue(argument.getValue().isEmpty());
     }
 
     public ArrayList<ProcessInstanceSummary> createProcessInstanceSummaryList(int listSize) {
@@ -133,6 +133,8 @@ public class DeploymentIT {
                               "jbpmProcessInstances");
         assertQueryDefinition(queryServicesClient,
                               "jbpmProcessInstancesWithVariables");
+        assertQueryDefinition(queryServicesClient,
+                              "jbpmProcessInstanceVariableValues");
         assertQueryDefinition(queryServicesClient,
                               "processesMonitoring");
         assertQueryDefinition(queryServicesClient,
@@ -149,6 +151,8 @@ public class DeploymentIT {
                               "jbpmHumanTasksWithAdmin");
         assertQueryDefinition(queryServicesClient,
                               "jbpmHumanTasksWithVariables");
+        assertQueryDefinition(queryServicesClient,
+                              "jbpmHumanTasksAssignments");
     }
 
     private void assertQueryDefinition(final QueryServicesClient client,